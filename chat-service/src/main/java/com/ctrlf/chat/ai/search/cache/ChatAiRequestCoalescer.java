@@ -0,0 +1,204 @@
+package com.ctrlf.chat.ai.search.cache;
+
+import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 동일 AI 요청 single-flight 병합 (ChatAiClient / ChatAiFacade 앞단)
+ *
+ * <p>공지 직후처럼 같은 질문이 몇 초 안에 몰리면, 진행 중인 동일 요청(정규화 질문 + domain + department +
+ * userRole + embeddingModel + llmModel, {@link ChatAnswerCache.Key})이 하나의 upstream 호출을 공유합니다.
+ * 역할마다 검색 가능한 문서가 다르므로 역할이 다른 요청은 병합하지 않습니다 (route/마스킹 판단만으로는 구분 불가).
+ * 먼저 온 요청(leader)만 AI Gateway를 호출하고, 뒤에 온 요청(follower)은 그 결과 또는
+ * 토큰 스트림을 그대로 받습니다. 메시지 저장/chat_log 색인은 요청마다 각자 수행하며,
+ * 비용이 중복 집계되지 않도록 follower 가 받는 token 수는 0 입니다.</p>
+ *
+ * <p>route는 응답을 받아야 알 수 있으므로, 공유 결과가 답변 캐시 기준으로 공유 불가
+ * (개인화 route, 마스킹, 액션 등)이면 follower는 자신의 요청으로 다시 호출합니다.
+ * 스트림은 첫 meta 이벤트로 판단합니다.</p>
+ *
+ * <p>메트릭: chat.ai.coalesce.requests(mode=sync|stream, role=leader|follower|fallback),
+ * chat.ai.coalesce.inflight(mode)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAiRequestCoalescer {
+
+    private static final String REQUESTS_METRIC = "chat.ai.coalesce.requests";
+
+    private final ChatAnswerCache chatAnswerCache;
+    private final MeterRegistry meterRegistry;
+
+    /** 동일 요청 병합 사용 여부 */
+    @Value("${app.chat.coalesce-requests.enabled:false}")
+    private boolean enabled;
+
+    /** 진행 중인 단건 호출 (응답 1개를 모든 대기자에게 전달) */
+    private final Map<ChatAnswerCache.Key, Mono<ChatAiResponse>> inFlightCalls = new ConcurrentHashMap<>();
+
+    /** 진행 중인 스트림 호출 (처음부터 재생되는 공유 이벤트 스트림) */
+    private final Map<ChatAnswerCache.Key, SharedStream> inFlightStreams = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gaugeMapSize("chat.ai.coalesce.inflight", List.of(Tag.of("mode", "sync")), inFlightCalls);
+        meterRegistry.gaugeMapSize("chat.ai.coalesce.inflight", List.of(Tag.of("mode", "stream")), inFlightStreams);
+    }
+
+    /**
+     * 단건 AI 호출 병합
+     *
+     * @param key 요청 키 (null이면 병합하지 않음)
+     * @param loader 이 요청 자신의 AI Gateway 호출
+     */
+    public Mono<ChatAiResponse> coalesce(ChatAnswerCache.Key key, Supplier<Mono<ChatAiResponse>> loader) {
+        if (!enabled || key == null) {
+            return loader.get();
+        }
+        return Mono.defer(() -> {
+            AtomicReference<Mono<ChatAiResponse>> self = new AtomicReference<>();
+            Mono<ChatAiResponse> candidate = loader.get()
+                .doFinally(signal -> inFlightCalls.remove(key, self.get()))
+                .cache();
+            self.set(candidate);
+
+            Mono<ChatAiResponse> existing = inFlightCalls.putIfAbsent(key, candidate);
+            if (existing == null) {
+                record("sync", "leader");
+                return candidate;
+            }
+            return existing.flatMap(response -> {
+                if (chatAnswerCache.isShareable(response)) {
+                    record("sync", "follower");
+                    return Mono.just(response.asCachedCopy());
+                }
+                record("sync", "fallback");
+                return loader.get();
+            });
+        });
+    }
+
+    /**
+     * 스트림 AI 호출 병합
+     *
+     * <p>공유 스트림은 전체 이벤트를 보관(cache)하므로 늦게 합류한 follower도 첫 이벤트부터 받고,
+     * 완료된 upstream 을 다시 구독(재호출)하는 일이 없습니다.
+     * 모든 구독자가 완료 전에 취소하면 upstream도 취소되며, 이후 합류한 구독자는 오류를 받습니다.</p>
+     *
+     * @param key 요청 키 (null이면 병합하지 않음)
+     * @param loader 이 요청 자신의 AI Gateway 스트림 호출
+     */
+    public Flux<JsonNode> coalesceStream(ChatAnswerCache.Key key, Supplier<Flux<JsonNode>> loader) {
+        if (!enabled || key == null) {
+            return loader.get();
+        }
+        return Flux.defer(() -> {
+            AtomicReference<SharedStream> self = new AtomicReference<>();
+            SharedStream candidate = new SharedStream(loader.get(), () -> inFlightStreams.remove(key, self.get()));
+            self.set(candidate);
+
+            SharedStream existing = inFlightStreams.putIfAbsent(key, candidate);
+            if (existing == null) {
+                record("stream", "leader");
+                return candidate.events();
+            }
+            // 첫 이벤트(meta)로 공유 가능 여부 판단 (공유 불가면 공유 스트림 구독을 끊고 직접 호출)
+            return existing.events().switchOnFirst((first, events) -> {
+                if (first.hasValue() && isShareableMeta(first.get())) {
+                    record("stream", "follower");
+                    return events.map(ChatAiRequestCoalescer::asFollowerEvent);
+                }
+                record("stream", "fallback");
+                return loader.get();
+            });
+        });
+    }
+
+    /**
+     * follower 의 done 이벤트 token 수를 0 으로 바꾼 복사본 (공유 이벤트 자체는 변경하지 않음)
+     */
+    private static JsonNode asFollowerEvent(JsonNode event) {
+        if (!"done".equals(event.path("type").asText()) || !(event instanceof ObjectNode node)) {
+            return event;
+        }
+        ObjectNode copy = node.deepCopy();
+        for (String field : List.of("total_tokens", "prompt_tokens", "completion_tokens")) {
+            if (copy.has(field)) {
+                copy.put(field, 0);
+            }
+        }
+        return copy;
+    }
+
+    private boolean isShareableMeta(JsonNode event) {
+        if (!"meta".equals(event.path("type").asText())) {
+            return false;
+        }
+        JsonNode route = event.path("route");
+        if (route.isMissingNode() || route.isNull()) {
+            route = event.path("meta").path("route");
+        }
+        boolean masked = event.path("masked").asBoolean(false)
+            || event.path("meta").path("masked").asBoolean(false);
+        return !masked && !route.isMissingNode() && chatAnswerCache.isCacheableRoute(route.asText());
+    }
+
+    private void record(String mode, String role) {
+        meterRegistry.counter(REQUESTS_METRIC, "mode", mode, "role", role).increment();
+        log.debug("[Coalesce] mode={}, role={}", mode, role);
+    }
+
+    /**
+     * 병합된 스트림 하나의 upstream 과 구독자 수
+     *
+     * <p>upstream 은 cache() 로 한 번만 구독합니다. 구독자 수가 완료 전에 0 이 되면
+     * cancelSignal 로 upstream 을 끊고, 이후 구독자에게는 CancellationException 을 전달합니다.</p>
+     */
+    private static final class SharedStream {
+        private final Sinks.Empty<Void> cancelSignal = Sinks.empty();
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private final Flux<JsonNode> cached;
+        private volatile boolean cancelled;
+
+        SharedStream(Flux<JsonNode> upstream, Runnable onTerminate) {
+            this.cached = upstream
+                .takeUntilOther(cancelSignal.asMono())
+                .concatWith(Mono.defer(() -> cancelled
+                    ? Mono.error(new CancellationException("coalesced AI stream cancelled"))
+                    : Mono.empty()))
+                .doFinally(signal -> onTerminate.run())
+                .cache();
+        }
+
+        Flux<JsonNode> events() {
+            return cached
+                .doOnSubscribe(s -> subscribers.incrementAndGet())
+                .doFinally(signal -> {
+                    if (subscribers.decrementAndGet() == 0 && signal == SignalType.CANCEL) {
+                        cancelled = true;
+                        cancelSignal.tryEmitEmpty();
+                    }
+                });
+        }
+    }
+}
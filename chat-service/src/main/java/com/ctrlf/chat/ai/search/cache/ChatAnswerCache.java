@@ -0,0 +1,271 @@
+package com.ctrlf.chat.ai.search.cache;
+
+import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 반복 질문 답변 캐시 (ChatAiClient 앞단)
+ *
+ * <p>"연차 며칠 남았어?" 처럼 같은 정책 질문이 반복될 때 AI Gateway(LLM) 호출 없이
+ * 이전 답변을 재사용합니다. 키는 정규화된 질문 + domain + department + userRole + embeddingModel + llmModel 입니다.
+ * 부서/역할별로 답변(검색 가능한 문서)이 다를 수 있으므로 부서나 역할이 다르면 공유하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>TTL 만료 + 최대 크기 초과 시 LRU 제거</li>
+ *   <li>FAQ/RAG 문서 변경 시 커밋 후 모든 인스턴스에서 해당 domain 항목 무효화 ({@link ChatAnswerCacheInvalidator})</li>
+ *   <li>개인화/마스킹/액션 응답, 허용되지 않은 route, 제외 intent 응답은 저장하지 않음</li>
+ * </ul>
+ *
+ * <p>메트릭: chat.answer.cache.requests(result=hit|miss|bypass), chat.answer.cache.latency.saved,
+ * chat.answer.cache.evictions(reason), chat.answer.cache.size</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAnswerCache {
+
+    private static final String REQUESTS_METRIC = "chat.answer.cache.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    /** 답변 캐시 사용 여부 */
+    @Value("${app.chat.answer-cache.enabled:false}")
+    private boolean enabled;
+
+    /** 항목 유효 시간 */
+    @Value("${app.chat.answer-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /** 최대 항목 수 (초과 시 가장 오래 사용되지 않은 항목 제거) */
+    @Value("${app.chat.answer-cache.max-size:5000}")
+    private int maxSize;
+
+    /** 캐시 가능한 route (AI Gateway meta.route, 쉼표 구분) */
+    @Value("${app.chat.answer-cache.cacheable-routes:RAG}")
+    private String cacheableRoutesValue;
+
+    /** 캐시에서 제외할 intent (AI Gateway meta.intent, 쉼표 구분, 개인화 intent 등) */
+    @Value("${app.chat.answer-cache.excluded-intents:}")
+    private String excludedIntentsValue;
+
+    private Set<String> cacheableRoutes;
+    private Set<String> excludedIntents;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter bypassCounter;
+    private Counter latencySavedCounter;
+
+    /** access-order LinkedHashMap 기반 LRU (모든 접근은 this 동기화) */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    @PostConstruct
+    void init() {
+        cacheableRoutes = parseList(cacheableRoutesValue);
+        excludedIntents = parseList(excludedIntentsValue);
+        hitCounter = Counter.builder(REQUESTS_METRIC).tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder(REQUESTS_METRIC).tag("result", "miss").register(meterRegistry);
+        bypassCounter = Counter.builder(REQUESTS_METRIC).tag("result", "bypass").register(meterRegistry);
+        latencySavedCounter = Counter.builder("chat.answer.cache.latency.saved")
+            .baseUnit("milliseconds")
+            .description("캐시 적중으로 생략된 AI 호출 시간 합계 (원본 응답 시간 기준)")
+            .register(meterRegistry);
+        meterRegistry.gauge("chat.answer.cache.size", List.of(), this, ChatAnswerCache::size);
+        log.info("[AnswerCache] enabled={}, ttlSeconds={}, maxSize={}, cacheableRoutes={}, excludedIntents={}",
+            enabled, ttlSeconds, maxSize, cacheableRoutes, excludedIntents);
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader로 AI 응답을 받아 저장합니다.
+     *
+     * @param key 캐시 키 ({@link #key(String, String, String, String, String, String)})
+     * @param loader AI Gateway 호출 (miss 시에만 구독)
+     * @return 캐시된 답변 또는 AI 응답
+     */
+    public Mono<ChatAiResponse> getOrLoad(Key key, Supplier<Mono<ChatAiResponse>> loader) {
+        if (!enabled || key == null) {
+            bypassCounter.increment();
+            return loader.get();
+        }
+        return Mono.defer(() -> {
+            Entry cached = get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                latencySavedCounter.increment(cached.loadMs());
+                return Mono.just(cached.response().asCachedCopy());
+            }
+            missCounter.increment();
+            long startTime = System.currentTimeMillis();
+            return loader.get()
+                .doOnNext(response -> {
+                    if (isShareable(response)) {
+                        put(key, response, System.currentTimeMillis() - startTime);
+                    }
+                });
+        });
+    }
+
+    /**
+     * 캐시 키 생성 (공백 정리 + 소문자화한 질문 기준)
+     *
+     * @param userRole AI Gateway 에 보내는 user_role (역할마다 검색 가능한 문서가 다름)
+     * @return 질문이 비어 있으면 null (캐시 미사용)
+     */
+    public static Key key(
+        String question,
+        String domain,
+        String department,
+        String userRole,
+        String embeddingModel,
+        String llmModel
+    ) {
+        String normalized = normalize(question);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        String normalizedDepartment = (department == null || department.isBlank()) ? null : department.trim();
+        return new Key(normalized, upper(domain), normalizedDepartment, upper(userRole), embeddingModel, llmModel);
+    }
+
+    /**
+     * 이 인스턴스의 domain 항목 무효화 (FAQ/RAG 문서 변경 시, 전체 인스턴스 전파는 {@link ChatAnswerCacheInvalidator})
+     *
+     * <p>domain 없이 저장된 항목은 어느 domain 문서든 참조할 수 있으므로 함께 제거합니다.</p>
+     *
+     * @param domain 변경된 domain (null/blank면 전체 무효화)
+     * @return 제거된 항목 수
+     */
+    public int invalidateDomain(String domain) {
+        String target = upper(domain);
+        int removed;
+        synchronized (this) {
+            int before = entries.size();
+            if (target == null) {
+                entries.clear();
+            } else {
+                entries.keySet().removeIf(k -> k.domain() == null || k.domain().equals(target));
+            }
+            removed = before - entries.size();
+        }
+        if (removed > 0) {
+            meterRegistry.counter("chat.answer.cache.evictions", "reason", "invalidated").increment(removed);
+        }
+        log.info("[AnswerCache] invalidated: domain={}, removed={}", domain, removed);
+        return removed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMs() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            meterRegistry.counter("chat.answer.cache.evictions", "reason", "expired").increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private void put(Key key, ChatAiResponse response, long loadMs) {
+        int evicted = 0;
+        synchronized (this) {
+            entries.put(key, new Entry(response, loadMs, System.currentTimeMillis() + ttlSeconds * 1000L));
+            Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+            while (entries.size() > maxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            meterRegistry.counter("chat.answer.cache.evictions", "reason", "size").increment(evicted);
+        }
+    }
+
+    /**
+     * 공유(캐시 저장/동일 요청 병합) 가능 여부: 정상 답변이고, 허용된 route이며,
+     * 마스킹/액션/제외 intent가 아닌 경우
+     */
+    public boolean isShareable(ChatAiResponse response) {
+        if (response == null || response.getAnswer() == null || response.getAnswer().isBlank()) {
+            return false;
+        }
+        ChatAiResponse.Meta meta = response.getMeta();
+        if (meta == null || meta.getRoute() == null) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(meta.getMasked()) || meta.getAction() != null) {
+            return false;
+        }
+        if (!isCacheableRoute(meta.getRoute())) {
+            return false;
+        }
+        return meta.getIntent() == null
+            || !excludedIntents.contains(meta.getIntent().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 캐시/병합 가능한 route 여부 (스트림 meta 이벤트 판단용)
+     */
+    public boolean isCacheableRoute(String route) {
+        return route != null && cacheableRoutes.contains(route.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        return question.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String upper(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static Set<String> parseList(String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .map(s -> s.toUpperCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public record Key(
+        String question,
+        String domain,
+        String department,
+        String userRole,
+        String embeddingModel,
+        String llmModel
+    ) {}
+
+    private record Entry(ChatAiResponse response, long loadMs, long expiresAtMs) {}
+}
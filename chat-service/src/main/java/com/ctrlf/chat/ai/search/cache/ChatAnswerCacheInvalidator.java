@@ -0,0 +1,170 @@
+package com.ctrlf.chat.ai.search.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 답변 캐시 무효화 전파 (모든 chat-service 인스턴스)
+ *
+ * <p>{@link ChatAnswerCache} 는 인스턴스마다 있으므로, FAQ 변경이나 RAG 문서 변경 요청을 받은 인스턴스만 지우면
+ * 나머지 인스턴스는 TTL 동안 변경 전 답변을 계속 반환합니다. 무효화는 PostgreSQL NOTIFY
+ * ({@code chat_answer_cache_invalidate}, payload: domain, 빈 값이면 전체)로 모든 인스턴스에 전달하고,
+ * 각 인스턴스는 전용 커넥션 하나로 LISTEN 하여 자신의 캐시에서 제거합니다 (요청을 받은 인스턴스도 알림으로 제거).</p>
+ *
+ * <p>커넥션이 끊긴 동안의 알림은 유실되므로 (재)연결할 때마다 캐시를 전체 무효화합니다.
+ * 알림을 끄거나 발행에 실패하면 요청을 받은 인스턴스에서만 제거합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAnswerCacheInvalidator {
+
+    private static final String CHANNEL = "chat_answer_cache_invalidate";
+
+    private static final String PUBLISH_SQL = "SELECT pg_notify('" + CHANNEL + "', ?)";
+
+    private final DataSource dataSource;
+    private final ChatAnswerCache chatAnswerCache;
+
+    /** 알림 수신/발행 사용 여부 (false 면 무효화 요청을 받은 인스턴스에서만 제거, 단일 인스턴스 전용) */
+    @Value("${app.chat.answer-cache.change-notify.enabled:true}")
+    private boolean enabled;
+
+    /** 알림 대기 시간 (이 간격으로 종료 여부 확인) */
+    @Value("${app.chat.answer-cache.change-notify.poll-timeout-ms:5000}")
+    private int pollTimeoutMs;
+
+    /** 연결 실패 시 재연결 간격 */
+    @Value("${app.chat.answer-cache.change-notify.reconnect-interval-ms:10000}")
+    private long reconnectIntervalMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || !chatAnswerCache.isEnabled()) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "chat-answer-cache-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 모든 인스턴스에서 domain 항목을 무효화합니다. (트랜잭션 밖이면 즉시)
+     *
+     * <p>커밋 전에 지우면 그 사이 들어온 요청이 변경 전 데이터로 캐시를 다시 채울 수 있으므로
+     * FAQ 변경처럼 트랜잭션 안에서 호출하는 경우 이 메서드를 사용합니다. 롤백되면 무효화하지 않습니다.</p>
+     *
+     * @param domain 변경된 domain (null/blank면 전체 무효화)
+     */
+    public void invalidateDomainAfterCommit(String domain) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateDomain(domain);
+                }
+            });
+        } else {
+            invalidateDomain(domain);
+        }
+    }
+
+    /**
+     * 모든 인스턴스에서 domain 항목을 무효화합니다.
+     *
+     * @param domain 변경된 domain (null/blank면 전체 무효화)
+     * @return 전파 여부 (false 면 이 인스턴스에서만 제거함)
+     */
+    public boolean invalidateDomain(String domain) {
+        if (publish(domain)) {
+            return true;
+        }
+        chatAnswerCache.invalidateDomain(domain);
+        return false;
+    }
+
+    private boolean publish(String domain) {
+        if (!enabled || !chatAnswerCache.isEnabled()) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PUBLISH_SQL)) {
+            statement.setString(1, domain == null ? "" : domain.trim());
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                // 알림은 커밋 시점에 전달됨
+                connection.commit();
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("[AnswerCache] 무효화 알림 발행 실패, 이 인스턴스에서만 무효화합니다: domain={}, error={}",
+                domain, e.getMessage());
+            return false;
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (!connection.getAutoCommit()) {
+                    // 알림은 트랜잭션 밖에서만 전달됨
+                    connection.commit();
+                }
+                int removed = chatAnswerCache.invalidateDomain(null);
+                log.info("[AnswerCache] 무효화 알림 수신 시작: channel={}, invalidated={}", CHANNEL, removed);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        chatAnswerCache.invalidateDomain(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[AnswerCache] 무효화 알림 연결 실패, {}ms 후 재연결: error={}",
+                    reconnectIntervalMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
 // import com.ctrlf.chat.dto.summary.ChatSessionSummaryRequest;
 // import com.ctrlf.chat.dto.summary.ChatSessionSummaryResponse;
 // import com.ctrlf.chat.entity.ChatMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
@@ -23,8 +25,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class ChatAiClient {
 
     private final WebClient aiWebClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // ✅ LLM 모델 선택 포함 채팅 응답용
+    // ✅ LLM 모델 선택 포함 채팅 응답용 (동기 호출 - 호출 스레드를 AI 응답 시간 동안 점유)
     public ChatAiResponse ask(
         UUID sessionId,
         UUID userId,
@@ -35,6 +38,30 @@ public class ChatAiClient {
         String message,
         String model,
         String llmModel
+    ) {
+        return askAsync(sessionId, userId, userRole, department, domain, channel, message, model, llmModel)
+            .block();
+    }
+
+    /**
+     * 채팅 응답 비동기 요청 (논블로킹)
+     *
+     * <p>AI 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+     * 응답 파싱은 Netty 이벤트 루프에서 수행되므로, 구독자는 DB 저장 등 블로킹 작업 전에
+     * 별도 스케줄러로 전환해야 합니다.</p>
+     *
+     * @return AI 응답 Mono (구독 시점에 요청 전송)
+     */
+    public Mono<ChatAiResponse> askAsync(
+        UUID sessionId,
+        UUID userId,
+        String userRole,
+        String department,
+        String domain,
+        String channel,
+        String message,
+        String model,
+        String llmModel
     ) {
         ChatAiRequest request =
             new ChatAiRequest(
@@ -57,7 +84,7 @@ public class ChatAiClient {
         log.info("[CHAT → AI/MESSAGES] 요청 전송: sessionId={}, userId={}, traceId={}, deptId={}, domain={}, route={}",
             sessionId, userId, traceId, deptIdStr, domain, channel);
 
-        String rawJson = aiWebClient.post()
+        return aiWebClient.post()
             .uri("/ai/chat/messages")
             .header("X-Trace-Id", traceId.toString())
             .header("X-User-Id", userIdStr)
@@ -66,15 +93,16 @@ public class ChatAiClient {
             .bodyValue(request)
             .retrieve()
             .bodyToMono(String.class)
-            .block();
+            .map(this::parseResponse);
+    }
 
+    private ChatAiResponse parseResponse(String rawJson) {
         log.info("[AI Response Raw] {}", rawJson != null && rawJson.length() > 500
             ? rawJson.substring(0, 500) + "..." : rawJson);
 
         // JSON 파싱
         try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            return mapper.readValue(rawJson, ChatAiResponse.class);
+            return objectMapper.readValue(rawJson, ChatAiResponse.class);
         } catch (Exception e) {
             log.error("[AI Response Parse Error] {}", e.getMessage(), e);
             throw new RuntimeException("AI response parse failed", e);
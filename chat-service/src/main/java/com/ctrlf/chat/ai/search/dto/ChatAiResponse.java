@@ -32,6 +32,20 @@ public class ChatAiResponse {
     @JsonProperty("meta")
     private Meta meta;
 
+    /**
+     * 답변 캐시 적중 시 반환할 사본 (LLM을 호출하지 않았으므로 토큰 사용량은 0)
+     */
+    public ChatAiResponse asCachedCopy() {
+        ChatAiResponse copy = new ChatAiResponse();
+        copy.answer = this.answer;
+        copy.promptTokens = 0;
+        copy.completionTokens = 0;
+        copy.model = this.model;
+        copy.sources = this.sources;
+        copy.meta = this.meta;
+        return copy;
+    }
+
     @Getter
     @NoArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -42,6 +56,10 @@ public class ChatAiResponse {
         @JsonProperty("masked")
         private Boolean masked;
 
+        /** 질문 의도 분류 결과 (답변 캐시 제외 판단용) */
+        @JsonProperty("intent")
+        private String intent;
+
         /** 프론트엔드 액션 지시 (영상 재생, 퀴즈 시작 등) */
         @JsonProperty("action")
         private ChatActionDto action;
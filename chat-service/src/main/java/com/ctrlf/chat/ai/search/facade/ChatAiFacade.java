@@ -1,26 +1,35 @@
 package com.ctrlf.chat.ai.search.facade;
 
 import com.ctrlf.chat.ai.search.dto.ChatCompletionRequest;
-import java.nio.charset.StandardCharsets;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ChatAiFacade {
 
+    /** NDJSON 한 라인의 최대 크기 (비정상 응답으로 인한 무한 버퍼링 방지) */
+    private static final int MAX_LINE_BYTES = 1024 * 1024;
+
+    /** 스트리밍 전용 커넥션 풀을 사용하는 WebClient (AiWebClientConfig) */
     private final WebClient aiWebClient;
+    private final ObjectReader jsonReader = new ObjectMapper().reader();
+
+    public ChatAiFacade(@Qualifier("aiStreamWebClient") WebClient aiWebClient) {
+        this.aiWebClient = aiWebClient;
+    }
 
-    // ✅ NDJSON line-by-line 스트리밍
-    public Flux<String> streamChat(ChatCompletionRequest request) {
+    // ✅ NDJSON line-by-line 스트리밍 (라인마다 파싱된 JSON 이벤트)
+    public Flux<JsonNode> streamChat(ChatCompletionRequest request) {
         // 필수 헤더 생성
         UUID traceId = UUID.randomUUID();
         UUID sessionId = request.getSession_id();
@@ -41,18 +50,20 @@ public class ChatAiFacade {
             .bodyValue(request)
             .retrieve()
             .bodyToFlux(DataBuffer.class)
-            .flatMap(buffer -> {
-                try {
-                    String chunk =
-                        StandardCharsets.UTF_8
-                            .decode(buffer.asByteBuffer())
-                            .toString();
-                    return Flux.fromArray(chunk.split("\n"));
-                } finally {
-                    DataBufferUtils.release(buffer);
-                }
-            })
-            .filter(line -> !line.isBlank())
+            .transform(this::decodeNdjson)
             .doOnError(e -> log.error("[CHAT → AI/STREAM] error", e));
     }
+
+    /**
+     * DataBuffer 스트림을 NDJSON 라인 단위 JSON 이벤트로 변환합니다.
+     * 청크 경계에 걸친 라인은 다음 청크와 합쳐 파싱합니다.
+     */
+    private Flux<JsonNode> decodeNdjson(Flux<DataBuffer> buffers) {
+        return Flux.defer(() -> {
+            NdjsonLineDecoder decoder = new NdjsonLineDecoder(jsonReader, MAX_LINE_BYTES);
+            return buffers
+                .concatMapIterable(decoder::decode)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.finish())));
+        });
+    }
 }
@@ -0,0 +1,144 @@
+package com.ctrlf.chat.ai.search.facade;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * NDJSON 스트림 바이트 단위 라인 디코더
+ *
+ * <p>DataBuffer를 문자열로 변환하지 않고 바이트에서 '\n'을 찾아 라인을 구분합니다.
+ * 청크 경계에 걸친 라인(멀티바이트 UTF-8 문자 포함)은 다음 청크가 올 때까지 보관했다가
+ * 완성된 뒤 한 번에 파싱합니다.</p>
+ *
+ * <p>스트림(구독) 1개당 인스턴스 1개를 사용하며 스레드 안전하지 않습니다.
+ * Reactor는 하나의 Flux에 대해 onNext를 순차 호출하므로 별도 동기화가 필요 없습니다.</p>
+ */
+@Slf4j
+final class NdjsonLineDecoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final ObjectReader jsonReader;
+    private final int maxLineBytes;
+
+    /** 이전 청크에서 이어지는 미완성 라인 */
+    private byte[] partial = new byte[INITIAL_BUFFER_SIZE];
+    private int partialLength = 0;
+
+    /** direct 버퍼 복사용 재사용 버퍼 */
+    private byte[] scratch = new byte[INITIAL_BUFFER_SIZE];
+
+    NdjsonLineDecoder(ObjectReader jsonReader, int maxLineBytes) {
+        this.jsonReader = jsonReader;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    /**
+     * 청크에서 완성된 라인을 모두 파싱하여 반환합니다. 버퍼는 항상 release 됩니다.
+     */
+    List<JsonNode> decode(DataBuffer buffer) {
+        List<JsonNode> out = new ArrayList<>(4);
+        try (DataBuffer.ByteBufferIterator it = buffer.readableByteBuffers()) {
+            while (it.hasNext()) {
+                scan(it.next(), out);
+            }
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return out;
+    }
+
+    /**
+     * 스트림 종료 시 개행 없이 끝난 마지막 라인을 파싱합니다.
+     */
+    List<JsonNode> finish() {
+        List<JsonNode> out = new ArrayList<>(1);
+        if (partialLength > 0) {
+            emit(partial, 0, partialLength, out);
+            partialLength = 0;
+        }
+        return out;
+    }
+
+    private void scan(ByteBuffer byteBuffer, List<JsonNode> out) {
+        byte[] bytes;
+        int start;
+        int end;
+        if (byteBuffer.hasArray()) {
+            bytes = byteBuffer.array();
+            start = byteBuffer.arrayOffset() + byteBuffer.position();
+            end = byteBuffer.arrayOffset() + byteBuffer.limit();
+        } else {
+            int length = byteBuffer.remaining();
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            byteBuffer.get(scratch, 0, length);
+            bytes = scratch;
+            start = 0;
+            end = length;
+        }
+
+        int lineStart = start;
+        for (int i = start; i < end; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            if (partialLength > 0) {
+                appendPartial(bytes, lineStart, i - lineStart);
+                emit(partial, 0, partialLength, out);
+                partialLength = 0;
+            } else {
+                emit(bytes, lineStart, i - lineStart, out);
+            }
+            lineStart = i + 1;
+        }
+        if (lineStart < end) {
+            appendPartial(bytes, lineStart, end - lineStart);
+        }
+    }
+
+    private void appendPartial(byte[] bytes, int offset, int length) {
+        int required = partialLength + length;
+        if (required > maxLineBytes) {
+            partialLength = 0;
+            throw new DataBufferLimitException("NDJSON line exceeds " + maxLineBytes + " bytes");
+        }
+        if (partial.length < required) {
+            partial = Arrays.copyOf(partial, Math.max(required, partial.length * 2));
+        }
+        System.arraycopy(bytes, offset, partial, partialLength, length);
+        partialLength = required;
+    }
+
+    private void emit(byte[] bytes, int offset, int length, List<JsonNode> out) {
+        // CRLF 및 공백 라인 처리
+        while (length > 0 && isWhitespace(bytes[offset + length - 1])) {
+            length--;
+        }
+        while (length > 0 && isWhitespace(bytes[offset])) {
+            offset++;
+            length--;
+        }
+        if (length == 0) {
+            return;
+        }
+        try {
+            out.add(jsonReader.readTree(bytes, offset, length));
+        } catch (Exception e) {
+            log.debug("skip non-json line: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\r' || b == '\t';
+    }
+}
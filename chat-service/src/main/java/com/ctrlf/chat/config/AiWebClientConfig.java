@@ -1,16 +1,33 @@
 package com.ctrlf.chat.config;
 
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * AI Gateway 전용 WebClient 설정 클래스
- * 
+ *
  * <p>AI 서버와의 통신을 위한 WebClient를 설정합니다.</p>
  * <p>application.yml의 ai.gateway.url 값을 사용하여 기본 URL을 설정합니다.</p>
- * 
+ *
+ * <p>단건 호출용({@code aiWebClient})과 스트리밍용({@code aiStreamWebClient}) WebClient는
+ * 서로 다른 Reactor Netty 커넥션 풀을 사용합니다 ({@link AiWebClientProperties}).</p>
+ *
+ * <p>메트릭:</p>
+ * <ul>
+ *   <li>풀 사용률/획득 대기: reactor.netty.connection.provider.*{name=ai-gateway-unary|ai-gateway-stream}</li>
+ *   <li>URI별 지연: http.client.requests (Spring WebClient 관측), reactor.netty.http.client.*</li>
+ * </ul>
+ *
  * @author CtrlF Team
  * @since 1.0.0
  */
@@ -22,14 +39,60 @@ public class AiWebClientConfig {
     private String aiGatewayUrl;
 
     /**
-     * AI Gateway용 WebClient Bean 생성
-     * 
+     * AI Gateway용 WebClient Bean 생성 (단건 호출)
+     *
+     * @param builder Spring Boot가 관측(http.client.requests)을 설정한 WebClient.Builder
+     * @param properties 커넥션 풀 설정
      * @return 설정된 WebClient 인스턴스
      */
     @Bean
-    public WebClient aiWebClient() {
-        return WebClient.builder()
+    @Primary
+    public WebClient aiWebClient(WebClient.Builder builder, AiWebClientProperties properties) {
+        return build(builder, properties, properties.getUnary(), "ai-gateway-unary");
+    }
+
+    /**
+     * AI Gateway 스트리밍용 WebClient Bean 생성
+     *
+     * @param builder Spring Boot가 관측(http.client.requests)을 설정한 WebClient.Builder
+     * @param properties 커넥션 풀 설정
+     * @return 설정된 WebClient 인스턴스
+     */
+    @Bean
+    public WebClient aiStreamWebClient(WebClient.Builder builder, AiWebClientProperties properties) {
+        return build(builder, properties, properties.getStream(), "ai-gateway-stream");
+    }
+
+    private WebClient build(
+        WebClient.Builder builder,
+        AiWebClientProperties properties,
+        AiWebClientProperties.Pool pool,
+        String poolName
+    ) {
+        ConnectionProvider.Builder providerBuilder = ConnectionProvider.builder(poolName)
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+            .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMs()))
+            .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMs()))
+            // 풀 사용률/획득 대기 시간 메트릭 (Micrometer global registry)
+            .metrics(true);
+        if (pool.getEvictInBackgroundMs() > 0) {
+            providerBuilder.evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMs()));
+        }
+
+        HttpClient httpClient = HttpClient.create(providerBuilder.build())
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeoutMs())
+            .responseTimeout(Duration.ofMillis(pool.getResponseTimeoutMs()))
+            // URI별 연결/요청/응답 시간 메트릭 (경로는 고정 값이므로 그대로 태그로 사용)
+            .metrics(true, Function.identity());
+        if (properties.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        return builder.clone()
             .baseUrl(aiGatewayUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
             .build();
     }
 }
@@ -0,0 +1,84 @@
+package com.ctrlf.chat.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI Gateway WebClient 커넥션 풀 / 타임아웃 설정
+ *
+ * <p>단건 호출(ChatAiClient)과 스트리밍 호출(ChatAiFacade)은 연결 점유 시간이 크게 다르므로
+ * 풀을 분리합니다. 긴 스트림이 풀을 채워 단건 호출이 대기하지 않도록 하기 위함입니다.</p>
+ *
+ * <pre>
+ * ai:
+ *   gateway:
+ *     client:
+ *       connect-timeout-ms: 3000
+ *       http2: false
+ *       unary:
+ *         max-connections: 200
+ *         pending-acquire-max-count: 1000
+ *         pending-acquire-timeout-ms: 5000
+ *         max-idle-time-ms: 30000
+ *         max-life-time-ms: 300000
+ *         evict-in-background-ms: 30000
+ *         response-timeout-ms: 75000
+ *       stream:
+ *         max-connections: 500
+ *         ...
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.gateway.client")
+public class AiWebClientProperties {
+
+    /** TCP 연결 타임아웃 */
+    private int connectTimeoutMs = 3_000;
+
+    /** HTTP/2 사용 여부 (true면 h2c + HTTP/1.1 fallback, AI Gateway가 h2c를 지원할 때만 사용) */
+    private boolean http2 = false;
+
+    /** 단건 호출(/ai/chat/messages) 풀 */
+    private Pool unary = new Pool(200, 75_000L);
+
+    /** 스트리밍 호출(/ai/chat/stream) 풀 */
+    private Pool stream = new Pool(500, 90_000L);
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /** 최대 연결 수 */
+        private int maxConnections;
+
+        /** 연결 획득 대기열 최대 크기 (초과 시 즉시 실패) */
+        private int pendingAcquireMaxCount = 1_000;
+
+        /** 연결 획득 최대 대기 시간 */
+        private long pendingAcquireTimeoutMs = 5_000L;
+
+        /** 유휴 연결 유지 시간 (AI Gateway/LB의 idle timeout보다 짧게) */
+        private long maxIdleTimeMs = 30_000L;
+
+        /** 연결 최대 수명 (배포/스케일링 후 연결 재분배) */
+        private long maxLifeTimeMs = 300_000L;
+
+        /** 백그라운드 만료 연결 정리 주기 (0이면 획득 시에만 정리) */
+        private long evictInBackgroundMs = 30_000L;
+
+        /** 응답 read 간 최대 대기 시간 (스트림은 토큰 간 간격 기준) */
+        private long responseTimeoutMs;
+
+        public Pool() {
+        }
+
+        Pool(int maxConnections, long responseTimeoutMs) {
+            this.maxConnections = maxConnections;
+            this.responseTimeoutMs = responseTimeoutMs;
+        }
+    }
+}
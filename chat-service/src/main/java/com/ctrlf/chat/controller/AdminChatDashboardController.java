@@ -12,7 +12,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -112,11 +116,13 @@ public class AdminChatDashboardController {
      * 채팅 로그 목록 조회
      * 
      * <p>Elasticsearch chat_log 인덱스에서 채팅 로그를 조회합니다.</p>
+     * <p>깊은 페이지는 cursor(빈 값으로 시작, 이후 응답의 nextCursor)로 조회합니다.</p>
      */
     @GetMapping("/logs")
     @Operation(
         summary = "채팅 로그 목록 조회",
-        description = "Elasticsearch chat_log 인덱스에서 채팅 로그를 필터링 및 페이징하여 조회합니다."
+        description = "Elasticsearch chat_log 인덱스에서 채팅 로그를 필터링 및 페이징하여 조회합니다. "
+            + "cursor 파라미터를 보내면 page 대신 point-in-time + search_after 로 조회합니다."
     )
     @ApiResponses({
         @ApiResponse(
@@ -152,7 +158,9 @@ public class AdminChatDashboardController {
         @Parameter(description = "페이지 크기 (기본값: 20)", example = "20")
         @RequestParam(value = "size", required = false) Integer size,
         @Parameter(description = "정렬 (예: createdAt,desc)", example = "createdAt,desc")
-        @RequestParam(value = "sort", required = false) String sort
+        @RequestParam(value = "sort", required = false) String sort,
+        @Parameter(description = "cursor (빈 값이면 첫 페이지, 이후 응답의 nextCursor, 필터/정렬은 첫 요청과 같아야 함)", example = "")
+        @RequestParam(value = "cursor", required = false) String cursor
     ) {
         return ResponseEntity.ok(chatLogElasticsearchService.getChatLogs(
             period,
@@ -166,8 +174,72 @@ public class AdminChatDashboardController {
             hasPiiOnly,
             page,
             size,
-            sort
+            sort,
+            cursor
         ));
     }
+
+    /**
+     * 채팅 로그 내보내기
+     *
+     * <p>필터 조건에 해당하는 전체 채팅 로그를 NDJSON 또는 CSV로 스트리밍합니다.</p>
+     */
+    @GetMapping("/logs/export")
+    @Operation(
+        summary = "채팅 로그 내보내기",
+        description = "필터 조건에 해당하는 전체 채팅 로그를 NDJSON(application/x-ndjson) 또는 CSV(text/csv)로 스트리밍합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "권한 없음"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public void exportChatLogs(
+        @Parameter(description = "기간 (7 | 30 | 90)", example = "30")
+        @RequestParam(value = "period", required = false) String period,
+        @Parameter(description = "시작 날짜 (ISO 8601)", example = "2025-12-06T15:00:00.000Z")
+        @RequestParam(value = "startDate", required = false) String startDate,
+        @Parameter(description = "종료 날짜 (ISO 8601)", example = "2026-01-06T14:59:59.999Z")
+        @RequestParam(value = "endDate", required = false) String endDate,
+        @Parameter(description = "부서명", example = "총무팀")
+        @RequestParam(value = "department", required = false) String department,
+        @Parameter(description = "도메인 ID", example = "SECURITY")
+        @RequestParam(value = "domain", required = false) String domain,
+        @Parameter(description = "라우트 ID", example = "RAG")
+        @RequestParam(value = "route", required = false) String route,
+        @Parameter(description = "모델 ID", example = "gpt-4o-mini")
+        @RequestParam(value = "model", required = false) String model,
+        @Parameter(description = "에러만 보기", example = "false")
+        @RequestParam(value = "onlyError", required = false) Boolean onlyError,
+        @Parameter(description = "PII 포함만 보기", example = "false")
+        @RequestParam(value = "hasPiiOnly", required = false) Boolean hasPiiOnly,
+        @Parameter(description = "정렬 (예: createdAt,desc)", example = "createdAt,desc")
+        @RequestParam(value = "sort", required = false) String sort,
+        @Parameter(description = "형식 (ndjson | csv)", example = "ndjson")
+        @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"chat-logs." + (csv ? "csv" : "ndjson") + "\"");
+
+        chatLogElasticsearchService.exportChatLogs(
+            period,
+            startDate,
+            endDate,
+            department,
+            domain,
+            route,
+            model,
+            onlyError,
+            hasPiiOnly,
+            sort,
+            format,
+            response.getOutputStream()
+        );
+    }
 }
 
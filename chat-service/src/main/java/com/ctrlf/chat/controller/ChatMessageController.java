@@ -1,18 +1,27 @@
 package com.ctrlf.chat.controller;
 
+import com.ctrlf.chat.ai.search.cache.ChatAnswerCacheInvalidator;
 import com.ctrlf.chat.dto.request.ChatMessageSendRequest;
 import com.ctrlf.chat.dto.response.ChatMessageCursorResponse;
 import com.ctrlf.chat.dto.response.ChatMessageSendResponse;
 import com.ctrlf.chat.entity.ChatMessage;
 import com.ctrlf.chat.service.ChatMessageService;
 import com.ctrlf.common.security.SecurityUtils;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * 채팅 메시지 관련 REST API 컨트롤러
@@ -29,17 +38,27 @@ public class ChatMessageController {
 
     private final ChatMessageService chatMessageService;
 
+    /** 논블로킹 전송 모드 사용 여부 (true면 AI 응답 대기 중 서블릿 스레드를 반환) */
+    @Value("${app.chat.send.async-enabled:false}")
+    private boolean asyncSendEnabled;
+
+    /** 논블로킹 전송 모드의 응답 대기 타임아웃 (밀리초) */
+    @Value("${app.chat.send.timeout-ms:90000}")
+    private long asyncSendTimeoutMs;
+
     /**
      * 메시지 전송 및 AI 응답 생성
      * 
      * <p>사용자가 메시지를 전송하면 AI 서버에 요청을 보내고 응답을 받아 저장합니다.</p>
+     * <p>app.chat.send.async-enabled=true이면 AI 응답을 기다리는 동안 서블릿 스레드를 반환하고,
+     * 응답이 저장되면 DeferredResult로 결과를 전달합니다.</p>
      * 
      * @param request 메시지 전송 요청 (세션 ID, 메시지 내용)
      * @param jwt JWT 토큰 (사용자 정보 및 도메인 정보 포함)
      * @return 생성된 AI 응답 메시지 정보
      */
     @PostMapping("/messages")
-    public ResponseEntity<ChatMessageSendResponse> sendMessage(
+    public DeferredResult<ResponseEntity<ChatMessageSendResponse>> sendMessage(
         @RequestBody ChatMessageSendRequest request,
         @AuthenticationPrincipal Jwt jwt
     ) {
@@ -53,9 +72,23 @@ public class ChatMessageController {
             department = departments.get(0);
         }
 
-        return ResponseEntity.ok(
-            chatMessageService.sendMessage(request, userId, domain, department)
-        );
+        DeferredResult<ResponseEntity<ChatMessageSendResponse>> result = newDeferredResult();
+        if (!asyncSendEnabled) {
+            result.setResult(ResponseEntity.ok(
+                chatMessageService.sendMessage(request, userId, domain, department)
+            ));
+            return result;
+        }
+
+        chatMessageService.sendMessageAsync(request, userId, domain, department)
+            .whenComplete((response, error) -> {
+                if (error != null) {
+                    result.setErrorResult(unwrap(error));
+                } else {
+                    result.setResult(ResponseEntity.ok(response));
+                }
+            });
+        return result;
     }
 
     /**
@@ -89,7 +122,7 @@ public class ChatMessageController {
      * @return 재시도 결과 메시지
      */
     @PostMapping("/sessions/{sessionId}/messages/{messageId}/retry")
-    public ResponseEntity<ChatMessage> retryMessage(
+    public DeferredResult<ResponseEntity<ChatMessage>> retryMessage(
         @PathVariable UUID sessionId,
         @PathVariable UUID messageId,
         @AuthenticationPrincipal Jwt jwt
@@ -101,9 +134,44 @@ public class ChatMessageController {
             department = departments.get(0);
         }
         
-        return ResponseEntity.ok(
-            chatMessageService.retryMessage(sessionId, messageId, department)
-        );
+        DeferredResult<ResponseEntity<ChatMessage>> result = newDeferredResult();
+        if (!asyncSendEnabled) {
+            result.setResult(ResponseEntity.ok(
+                chatMessageService.retryMessage(sessionId, messageId, department)
+            ));
+            return result;
+        }
+
+        chatMessageService.retryMessageAsync(sessionId, messageId, department)
+            .whenComplete((message, error) -> {
+                if (error != null) {
+                    result.setErrorResult(unwrap(error));
+                } else {
+                    result.setResult(ResponseEntity.ok(message));
+                }
+            });
+        return result;
+    }
+
+    /**
+     * 타임아웃 시 504를 반환하는 DeferredResult 생성
+     */
+    private <T> DeferredResult<ResponseEntity<T>> newDeferredResult() {
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>(asyncSendTimeoutMs);
+        result.onTimeout(() -> result.setErrorResult(
+            ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build()
+        ));
+        return result;
+    }
+
+    /**
+     * CompletableFuture 래핑 예외를 벗겨 GlobalExceptionHandler가 원래 예외로 처리하도록 함
+     */
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
     }
 
     /**
@@ -125,6 +193,31 @@ public class ChatMessageController {
             chatMessageService.getAdminMessages(domain, daysBack)
         );
     }
+
+    /**
+     * 관리자용 질문 로그 스트리밍 조회 (FAQ 자동 생성용, NDJSON)
+     *
+     * <p>/admin/messages 와 같은 조건의 로그를 건수 제한(10,000건) 없이 한 줄에 한 건씩 스트리밍합니다.</p>
+     * <p>fields=faq 이면 FAQ 생성에 필요한 필드(content, keyword, userId, domain, createdAt)만 출력합니다.</p>
+     * <p>스트리밍 도중 실패하면 마지막 줄에 {"error":"STREAM_ABORTED","message":...,"streamed":N} 을 출력합니다.</p>
+     *
+     * @param domain 도메인 필터 (선택)
+     * @param daysBack 최근 N일간의 데이터 (기본값: 30)
+     * @param fields 출력 필드 (all | faq, 기본값: all)
+     */
+    @GetMapping("/admin/messages/stream")
+    public void streamAdminMessages(
+        @RequestParam(required = false) String domain,
+        @RequestParam(required = false, defaultValue = "30") Integer daysBack,
+        @RequestParam(required = false, defaultValue = "all") String fields,
+        HttpServletResponse response
+    ) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        chatMessageService.streamAdminMessages(
+            domain, daysBack, "faq".equalsIgnoreCase(fields), response.getOutputStream()
+        );
+    }
 }
 
 /**
@@ -142,6 +235,7 @@ public class ChatMessageController {
 class InternalChatMessageController {
 
     private final ChatMessageService chatMessageService;
+    private final ChatAnswerCacheInvalidator chatAnswerCacheInvalidator;
 
     /**
      * 내부 서비스용 질문 로그 조회 (FAQ 자동 생성용)
@@ -162,4 +256,45 @@ class InternalChatMessageController {
             chatMessageService.getAdminMessages(domain, daysBack)
         );
     }
+
+    /**
+     * 내부 서비스용 질문 로그 스트리밍 조회 (FAQ 자동 생성용, NDJSON)
+     *
+     * <p>/admin/messages 와 같은 조건의 로그를 건수 제한(10,000건) 없이 한 줄에 한 건씩 스트리밍합니다.</p>
+     * <p>fields=faq 이면 FAQ 생성에 필요한 필드(content, keyword, userId, domain, createdAt)만 출력합니다.</p>
+     * <p>스트리밍 도중 실패하면 마지막 줄에 {"error":"STREAM_ABORTED","message":...,"streamed":N} 을 출력합니다.</p>
+     *
+     * @param domain 도메인 필터 (선택)
+     * @param daysBack 최근 N일간의 데이터 (기본값: 30)
+     * @param fields 출력 필드 (all | faq, 기본값: all)
+     */
+    @GetMapping("/admin/messages/stream")
+    public void streamAdminMessages(
+        @RequestParam(required = false) String domain,
+        @RequestParam(required = false, defaultValue = "30") Integer daysBack,
+        @RequestParam(required = false, defaultValue = "all") String fields,
+        HttpServletResponse response
+    ) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        chatMessageService.streamAdminMessages(
+            domain, daysBack, "faq".equalsIgnoreCase(fields), response.getOutputStream()
+        );
+    }
+
+    /**
+     * 답변 캐시 무효화 (RAG 문서 변경 시 infra-service에서 호출)
+     *
+     * <p>요청을 받은 인스턴스가 NOTIFY 로 모든 chat-service 인스턴스에 전파합니다.</p>
+     *
+     * @param domain 변경된 문서의 도메인 (없으면 전체 무효화)
+     * @return 전파 여부 (false 면 이 인스턴스에서만 제거함)
+     */
+    @PostMapping("/answer-cache/invalidate")
+    public ResponseEntity<Map<String, Object>> invalidateAnswerCache(
+        @RequestParam(required = false) String domain
+    ) {
+        boolean broadcast = chatAnswerCacheInvalidator.invalidateDomain(domain);
+        return ResponseEntity.ok(Map.of("broadcast", broadcast));
+    }
 }
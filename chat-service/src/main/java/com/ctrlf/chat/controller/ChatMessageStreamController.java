@@ -3,6 +3,7 @@ package com.ctrlf.chat.controller;
 import com.ctrlf.chat.service.ChatStreamService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -15,6 +16,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
  * @author CtrlF Team
  * @since 1.0.0
  */
+@Slf4j
 @RestController
 @RequestMapping("/chat/messages")
 @RequiredArgsConstructor
@@ -26,18 +28,29 @@ public class ChatMessageStreamController {
      * 메시지 스트림 조회 (SSE)
      *
      * <p>특정 메시지의 AI 응답을 실시간으로 스트리밍합니다.</p>
+     * <p>재접속 시 Last-Event-ID 헤더(또는 lastEventId 쿼리 파라미터)를 보내면
+     * 진행 중인 스트림에 다시 붙어 놓친 이벤트만 재전송받습니다.
+     * 놓친 이벤트가 재전송 버퍼에서 이미 빠졌으면 지금까지의 답변 전체를 담은 snapshot 이벤트
+     * ({@code {"type":"snapshot","answer":...,"meta":...}})를 먼저 보내므로, 클라이언트는 답변을 교체한 뒤 이어 받습니다.</p>
      *
      * @param messageId 스트리밍할 메시지 ID
+     * @param lastEventIdHeader 마지막으로 받은 SSE 이벤트 ID (브라우저 EventSource 자동 재접속 시 전송)
+     * @param lastEventIdParam 마지막으로 받은 SSE 이벤트 ID (수동 재접속용)
      * @return SseEmitter (text/event-stream)
      */
     @GetMapping(
         value = "/{messageId}/stream",
         produces = "text/event-stream"
     )
-    public SseEmitter stream(@PathVariable UUID messageId) {
+    public SseEmitter stream(
+        @PathVariable UUID messageId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+        @RequestParam(value = "lastEventId", required = false) String lastEventIdParam
+    ) {
         try {
+            Long lastEventId = parseLastEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
             // ✅ emitter 생성 및 생명주기는 Service가 담당
-            return chatStreamService.stream(messageId);
+            return chatStreamService.stream(messageId, lastEventId);
         } catch (Exception e) {
             // 컨트롤러 레벨 예외 발생 시 (예: messageId 파싱 실패 등)
             // SSE 에러 이벤트로 처리하기 위해 emitter를 생성하여 에러 전송
@@ -51,4 +64,23 @@ public class ChatMessageStreamController {
             return errorEmitter;
         }
     }
+
+    /**
+     * Last-Event-ID 값을 파싱합니다. 형식이 잘못된 값은 재접속 정보가 없는 것으로 취급합니다.
+     *
+     * @param value 헤더 또는 쿼리 파라미터 값
+     * @return 마지막 이벤트 ID (없거나 잘못된 값이면 null → 처음부터 재전송)
+     */
+    private static Long parseLastEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long id = Long.parseLong(value.trim());
+            return id >= 0 ? id : null;
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed Last-Event-ID: {}", value);
+            return null;
+        }
+    }
 }
@@ -53,6 +53,8 @@ public final class ChatLogDtos {
         private Integer totalPages;
         private Integer page;
         private Integer size;
+        /** 다음 페이지 cursor (cursor 조회에서만 제공, 마지막 페이지면 null) */
+        private String nextCursor;
     }
 }
 
@@ -40,5 +40,32 @@ public final class FaqLogDtos {
         private List<FaqLogItem> messages;
         private Long totalCount;
     }
-}
 
+    /**
+     * FAQ 생성용 질문 항목 (스트리밍 조회, fields=faq)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FaqQuestionItem {
+        private String content;
+        private String keyword;
+        private UUID userId;
+        private String domain;
+        private Instant createdAt;
+    }
+
+    /**
+     * 스트리밍 중단 레코드 (스트리밍 조회 도중 실패 시 마지막 줄로 출력)
+     *
+     * <p>응답이 이미 200 으로 전송된 뒤이므로 상태 코드 대신 이 레코드로 불완전한 결과임을 알립니다.</p>
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StreamError {
+        /** 항상 STREAM_ABORTED */
+        private String error;
+        private String message;
+        /** 중단 전까지 출력한 건수 */
+        private long streamed;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ctrlf.chat.elasticsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_log 비동기 bulk 색인 설정
+ *
+ * <pre>
+ * app:
+ *   elasticsearch:
+ *     bulk:
+ *       enabled: true
+ *       queue-capacity: 10000
+ *       batch-size: 500
+ *       flush-interval-ms: 1000
+ *       max-retries: 3
+ *       initial-backoff-ms: 200
+ *       spill-path: ./data/chat-log-spill.ndjson
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.elasticsearch.bulk")
+public class ChatLogBulkIndexProperties {
+
+    /** 비동기 bulk 색인 사용 여부 (false면 메시지마다 동기 index 호출) */
+    private boolean enabled = true;
+
+    /** 메모리 큐 최대 크기 (초과분은 spill 파일로 기록) */
+    private int queueCapacity = 10_000;
+
+    /** 한 번의 _bulk 요청에 담을 최대 문서 수 (큐가 이 크기에 도달하면 즉시 flush) */
+    private int batchSize = 500;
+
+    /** 최대 대기 시간 (이 주기마다 큐에 남은 문서를 flush) */
+    private long flushIntervalMs = 1_000L;
+
+    /** 재시도 가능한 실패(연결 오류, 429, 5xx)에 대한 최대 재시도 횟수 */
+    private int maxRetries = 3;
+
+    /** 첫 재시도 대기 시간 (재시도마다 2배 증가) */
+    private long initialBackoffMs = 200L;
+
+    /** ES 장애 시 문서를 보관할 spill 파일 경로 (재기동 및 ES 복구 시 재전송) */
+    private String spillPath = "./data/chat-log-spill.ndjson";
+}
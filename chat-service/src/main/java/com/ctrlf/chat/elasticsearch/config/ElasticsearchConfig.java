@@ -4,6 +4,8 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.ctrlf.common.elasticsearch.ChatLogIndexManager;
+import com.ctrlf.common.elasticsearch.ChatLogIndexProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.http.HttpHost;
@@ -12,6 +14,7 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -65,5 +68,20 @@ public class ElasticsearchConfig {
         // ElasticsearchClient 생성
         return new ElasticsearchClient(transport);
     }
-}
 
+    @Bean
+    @ConfigurationProperties(prefix = "app.elasticsearch.chat-log-lifecycle")
+    public ChatLogIndexProperties chatLogIndexProperties() {
+        return new ChatLogIndexProperties();
+    }
+
+    @Bean
+    public ChatLogIndexManager chatLogIndexManager(
+        ElasticsearchClient elasticsearchClient,
+        ChatLogIndexProperties chatLogIndexProperties,
+        ObjectMapper objectMapper,
+        @Value("${app.elasticsearch.chat-log-index:chat_log}") String chatLogIndex
+    ) {
+        return new ChatLogIndexManager(elasticsearchClient, chatLogIndexProperties, objectMapper, chatLogIndex);
+    }
+}
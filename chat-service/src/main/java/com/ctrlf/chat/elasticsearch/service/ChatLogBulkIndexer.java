@@ -0,0 +1,414 @@
+package com.ctrlf.chat.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.ctrlf.chat.elasticsearch.config.ChatLogBulkIndexProperties;
+import com.ctrlf.common.elasticsearch.ChatLogIndexManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_log 비동기 bulk 색인기
+ *
+ * <p>채팅 로그 문서를 메모리 큐에 적재하고, 배치 크기 또는 flush 주기에 도달하면
+ * 단일 스레드에서 {@code _bulk} API로 일괄 색인합니다.</p>
+ * <ul>
+ *   <li>재시도 가능한 실패(연결 오류, 429, 5xx)는 지수 백오프로 재시도합니다.</li>
+ *   <li>재시도 후에도 실패하거나 큐가 가득 찬 경우 spill 파일(NDJSON)에 기록하고,
+ *       재기동 시 또는 ES 복구 후 재전송합니다.</li>
+ *   <li>문서 ID는 메시지 ID이므로 재전송으로 인한 중복 색인은 덮어쓰기로 처리됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatLogBulkIndexer {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ChatLogBulkIndexProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ChatLogIndexManager chatLogIndexManager;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BlockingQueue<PendingDoc> queue;
+    private ScheduledExecutorService flusher;
+    private Path spillFile;
+    private Path replayingFile;
+
+    private final Object spillLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private volatile boolean spillPending = false;
+    private volatile boolean esAvailable = true;
+
+    private Timer flushTimer;
+    private Counter indexedCounter;
+    private Counter spilledCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        spillFile = Paths.get(properties.getSpillPath());
+        replayingFile = spillFile.resolveSibling(spillFile.getFileName() + ".replaying");
+
+        meterRegistry.gauge("chat.log.index.queue.depth", queue, BlockingQueue::size);
+        flushTimer = Timer.builder("chat.log.index.flush.latency")
+            .description("chat_log _bulk 요청 소요 시간")
+            .register(meterRegistry);
+        indexedCounter = meterRegistry.counter("chat.log.index.indexed");
+        spilledCounter = meterRegistry.counter("chat.log.index.spilled");
+        droppedCounter = meterRegistry.counter("chat.log.index.dropped");
+
+        recoverInterruptedReplay();
+
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "chat-log-bulk-indexer");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(
+            this::flushSafely,
+            properties.getFlushIntervalMs(),
+            properties.getFlushIntervalMs(),
+            TimeUnit.MILLISECONDS
+        );
+        log.info("[chat_log bulk 색인] 시작: index={}, queueCapacity={}, batchSize={}, flushIntervalMs={}, spillPending={}",
+            chatLogIndexManager.writeIndex(), properties.getQueueCapacity(), properties.getBatchSize(),
+            properties.getFlushIntervalMs(), spillPending);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시점에 남은 문서는 spill 파일로 보관 후 재기동 시 재전송
+        List<PendingDoc> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+            log.info("[chat_log bulk 색인] 종료: 미색인 문서 {}건을 spill 파일로 보관", remaining.size());
+        }
+    }
+
+    /**
+     * 색인할 문서를 큐에 추가합니다. (호출 스레드를 블로킹하지 않음)
+     *
+     * @param id 문서 ID (메시지 ID)
+     * @param document 색인할 문서
+     */
+    public void enqueue(String id, Map<String, Object> document) {
+        PendingDoc doc = new PendingDoc(id, document);
+        if (!queue.offer(doc)) {
+            // 큐가 가득 찬 경우 유실 대신 spill 파일에 기록
+            spill(List.of(doc));
+            return;
+        }
+        if (queue.size() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Throwable t) {
+            log.error("[chat_log bulk 색인] flush 오류", t);
+        }
+    }
+
+    private void flush() {
+        int batchSize = properties.getBatchSize();
+        while (true) {
+            List<PendingDoc> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<PendingDoc> failed = indexWithRetry(batch);
+            if (!failed.isEmpty()) {
+                // ES 장애: 실패분은 spill, 큐의 나머지는 다음 주기에 재시도
+                spill(failed);
+                return;
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (spillPending) {
+            if (!esAvailable) {
+                esAvailable = ping();
+            }
+            if (esAvailable) {
+                replaySpill();
+            }
+        }
+    }
+
+    /**
+     * _bulk 요청을 재시도 포함하여 실행합니다.
+     *
+     * @return 재시도 후에도 색인되지 않은 재시도 가능 문서 목록
+     */
+    private List<PendingDoc> indexWithRetry(List<PendingDoc> batch) {
+        List<PendingDoc> pending = batch;
+        long backoffMs = properties.getInitialBackoffMs();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                pending = bulk(pending);
+                esAvailable = true;
+            } catch (Exception e) {
+                esAvailable = false;
+                log.warn("[chat_log bulk 색인] _bulk 요청 실패: attempt={}, docs={}, error={}",
+                    attempt + 1, pending.size(), e.getMessage());
+            }
+            if (pending.isEmpty() || attempt >= properties.getMaxRetries()) {
+                return pending;
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return pending;
+            }
+            backoffMs *= 2;
+        }
+    }
+
+    /**
+     * 단일 _bulk 요청을 실행하고 항목별 결과를 매핑합니다.
+     *
+     * @return 재시도 가능한 실패 문서 목록 (4xx 매핑 오류 등 재시도 불가 실패는 dropped로 집계)
+     */
+    private List<PendingDoc> bulk(List<PendingDoc> docs) throws IOException {
+        BulkRequest.Builder builder = new BulkRequest.Builder();
+        String writeIndex = chatLogIndexManager.writeIndex();
+        for (PendingDoc doc : docs) {
+            builder.operations(op -> op
+                .index(i -> i
+                    .index(writeIndex)
+                    .id(doc.id())
+                    .document(doc.document())
+                )
+            );
+        }
+
+        long start = System.nanoTime();
+        BulkResponse response = elasticsearchClient.bulk(builder.build());
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!response.errors()) {
+            indexedCounter.increment(docs.size());
+            return List.of();
+        }
+
+        List<PendingDoc> retryable = new ArrayList<>();
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            if (item.error() == null) {
+                indexedCounter.increment();
+            } else if (item.status() == 429 || item.status() >= 500) {
+                retryable.add(docs.get(i));
+            } else {
+                droppedCounter.increment();
+                log.warn("[chat_log bulk 색인] 문서 색인 거부: id={}, status={}, reason={}",
+                    item.id(), item.status(), item.error().reason());
+            }
+        }
+        return retryable;
+    }
+
+    private boolean ping() {
+        try {
+            return elasticsearchClient.ping().value();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 문서를 spill 파일에 추가합니다. (한 줄에 {"id":..., "document":{...}})
+     */
+    private void spill(List<PendingDoc> docs) {
+        synchronized (spillLock) {
+            try {
+                Path parent = spillFile.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(
+                    spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (PendingDoc doc : docs) {
+                        Map<String, Object> line = new LinkedHashMap<>();
+                        line.put("id", doc.id());
+                        line.put("document", doc.document());
+                        writer.write(objectMapper.writeValueAsString(line));
+                        writer.newLine();
+                    }
+                }
+                spillPending = true;
+                spilledCounter.increment(docs.size());
+            } catch (IOException e) {
+                droppedCounter.increment(docs.size());
+                log.error("[chat_log bulk 색인] spill 파일 기록 실패, 문서 {}건 유실: path={}, error={}",
+                    docs.size(), spillFile, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * spill 파일을 읽어 재전송합니다. 실패 시 남은 문서는 다시 spill 파일로 되돌립니다.
+     */
+    private void replaySpill() {
+        synchronized (spillLock) {
+            if (!Files.exists(spillFile)) {
+                spillPending = false;
+                return;
+            }
+            try {
+                Files.move(spillFile, replayingFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("[chat_log bulk 색인] spill 파일 이동 실패: {}", e.getMessage());
+                return;
+            }
+            spillPending = false;
+        }
+
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayingFile, StandardCharsets.UTF_8)) {
+            List<PendingDoc> batch = new ArrayList<>(properties.getBatchSize());
+            String line;
+            boolean failed = false;
+            while (!failed && (line = reader.readLine()) != null) {
+                PendingDoc doc = parseSpillLine(line);
+                if (doc != null) {
+                    batch.add(doc);
+                }
+                if (batch.size() >= properties.getBatchSize()) {
+                    failed = replayBatch(batch, reader);
+                    replayed += failed ? 0 : batch.size();
+                    batch = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+            if (!failed && !batch.isEmpty()) {
+                failed = replayBatch(batch, reader);
+                replayed += failed ? 0 : batch.size();
+            }
+        } catch (IOException e) {
+            log.error("[chat_log bulk 색인] spill 파일 재전송 오류: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(replayingFile);
+        } catch (IOException e) {
+            log.warn("[chat_log bulk 색인] 재전송 파일 삭제 실패: {}", e.getMessage());
+        }
+        log.info("[chat_log bulk 색인] spill 파일 재전송 완료: replayed={}, spillPending={}", replayed, spillPending);
+    }
+
+    /**
+     * @return 실패 여부 (실패 시 실패분과 아직 읽지 않은 줄을 spill 파일로 되돌림)
+     */
+    private boolean replayBatch(List<PendingDoc> batch, BufferedReader reader) throws IOException {
+        List<PendingDoc> failed = indexWithRetry(batch);
+        if (failed.isEmpty()) {
+            return false;
+        }
+        spill(failed);
+        List<PendingDoc> rest = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            PendingDoc doc = parseSpillLine(line);
+            if (doc != null) {
+                rest.add(doc);
+            }
+        }
+        if (!rest.isEmpty()) {
+            spill(rest);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PendingDoc parseSpillLine(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            Map<String, Object> parsed = objectMapper.readValue(line, Map.class);
+            return new PendingDoc((String) parsed.get("id"), (Map<String, Object>) parsed.get("document"));
+        } catch (Exception e) {
+            droppedCounter.increment();
+            log.warn("[chat_log bulk 색인] spill 파일 손상 줄 건너뜀: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 재전송 도중 종료된 경우 남은 파일을 spill 파일에 합칩니다.
+     */
+    private void recoverInterruptedReplay() {
+        synchronized (spillLock) {
+            try {
+                if (Files.exists(replayingFile)) {
+                    Path parent = spillFile.toAbsolutePath().getParent();
+                    if (parent != null) {
+                        Files.createDirectories(parent);
+                    }
+                    Files.write(spillFile, Files.readAllBytes(replayingFile),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    Files.delete(replayingFile);
+                }
+            } catch (IOException e) {
+                log.warn("[chat_log bulk 색인] 중단된 재전송 파일 복구 실패: {}", e.getMessage());
+            }
+            spillPending = Files.exists(spillFile);
+        }
+    }
+
+    private record PendingDoc(String id, Map<String, Object> document) {}
+}
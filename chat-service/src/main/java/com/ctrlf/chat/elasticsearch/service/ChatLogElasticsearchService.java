@@ -1,6 +1,7 @@
 package com.ctrlf.chat.elasticsearch.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
@@ -10,8 +11,19 @@ import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.ctrlf.chat.dto.response.ChatLogDtos;
+import com.ctrlf.chat.elasticsearch.config.ChatLogBulkIndexProperties;
 import com.ctrlf.chat.entity.ChatMessage;
 import com.ctrlf.chat.entity.ChatSession;
+import com.ctrlf.common.elasticsearch.ChatLogIndexManager;
+import com.ctrlf.common.elasticsearch.LogSearchCursor;
+import com.ctrlf.common.elasticsearch.PointInTimeIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,14 +43,24 @@ import org.springframework.stereotype.Service;
 public class ChatLogElasticsearchService {
 
     private final ElasticsearchClient elasticsearchClient;
+    private final ChatLogBulkIndexer chatLogBulkIndexer;
+    private final ChatLogBulkIndexProperties bulkIndexProperties;
+    private final ObjectMapper objectMapper;
+    private final ChatLogIndexManager chatLogIndexManager;
 
-    @Value("${app.elasticsearch.chat-log-index:chat_log}")
-    private String chatLogIndex;
+    /** cursor 조회/내보내기 point-in-time 유지 시간 (요청 간 최대 간격) */
+    @Value("${app.elasticsearch.log-search.pit-keep-alive:2m}")
+    private String pitKeepAlive;
+
+    /** 내보내기 시 search_after 1회당 조회 건수 */
+    @Value("${app.elasticsearch.log-search.export-batch-size:1000}")
+    private int exportBatchSize;
 
     /**
      * 채팅 로그를 Elasticsearch에 저장
      *
      * <p>Elasticsearch의 chat_log 인덱스에 저장합니다.</p>
+     * <p>app.elasticsearch.bulk.enabled=true이면 {@link ChatLogBulkIndexer} 큐에 적재하고 즉시 반환합니다.</p>
      *
      * @param message 채팅 메시지
      * @param session 채팅 세션
@@ -72,7 +94,10 @@ public class ChatLogElasticsearchService {
                 logData.put("ragUsed", message.getRoutingType() != null && message.getRoutingType().contains("RAG"));
                 logData.put("ragSourceCount", null);  // AI 서버에서 전송할 때 설정
                 logData.put("latencyMsTotal", message.getResponseTimeMs());
+                logData.put("latencyMsFirstToken", message.getFirstTokenMs());
+                logData.put("tokensPerSecond", message.getTokensPerSecond());
                 logData.put("errorCode", message.getIsError() != null && message.getIsError() ? "ERROR" : null);
+                logData.put("status", message.getStatus() != null ? message.getStatus().name() : null);
             } else {
                 // user 메시지인 경우
                 logData.put("question", message.getContent());
@@ -84,9 +109,18 @@ public class ChatLogElasticsearchService {
                 logData.put("conversationId", session.getId().toString());
             }
             
+            // 비동기 bulk 색인 (요청 스레드는 ES 응답을 기다리지 않음)
+            if (bulkIndexProperties.isEnabled()) {
+                chatLogBulkIndexer.enqueue(message.getId().toString(), logData);
+                log.debug("[Elasticsearch 채팅 로그 저장] 큐 적재: messageId={}, role={}",
+                    message.getId(), message.getRole());
+                return;
+            }
+
             // Elasticsearch에 저장 (동기적으로 실행하여 저장 완료 보장)
+            String writeIndex = chatLogIndexManager.writeIndex();
             IndexRequest<Map<String, Object>> request = IndexRequest.of(i -> i
-                .index(chatLogIndex)
+                .index(writeIndex)
                 .id(message.getId().toString())
                 .document(logData)
             );
@@ -99,7 +133,7 @@ public class ChatLogElasticsearchService {
                 message.getContent() != null && message.getContent().length() > 50 
                     ? message.getContent().substring(0, 50) + "..." 
                     : message.getContent(),
-                chatLogIndex, response.result(), response.version());
+                writeIndex, response.result(), response.version());
                 
         } catch (Exception e) {
             log.error("[Elasticsearch 채팅 로그 저장] 실패: messageId={}, role={}, content={}, error={}",
@@ -116,6 +150,11 @@ public class ChatLogElasticsearchService {
     /**
      * 채팅 로그 조회
      *
+     * <p>cursor 가 없으면 기존 page/size(from) 방식으로 조회합니다 (얕은 페이지용,
+     * from + size 는 index.max_result_window(기본 10,000) 이내여야 합니다).
+     * cursor 가 있으면 point-in-time + search_after 로 조회하며, 빈 값이면 새 PIT 를 열어 첫 페이지를 반환합니다.
+     * 응답의 nextCursor 를 그대로 다음 요청에 보내면 깊이와 무관하게 일정한 비용으로 다음 페이지를 조회합니다.</p>
+     *
      * @param period 기간 (7 | 30 | 90)
      * @param startDate 시작 날짜 (ISO 8601)
      * @param endDate 종료 날짜 (ISO 8601)
@@ -128,6 +167,7 @@ public class ChatLogElasticsearchService {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param sort 정렬 (예: createdAt,desc)
+     * @param cursor 이전 응답의 nextCursor (null 이면 page 방식)
      * @return 채팅 로그 페이지 응답
      */
     public ChatLogDtos.PageResponse<ChatLogDtos.ChatLogItem> getChatLogs(
@@ -142,121 +182,50 @@ public class ChatLogElasticsearchService {
         Boolean hasPiiOnly,
         Integer page,
         Integer size,
-        String sort
+        String sort,
+        String cursor
     ) {
+        // 잘못된 cursor / 조건이 바뀐 cursor 는 400 (IllegalArgumentException)
+        String filterHash = LogSearchCursor.filterHash(period, startDateStr, endDateStr,
+            department, domain, route, model, onlyError, hasPiiOnly, sort);
+        LogSearchCursor searchCursor = cursor != null ? LogSearchCursor.decode(cursor, filterHash) : null;
+
         try {
-            log.info("[Elasticsearch 채팅 로그 조회] 요청: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}",
-                period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort);
+            log.info("[Elasticsearch 채팅 로그 조회] 요청: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}, cursor={}",
+                period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort, searchCursor != null);
 
             // 기간 계산
             Instant[] periodRange = calculatePeriodRange(period, startDateStr, endDateStr);
-            Instant startDate = periodRange[0];
-            Instant endDate = periodRange[1];
 
             // 페이징 설정
             int pageNumber = (page != null && page >= 0) ? page : 0;
             int pageSize = (size != null && size > 0) ? Math.min(size, 100) : 20;
             int from = pageNumber * pageSize;
 
-            // 정렬 설정 (final 변수로 선언)
-            final String finalSortField;
-            final String finalSortOrder;
-            if (sort != null && !sort.isBlank()) {
-                String[] sortParts = sort.split(",");
-                if (sortParts.length > 0) {
-                    finalSortField = sortParts[0].trim();
-                } else {
-                    finalSortField = "createdAt";
-                }
-                if (sortParts.length > 1) {
-                    finalSortOrder = sortParts[1].trim();
-                } else {
-                    finalSortOrder = "desc";
-                }
-            } else {
-                finalSortField = "createdAt";
-                finalSortOrder = "desc";
-            }
-
-            // 쿼리 빌더 생성
-            BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
-
-            // 날짜 범위 필터 (ISO 8601 형식 문자열)
-            String startDateIso = startDate.toString();
-            String endDateIso = endDate.toString();
-            boolQueryBuilder.must(Query.of(q -> q
-                .range(r -> r
-                    .field("createdAt")
-                    .gte(JsonData.of(startDateIso))
-                    .lte(JsonData.of(endDateIso))
-                )
-            ));
-
-
-            // 부서 필터
-            if (department != null && !department.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("department").value(department))
-                ));
-            }
-
-            // 도메인 필터
-            if (domain != null && !domain.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("domain").value(domain))
-                ));
-            }
+            // 정렬 설정
+            String[] sortSpec = parseSort(sort);
+            String sortField = sortSpec[0];
+            SortOrder sortOrder = "desc".equalsIgnoreCase(sortSpec[1]) ? SortOrder.Desc : SortOrder.Asc;
 
-            // 라우트 필터
-            if (route != null && !route.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("route").value(route))
-                ));
-            }
-
-            // 모델 필터
-            if (model != null && !model.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("modelName").value(model))
-                ));
-            }
+            Query query = buildLogQuery(periodRange[0], periodRange[1],
+                department, domain, route, model, onlyError, hasPiiOnly);
 
-            // 에러만 보기 필터
-            if (onlyError != null && onlyError) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .exists(e -> e.field("errorCode"))
-                ));
+            if (searchCursor != null) {
+                return searchWithCursor(query, sortField, sortOrder, searchCursor, pageSize);
             }
 
-            // PII 포함만 보기 필터
-            if (hasPiiOnly != null && hasPiiOnly) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .bool(b -> b
-                        .should(s -> s.term(t -> t.field("hasPiiInput").value(true)))
-                        .should(s -> s.term(t -> t.field("hasPiiOutput").value(true)))
-                    )
-                ));
-            }
-
-            BoolQuery boolQuery = boolQueryBuilder.build();
-
             // 검색 요청 생성
+            String searchIndex = chatLogIndexManager.searchIndex();
             SearchRequest searchRequest = SearchRequest.of(s -> s
-                .index(chatLogIndex)
-                .query(Query.of(q -> q.bool(boolQuery)))
+                .index(searchIndex)
+                .preFilterShardSize(ChatLogIndexManager.PRE_FILTER_SHARD_SIZE)
+                .query(query)
                 .from(from)
                 .size(pageSize)
-                .sort(so -> so
-                    .field(f -> f
-                        .field(finalSortField)
-                        .order("desc".equalsIgnoreCase(finalSortOrder)
-                            ? SortOrder.Desc
-                            : SortOrder.Asc)
-                    )
-                )
+                .sort(so -> so.field(f -> f.field(sortField).order(sortOrder)))
             );
 
-            log.info("[Elasticsearch 채팅 로그 조회] 검색 시작: index={}, from={}, size={}", chatLogIndex, from, pageSize);
+            log.info("[Elasticsearch 채팅 로그 조회] 검색 시작: index={}, from={}, size={}", searchIndex, from, pageSize);
 
             // 검색 실행
             SearchResponse<Map> response = elasticsearchClient.search(searchRequest, Map.class);
@@ -266,20 +235,7 @@ public class ChatLogElasticsearchService {
                 response.hits().hits().size());
 
             // 결과 변환
-            List<ChatLogDtos.ChatLogItem> items = new ArrayList<>();
-            for (Hit<Map> hit : response.hits().hits()) {
-                try {
-                    Map<String, Object> source = hit.source();
-                    if (source == null) {
-                        continue;
-                    }
-
-                    ChatLogDtos.ChatLogItem item = convertToChatLogItem(hit.id(), source);
-                    items.add(item);
-                } catch (Exception e) {
-                    log.warn("[Elasticsearch 채팅 로그 조회] 항목 변환 실패: id={}, error={}", hit.id(), e.getMessage());
-                }
-            }
+            List<ChatLogDtos.ChatLogItem> items = convertHits(response.hits().hits());
 
             // 총 개수 및 페이지 수 계산
             long totalHits = response.hits().total() != null ? response.hits().total().value() : 0;
@@ -292,15 +248,310 @@ public class ChatLogElasticsearchService {
                 totalHits,
                 totalPages,
                 pageNumber,
-                pageSize
+                pageSize,
+                null
             );
 
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[Elasticsearch 채팅 로그 조회] 오류 발생", e);
             throw new RuntimeException("채팅 로그 조회 실패: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * point-in-time + search_after 페이지 조회
+     *
+     * <p>PIT 는 첫 페이지에서 열고 마지막 페이지에서 닫습니다. 중간에 조회를 멈추면 keep-alive 후 자동 만료됩니다.
+     * 전체 건수는 첫 페이지에서만 계산하고 이후에는 cursor 에 담긴 값을 사용합니다.</p>
+     */
+    private ChatLogDtos.PageResponse<ChatLogDtos.ChatLogItem> searchWithCursor(
+        Query query,
+        String sortField,
+        SortOrder sortOrder,
+        LogSearchCursor cursor,
+        int pageSize
+    ) throws IOException {
+        String pitId = cursor.isFirstPage() ? openPointInTime() : cursor.pitId();
+
+        SearchResponse<Map> response;
+        try {
+            response = elasticsearchClient.search(s -> {
+                s.pit(p -> p.id(pitId).keepAlive(k -> k.time(pitKeepAlive)))
+                    .preFilterShardSize(ChatLogIndexManager.PRE_FILTER_SHARD_SIZE)
+                    .query(query)
+                    .size(pageSize)
+                    .sort(so -> so.field(f -> f.field(sortField).order(sortOrder)))
+                    .trackTotalHits(t -> t.enabled(cursor.isFirstPage()));
+                if (!cursor.isFirstPage()) {
+                    s.searchAfter(cursor.searchAfterValues());
+                }
+                return s;
+            }, Map.class);
+        } catch (ElasticsearchException e) {
+            if (e.status() == 404) {
+                throw new IllegalArgumentException("cursor가 만료되었습니다. 처음부터 다시 조회하세요.", e);
+            }
+            throw e;
+        }
+
+        List<Hit<Map>> hits = response.hits().hits();
+        List<ChatLogDtos.ChatLogItem> items = convertHits(hits);
+        long totalHits = cursor.isFirstPage()
+            ? (response.hits().total() != null ? response.hits().total().value() : 0)
+            : cursor.total();
+        int totalPages = (int) Math.ceil((double) totalHits / pageSize);
+
+        // 마지막 페이지면 PIT 닫기
+        String nextCursor = null;
+        String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+        if (hits.size() < pageSize) {
+            closePointInTime(nextPitId);
+        } else {
+            nextCursor = LogSearchCursor.next(
+                nextPitId, hits.get(hits.size() - 1).sort(), totalHits, cursor.page() + 1, cursor.filterHash()
+            ).encode();
+        }
+
+        log.info("[Elasticsearch 채팅 로그 조회] cursor 조회 완료: page={}, items={}, totalHits={}, hasNext={}",
+            cursor.page(), items.size(), totalHits, nextCursor != null);
+
+        return new ChatLogDtos.PageResponse<>(
+            items,
+            totalHits,
+            totalPages,
+            cursor.page(),
+            pageSize,
+            nextCursor
+        );
+    }
+
+    /**
+     * 채팅 로그 내보내기 (NDJSON / CSV 스트리밍)
+     *
+     * <p>point-in-time + search_after 로 전체 결과를 {@code app.elasticsearch.log-search.export-batch-size} 건씩
+     * 순회하며 바로 출력 스트림에 씁니다. 결과 크기와 무관하게 한 배치만 메모리에 유지합니다.</p>
+     *
+     * @param format ndjson | csv
+     * @param out 응답 출력 스트림
+     */
+    public void exportChatLogs(
+        String period,
+        String startDateStr,
+        String endDateStr,
+        String department,
+        String domain,
+        String route,
+        String model,
+        Boolean onlyError,
+        Boolean hasPiiOnly,
+        String sort,
+        String format,
+        OutputStream out
+    ) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        Instant[] periodRange = calculatePeriodRange(period, startDateStr, endDateStr);
+        String[] sortSpec = parseSort(sort);
+        String sortField = sortSpec[0];
+        SortOrder sortOrder = "desc".equalsIgnoreCase(sortSpec[1]) ? SortOrder.Desc : SortOrder.Asc;
+        Query query = buildLogQuery(periodRange[0], periodRange[1],
+            department, domain, route, model, onlyError, hasPiiOnly);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write('\uFEFF');  // Excel 한글 인식용 BOM
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+
+        long exported = 0;
+        try (PointInTimeIterator<Map> batches = PointInTimeIterator.open(elasticsearchClient,
+                chatLogIndexManager.searchIndex(), pitKeepAlive, query, sortField, sortOrder, exportBatchSize, Map.class)) {
+            for (List<Hit<Map>> hits = batches.nextBatch(); !hits.isEmpty(); hits = batches.nextBatch()) {
+                for (ChatLogDtos.ChatLogItem item : convertHits(hits)) {
+                    if (csv) {
+                        writeCsvRow(writer, item);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(item));
+                        writer.write('\n');
+                    }
+                }
+                exported += hits.size();
+                writer.flush();
+            }
+        } finally {
+            writer.flush();
+        }
+
+        log.info("[Elasticsearch 채팅 로그 내보내기] 완료: format={}, exported={}", csv ? "csv" : "ndjson", exported);
+    }
+
+    private static final List<String> CSV_COLUMNS = List.of(
+        "id", "createdAt", "userId", "userRole", "department", "domain", "route", "modelName",
+        "question", "answer", "hasPiiInput", "hasPiiOutput", "ragUsed", "ragSourceCount",
+        "latencyMsTotal", "errorCode", "traceId", "conversationId", "turnId"
+    );
+
+    private void writeCsvRow(Writer writer, ChatLogDtos.ChatLogItem item) throws IOException {
+        Object[] values = {
+            item.getId(), item.getCreatedAt(), item.getUserId(), item.getUserRole(), item.getDepartment(),
+            item.getDomain(), item.getRoute(), item.getModelName(), item.getQuestion(), item.getAnswer(),
+            item.getHasPiiInput(), item.getHasPiiOutput(), item.getRagUsed(), item.getRagSourceCount(),
+            item.getLatencyMsTotal(), item.getErrorCode(), item.getTraceId(), item.getConversationId(), item.getTurnId()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private String openPointInTime() throws IOException {
+        return elasticsearchClient.openPointInTime(o -> o
+            .index(chatLogIndexManager.searchIndex())
+            .keepAlive(k -> k.time(pitKeepAlive))
+        ).id();
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchClient.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            // keep-alive 경과 후 자동 만료되므로 경고만 남김
+            log.warn("[Elasticsearch 채팅 로그 조회] PIT 닫기 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정렬 파라미터 파싱 (기본값: createdAt,desc)
+     *
+     * @return [field, order]
+     */
+    private String[] parseSort(String sort) {
+        String sortField = "createdAt";
+        String sortOrder = "desc";
+        if (sort != null && !sort.isBlank()) {
+            String[] sortParts = sort.split(",");
+            if (sortParts.length > 0 && !sortParts[0].isBlank()) {
+                sortField = sortParts[0].trim();
+            }
+            if (sortParts.length > 1) {
+                sortOrder = sortParts[1].trim();
+            }
+        }
+        return new String[]{sortField, sortOrder};
+    }
+
+    /**
+     * 검색 조건 → bool 쿼리
+     */
+    private Query buildLogQuery(
+        Instant startDate,
+        Instant endDate,
+        String department,
+        String domain,
+        String route,
+        String model,
+        Boolean onlyError,
+        Boolean hasPiiOnly
+    ) {
+        // 쿼리 빌더 생성
+        BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+
+        // 날짜 범위 필터 (ISO 8601 형식 문자열)
+        String startDateIso = startDate.toString();
+        String endDateIso = endDate.toString();
+        boolQueryBuilder.must(Query.of(q -> q
+            .range(r -> r
+                .field("createdAt")
+                .gte(JsonData.of(startDateIso))
+                .lte(JsonData.of(endDateIso))
+            )
+        ));
+
+        // 부서 필터
+        if (department != null && !department.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("department").value(department))
+            ));
+        }
+
+        // 도메인 필터
+        if (domain != null && !domain.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("domain").value(domain))
+            ));
+        }
+
+        // 라우트 필터
+        if (route != null && !route.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("route").value(route))
+            ));
+        }
+
+        // 모델 필터
+        if (model != null && !model.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("modelName").value(model))
+            ));
+        }
+
+        // 에러만 보기 필터
+        if (onlyError != null && onlyError) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .exists(e -> e.field("errorCode"))
+            ));
+        }
+
+        // PII 포함만 보기 필터
+        if (hasPiiOnly != null && hasPiiOnly) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .bool(b -> b
+                    .should(s -> s.term(t -> t.field("hasPiiInput").value(true)))
+                    .should(s -> s.term(t -> t.field("hasPiiOutput").value(true)))
+                )
+            ));
+        }
+
+        BoolQuery boolQuery = boolQueryBuilder.build();
+        return Query.of(q -> q.bool(boolQuery));
+    }
+
+    /**
+     * 검색 결과 → ChatLogItem 목록 (변환 실패 항목은 건너뜀)
+     */
+    @SuppressWarnings("unchecked")
+    private List<ChatLogDtos.ChatLogItem> convertHits(List<Hit<Map>> hits) {
+        List<ChatLogDtos.ChatLogItem> items = new ArrayList<>(hits.size());
+        for (Hit<Map> hit : hits) {
+            try {
+                Map<String, Object> source = hit.source();
+                if (source == null) {
+                    continue;
+                }
+                items.add(convertToChatLogItem(hit.id(), source));
+            } catch (Exception e) {
+                log.warn("[Elasticsearch 채팅 로그 조회] 항목 변환 실패: id={}, error={}", hit.id(), e.getMessage());
+            }
+        }
+        return items;
+    }
+
     /**
      * Map을 ChatLogItem으로 변환
      */
@@ -10,6 +10,16 @@ import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.ctrlf.chat.dto.response.AdminMessageLogResponse;
+import com.ctrlf.chat.dto.response.FaqLogDtos;
+import com.ctrlf.common.elasticsearch.ChatLogIndexManager;
+import com.ctrlf.common.elasticsearch.PointInTimeIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,9 +39,21 @@ import org.springframework.stereotype.Service;
 public class FaqLogElasticsearchService {
 
     private final ElasticsearchClient elasticsearchClient;
+    private final ObjectMapper objectMapper;
+    private final ChatLogIndexManager chatLogIndexManager;
 
-    @Value("${app.elasticsearch.chat-log-index:chat_log}")
-    private String chatLogIndex;
+    /** 스트리밍 조회 point-in-time 유지 시간 (배치 간 최대 간격) */
+    @Value("${app.elasticsearch.log-search.pit-keep-alive:2m}")
+    private String pitKeepAlive;
+
+    /** 스트리밍 조회 시 search_after 1회당 조회 건수 */
+    @Value("${app.elasticsearch.faq-log.stream-batch-size:1000}")
+    private int streamBatchSize;
+
+    /** FAQ 생성용 _source 필드 (snake_case 문서 호환 포함) */
+    private static final List<String> FAQ_SOURCE_FIELDS = List.of(
+        "content", "keyword", "userId", "user_id", "domain", "createdAt", "created_at"
+    );
 
     /**
      * FAQ 초안 생성용 질문 로그 조회
@@ -46,6 +68,7 @@ public class FaqLogElasticsearchService {
      * @return FAQ 로그 목록 응답 (AdminMessageLogResponse 형식)
      */
     public AdminMessageLogResponse getFaqLogs(String domain, Integer daysBack) {
+        String chatLogIndex = chatLogIndexManager.searchIndex();
         try {
             // 기본값 설정
             int actualDaysBack = (daysBack != null && daysBack > 0) ? daysBack : 30;
@@ -55,42 +78,15 @@ public class FaqLogElasticsearchService {
             log.info("[Elasticsearch FAQ 로그 조회] 요청: domain={}, daysBack={}, startDate={}, endDate={}, index={}",
                 domain, actualDaysBack, startDate, endDate, chatLogIndex);
 
-            // 쿼리 빌더 생성
-            BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
-
-            // 날짜 범위 필터 (ISO 8601 형식 문자열)
             String startDateIso = startDate.toString();
             String endDateIso = endDate.toString();
-            log.debug("[Elasticsearch FAQ 로그 조회] 날짜 범위 필터: createdAt >= {} AND createdAt <= {}", 
-                startDateIso, endDateIso);
-            boolQueryBuilder.must(Query.of(q -> q
-                .range(r -> r
-                    .field("createdAt")
-                    .gte(JsonData.of(startDateIso))
-                    .lte(JsonData.of(endDateIso))
-                )
-            ));
-
-            // role = 'user' 필터 (사용자 질문만)
-            log.debug("[Elasticsearch FAQ 로그 조회] role 필터: role=user");
-            boolQueryBuilder.must(Query.of(q -> q
-                .term(t -> t.field("role").value("user"))
-            ));
-
-            // 도메인 필터
-            if (domain != null && !domain.isBlank()) {
-                log.debug("[Elasticsearch FAQ 로그 조회] 도메인 필터: domain={}", domain);
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("domain").value(domain))
-                ));
-            }
-
-            BoolQuery boolQuery = boolQueryBuilder.build();
+            BoolQuery boolQuery = buildFaqLogQuery(domain, startDate, endDate);
 
             // 검색 요청 생성 (최대 10000개 조회)
             // 인덱스: chat_log (백엔드에서 채팅 메시지 저장 시 자동 저장)
             SearchRequest searchRequest = SearchRequest.of(s -> s
-                .index(chatLogIndex)  // chat_log 인덱스 (백엔드에서 채팅 메시지 저장 시 자동 저장)
+                .index(chatLogIndex)  // chat_log 인덱스 + rollover 인덱스 (백엔드에서 채팅 메시지 저장 시 자동 저장)
+                .preFilterShardSize(ChatLogIndexManager.PRE_FILTER_SHARD_SIZE)  // createdAt 범위 밖 인덱스 제외
                 .query(Query.of(q -> q.bool(boolQuery)))
                 .size(10000)  // FAQ 생성용이므로 충분히 많은 데이터 조회
                 .sort(so -> so
@@ -209,6 +205,130 @@ public class FaqLogElasticsearchService {
         }
     }
 
+    /**
+     * FAQ 초안 생성용 질문 로그 스트리밍 (NDJSON)
+     *
+     * <p>{@link #getFaqLogs}와 같은 조건(최근 daysBack 일, role=user, domain)으로 조회하되,
+     * point-in-time + search_after 로 {@code app.elasticsearch.faq-log.stream-batch-size} 건씩 순회하며
+     * 한 줄에 한 건씩 바로 출력 스트림에 씁니다. 10,000건 제한이 없고 한 배치만 메모리에 유지합니다.</p>
+     *
+     * <p>faqFieldsOnly=true 이면 _source 를 FAQ 생성에 필요한 필드(content, keyword, userId, domain, createdAt)로
+     * 제한하고 {@link FaqLogDtos.FaqQuestionItem} 형식으로 출력합니다.
+     * 그 외에는 {@link AdminMessageLogResponse.MessageLogItem} 형식으로 출력합니다.</p>
+     *
+     * <p>한 건이라도 출력한 뒤 조회가 실패하면 예외 대신 {@link FaqLogDtos.StreamError} 를 마지막 줄로 쓰고 종료합니다.</p>
+     *
+     * @param domain 도메인 필터 (선택)
+     * @param daysBack 최근 N일간의 데이터 (기본값: 30)
+     * @param faqFieldsOnly FAQ 생성용 필드만 출력
+     * @param out 응답 출력 스트림
+     * @return 출력한 건수
+     */
+    public long streamFaqLogs(String domain, Integer daysBack, boolean faqFieldsOnly, OutputStream out) throws IOException {
+        int actualDaysBack = (daysBack != null && daysBack > 0) ? daysBack : 30;
+        Instant endDate = Instant.now();
+        Instant startDate = endDate.minusSeconds(actualDaysBack * 24L * 60L * 60L);
+        BoolQuery boolQuery = buildFaqLogQuery(domain, startDate, endDate);
+        String chatLogIndex = chatLogIndexManager.searchIndex();
+
+        log.info("[Elasticsearch FAQ 로그 스트리밍] 요청: domain={}, daysBack={}, faqFieldsOnly={}, index={}",
+            domain, actualDaysBack, faqFieldsOnly, chatLogIndex);
+
+        PointInTimeIterator<Map> batches;
+        try {
+            batches = PointInTimeIterator.open(elasticsearchClient, chatLogIndex, pitKeepAlive,
+                Query.of(q -> q.bool(boolQuery)), "createdAt", SortOrder.Desc, streamBatchSize, Map.class);
+        } catch (ElasticsearchException e) {
+            if (e.getMessage() != null && e.getMessage().contains("index_not_found_exception")) {
+                // 인덱스가 없으면 빈 스트림 (getFaqLogs 의 빈 결과와 동일)
+                log.warn("[Elasticsearch FAQ 로그 스트리밍] 인덱스가 없습니다: index={}. 빈 결과를 반환합니다.", chatLogIndex);
+                return 0;
+            }
+            throw e;
+        }
+        if (faqFieldsOnly) {
+            batches.sourceIncludes(FAQ_SOURCE_FIELDS);
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long streamed = 0;
+        try (batches) {
+            for (List<Hit<Map>> hits = batches.nextBatch(); !hits.isEmpty(); hits = batches.nextBatch()) {
+                for (Hit<Map> hit : hits) {
+                    Map<String, Object> source = hit.source();
+                    if (source == null) {
+                        continue;
+                    }
+                    AdminMessageLogResponse.MessageLogItem item = convertToMessageLogItem(hit.id(), source);
+                    if (item == null) {
+                        continue;
+                    }
+                    Object line = faqFieldsOnly
+                        ? new FaqLogDtos.FaqQuestionItem(item.getContent(), item.getKeyword(),
+                            item.getUserId(), item.getDomain(), item.getCreatedAt())
+                        : item;
+                    writer.write(objectMapper.writeValueAsString(line));
+                    writer.write('\n');
+                    streamed++;
+                }
+                writer.flush();
+            }
+        } catch (Exception e) {
+            if (streamed == 0) {
+                // 아직 아무것도 쓰지 않았으면 오류 응답으로 처리
+                throw e;
+            }
+            // 이미 일부를 전송했으므로 마지막 줄에 중단 레코드를 남겨 결과가 불완전함을 알림
+            log.error("[Elasticsearch FAQ 로그 스트리밍] 도중 실패: domain={}, streamed={}, error={}",
+                domain, streamed, e.getMessage(), e);
+            writer.write(objectMapper.writeValueAsString(
+                new FaqLogDtos.StreamError("STREAM_ABORTED", e.getMessage(), streamed)));
+            writer.write('\n');
+            writer.flush();
+            return streamed;
+        }
+
+        log.info("[Elasticsearch FAQ 로그 스트리밍] 완료: domain={}, daysBack={}, streamed={}",
+            domain, actualDaysBack, streamed);
+        return streamed;
+    }
+
+    /**
+     * FAQ 로그 검색 조건 (createdAt 범위, role=user, domain)
+     */
+    private BoolQuery buildFaqLogQuery(String domain, Instant startDate, Instant endDate) {
+        // 쿼리 빌더 생성
+        BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+
+        // 날짜 범위 필터 (ISO 8601 형식 문자열)
+        String startDateIso = startDate.toString();
+        String endDateIso = endDate.toString();
+        log.debug("[Elasticsearch FAQ 로그 조회] 날짜 범위 필터: createdAt >= {} AND createdAt <= {}", 
+            startDateIso, endDateIso);
+        boolQueryBuilder.must(Query.of(q -> q
+            .range(r -> r
+                .field("createdAt")
+                .gte(JsonData.of(startDateIso))
+                .lte(JsonData.of(endDateIso))
+            )
+        ));
+
+        // role = 'user' 필터 (사용자 질문만)
+        boolQueryBuilder.must(Query.of(q -> q
+            .term(t -> t.field("role").value("user"))
+        ));
+
+        // 도메인 필터
+        if (domain != null && !domain.isBlank()) {
+            log.debug("[Elasticsearch FAQ 로그 조회] 도메인 필터: domain={}", domain);
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("domain").value(domain))
+            ));
+        }
+
+        return boolQueryBuilder.build();
+    }
+
     /**
      * Map을 MessageLogItem으로 변환
      */
@@ -65,6 +65,22 @@ public class ChatMessage {
     @Column(name = "response_time_ms")
     private Long responseTimeMs;
 
+    /** AI Gateway 첫 응답 바이트까지의 시간 (밀리초, 스트리밍 시) */
+    @Column(name = "first_byte_ms")
+    private Long firstByteMs;
+
+    /** 첫 token을 브라우저로 전송하기까지의 시간 (밀리초, 스트리밍 시) */
+    @Column(name = "first_token_ms")
+    private Long firstTokenMs;
+
+    /** token 이벤트 간 최대 간격 (밀리초, 스트리밍 시) */
+    @Column(name = "max_token_gap_ms")
+    private Long maxTokenGapMs;
+
+    /** 첫 token 이후 초당 생성 token 수 (스트리밍 시) */
+    @Column(name = "tokens_per_second")
+    private Double tokensPerSecond;
+
     /** 에러 여부 */
     @Column(name = "is_error")
     private Boolean isError;
@@ -73,6 +89,11 @@ public class ChatMessage {
     @Column(name = "department", length = 100)
     private String department;
 
+    /** 메시지 상태 (PENDING, STREAMING, DONE, ERROR, CANCELLED) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ChatMessageStatus status = ChatMessageStatus.PENDING;
+
     /** 질문 키워드 (사용자 메시지의 주요 키워드) */
     @Column(name = "keyword", length = 200)
     private String keyword;
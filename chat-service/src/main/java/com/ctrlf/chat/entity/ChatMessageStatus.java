@@ -4,5 +4,7 @@ public enum ChatMessageStatus {
     PENDING,
     STREAMING,
     DONE,
-    ERROR
+    ERROR,
+    /** 클라이언트 연결 종료로 생성이 중단됨 (부분 응답만 저장) */
+    CANCELLED
 }
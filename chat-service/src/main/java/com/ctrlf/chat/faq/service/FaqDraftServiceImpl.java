@@ -1,5 +1,6 @@
 package com.ctrlf.chat.faq.service;
 
+import com.ctrlf.chat.ai.search.cache.ChatAnswerCacheInvalidator;
 import com.ctrlf.chat.faq.dto.response.FaqDraftResponse;
 import com.ctrlf.chat.faq.entity.*;
 import com.ctrlf.chat.faq.repository.*;
@@ -20,6 +21,7 @@ public class FaqDraftServiceImpl implements FaqDraftService {
     private final FaqDraftRepository faqDraftRepository;
     private final FaqRepository faqRepository;
     private final FaqRevisionRepository faqRevisionRepository;
+    private final ChatAnswerCacheInvalidator chatAnswerCacheInvalidator;
 
     @Override
     @Transactional(readOnly = true)
@@ -190,6 +192,10 @@ public class FaqDraftServiceImpl implements FaqDraftService {
             domain, question, answer != null ? answer.substring(0, Math.min(50, answer.length())) + "..." : "null");
         
         Faq savedFaq = faqRepository.save(faq);
+        chatAnswerCacheInvalidator.invalidateDomainAfterCommit(domain);
+        if (routerDomain != null && !routerDomain.equalsIgnoreCase(domain)) {
+            chatAnswerCacheInvalidator.invalidateDomainAfterCommit(routerDomain);
+        }
         
         // FAQ 저장 확인 로그
         log.info("[FAQ Draft 승인] FAQ 생성 완료: faqId={}, domain={}, question={}, isActive={}, priority={}, publishedAt={}", 
@@ -10,6 +10,7 @@ import com.ctrlf.chat.faq.exception.FaqNotFoundException;
 import com.ctrlf.chat.faq.dto.response.FaqDraftGenerateBatchResponse;
 import com.ctrlf.chat.faq.dto.response.FaqDraftGenerateResponse;
 import com.ctrlf.chat.faq.dto.response.FaqResponse;
+import com.ctrlf.chat.ai.search.cache.ChatAnswerCacheInvalidator;
 import com.ctrlf.chat.ai.search.client.ChatAiClient;
 import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
 import com.ctrlf.chat.faq.entity.*;
@@ -35,6 +36,7 @@ public class FaqServiceImpl implements FaqService {
     private final FaqRevisionRepository faqRevisionRepository;
     private final FaqAiClient faqAiClient;
     private final ChatAiClient chatAiClient;
+    private final ChatAnswerCacheInvalidator chatAnswerCacheInvalidator;
 
     // =========================
     // FAQ 조회 및 관리
@@ -54,6 +56,7 @@ public class FaqServiceImpl implements FaqService {
         faq.setUpdatedAt(Instant.now());
 
         faqRepository.save(faq);
+        chatAnswerCacheInvalidator.invalidateDomainAfterCommit(faq.getDomain());
         log.info("FAQ 수동 생성 완료: id={}, question={}, domain={}", faq.getId(), faq.getQuestion(), faq.getDomain());
         return faq.getId();
     }
@@ -74,6 +77,7 @@ public class FaqServiceImpl implements FaqService {
         Faq faq = faqRepository.findById(id)
             .orElseThrow(() -> new FaqNotFoundException(id));
 
+        String previousDomain = faq.getDomain();
         if (request.getQuestion() != null) faq.setQuestion(request.getQuestion());
         if (request.getAnswer() != null) faq.setAnswer(request.getAnswer());
         if (request.getDomain() != null) faq.setDomain(request.getDomain());
@@ -81,6 +85,12 @@ public class FaqServiceImpl implements FaqService {
         if (request.getPriority() != null) faq.setPriority(request.getPriority());
 
         faq.setUpdatedAt(Instant.now());
+
+        // 변경 전/후 도메인의 캐시된 답변 무효화
+        chatAnswerCacheInvalidator.invalidateDomainAfterCommit(previousDomain);
+        if (faq.getDomain() != null && !faq.getDomain().equals(previousDomain)) {
+            chatAnswerCacheInvalidator.invalidateDomainAfterCommit(faq.getDomain());
+        }
     }
 
     @Override
@@ -90,6 +100,7 @@ public class FaqServiceImpl implements FaqService {
 
         faq.setIsActive(false);
         faq.setUpdatedAt(Instant.now());
+        chatAnswerCacheInvalidator.invalidateDomainAfterCommit(faq.getDomain());
     }
 
     // =========================
@@ -284,6 +295,7 @@ public class FaqServiceImpl implements FaqService {
         faq.setUpdatedAt(Instant.now());
 
         Faq savedFaq = faqRepository.save(faq);
+        chatAnswerCacheInvalidator.invalidateDomainAfterCommit(domain);
         
         log.info("[FAQ 승인] FAQ 생성 완료: faqId={}, domain={}, question={}", 
             savedFaq.getId(), domain, question);
@@ -1,6 +1,11 @@
 package com.ctrlf.chat.security;
 
+import com.ctrlf.common.security.ApiRoles;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 
@@ -33,4 +38,38 @@ public class SecurityUtil {
 
         throw new IllegalStateException("인증된 사용자 정보가 없습니다.");
     }
+
+    /** AI Gateway 에 전달할 역할 우선순위 (여러 역할을 가진 경우 앞쪽 역할 사용) */
+    private static final List<String> ROLE_PRIORITY = List.of(
+        ApiRoles.SYSTEM_ADMIN,
+        ApiRoles.COMPLAINT_MANAGER,
+        ApiRoles.VIDEO_CREATOR,
+        ApiRoles.CONTENTS_REVIEWER,
+        ApiRoles.EMPLOYEE
+    );
+
+    /**
+     * 현재 인증된 사용자의 대표 역할을 반환합니다.
+     *
+     * <p>JWT 의 realm_access.roles 중 {@link #ROLE_PRIORITY} 순서로 처음 일치하는 역할을 사용합니다.
+     * 인증 정보가 없거나 일치하는 역할이 없으면 EMPLOYEE 를 반환합니다.</p>
+     *
+     * @return 사용자 역할
+     */
+    public static String getUserRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            return ApiRoles.EMPLOYEE;
+        }
+        Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
+        if (realmAccess == null || !(realmAccess.get("roles") instanceof Collection<?> roles)) {
+            return ApiRoles.EMPLOYEE;
+        }
+        for (String role : ROLE_PRIORITY) {
+            if (roles.contains(role)) {
+                return role;
+            }
+        }
+        return ApiRoles.EMPLOYEE;
+    }
 }
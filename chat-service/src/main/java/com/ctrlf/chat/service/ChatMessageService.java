@@ -5,6 +5,7 @@ import com.ctrlf.chat.dto.response.ChatMessageCursorResponse;
 import com.ctrlf.chat.dto.response.ChatMessageSendResponse;
 import com.ctrlf.chat.entity.ChatMessage;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 채팅 메시지 관련 비즈니스 로직 인터페이스
@@ -32,6 +33,25 @@ public interface ChatMessageService {
         String department
     );
 
+    /**
+     * 메시지 전송 및 AI 응답 생성 (논블로킹)
+     * 
+     * <p>AI 응답을 기다리는 동안 요청 스레드와 트랜잭션을 점유하지 않습니다.
+     * 세션 검증 실패 등 사전 검증 예외는 호출 시점에 즉시 발생합니다.</p>
+     * 
+     * @param request 메시지 전송 요청
+     * @param userId 사용자 ID
+     * @param domain 업무 도메인
+     * @param department 사용자 부서
+     * @return AI 응답 메시지 정보 (AI 응답 저장 완료 시 완료)
+     */
+    CompletableFuture<ChatMessageSendResponse> sendMessageAsync(
+        ChatMessageSendRequest request,
+        UUID userId,
+        String domain,
+        String department
+    );
+
     /**
      * 세션별 메시지 목록 조회 (커서 기반 페이지네이션)
      * 
@@ -56,6 +76,16 @@ public interface ChatMessageService {
      */
     ChatMessage retryMessage(UUID sessionId, UUID messageId, String department);
 
+    /**
+     * 메시지 재시도 (논블로킹)
+     * 
+     * @param sessionId 세션 ID
+     * @param messageId 재시도할 메시지 ID
+     * @param department 사용자 부서
+     * @return 재시도 결과 메시지 (AI 응답 저장 완료 시 완료)
+     */
+    CompletableFuture<ChatMessage> retryMessageAsync(UUID sessionId, UUID messageId, String department);
+
     /**
      * 관리자용 질문 로그 조회 (FAQ 자동 생성용)
      * 
@@ -69,4 +99,22 @@ public interface ChatMessageService {
         String domain,
         Integer daysBack
     );
+
+    /**
+     * 관리자용 질문 로그 스트리밍 조회 (FAQ 자동 생성용, NDJSON)
+     *
+     * <p>{@link #getAdminMessages}와 같은 조건의 로그를 건수 제한 없이 한 줄에 한 건씩 출력합니다.</p>
+     *
+     * @param domain 도메인 필터 (선택, null이면 모든 도메인)
+     * @param daysBack 최근 N일간의 데이터 (기본값: 30)
+     * @param faqFieldsOnly FAQ 생성용 필드(content, keyword, userId, domain, createdAt)만 출력
+     * @param out 응답 출력 스트림
+     * @return 출력한 건수
+     */
+    long streamAdminMessages(
+        String domain,
+        Integer daysBack,
+        boolean faqFieldsOnly,
+        java.io.OutputStream out
+    ) throws java.io.IOException;
 }
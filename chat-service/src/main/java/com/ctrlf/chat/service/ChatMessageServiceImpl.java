@@ -1,14 +1,18 @@
 package com.ctrlf.chat.service;
 
+import com.ctrlf.chat.ai.search.cache.ChatAiRequestCoalescer;
+import com.ctrlf.chat.ai.search.cache.ChatAnswerCache;
 import com.ctrlf.chat.ai.search.client.ChatAiClient;
 import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
 import com.ctrlf.chat.dto.request.ChatMessageSendRequest;
 import com.ctrlf.chat.dto.response.ChatMessageCursorResponse;
 import com.ctrlf.chat.dto.response.ChatMessageSendResponse;
 import com.ctrlf.chat.entity.ChatMessage;
+import com.ctrlf.chat.entity.ChatMessageStatus;
 import com.ctrlf.chat.entity.ChatSession;
 import com.ctrlf.chat.repository.ChatMessageRepository;
 import com.ctrlf.chat.repository.ChatSessionRepository;
+import com.ctrlf.chat.security.SecurityUtil;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,11 +22,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -35,6 +44,9 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     private final com.ctrlf.chat.elasticsearch.service.FaqLogElasticsearchService faqLogElasticsearchService;
     private final com.ctrlf.chat.elasticsearch.service.ChatLogElasticsearchService chatLogElasticsearchService;
     private final ChatAiClient chatAiClient;
+    private final ChatAnswerCache chatAnswerCache;
+    private final ChatAiRequestCoalescer chatAiRequestCoalescer;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public ChatMessageSendResponse sendMessage(
@@ -42,6 +54,86 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         UUID userId,
         String domain,
         String department
+    ) {
+        SendContext ctx = prepareSend(request, userId, domain, department);
+
+        // 2️⃣ AI Gateway 호출 (응답 시간 측정)
+        long startTime = System.currentTimeMillis();
+        ChatAiResponse aiResponse;
+        try {
+            aiResponse = askWithCache(request, ctx).block();
+        } catch (Exception e) {
+            log.error("[AI] call failed: {}", e.getMessage(), e);
+            return saveSendFallback(ctx, System.currentTimeMillis() - startTime);
+        }
+        return completeSend(ctx, aiResponse, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 메시지 전송 (논블로킹)
+     *
+     * <p>AI 호출 전후의 DB 저장을 각각 짧은 트랜잭션으로 분리하고,
+     * AI 응답 대기 중에는 요청 스레드와 DB 커넥션을 점유하지 않습니다.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ChatMessageSendResponse> sendMessageAsync(
+        ChatMessageSendRequest request,
+        UUID userId,
+        String domain,
+        String department
+    ) {
+        // 1️⃣ 세션 검증 + USER 메시지 저장 (짧은 트랜잭션, 요청 스레드에서 실행)
+        SendContext ctx = transactionTemplate.execute(
+            status -> prepareSend(request, userId, domain, department)
+        );
+
+        // 2️⃣ AI Gateway 호출 (논블로킹) → 3️⃣ 응답 저장 (별도 트랜잭션, boundedElastic 스레드)
+        long startTime = System.currentTimeMillis();
+        return askWithCache(request, ctx)
+            .publishOn(Schedulers.boundedElastic())
+            .map(aiResponse -> transactionTemplate.execute(
+                status -> completeSend(ctx, aiResponse, System.currentTimeMillis() - startTime)
+            ))
+            .onErrorResume(e -> {
+                log.error("[AI] async call failed: {}", e.getMessage(), e);
+                return Mono.fromCallable(() -> transactionTemplate.execute(
+                    status -> saveSendFallback(ctx, System.currentTimeMillis() - startTime)
+                )).subscribeOn(Schedulers.boundedElastic());
+            })
+            .toFuture();
+    }
+
+    /**
+     * 답변 캐시 → 동일 요청 병합을 거쳐 AI Gateway 호출
+     * (캐시 미적중이고 진행 중인 동일 요청이 없을 때만 실제 호출)
+     */
+    private Mono<ChatAiResponse> askWithCache(ChatMessageSendRequest request, SendContext ctx) {
+        ChatAnswerCache.Key key = ChatAnswerCache.key(
+            request.content(), ctx.domain(), ctx.department(), ctx.userRole(), ctx.embeddingModel(), ctx.llmModel());
+        return chatAnswerCache.getOrLoad(key, () -> chatAiRequestCoalescer.coalesce(key,
+            () -> chatAiClient.askAsync(
+                request.sessionId(),
+                ctx.userId(),
+                ctx.userRole(),
+                ctx.department(),
+                ctx.domain(),
+                "WEB",
+                request.content(),
+                ctx.embeddingModel(),  // Frontend에서 전달받은 model 값 그대로 전달
+                ctx.llmModel()         // 관리자 대시보드에서 선택한 LLM 모델
+            )
+        ));
+    }
+
+    /**
+     * 세션 검증, USER 메시지 저장, 모델 결정
+     */
+    private SendContext prepareSend(
+        ChatMessageSendRequest request,
+        UUID userId,
+        String domain,
+        String department
     ) {
         // 0️⃣ 세션 존재 여부 검증
         ChatSession session = chatSessionRepository.findActiveById(request.sessionId());
@@ -65,7 +157,6 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         // Elasticsearch chat_log 인덱스에 실시간 저장
         chatLogElasticsearchService.saveChatLog(userMessage, session, userId.toString(), domain, department);
 
-        // 2️⃣ AI Gateway 호출 (응답 시간 측정)
         // Backend는 Frontend로부터 전달받은 model 값을 그대로 전달 (해석하지 않음)
         String embeddingModel = request.model();
         if (embeddingModel == null) {
@@ -84,53 +175,55 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         // 세션에 저장된 LLM 모델 사용 (관리자 대시보드에서 설정)
         String llmModel = session.getLlmModel();
 
-        long startTime = System.currentTimeMillis();
-        ChatAiResponse aiResponse;
-        try {
-            aiResponse =
-                chatAiClient.ask(
-                    request.sessionId(),
-                    userId,
-                    "EMPLOYEE",   // TODO: JWT에서 추출
-                    department,
-                    domain,
-                    "WEB",
-                    request.content(),
-                    embeddingModel,  // Frontend에서 전달받은 model 값 그대로 전달
-                    llmModel         // 관리자 대시보드에서 선택한 LLM 모델
-                );
-        } catch (Exception e) {
-            log.error("[AI] call failed: {}", e.getMessage(), e);
-            long responseTime = System.currentTimeMillis() - startTime;
-
-            ChatMessage fallbackMessage =
-                ChatMessage.assistantMessage(
-                    request.sessionId(),
-                    "현재 AI 응답을 제공할 수 없습니다.",
-                    null,
-                    null,
-                    null
-                );
-            // 에러 메시지 정보 설정
-            fallbackMessage.setRoutingType("OTHER");
-            fallbackMessage.setDepartment(department);
-            fallbackMessage.setResponseTimeMs(responseTime);
-            fallbackMessage.setIsError(true);
-            chatMessageRepository.save(fallbackMessage);
-
-            return new ChatMessageSendResponse(
-                fallbackMessage.getId(),
-                fallbackMessage.getRole(),
-                fallbackMessage.getContent(),
-                fallbackMessage.getCreatedAt()
+        // 인증 주체는 요청 스레드에서만 조회 가능하므로 미리 담아둠 (논블로킹 모드는 다른 스레드에서 AI 호출)
+        String userRole = SecurityUtil.getUserRole();
+
+        return new SendContext(
+            session, userMessage, userId, userRole, domain, department, embeddingModel, llmModel);
+    }
+
+    /**
+     * AI 호출 실패 시 fallback ASSISTANT 메시지 저장
+     */
+    private ChatMessageSendResponse saveSendFallback(SendContext ctx, long responseTime) {
+        ChatMessage fallbackMessage =
+            ChatMessage.assistantMessage(
+                ctx.session().getId(),
+                "현재 AI 응답을 제공할 수 없습니다.",
+                null,
+                null,
+                null
             );
-        }
-        long responseTime = System.currentTimeMillis() - startTime;
+        // 에러 메시지 정보 설정
+        fallbackMessage.setRoutingType("OTHER");
+        fallbackMessage.setDepartment(ctx.department());
+        fallbackMessage.setResponseTimeMs(responseTime);
+        fallbackMessage.setIsError(true);
+        fallbackMessage.setStatus(ChatMessageStatus.ERROR);
+        chatMessageRepository.save(fallbackMessage);
+
+        return new ChatMessageSendResponse(
+            fallbackMessage.getId(),
+            fallbackMessage.getRole(),
+            fallbackMessage.getContent(),
+            fallbackMessage.getCreatedAt()
+        );
+    }
+
+    /**
+     * ASSISTANT 메시지 저장 및 USER 메시지 PII 정보 반영
+     */
+    private ChatMessageSendResponse completeSend(
+        SendContext ctx,
+        ChatAiResponse aiResponse,
+        long responseTime
+    ) {
+        ChatMessage userMessage = ctx.userMessage();
 
         // 3️⃣ ASSISTANT 메시지 저장
         ChatMessage assistantMessage =
             ChatMessage.assistantMessage(
-                request.sessionId(),
+                ctx.session().getId(),
                 aiResponse.getAnswer(),
                 aiResponse.getPromptTokens(),
                 aiResponse.getCompletionTokens(),
@@ -143,13 +236,15 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             routingType = aiResponse.getMeta().getRoute().toUpperCase();
         }
         assistantMessage.setRoutingType(routingType);
-        assistantMessage.setDepartment(department);
+        assistantMessage.setDepartment(ctx.department());
         assistantMessage.setResponseTimeMs(responseTime);
         assistantMessage.setIsError(false);
+        assistantMessage.setStatus(ChatMessageStatus.DONE);
         chatMessageRepository.save(assistantMessage);
         
         // Elasticsearch chat_log 인덱스에 실시간 저장
-        chatLogElasticsearchService.saveChatLog(assistantMessage, session, userId.toString(), domain, department);
+        chatLogElasticsearchService.saveChatLog(
+            assistantMessage, ctx.session(), ctx.userId().toString(), ctx.domain(), ctx.department());
 
         // 4️⃣ USER 메시지에 PII 감지 정보 업데이트
         // AI Gateway 응답의 meta.masked 정보를 user 메시지의 piiDetected에 반영
@@ -236,6 +331,76 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
     @Override
     public ChatMessage retryMessage(UUID sessionId, UUID messageId, String department) {
+        RetryContext ctx = prepareRetry(sessionId, messageId);
+
+        // 4️⃣ AI Gateway에 재요청 (응답 시간 측정)
+        long startTime = System.currentTimeMillis();
+        ChatAiResponse aiResponse;
+        try {
+            aiResponse = chatAiClient.ask(
+                sessionId,
+                ctx.session().getUserUuid(),
+                ctx.userRole(),
+                department,
+                ctx.session().getDomain(),
+                "WEB",
+                ctx.userMessage().getContent(),
+                ctx.embeddingModel(),  // 세션에 저장된 모델 사용
+                ctx.llmModel()         // 관리자 대시보드에서 선택한 LLM 모델
+            );
+        } catch (Exception e) {
+            log.error("[AI] retry failed", e);
+            markRetryFailed(ctx, System.currentTimeMillis() - startTime);
+            throw new RuntimeException("AI 재시도 요청 실패: " + e.getMessage(), e);
+        }
+        return completeRetry(ctx, aiResponse, System.currentTimeMillis() - startTime, department);
+    }
+
+    /**
+     * 메시지 재시도 (논블로킹)
+     *
+     * <p>{@link #sendMessageAsync}와 동일하게 AI 호출 전후의 DB 작업을 별도 트랜잭션으로 분리합니다.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ChatMessage> retryMessageAsync(
+        UUID sessionId,
+        UUID messageId,
+        String department
+    ) {
+        RetryContext ctx = transactionTemplate.execute(status -> prepareRetry(sessionId, messageId));
+
+        long startTime = System.currentTimeMillis();
+        return chatAiClient.askAsync(
+                sessionId,
+                ctx.session().getUserUuid(),
+                ctx.userRole(),
+                department,
+                ctx.session().getDomain(),
+                "WEB",
+                ctx.userMessage().getContent(),
+                ctx.embeddingModel(),
+                ctx.llmModel()
+            )
+            .publishOn(Schedulers.boundedElastic())
+            .map(aiResponse -> transactionTemplate.execute(
+                status -> completeRetry(ctx, aiResponse, System.currentTimeMillis() - startTime, department)
+            ))
+            .onErrorResume(e -> {
+                log.error("[AI] async retry failed", e);
+                return Mono.<ChatMessage>fromRunnable(() -> transactionTemplate.executeWithoutResult(
+                        status -> markRetryFailed(ctx, System.currentTimeMillis() - startTime)
+                    ))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.error(new RuntimeException("AI 재시도 요청 실패: " + e.getMessage(), e)));
+            })
+            .toFuture();
+    }
+
+    /**
+     * 재시도 대상 검증 및 이전 user 메시지, 모델 결정
+     */
+    private RetryContext prepareRetry(UUID sessionId, UUID messageId) {
         // 1️⃣ 재시도할 메시지 조회 (assistant 메시지여야 함)
         ChatMessage targetMessage = chatMessageRepository.findById(messageId)
             .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다: " + messageId));
@@ -276,7 +441,6 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             throw new IllegalArgumentException("재시도할 user 메시지를 찾을 수 없습니다.");
         }
         
-        // 4️⃣ AI Gateway에 재요청 (응답 시간 측정)
         // 재시도 시에는 세션에 저장된 모델 사용
         String embeddingModel = session.getEmbeddingModel();
         if (embeddingModel == null) {
@@ -291,31 +455,33 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         // 세션에 저장된 LLM 모델 사용 (관리자 대시보드에서 설정)
         String llmModel = session.getLlmModel();
 
-        long startTime = System.currentTimeMillis();
-        ChatAiResponse aiResponse;
-        try {
-            aiResponse = chatAiClient.ask(
-                sessionId,
-                session.getUserUuid(),
-                "EMPLOYEE",   // TODO: JWT에서 추출
-                department,
-                session.getDomain(),
-                "WEB",
-                userMessage.getContent(),
-                embeddingModel,  // 세션에 저장된 모델 사용
-                llmModel         // 관리자 대시보드에서 선택한 LLM 모델
-            );
-        } catch (Exception e) {
-            log.error("[AI] retry failed", e);
-            long responseTime = System.currentTimeMillis() - startTime;
-            // 에러 상태로 업데이트
-            targetMessage.setIsError(true);
-            targetMessage.setResponseTimeMs(responseTime);
-            chatMessageRepository.save(targetMessage);
-            throw new RuntimeException("AI 재시도 요청 실패: " + e.getMessage(), e);
-        }
-        long responseTime = System.currentTimeMillis() - startTime;
-        
+        return new RetryContext(
+            session, targetMessage, userMessage, SecurityUtil.getUserRole(), embeddingModel, llmModel);
+    }
+
+    /**
+     * 재시도 실패 시 대상 메시지를 에러 상태로 저장
+     */
+    private void markRetryFailed(RetryContext ctx, long responseTime) {
+        ChatMessage targetMessage = ctx.targetMessage();
+        targetMessage.setIsError(true);
+        targetMessage.setStatus(ChatMessageStatus.ERROR);
+        targetMessage.setResponseTimeMs(responseTime);
+        chatMessageRepository.save(targetMessage);
+    }
+
+    /**
+     * 재시도 응답으로 기존 메시지 업데이트
+     */
+    private ChatMessage completeRetry(
+        RetryContext ctx,
+        ChatAiResponse aiResponse,
+        long responseTime,
+        String department
+    ) {
+        ChatMessage targetMessage = ctx.targetMessage();
+        ChatMessage userMessage = ctx.userMessage();
+
         // 5️⃣ 기존 메시지 업데이트
         targetMessage.updateContent(aiResponse.getAnswer());
         targetMessage.setTokensIn(aiResponse.getPromptTokens());
@@ -333,6 +499,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         targetMessage.setDepartment(department);
         targetMessage.setResponseTimeMs(responseTime);
         targetMessage.setIsError(false);
+        targetMessage.setStatus(ChatMessageStatus.DONE);
         
         ChatMessage savedMessage = chatMessageRepository.save(targetMessage);
 
@@ -396,6 +563,29 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         return keyword.isBlank() ? cleaned.substring(0, Math.min(200, cleaned.length())) : keyword;
     }
 
+    /* ===============================
+       Send / Retry Context
+       =============================== */
+    private record SendContext(
+        ChatSession session,
+        ChatMessage userMessage,
+        UUID userId,
+        String userRole,
+        String domain,
+        String department,
+        String embeddingModel,
+        String llmModel
+    ) {}
+
+    private record RetryContext(
+        ChatSession session,
+        ChatMessage targetMessage,
+        ChatMessage userMessage,
+        String userRole,
+        String embeddingModel,
+        String llmModel
+    ) {}
+
     /* ===============================
        Cursor Helper
        =============================== */
@@ -431,6 +621,18 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         return faqLogElasticsearchService.getFaqLogs(domain, daysBack);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long streamAdminMessages(
+        String domain,
+        Integer daysBack,
+        boolean faqFieldsOnly,
+        java.io.OutputStream out
+    ) throws java.io.IOException {
+        // 스트리밍 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+        return faqLogElasticsearchService.streamFaqLogs(domain, daysBack, faqFieldsOnly, out);
+    }
+
     /**
      * 기존 PostgreSQL 조회 방식 (레거시, 참고용)
      * 
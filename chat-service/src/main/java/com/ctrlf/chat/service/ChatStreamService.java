@@ -1,24 +1,47 @@
 package com.ctrlf.chat.service;
 
+import com.ctrlf.chat.ai.search.cache.ChatAiRequestCoalescer;
+import com.ctrlf.chat.ai.search.cache.ChatAnswerCache;
 import com.ctrlf.chat.ai.search.dto.ChatCompletionRequest;
 import com.ctrlf.chat.ai.search.dto.ChatCompletionRequest.Message;
 import com.ctrlf.chat.ai.search.facade.ChatAiFacade;
 import com.ctrlf.chat.entity.ChatMessage;
+import com.ctrlf.chat.entity.ChatMessageStatus;
 import com.ctrlf.chat.entity.ChatSession;
 import com.ctrlf.chat.repository.ChatMessageRepository;
 import com.ctrlf.chat.repository.ChatSessionRepository;
+import com.ctrlf.chat.security.SecurityUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +49,7 @@ import reactor.core.Disposable;
 public class ChatStreamService {
 
     private final ChatAiFacade chatAiFacade;
+    private final ChatAiRequestCoalescer chatAiRequestCoalescer;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatSessionRepository chatSessionRepository;
     private final com.ctrlf.chat.elasticsearch.service.ChatLogElasticsearchService chatLogElasticsearchService;
@@ -34,9 +58,103 @@ public class ChatStreamService {
     // AI 최대 지연 시간(61초) + 여유 시간을 고려하여 180초로 설정
     private static final long SSE_TIMEOUT_MS = 180_000L;
 
+    private static final String SSE_EVENTS_METRIC = "chat.stream.sse.events";
+    private static final String SSE_BYTES_METRIC = "chat.stream.sse.bytes";
+    private static final double ELAPSED_EWMA_ALPHA = 0.1;
+    private static final String TTFB_METRIC = "chat.stream.ttfb";
+    private static final String TTFT_METRIC = "chat.stream.ttft";
+    private static final String TOKEN_GAP_METRIC = "chat.stream.token.gap";
+    private static final String TOKENS_PER_SECOND_METRIC = "chat.stream.tokens.per.second";
+
+    private final MeterRegistry meterRegistry;
+
+    /** token 이벤트 묶음 전송 사용 여부 */
+    @Value("${app.chat.stream.coalesce.enabled:false}")
+    private boolean coalesceEnabled;
+
+    /** token 묶음 전송 시간 창 (첫 토큰 적재 후 이 시간이 지나면 전송) */
+    @Value("${app.chat.stream.coalesce.window-ms:30}")
+    private long coalesceWindowMs;
+
+    /** token 묶음 전송 바이트 임계치 (도달 시 시간 창과 무관하게 즉시 전송) */
+    @Value("${app.chat.stream.coalesce.max-bytes:512}")
+    private int coalesceMaxBytes;
+
+    /** 스트림별 재전송 버퍼 최대 이벤트 수 (초과 시 오래된 이벤트부터 제거) */
+    @Value("${app.chat.stream.replay.max-events:2048}")
+    private int replayMaxEvents;
+
+    /** 완료된 스트림을 재접속 대비로 보관하는 시간 */
+    @Value("${app.chat.stream.replay.retention-ms:60000}")
+    private long replayRetentionMs;
+
+    /**
+     * 모든 구독자가 끊긴 뒤 upstream 취소까지 재접속을 기다리는 시간 (새로고침/네트워크 순단 대비)
+     *
+     * <p>EventSource 자동 재접속(기본 3초) 정도만 기다립니다. 길게 두면 버려진 스트림이 대부분 끝까지 생성되어
+     * 취소로 아끼는 비용이 사라집니다. 0 이면 마지막 구독자가 끊기는 즉시 취소합니다.</p>
+     */
+    @Value("${app.chat.stream.cancel-grace-ms:5000}")
+    private long cancelGraceMs;
+
+    /** 모델별 평균 생성 시간 (done 이벤트 elapsed_ms의 지수 이동 평균, 취소 시 절약 GPU 시간 추정용) */
+    private final Map<String, Double> expectedElapsedMs = new ConcurrentHashMap<>();
+
+    /** 진행 중(및 완료 후 보관 중)인 스트림 (messageId → 공유 upstream 컨텍스트) */
+    private final Map<UUID, StreamContext> liveStreams = new ConcurrentHashMap<>();
+
+    /** token 묶음 flush 및 완료 스트림 정리용 스케줄러 */
+    private ScheduledExecutorService streamScheduler;
+
+    /** 구독자별 SSE 전송 스레드 (느린 클라이언트가 upstream 수신과 다른 구독자를 막지 않도록 분리) */
+    private ExecutorService sseSendExecutor;
+
+    @PostConstruct
+    void initStreamScheduler() {
+        streamScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "chat-stream-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        sseSendExecutor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "chat-sse-send");
+            t.setDaemon(true);
+            return t;
+        });
+        meterRegistry.gaugeMapSize("chat.stream.live", List.of(), liveStreams);
+    }
+
+    @PreDestroy
+    void shutdownStreamScheduler() {
+        streamScheduler.shutdownNow();
+        sseSendExecutor.shutdownNow();
+    }
+
     public SseEmitter stream(UUID messageId) {
+        return stream(messageId, null);
+    }
+
+    /**
+     * 메시지 스트림 구독 (재접속 지원)
+     *
+     * <p>같은 messageId의 스트림이 이미 진행 중(또는 완료 후 보관 중)이면 새 AI 호출 없이
+     * 기존 upstream에 붙고, lastEventId 이후의 이벤트만 재전송합니다.
+     * 여러 탭이 하나의 upstream 호출을 공유합니다.</p>
+     *
+     * @param messageId 스트리밍할 assistant 메시지 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 SSE 이벤트 ID (없으면 처음부터 재전송)
+     */
+    public SseEmitter stream(UUID messageId, Long lastEventId) {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
 
+        StreamContext existing = liveStreams.get(messageId);
+        if (existing != null) {
+            attach(existing, emitter, lastEventId);
+            log.debug("SSE reattached to live stream: messageId={}, lastEventId={}", messageId, lastEventId);
+            return emitter;
+        }
+
+        StreamContext started = null;
         try {
             ChatMessage assistant =
                 chatMessageRepository.findById(messageId).orElseThrow();
@@ -69,12 +187,15 @@ public class ChatStreamService {
             // 세션에 저장된 LLM 모델 사용 (관리자 대시보드에서 설정)
             String llmModel = session.getLlmModel();
 
+            // 역할마다 검색 가능한 문서가 다르므로 AI 요청과 병합 키에 같은 값 사용
+            String userRole = SecurityUtil.getUserRole();
+
             ChatCompletionRequest req =
                 new ChatCompletionRequest(
                     "stream-" + messageId,
                     sessionId,
                     session.getUserUuid(),
-                    "EMPLOYEE",
+                    userRole,
                     session.getDomain(),
                     session.getDomain(),
                     "WEB",
@@ -84,31 +205,51 @@ public class ChatStreamService {
                 );
 
             StringBuilder answerBuf = new StringBuilder();
-            StreamContext context = new StreamContext(emitter, assistant, answerBuf, session, lastUser);
-
-            Disposable subscription =
-                chatAiFacade.streamChat(req).subscribe(
-                    line -> handleLine(line, context),
-                    error -> handleStreamError(error, context),
-                    () -> {
-                        // AI 서버가 done 이벤트를 보내지 않고 스트림이 완료된 경우
-                        // (비정상 종료 등)에만 호출됨
-                        if (!context.isDoneReceived) {
-                            handleComplete(context);
-                        }
-                    }
-                );
+            StreamContext context = new StreamContext(messageId, assistant, answerBuf, session, lastUser);
+            context.timingTags = Tags.of(
+                "llm_model", llmModel != null ? llmModel : "default",
+                "embedding_model", embeddingModel,
+                "domain", session.getDomain() != null ? session.getDomain() : "none"
+            );
+
+            // 동시에 다른 탭이 먼저 스트림을 시작한 경우 그 스트림에 합류
+            StreamContext raced = liveStreams.putIfAbsent(messageId, context);
+            if (raced != null) {
+                attach(raced, emitter, lastEventId);
+                return emitter;
+            }
+            started = context;
+            attach(context, emitter, lastEventId);
 
-            emitter.onCompletion(() -> {
-                subscription.dispose();
-                log.debug("SSE emitter completed for messageId={}", messageId);
-            });
-            emitter.onTimeout(() -> {
-                subscription.dispose();
-                log.warn("SSE emitter timeout for messageId={}", messageId);
-            });
+            // 진행 중인 동일 질문 스트림이 있으면 upstream 호출을 공유 (메시지 저장은 스트림별로 수행)
+            ChatAnswerCache.Key coalesceKey =
+                ChatAnswerCache.key(
+                    lastUser.getContent(), session.getDomain(), lastUser.getDepartment(), userRole,
+                    embeddingModel, llmModel);
+            context.subscription =
+                chatAiRequestCoalescer.coalesceStream(coalesceKey, () -> chatAiFacade.streamChat(req))
+                    .doOnSubscribe(s -> context.subscribedAtNanos = System.nanoTime())
+                    // upstream 최대 유지 시간 (구독자 유무와 무관한 안전장치)
+                    // 정상 완료로 끝내면 잘린 답변이 DONE 으로 저장되므로 오류로 종료
+                    .mergeWith(Mono.delay(Duration.ofMillis(SSE_TIMEOUT_MS))
+                        .then(Mono.error(new TimeoutException(
+                            "AI 응답이 최대 시간(" + SSE_TIMEOUT_MS / 1000 + "초)을 초과했습니다."))))
+                    .subscribe(
+                        json -> handleEvent(json, context),
+                        error -> handleStreamError(error, context),
+                        () -> {
+                            // AI 서버가 done 이벤트를 보내지 않고 스트림이 완료된 경우
+                            // (비정상 종료 등)에만 호출됨
+                            if (!context.isDoneReceived) {
+                                handleComplete(context);
+                            }
+                        }
+                    );
 
         } catch (Exception e) {
+            if (started != null) {
+                liveStreams.remove(messageId, started);
+            }
             // 초기화 중 에러 발생 시 context가 없으므로 임시 생성
             ChatMessage tempAssistant = null;
             try {
@@ -116,21 +257,29 @@ public class ChatStreamService {
             } catch (Exception ignored) {}
             
             StreamContext errorContext = new StreamContext(
-                emitter,
+                messageId,
                 tempAssistant != null ? tempAssistant : new ChatMessage(),
                 new StringBuilder(),
                 null,  // 에러 발생 시 세션 정보 없음
                 null   // 에러 발생 시 lastUser 정보 없음
             );
+            attach(errorContext, emitter, null);
             handleStreamError(e, errorContext);
         }
 
         return emitter;
     }
 
-    private void handleLine(String line, StreamContext context) {
+    private void handleEvent(JsonNode json, StreamContext context) {
         try {
-            JsonNode json = objectMapper.readTree(line);
+            if (context.firstEventAtNanos == 0L) {
+                // 첫 NDJSON 라인 수신 시점 = AI Gateway 첫 바이트 시점 (라인 단위 근사)
+                context.firstEventAtNanos = System.nanoTime();
+                if (context.subscribedAtNanos != 0L) {
+                    timer(TTFB_METRIC, "AI Gateway 첫 응답 바이트까지의 시간", context)
+                        .record(context.firstEventAtNanos - context.subscribedAtNanos, TimeUnit.NANOSECONDS);
+                }
+            }
             String type = json.path("type").asText();
 
             switch (type) {
@@ -150,8 +299,7 @@ public class ChatStreamService {
                     log.debug("Unknown event type: {}", type);
             }
         } catch (Exception e) {
-            // JSON 파싱 실패 → 무시 (NDJSON chunk 경계 보호)
-            log.debug("skip non-json line: {}", line);
+            log.warn("Failed to handle stream event: {}", json, e);
         }
     }
 
@@ -163,9 +311,7 @@ public class ChatStreamService {
         try {
             // AI 서버의 meta 이벤트를 그대로 SSE로 전달
             String metaJson = objectMapper.writeValueAsString(json);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("meta")
-                .data(metaJson));
+            sendEvent(context, "meta", metaJson);
             
             // model 정보를 컨텍스트에 저장 (나중에 메시지 저장 시 사용)
             if (json.has("model")) {
@@ -181,19 +327,58 @@ public class ChatStreamService {
     /**
      * token 이벤트 처리
      * 토큰 텍스트를 누적하고 SSE로 전달합니다.
+     *
+     * <p>coalesce 모드에서는 토큰을 스트림별로 모아 두었다가 시간 창(window-ms)이 지나거나
+     * 바이트 임계치(max-bytes)에 도달하면 하나의 token 이벤트로 전송합니다.</p>
      */
     private void handleTokenEvent(JsonNode json, StreamContext context) {
         try {
             String text = json.path("text").asText();
             context.answerBuf.append(text);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("token")
-                .data(text));
+            recordTokenArrival(context);
+            if (!coalesceEnabled) {
+                sendEvent(context, "token", text);
+                return;
+            }
+            synchronized (context) {
+                context.pendingTokens.append(text);
+                context.pendingBytes += utf8Length(text);
+                if (context.pendingBytes >= coalesceMaxBytes) {
+                    flushPendingTokens(context);
+                } else if (context.pendingFlush == null) {
+                    context.pendingFlush = streamScheduler.schedule(
+                        () -> {
+                            synchronized (context) {
+                                flushPendingTokens(context);
+                            }
+                        },
+                        coalesceWindowMs,
+                        TimeUnit.MILLISECONDS
+                    );
+                }
+            }
         } catch (Exception e) {
             log.warn("Failed to process token event", e);
         }
     }
 
+    /**
+     * 모아 둔 토큰을 하나의 token 이벤트로 전송합니다. (context 락을 보유한 상태에서 호출)
+     */
+    private void flushPendingTokens(StreamContext context) {
+        if (context.pendingFlush != null) {
+            context.pendingFlush.cancel(false);
+            context.pendingFlush = null;
+        }
+        if (context.pendingTokens.length() == 0) {
+            return;
+        }
+        String batched = context.pendingTokens.toString();
+        context.pendingTokens.setLength(0);
+        context.pendingBytes = 0;
+        sendEvent(context, "token", batched);
+    }
+
     /**
      * done 이벤트 처리
      * AI 서버의 메트릭 정보를 SSE로 전달하고 메시지를 저장합니다.
@@ -202,9 +387,7 @@ public class ChatStreamService {
         try {
             // AI 서버의 done 이벤트를 그대로 SSE로 전달
             String doneJson = objectMapper.writeValueAsString(json);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("done")
-                .data(doneJson));
+            sendEvent(context, "done", doneJson);
             
             context.isDoneReceived = true;
             
@@ -217,7 +400,7 @@ public class ChatStreamService {
         } catch (Exception e) {
             log.error("Failed to process done event", e);
         } finally {
-            safeComplete(context.emitter);
+            completeStream(context);
         }
     }
 
@@ -229,9 +412,7 @@ public class ChatStreamService {
         try {
             // AI 서버의 error 이벤트를 그대로 SSE로 전달
             String errorJson = objectMapper.writeValueAsString(json);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("error")
-                .data(errorJson));
+            sendEvent(context, "error", errorJson);
             
             context.isDoneReceived = true;
             
@@ -241,6 +422,7 @@ public class ChatStreamService {
             
             context.assistant.updateContent(context.answerBuf.toString());
             context.assistant.setIsError(true);
+            context.assistant.setStatus(ChatMessageStatus.ERROR);
             // 에러 정보는 로그에만 기록
             log.error("AI server error: code={}, message={}", errorCode, errorMessage);
 
@@ -260,7 +442,7 @@ public class ChatStreamService {
         } catch (Exception e) {
             log.error("Failed to process error event", e);
         } finally {
-            safeComplete(context.emitter);
+            completeStream(context);
         }
     }
 
@@ -286,9 +468,13 @@ public class ChatStreamService {
             if (context.model != null) {
                 context.assistant.setLlmModel(context.model);
             }
+
+            applyStreamTimings(context, doneJson.path("total_tokens").asInt(0));
             
             context.assistant.setIsError(false);
+            context.assistant.setStatus(ChatMessageStatus.DONE);
             chatMessageRepository.save(context.assistant);
+            recordElapsed(context);
             
             // Elasticsearch chat_log 인덱스에 실시간 저장
             if (context.session != null) {
@@ -320,7 +506,9 @@ public class ChatStreamService {
             // AI 서버의 done 이벤트를 받지 못한 경우에만 실행
             if (!context.isDoneReceived) {
                 context.assistant.updateContent(context.answerBuf.toString());
+                applyStreamTimings(context, 0);
                 context.assistant.setIsError(false);
+                context.assistant.setStatus(ChatMessageStatus.DONE);
                 chatMessageRepository.save(context.assistant);
                 
                 // Elasticsearch chat_log 인덱스에 실시간 저장
@@ -340,7 +528,7 @@ public class ChatStreamService {
         } catch (Exception e) {
             log.error("final save error", e);
         } finally {
-            safeComplete(context.emitter);
+            completeStream(context);
         }
     }
 
@@ -359,17 +547,16 @@ public class ChatStreamService {
             // AI 서버 형식과 유사하게 에러 이벤트 생성
             Map<String, String> errorEvent = new HashMap<>();
             errorEvent.put("type", "error");
-            errorEvent.put("code", "INTERNAL_ERROR");
+            errorEvent.put("code", error instanceof TimeoutException ? "TIMEOUT" : "INTERNAL_ERROR");
             errorEvent.put("message", errorMessage);
             
             String errorJson = objectMapper.writeValueAsString(errorEvent);
-            safeSend(context.emitter, SseEmitter.event()
-                .name("error")
-                .data(errorJson));
+            sendEvent(context, "error", errorJson);
             
             // 에러 상태로 메시지 저장
             context.assistant.updateContent(context.answerBuf.toString());
             context.assistant.setIsError(true);
+            context.assistant.setStatus(ChatMessageStatus.ERROR);
             chatMessageRepository.save(context.assistant);
             
             // Elasticsearch chat_log 인덱스에 실시간 저장 (에러 포함)
@@ -386,20 +573,449 @@ public class ChatStreamService {
         } catch (Exception e) {
             log.warn("Failed to send error event to SSE emitter", e);
         } finally {
-            safeComplete(context.emitter);
+            completeStream(context);
+        }
+    }
+
+    /**
+     * 구독자를 스트림에 연결하고 놓친 이벤트를 재전송합니다.
+     *
+     * <p>context 락 안에서 재전송 이벤트 적재와 구독자 등록을 함께 수행하므로
+     * 재전송과 실시간 전송 사이에 이벤트가 빠지거나 중복되지 않습니다.
+     * 실제 전송은 구독자별 큐에서 락 밖으로 수행됩니다.</p>
+     */
+    private void attach(StreamContext context, SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> detach(context, subscriber));
+        emitter.onTimeout(() -> {
+            detach(context, subscriber);
+            log.warn("SSE emitter timeout for messageId={}", context.messageId);
+        });
+        emitter.onError(e -> {
+            log.debug("SSE client disconnected: messageId={}, error={}", context.messageId, e.getMessage());
+            detach(context, subscriber);
+            cancelIfAbandoned(context);
+        });
+
+        synchronized (context) {
+            long after = lastEventId != null ? lastEventId : 0L;
+            ReplayEvent oldest = context.replayBuffer.peekFirst();
+            ReplayEvent snapshot = null;
+            if (oldest != null && oldest.id() > after + 1) {
+                // 놓친 이벤트가 버퍼에서 이미 빠짐 → 일부만 재전송하면 답변 중간이 빠지므로 누적 답변 전체를 한 번에 전송
+                log.warn("SSE replay gap, sending snapshot: messageId={}, lastEventId={}, oldestBuffered={}",
+                    context.messageId, after, oldest.id());
+                snapshot = snapshotEvent(context, after);
+                after = snapshot.id();
+            }
+            synchronized (subscriber) {
+                if (snapshot != null) {
+                    subscriber.queue.addLast(snapshot);
+                }
+                for (ReplayEvent event : context.replayBuffer) {
+                    if (event.id() > after) {
+                        subscriber.queue.addLast(event);
+                    }
+                }
+                subscriber.completeRequested = context.finished;
+                subscriber.draining = true;
+            }
+            if (!context.finished) {
+                context.subscribers.add(subscriber);
+                if (context.pendingCancel != null) {
+                    // 유예 시간 안에 재접속 → 취소 보류
+                    context.pendingCancel.cancel(false);
+                    context.pendingCancel = null;
+                }
+            }
+        }
+        scheduleDrain(context, subscriber);
+    }
+
+    /**
+     * 지금까지 전송한 답변 전체를 담은 snapshot 이벤트 (context 락을 보유한 상태에서 호출)
+     *
+     * <p>SSE id 는 마지막 token 이벤트 ID 로, 이후 이벤트(done/error 등)는 그대로 이어서 재전송됩니다.
+     * 클라이언트는 snapshot 을 받으면 화면의 답변을 answer 로 교체합니다.</p>
+     */
+    private ReplayEvent snapshotEvent(StreamContext context, long after) {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("type", "snapshot");
+        data.put("answer", context.sentAnswer.toString());
+        if (context.metaData != null) {
+            try {
+                data.set("meta", objectMapper.readTree(context.metaData));
+            } catch (IOException e) {
+                log.debug("Failed to parse meta for snapshot: messageId={}", context.messageId);
+            }
+        }
+        return new ReplayEvent(Math.max(after, context.lastTokenEventId), "snapshot", data.toString());
+    }
+
+    /**
+     * 구독자를 스트림에서 분리합니다. upstream은 계속 진행되어 재접속 시 이어서 받을 수 있습니다.
+     */
+    private void detach(StreamContext context, Subscriber subscriber) {
+        synchronized (context) {
+            context.subscribers.remove(subscriber);
+        }
+        synchronized (subscriber) {
+            subscriber.closed = true;
+            subscriber.queue.clear();
+        }
+    }
+
+    /**
+     * 구독자 큐에 이벤트를 적재합니다. 전송 중이 아니면 true 를 반환하며, 호출자가 락 밖에서 전송을 시작합니다.
+     * (context 락을 보유한 상태에서 호출)
+     *
+     * <p>재전송 버퍼 크기 이상 밀린 구독자는 연결을 끊습니다. 클라이언트는 Last-Event-ID 로 재접속하여 이어 받습니다.</p>
+     */
+    private boolean enqueue(StreamContext context, Subscriber subscriber, ReplayEvent event) {
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return false;
+            }
+            if (subscriber.queue.size() >= replayMaxEvents) {
+                log.warn("SSE subscriber too slow, disconnecting: messageId={}, queued={}",
+                    context.messageId, subscriber.queue.size());
+                subscriber.queue.clear();
+                subscriber.completeRequested = true;
+                context.subscribers.remove(subscriber);
+            } else {
+                subscriber.queue.addLast(event);
+            }
+            if (subscriber.draining) {
+                return false;
+            }
+            subscriber.draining = true;
+            return true;
+        }
+    }
+
+    private void scheduleDrain(StreamContext context, Subscriber subscriber) {
+        try {
+            sseSendExecutor.execute(() -> drain(context, subscriber));
+        } catch (Exception e) {
+            // 종료 중
+            log.debug("SSE send executor rejected: messageId={}, error={}", context.messageId, e.getMessage());
         }
     }
 
+    /**
+     * 구독자 큐의 이벤트를 순서대로 전송합니다. 구독자당 동시에 하나의 drain 만 실행됩니다.
+     */
+    private void drain(StreamContext context, Subscriber subscriber) {
+        while (true) {
+            ReplayEvent event;
+            boolean complete = false;
+            synchronized (subscriber) {
+                event = subscriber.closed ? null : subscriber.queue.pollFirst();
+                if (event == null) {
+                    subscriber.draining = false;
+                    complete = subscriber.completeRequested && !subscriber.closed;
+                    if (complete) {
+                        subscriber.closed = true;
+                    }
+                }
+            }
+            if (event == null) {
+                if (complete) {
+                    safeComplete(subscriber.emitter);
+                }
+                return;
+            }
+            if (!safeSend(subscriber.emitter, event)) {
+                detach(context, subscriber);
+                cancelIfAbandoned(context);
+                return;
+            }
+        }
+    }
+
+    /**
+     * SSE 이벤트를 전송하고 전송량 메트릭을 기록합니다.
+     *
+     * <p>이벤트에는 스트림 내 순번(SSE id)이 부여되어 재전송 버퍼에 보관되며,
+     * 모든 구독자 큐에 적재됩니다. 전송은 구독자별로 락 밖에서 수행되어 느린 구독자가 다른 구독자를 막지 않습니다.</p>
+     * <p>token 외 이벤트(meta/done/error)는 모아 둔 토큰을 먼저 전송한 뒤 즉시 전송하여
+     * 이벤트 순서를 보장합니다.</p>
+     */
+    private void sendEvent(StreamContext context, String name, String data) {
+        int subscriberCount;
+        List<Subscriber> toDrain = new ArrayList<>();
+        synchronized (context) {
+            if (!"token".equals(name)) {
+                flushPendingTokens(context);
+            }
+            ReplayEvent event = new ReplayEvent(++context.lastEventId, name, data);
+            if ("token".equals(name) && context.firstTokenSentAtNanos == 0L) {
+                recordFirstTokenSent(context);
+            }
+            if ("token".equals(name)) {
+                context.sentAnswer.append(data);
+                context.lastTokenEventId = event.id();
+            } else if ("meta".equals(name)) {
+                context.metaData = data;
+            }
+            context.replayBuffer.addLast(event);
+            if (context.replayBuffer.size() > replayMaxEvents) {
+                context.replayBuffer.removeFirst();
+            }
+            subscriberCount = context.subscribers.size();
+            for (Subscriber subscriber : List.copyOf(context.subscribers)) {
+                if (enqueue(context, subscriber, event)) {
+                    toDrain.add(subscriber);
+                }
+            }
+        }
+        toDrain.forEach(subscriber -> scheduleDrain(context, subscriber));
+        meterRegistry.counter(SSE_EVENTS_METRIC, "event", name).increment(subscriberCount);
+        meterRegistry.counter(SSE_BYTES_METRIC, "event", name).increment((double) utf8Length(data) * subscriberCount);
+    }
+
+    /**
+     * 모든 구독자가 연결을 끊은 스트림의 upstream AI 호출 취소를 예약합니다.
+     *
+     * <p>새로고침이나 네트워크 순단 후 Last-Event-ID 재접속으로 이어 받을 수 있도록
+     * cancel-grace-ms 동안 기다렸다가, 그때까지 재접속한 구독자가 없으면 취소합니다.</p>
+     */
+    private void cancelIfAbandoned(StreamContext context) {
+        synchronized (context) {
+            if (!isAbandoned(context) || context.pendingCancel != null) {
+                return;
+            }
+            try {
+                context.pendingCancel = streamScheduler.schedule(
+                    () -> cancelAbandoned(context), cancelGraceMs, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // 종료 중
+                log.debug("Cancel scheduling rejected: messageId={}, error={}", context.messageId, e.getMessage());
+            }
+        }
+    }
+
+    /** context 락을 보유한 상태에서 호출 */
+    private static boolean isAbandoned(StreamContext context) {
+        return !context.finished && !context.cancelled && !context.isDoneReceived
+            && context.subscribers.isEmpty() && context.subscription != null;
+    }
+
+    /**
+     * 유예 시간이 지나도록 구독자가 없는 스트림의 upstream AI 호출을 취소합니다.
+     *
+     * <p>WebClient 구독을 dispose하여 AI 서버와의 연결을 끊고, 그때까지 받은 부분 응답을
+     * CANCELLED 상태로 저장합니다. 평균 생성 시간(done 이벤트의 elapsed_ms 기준) 대비 남은 시간을
+     * 절약된 GPU 시간으로 집계합니다.</p>
+     */
+    private void cancelAbandoned(StreamContext context) {
+        synchronized (context) {
+            context.pendingCancel = null;
+            if (!isAbandoned(context)) {
+                return;
+            }
+            context.cancelled = true;
+        }
+        context.subscription.dispose();
+
+        long elapsedMs = System.currentTimeMillis() - context.startedAtMs;
+        String model = modelOf(context);
+        Double expectedMs = expectedElapsedMs.get(model);
+        double savedSeconds = expectedMs != null ? Math.max(0, expectedMs - elapsedMs) / 1000.0 : 0.0;
+        meterRegistry.counter("chat.stream.cancelled", "model", model).increment();
+        meterRegistry.counter("chat.stream.cancelled.gpu.seconds.saved", "model", model).increment(savedSeconds);
+        log.info("AI stream cancelled by client disconnect: messageId={}, elapsedMs={}, estimatedSavedSec={}",
+            context.messageId, elapsedMs, String.format("%.1f", savedSeconds));
+
+        try {
+            context.assistant.updateContent(context.answerBuf.toString());
+            context.assistant.setIsError(false);
+            context.assistant.setStatus(ChatMessageStatus.CANCELLED);
+            context.assistant.setResponseTimeMs(elapsedMs);
+            applyStreamTimings(context, 0);
+            if (context.model != null) {
+                context.assistant.setLlmModel(context.model);
+            }
+            chatMessageRepository.save(context.assistant);
+
+            if (context.session != null) {
+                String department = context.lastUser != null ? context.lastUser.getDepartment() : null;
+                chatLogElasticsearchService.saveChatLog(
+                    context.assistant,
+                    context.session,
+                    context.session.getUserUuid().toString(),
+                    context.session.getDomain(),
+                    department
+                );
+            }
+        } catch (Exception e) {
+            log.error("Failed to save cancelled message: messageId={}", context.messageId, e);
+        } finally {
+            completeStream(context);
+        }
+    }
+
+    /**
+     * upstream token 수신 간격을 기록합니다. (handleEvent 스레드에서만 호출)
+     */
+    private void recordTokenArrival(StreamContext context) {
+        long now = System.nanoTime();
+        if (context.firstTokenAtNanos == 0L) {
+            context.firstTokenAtNanos = now;
+        } else {
+            long gap = now - context.lastTokenAtNanos;
+            context.maxTokenGapNanos = Math.max(context.maxTokenGapNanos, gap);
+            timer(TOKEN_GAP_METRIC, "AI Gateway token 이벤트 간 간격", context).record(gap, TimeUnit.NANOSECONDS);
+        }
+        context.lastTokenAtNanos = now;
+        context.tokenEvents++;
+    }
+
+    /**
+     * 브라우저로 첫 token 이벤트를 전송한 시점을 기록합니다. (context 락을 보유한 상태에서 호출)
+     */
+    private void recordFirstTokenSent(StreamContext context) {
+        context.firstTokenSentAtNanos = System.nanoTime();
+        if (context.subscribedAtNanos != 0L) {
+            timer(TTFT_METRIC, "첫 token 이벤트를 브라우저로 전송하기까지의 시간", context)
+                .record(context.firstTokenSentAtNanos - context.subscribedAtNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 스트림 타이밍(TTFB/TTFT/최대 token 간격/tokens per second)을 메시지에 반영하고
+     * tokens per second 분포를 기록합니다.
+     *
+     * @param reportedTokens done 이벤트의 total_tokens (없으면 0, 이 경우 수신한 token 이벤트 수 사용)
+     */
+    private void applyStreamTimings(StreamContext context, int reportedTokens) {
+        long subscribedAt = context.subscribedAtNanos;
+        if (subscribedAt == 0L) {
+            return;
+        }
+        if (context.firstEventAtNanos != 0L) {
+            context.assistant.setFirstByteMs(TimeUnit.NANOSECONDS.toMillis(context.firstEventAtNanos - subscribedAt));
+        }
+        long firstTokenSentAt;
+        synchronized (context) {
+            firstTokenSentAt = context.firstTokenSentAtNanos;
+        }
+        if (firstTokenSentAt != 0L) {
+            context.assistant.setFirstTokenMs(TimeUnit.NANOSECONDS.toMillis(firstTokenSentAt - subscribedAt));
+        }
+        if (context.tokenEvents > 1) {
+            context.assistant.setMaxTokenGapMs(TimeUnit.NANOSECONDS.toMillis(context.maxTokenGapNanos));
+        }
+
+        int tokens = reportedTokens > 0 ? reportedTokens : context.tokenEvents;
+        long generationNanos = context.lastTokenAtNanos - context.firstTokenAtNanos;
+        if (tokens > 1 && generationNanos > 0) {
+            double tokensPerSecond = tokens / (generationNanos / 1_000_000_000.0);
+            context.assistant.setTokensPerSecond(tokensPerSecond);
+            DistributionSummary.builder(TOKENS_PER_SECOND_METRIC)
+                .description("첫 token 이후 생성 속도")
+                .baseUnit("tokens")
+                .tags(context.timingTags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(tokensPerSecond);
+        }
+    }
+
+    private Timer timer(String name, String description, StreamContext context) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(context.timingTags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * done 이벤트의 elapsed_ms를 모델별 이동 평균에 반영합니다. (취소 시 절약 시간 추정용)
+     */
+    private void recordElapsed(StreamContext context) {
+        Long elapsedMs = context.assistant.getResponseTimeMs();
+        if (elapsedMs == null || elapsedMs <= 0) {
+            return;
+        }
+        expectedElapsedMs.merge(
+            modelOf(context),
+            elapsedMs.doubleValue(),
+            (prev, cur) -> prev * (1 - ELAPSED_EWMA_ALPHA) + cur * ELAPSED_EWMA_ALPHA
+        );
+    }
+
+    private String modelOf(StreamContext context) {
+        if (context.model != null) {
+            return context.model;
+        }
+        if (context.session != null && context.session.getLlmModel() != null) {
+            return context.session.getLlmModel();
+        }
+        return "default";
+    }
+
+    /**
+     * 남은 토큰을 전송한 뒤 모든 구독자를 완료하고, 보관 시간 후 스트림을 정리합니다.
+     */
+    private void completeStream(StreamContext context) {
+        List<Subscriber> toDrain = new ArrayList<>();
+        synchronized (context) {
+            flushPendingTokens(context);
+            context.finished = true;
+            for (Subscriber subscriber : context.subscribers) {
+                synchronized (subscriber) {
+                    // 큐에 남은 이벤트를 모두 전송한 뒤 완료
+                    subscriber.completeRequested = true;
+                    if (!subscriber.draining) {
+                        subscriber.draining = true;
+                        toDrain.add(subscriber);
+                    }
+                }
+            }
+            context.subscribers.clear();
+        }
+        toDrain.forEach(subscriber -> scheduleDrain(context, subscriber));
+        streamScheduler.schedule(
+            () -> liveStreams.remove(context.messageId, context),
+            replayRetentionMs,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    private static int utf8Length(String text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
     /**
      * SseEmitter에 안전하게 데이터를 전송합니다.
      * 이미 완료된 emitter에 대한 send 시도를 방지합니다.
      *
      * @param emitter SseEmitter 인스턴스
-     * @param event 전송할 SSE 이벤트
+     * @param event 전송할 이벤트 (SSE id 포함)
+     * @return 전송 성공 여부 (실패한 구독자는 스트림에서 제거)
      */
-    private void safeSend(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+    private boolean safeSend(SseEmitter emitter, ReplayEvent event) {
         try {
-            emitter.send(event);
+            emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(event.name())
+                .data(event.data()));
+            return true;
         } catch (IllegalStateException e) {
             // 이미 완료된 emitter에 대한 send 시도
             log.debug("SSE emitter already completed, skipping send: {}", e.getMessage());
@@ -408,6 +1024,7 @@ public class ChatStreamService {
         } catch (Exception e) {
             log.warn("Unexpected error while sending SSE event", e);
         }
+        return false;
     }
 
     /**
@@ -432,20 +1049,66 @@ public class ChatStreamService {
      * 여러 메서드 간 상태를 공유하기 위한 내부 클래스
      */
     private static class StreamContext {
-        final SseEmitter emitter;
+        final UUID messageId;
         final ChatMessage assistant;
         final StringBuilder answerBuf;
         final ChatSession session;  // Elasticsearch 저장용 세션 정보
         final ChatMessage lastUser;  // 마지막 사용자 메시지 (department 정보 포함)
         String model;
         boolean isDoneReceived = false;
+        // coalesce 모드: 아직 전송하지 않은 토큰 (context 락으로 보호)
+        final StringBuilder pendingTokens = new StringBuilder();
+        int pendingBytes = 0;
+        ScheduledFuture<?> pendingFlush;
+        // 재접속 지원: 구독자 목록, 재전송 버퍼, 마지막 이벤트 ID (context 락으로 보호)
+        final List<Subscriber> subscribers = new ArrayList<>();
+        final ArrayDeque<ReplayEvent> replayBuffer = new ArrayDeque<>();
+        long lastEventId = 0L;
+        // 재전송 버퍼를 넘어선 재접속용 snapshot: 전송한 token 누적, 마지막 token 이벤트 ID, meta 이벤트 (context 락으로 보호)
+        final StringBuilder sentAnswer = new StringBuilder();
+        long lastTokenEventId = 0L;
+        String metaData;
+        boolean finished = false;
+        boolean cancelled = false;
+        ScheduledFuture<?> pendingCancel;
+        final long startedAtMs = System.currentTimeMillis();
+        volatile Disposable subscription;
+        // 스트림 타이밍 (System.nanoTime 기준, 0이면 아직 발생하지 않음)
+        Tags timingTags = Tags.empty();
+        volatile long subscribedAtNanos;
+        long firstEventAtNanos;
+        long firstTokenAtNanos;
+        long lastTokenAtNanos;
+        long maxTokenGapNanos;
+        int tokenEvents;
+        long firstTokenSentAtNanos;  // context 락으로 보호
 
-        StreamContext(SseEmitter emitter, ChatMessage assistant, StringBuilder answerBuf, ChatSession session, ChatMessage lastUser) {
-            this.emitter = emitter;
+        StreamContext(UUID messageId, ChatMessage assistant, StringBuilder answerBuf, ChatSession session, ChatMessage lastUser) {
+            this.messageId = messageId;
             this.assistant = assistant;
             this.answerBuf = answerBuf;
             this.session = session;
             this.lastUser = lastUser;
         }
     }
+
+    /**
+     * 재전송 버퍼에 보관되는 SSE 이벤트
+     */
+    private record ReplayEvent(long id, String name, String data) {}
+
+    /**
+     * SSE 구독자 (구독자별 전송 대기 큐, 구독자 락으로 보호)
+     */
+    private static class Subscriber {
+        final SseEmitter emitter;
+        final ArrayDeque<ReplayEvent> queue = new ArrayDeque<>();
+        boolean draining = false;
+        boolean completeRequested = false;
+        boolean closed = false;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
 }
@@ -46,5 +46,111 @@ public interface TelemetryEventRepository extends JpaRepository<TelemetryEvent,
         @Param("endDate") Instant endDate,
         @Param("deptId") String deptId
     );
-}
 
+    // ========================
+    // 대시보드 롤업 조회 (telemetry.chat_turn_rollup_hourly, infra-service가 수집 시 갱신)
+    // ========================
+
+    /**
+     * 기간 내 롤업 합계 조회
+     *
+     * @return [turn_count, latency_sum_ms, latency_count, pii_count, error_count,
+     *          rag_used_count, like_count, dislike_count] 1행
+     */
+    @Query(
+        value = """
+            SELECT
+                COALESCE(SUM(r.turn_count), 0),
+                COALESCE(SUM(r.latency_sum_ms), 0),
+                COALESCE(SUM(r.latency_count), 0),
+                COALESCE(SUM(r.pii_count), 0),
+                COALESCE(SUM(r.error_count), 0),
+                COALESCE(SUM(r.rag_used_count), 0),
+                COALESCE(SUM(r.like_count), 0),
+                COALESCE(SUM(r.dislike_count), 0)
+            FROM telemetry.chat_turn_rollup_hourly r
+            WHERE r.bucket_hour >= :startDate
+              AND r.bucket_hour < :endDate
+              AND (:deptId = 'all' OR r.dept_id = :deptId)
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> sumChatTurnRollup(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 기간 내 활성 사용자 수 (고유 userId)
+     */
+    @Query(
+        value = """
+            SELECT COUNT(DISTINCT u.user_id)
+            FROM telemetry.chat_active_user_daily u
+            WHERE u.bucket_day >= :startDate
+              AND u.bucket_day < :endDate
+              AND (:deptId = 'all' OR u.dept_id = :deptId)
+            """,
+        nativeQuery = true
+    )
+    long countActiveUsers(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 버킷(day | week)별 질문 수 / 에러 수 추이
+     *
+     * @param bucket date_trunc 단위 (day | week, week는 월요일 시작)
+     * @param zone 버킷 경계 기준 시간대 (예: Asia/Seoul)
+     * @return [bucket_start(YYYY-MM-DD), turn_count, error_count]
+     */
+    @Query(
+        value = """
+            SELECT
+                TO_CHAR(DATE_TRUNC(:bucket, r.bucket_hour AT TIME ZONE :zone), 'YYYY-MM-DD') as bucket_start,
+                SUM(r.turn_count) as turn_count,
+                SUM(r.error_count) as error_count
+            FROM telemetry.chat_turn_rollup_hourly r
+            WHERE r.bucket_hour >= :startDate
+              AND r.bucket_hour < :endDate
+              AND (:deptId = 'all' OR r.dept_id = :deptId)
+            GROUP BY 1
+            HAVING SUM(r.turn_count) > 0
+            ORDER BY bucket_start ASC
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> getChatTurnTrend(
+        @Param("bucket") String bucket,
+        @Param("zone") String zone,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 도메인별 질문 수 (domain은 수집 시 대문자/trim 정규화, 없으면 빈 문자열)
+     *
+     * @return [domain, turn_count]
+     */
+    @Query(
+        value = """
+            SELECT r.domain, SUM(r.turn_count) as turn_count
+            FROM telemetry.chat_turn_rollup_hourly r
+            WHERE r.bucket_hour >= :startDate
+              AND r.bucket_hour < :endDate
+              AND (:deptId = 'all' OR r.dept_id = :deptId)
+            GROUP BY r.domain
+            HAVING SUM(r.turn_count) > 0
+            """,
+        nativeQuery = true
+    )
+    List<Object[]> getChatTurnCountByDomain(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+}
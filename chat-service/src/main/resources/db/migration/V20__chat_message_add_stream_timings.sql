@@ -0,0 +1,5 @@
+ALTER TABLE chat.chat_message
+  ADD COLUMN first_byte_ms BIGINT,
+  ADD COLUMN first_token_ms BIGINT,
+  ADD COLUMN max_token_gap_ms BIGINT,
+  ADD COLUMN tokens_per_second DOUBLE PRECISION;
@@ -0,0 +1,86 @@
+package com.ctrlf.chat.ai.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ChatAiRequestCoalescerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ChatAiRequestCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ChatAnswerCache cache = new ChatAnswerCache(meterRegistry);
+        ReflectionTestUtils.setField(cache, "cacheableRoutesValue", "RAG");
+        ReflectionTestUtils.setField(cache, "excludedIntentsValue", "");
+        cache.init();
+        coalescer = new ChatAiRequestCoalescer(cache, meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        coalescer.init();
+    }
+
+    private static ChatAiResponse ragAnswer(String answer) {
+        try {
+            return MAPPER.readValue(
+                "{\"answer\":\"" + answer + "\",\"meta\":{\"route\":\"RAG\"}}", ChatAiResponse.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ChatAnswerCache.Key key(String role) {
+        return ChatAnswerCache.key("연차 며칠 남았어?", "POLICY", "인사팀", role, "openai", null);
+    }
+
+    @Test
+    void followerWithSameRoleSharesLeaderCall() throws Exception {
+        // upstream 구독(실제 AI 호출) 횟수
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<ChatAiResponse> leaderUpstream = Sinks.one();
+
+        Mono<ChatAiResponse> leader = coalescer.coalesce(key("EMPLOYEE"),
+            () -> leaderUpstream.asMono().doOnSubscribe(s -> calls.incrementAndGet())).cache();
+        leader.subscribe();
+        // leader 가 진행 중일 때 합류
+        CompletableFuture<ChatAiResponse> follower = coalescer.coalesce(key("EMPLOYEE"),
+            () -> Mono.fromSupplier(() -> ragAnswer("직원 답변 (직접 호출)"))
+                .doOnSubscribe(s -> calls.incrementAndGet())).toFuture();
+
+        leaderUpstream.tryEmitValue(ragAnswer("직원 답변"));
+
+        assertThat(follower.get(5, TimeUnit.SECONDS).getAnswer()).isEqualTo("직원 답변");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void differentRolesDoNotShareInFlightCall() {
+        // upstream 구독(실제 AI 호출) 횟수
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<ChatAiResponse> adminUpstream = Sinks.one();
+
+        Mono<ChatAiResponse> admin = coalescer.coalesce(key("SYSTEM_ADMIN"),
+            () -> adminUpstream.asMono().doOnSubscribe(s -> calls.incrementAndGet())).cache();
+        admin.subscribe();
+        Mono<ChatAiResponse> employee = coalescer.coalesce(key("EMPLOYEE"),
+            () -> Mono.fromSupplier(() -> ragAnswer("직원 답변")).doOnSubscribe(s -> calls.incrementAndGet()));
+
+        assertThat(employee.block(Duration.ofSeconds(5)).getAnswer()).isEqualTo("직원 답변");
+        adminUpstream.tryEmitValue(ragAnswer("관리자 답변"));
+        assertThat(admin.block(Duration.ofSeconds(5)).getAnswer()).isEqualTo("관리자 답변");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ctrlf.chat.ai.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ctrlf.chat.ai.search.dto.ChatAiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+class ChatAnswerCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ChatAnswerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ChatAnswerCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "cacheableRoutesValue", "RAG");
+        ReflectionTestUtils.setField(cache, "excludedIntentsValue", "");
+        cache.init();
+    }
+
+    private static ChatAiResponse ragAnswer(String answer) throws Exception {
+        return MAPPER.readValue(
+            "{\"answer\":\"" + answer + "\",\"meta\":{\"route\":\"RAG\"}}", ChatAiResponse.class);
+    }
+
+    private ChatAiResponse ask(ChatAnswerCache.Key key, String answer, AtomicInteger calls) throws Exception {
+        ChatAiResponse response = ragAnswer(answer);
+        return cache.getOrLoad(key, () -> Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return response;
+        })).block();
+    }
+
+    @Test
+    void differentRolesGetSeparateEntries() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ChatAnswerCache.Key adminKey = ChatAnswerCache.key("연차 며칠 남았어?", "POLICY", "인사팀", "SYSTEM_ADMIN", "openai", null);
+        ChatAnswerCache.Key employeeKey = ChatAnswerCache.key("연차 며칠 남았어?", "POLICY", "인사팀", "EMPLOYEE", "openai", null);
+
+        assertThat(adminKey).isNotEqualTo(employeeKey);
+        assertThat(ask(adminKey, "관리자 답변", calls).getAnswer()).isEqualTo("관리자 답변");
+        assertThat(ask(employeeKey, "직원 답변", calls).getAnswer()).isEqualTo("직원 답변");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void sameRoleReusesEntry() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ChatAnswerCache.Key first = ChatAnswerCache.key("연차  며칠 남았어?", "policy", "인사팀", "employee", "openai", null);
+        ChatAnswerCache.Key second = ChatAnswerCache.key("연차 며칠 남았어?", "POLICY", "인사팀", "EMPLOYEE", "openai", null);
+
+        ask(first, "직원 답변", calls);
+        ChatAiResponse cached = ask(second, "다른 답변", calls);
+
+        assertThat(cached.getAnswer()).isEqualTo("직원 답변");
+        assertThat(cached.getPromptTokens()).isZero();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ctrlf.chat.ai.search.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+class NdjsonLineDecoderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final DefaultDataBufferFactory heapFactory = new DefaultDataBufferFactory(false);
+    private final DefaultDataBufferFactory directFactory = new DefaultDataBufferFactory(true);
+
+    private NdjsonLineDecoder newDecoder() {
+        return new NdjsonLineDecoder(MAPPER.reader(), 1024);
+    }
+
+    private DataBuffer heap(byte[] bytes) {
+        return heapFactory.wrap(bytes);
+    }
+
+    private DataBuffer direct(byte[] bytes) {
+        DataBuffer buffer = directFactory.allocateBuffer(bytes.length);
+        buffer.write(bytes);
+        return buffer;
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> texts(List<JsonNode> nodes) {
+        List<String> out = new ArrayList<>();
+        for (JsonNode node : nodes) {
+            out.add(node.path("t").asText());
+        }
+        return out;
+    }
+
+    @Test
+    void decodesCompleteLinesInOneBuffer() {
+        NdjsonLineDecoder decoder = newDecoder();
+
+        List<JsonNode> nodes = decoder.decode(heap(utf8("{\"t\":\"a\"}\n{\"t\":\"b\"}\n")));
+
+        assertThat(texts(nodes)).containsExactly("a", "b");
+        assertThat(decoder.finish()).isEmpty();
+    }
+
+    @Test
+    void joinsLineSplitAcrossBuffers() {
+        NdjsonLineDecoder decoder = newDecoder();
+
+        List<JsonNode> first = decoder.decode(heap(utf8("{\"t\":\"a\"}\n{\"t\":")));
+        List<JsonNode> second = decoder.decode(heap(utf8("\"b\"}\n")));
+
+        assertThat(texts(first)).containsExactly("a");
+        assertThat(texts(second)).containsExactly("b");
+    }
+
+    @Test
+    void joinsLineSplitOverManySingleByteBuffers() {
+        NdjsonLineDecoder decoder = newDecoder();
+        byte[] bytes = utf8("{\"t\":\"abc\"}\n");
+
+        List<JsonNode> nodes = new ArrayList<>();
+        for (byte b : bytes) {
+            nodes.addAll(decoder.decode(direct(new byte[] {b})));
+        }
+
+        assertThat(texts(nodes)).containsExactly("abc");
+    }
+
+    @Test
+    void keepsMultiByteUtf8SplitAcrossBuffers() {
+        NdjsonLineDecoder decoder = newDecoder();
+        byte[] bytes = utf8("{\"t\":\"안녕하세요\"}\n");
+        // '안'(3바이트) 중간에서 자름
+        int cut = utf8("{\"t\":\"").length + 1;
+
+        List<JsonNode> first = decoder.decode(heap(Arrays.copyOfRange(bytes, 0, cut)));
+        List<JsonNode> second = decoder.decode(direct(Arrays.copyOfRange(bytes, cut, bytes.length)));
+
+        assertThat(first).isEmpty();
+        assertThat(texts(second)).containsExactly("안녕하세요");
+    }
+
+    @Test
+    void finishEmitsTrailingLineWithoutNewline() {
+        NdjsonLineDecoder decoder = newDecoder();
+
+        List<JsonNode> nodes = decoder.decode(heap(utf8("{\"t\":\"a\"}\n{\"t\":\"b\"}")));
+
+        assertThat(texts(nodes)).containsExactly("a");
+        assertThat(texts(decoder.finish())).containsExactly("b");
+        assertThat(decoder.finish()).isEmpty();
+    }
+
+    @Test
+    void skipsBlankCrlfAndNonJsonLines() {
+        NdjsonLineDecoder decoder = newDecoder();
+
+        List<JsonNode> nodes = decoder.decode(heap(utf8("\r\n  \n{\"t\":\"a\"}\r\nnot-json\n{\"t\":\"b\"}\n")));
+
+        assertThat(texts(nodes)).containsExactly("a", "b");
+    }
+
+    @Test
+    void rejectsLineLongerThanLimitAndRecovers() {
+        NdjsonLineDecoder decoder = new NdjsonLineDecoder(MAPPER.reader(), 16);
+
+        assertThatThrownBy(() -> decoder.decode(heap(utf8("{\"t\":\"0123456789abcdef"))))
+            .isInstanceOf(DataBufferLimitException.class);
+        assertThat(texts(decoder.decode(heap(utf8("{\"t\":\"a\"}\n"))))).containsExactly("a");
+    }
+}
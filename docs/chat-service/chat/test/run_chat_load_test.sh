@@ -0,0 +1,155 @@
+#!/bin/bash
+
+# 채팅 메시지 전송 동시성 부하 테스트 스크립트
+#
+# POST /chat/messages 를 동시성 단계별로 호출하여
+# chat-service 인스턴스 1대가 동시에 유지할 수 있는 in-flight 질문 수를 측정합니다.
+#
+# 실제 LLM 비용 없이 측정하려면 MOCK_AI=true 로 실행하고,
+# chat-service 를 mock AI 서버를 바라보도록 기동합니다.
+#   ./gradlew :chat-service:bootRun --args='--ai.gateway.url=http://localhost:18000'
+#
+# 동기/논블로킹 모드 비교:
+#   --app.chat.send.async-enabled=false  (기존: 요청 스레드가 AI 응답 동안 대기)
+#   --app.chat.send.async-enabled=true   (DeferredResult: AI 응답 대기 중 스레드 반환)
+
+# 환경 변수 설정
+BASE_URL="${BASE_URL:-http://localhost:9005}"
+INFRA_URL="${INFRA_URL:-http://localhost:9003}"
+CLIENT_ID="${CLIENT_ID:-infra-admin}"
+CLIENT_SECRET="${CLIENT_SECRET:-changeme}"
+USERNAME="${USERNAME:-user1}"
+PASSWORD="${PASSWORD:-11111}"
+
+# 동시성 단계 (공백 구분)
+CONCURRENCY_LEVELS="${CONCURRENCY_LEVELS:-50 100 200 400 800}"
+# mock AI 서버 사용 여부 및 응답 지연 (초)
+MOCK_AI="${MOCK_AI:-false}"
+MOCK_AI_PORT="${MOCK_AI_PORT:-18000}"
+MOCK_AI_DELAY="${MOCK_AI_DELAY:-10}"
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"; [ -n "$MOCK_PID" ] && kill "$MOCK_PID" 2>/dev/null' EXIT
+
+echo "=== Chat 전송 부하 테스트 시작 ==="
+echo "Base URL: $BASE_URL"
+echo "Concurrency levels: $CONCURRENCY_LEVELS"
+echo "Mock AI: $MOCK_AI (port=$MOCK_AI_PORT, delay=${MOCK_AI_DELAY}s)"
+echo ""
+
+# 0. mock AI 서버 기동 (선택)
+if [ "$MOCK_AI" = "true" ]; then
+  echo "=== 0. mock AI 서버 기동 ==="
+  cat > "$WORK_DIR/mock_ai.py" <<EOF
+import json, time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+class Handler(BaseHTTPRequestHandler):
+    def do_POST(self):
+        self.rfile.read(int(self.headers.get('Content-Length', 0)))
+        time.sleep(${MOCK_AI_DELAY})
+        body = json.dumps({"answer": "mock answer", "prompt_tokens": 10,
+                           "completion_tokens": 20, "model": "mock",
+                           "meta": {"route": "LLM", "masked": False}}).encode()
+        self.send_response(200)
+        self.send_header('Content-Type', 'application/json')
+        self.send_header('Content-Length', str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, *args):
+        pass
+
+ThreadingHTTPServer.daemon_threads = True
+ThreadingHTTPServer.request_queue_size = 4096
+ThreadingHTTPServer(('0.0.0.0', ${MOCK_AI_PORT}), Handler).serve_forever()
+EOF
+  python3 "$WORK_DIR/mock_ai.py" &
+  MOCK_PID=$!
+  sleep 1
+  echo "✓ mock AI 서버 기동 (pid=$MOCK_PID)"
+  echo ""
+fi
+
+# 1. 토큰 발급 (infra-service 사용)
+echo "=== 1. 토큰 발급 (infra-service) ==="
+TOKEN=$(curl -s -X POST "${INFRA_URL}/admin/users/token/password" \
+  -H "Content-Type: application/json" \
+  -d "{
+    \"clientId\": \"${CLIENT_ID}\",
+    \"clientSecret\": \"${CLIENT_SECRET}\",
+    \"username\": \"${USERNAME}\",
+    \"password\": \"${PASSWORD}\",
+    \"scope\": \"openid profile email\"
+  }" | jq -r '.access_token')
+
+if [ -z "$TOKEN" ] || [ "$TOKEN" = "null" ]; then
+  echo "ERROR: 토큰 발급 실패"
+  exit 1
+fi
+
+USER_UUID=$(echo "$TOKEN" | cut -d '.' -f2 | tr '_-' '/+' | base64 -d 2>/dev/null | jq -r '.sub')
+echo "✓ Token 발급 성공 (userUuid=$USER_UUID)"
+echo ""
+
+# 2. 세션 생성
+echo "=== 2. 채팅 세션 생성 ==="
+SESSION_ID=$(curl -s -X POST "${BASE_URL}/api/chat/sessions" \
+  -H "Authorization: Bearer ${TOKEN}" \
+  -H "Content-Type: application/json" \
+  -d "{\"userUuid\": \"${USER_UUID}\", \"title\": \"load-test\", \"domain\": \"SECURITY\"}" \
+  | jq -r '.id // .sessionId')
+
+if [ -z "$SESSION_ID" ] || [ "$SESSION_ID" = "null" ]; then
+  echo "ERROR: 세션 생성 실패"
+  exit 1
+fi
+echo "✓ Session ID: $SESSION_ID"
+echo ""
+
+# 단일 요청: "<http_code> <time_total>" 출력
+send_one() {
+  curl -s -o /dev/null -w "%{http_code} %{time_total}\n" --max-time 120 \
+    -X POST "${BASE_URL}/chat/messages" \
+    -H "Authorization: Bearer ${TOKEN}" \
+    -H "Content-Type: application/json" \
+    -d "{\"sessionId\": \"${SESSION_ID}\", \"content\": \"연차 며칠 남았어? #$1\"}"
+}
+export -f send_one
+export BASE_URL TOKEN SESSION_ID
+
+# 3. 동시성 단계별 측정
+echo "=== 3. 동시성 단계별 측정 ==="
+printf "%-12s %-8s %-8s %-10s %-10s %-10s %-10s\n" \
+  "concurrency" "ok" "fail" "p50(s)" "p95(s)" "max(s)" "wall(s)"
+
+for C in $CONCURRENCY_LEVELS; do
+  RESULT_FILE="$WORK_DIR/result_$C.txt"
+  START=$(date +%s.%N)
+  seq 1 "$C" | xargs -P "$C" -I{} bash -c 'send_one {}' > "$RESULT_FILE"
+  END=$(date +%s.%N)
+
+  OK=$(awk '$1 == 200' "$RESULT_FILE" | wc -l)
+  FAIL=$(awk '$1 != 200' "$RESULT_FILE" | wc -l)
+  STATS=$(awk '$1 == 200 {print $2}' "$RESULT_FILE" | sort -n | awk '
+    { v[NR] = $1 }
+    END {
+      if (NR == 0) { print "- - -"; exit }
+      p50 = v[int(NR * 0.50) > 0 ? int(NR * 0.50) : 1]
+      p95 = v[int(NR * 0.95) > 0 ? int(NR * 0.95) : 1]
+      printf "%.2f %.2f %.2f", p50, p95, v[NR]
+    }')
+  WALL=$(echo "$END - $START" | bc)
+
+  printf "%-12s %-8s %-8s %-10s %-10s %-10s %-10.2f\n" \
+    "$C" "$OK" "$FAIL" $STATS "$WALL"
+done
+
+echo ""
+echo "해석:"
+echo "- 동기 모드에서는 concurrency 가 server.tomcat.threads.max(기본 200)를 넘으면"
+echo "  p95 가 AI 지연의 배수로 증가합니다 (스레드 대기열)."
+echo "- 논블로킹 모드에서는 p95 가 AI 지연 근처에 머무는 최대 concurrency 가"
+echo "  인스턴스 1대의 in-flight 수용량입니다 (DB 커넥션 풀/AI 커넥션 풀이 다음 병목)."
+echo ""
+echo "=== Chat 전송 부하 테스트 완료 ==="
@@ -0,0 +1,117 @@
+#!/bin/bash
+
+# AI 로그 Bulk 수신 처리량 테스트 스크립트
+#
+# POST /internal/ai/logs/bulk 를 배치 크기별로 반복 호출하여
+# infra-service 의 처리량(logs/s)을 측정합니다.
+#
+# 각 배치 크기마다
+#   - new: 새 traceId 로만 구성된 배치 (INSERT + Elasticsearch _bulk 경로)
+#   - dup: 방금 보낸 배치를 그대로 재전송 (ON CONFLICT DO NOTHING 경로, 전부 skipped)
+# 두 가지를 측정합니다.
+#
+# 주의: 실제 infra.ai_log / Elasticsearch chat_log 인덱스에 데이터가 쌓이므로
+#       로컬/개발 환경에서만 실행합니다. (DEPARTMENT 로 구분 가능)
+
+# 환경 변수 설정
+BASE_URL="${BASE_URL:-http://localhost:9003}"
+INTERNAL_TOKEN="${INTERNAL_TOKEN:-dev-internal-token}"
+
+# 배치 크기 (공백 구분) 및 배치 크기별 반복 횟수
+BATCH_SIZES="${BATCH_SIZES:-100 1000 5000}"
+ITERATIONS="${ITERATIONS:-10}"
+DEPARTMENT="${DEPARTMENT:-bulk-bench}"
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+echo "=== AI 로그 Bulk 수신 처리량 테스트 시작 ==="
+echo "Base URL: $BASE_URL"
+echo "Batch sizes: $BATCH_SIZES (iterations=$ITERATIONS)"
+echo ""
+
+# 배치 요청 본문 생성: gen_batch <size> <file>
+gen_batch() {
+  python3 - "$1" "$2" "$DEPARTMENT" <<'PY'
+import json, sys, uuid, random
+from datetime import datetime, timezone
+
+size, path, dept = int(sys.argv[1]), sys.argv[2], sys.argv[3]
+now = datetime.now(timezone.utc).isoformat().replace('+00:00', 'Z')
+conversation = str(uuid.uuid4())
+logs = []
+for i in range(size):
+    logs.append({
+        "createdAt": now,
+        "userId": "bench-user-%d" % (i % 50),
+        "userRole": "EMPLOYEE",
+        "department": dept,
+        "domain": random.choice(["POLICY", "EDUCATION", "FAQ"]),
+        "route": "RAG",
+        "modelName": "bench-model",
+        "hasPiiInput": False,
+        "hasPiiOutput": False,
+        "ragUsed": True,
+        "ragSourceCount": random.randint(0, 5),
+        "latencyMsTotal": random.randint(200, 3000),
+        "errorCode": None,
+        "traceId": str(uuid.uuid4()),
+        "conversationId": conversation,
+        "turnId": i + 1
+    })
+with open(path, 'w') as f:
+    json.dump({"logs": logs}, f)
+PY
+}
+
+# 단일 요청: "<http_code> <time_total>" 출력
+post_batch() {
+  curl -s -o "$WORK_DIR/last_response.json" -w "%{http_code} %{time_total}\n" --max-time 120 \
+    -X POST "${BASE_URL}/internal/ai/logs/bulk" \
+    -H "X-Internal-Token: ${INTERNAL_TOKEN}" \
+    -H "Content-Type: application/json" \
+    --data-binary "@$1"
+}
+
+# 결과 요약: summarize <result_file> <batch_size>
+summarize() {
+  sort -k2 -n "$1" | awk -v size="$2" '
+    $1 == 200 { ok++; total += $2; t[ok] = $2 }
+    $1 != 200 { fail++ }
+    END {
+      if (ok == 0) { printf "%-8s %-8s %-10s %-10s %-12s\n", 0, fail + 0, "-", "-", "-"; exit }
+      p95 = t[int(ok * 0.95) > 0 ? int(ok * 0.95) : 1]
+      printf "%-8s %-8s %-10.1f %-10.1f %-12.0f\n", ok, fail + 0, total / ok * 1000, p95 * 1000, ok * size / total
+    }'
+}
+
+printf "%-8s %-6s %-8s %-8s %-10s %-10s %-12s\n" \
+  "batch" "mode" "ok" "fail" "avg(ms)" "p95(ms)" "logs/s"
+
+for SIZE in $BATCH_SIZES; do
+  NEW_RESULT="$WORK_DIR/new_$SIZE.txt"
+  DUP_RESULT="$WORK_DIR/dup_$SIZE.txt"
+  : > "$NEW_RESULT"
+  : > "$DUP_RESULT"
+
+  for i in $(seq 1 "$ITERATIONS"); do
+    BATCH_FILE="$WORK_DIR/batch_${SIZE}_$i.json"
+    gen_batch "$SIZE" "$BATCH_FILE"
+    post_batch "$BATCH_FILE" >> "$NEW_RESULT"
+    post_batch "$BATCH_FILE" >> "$DUP_RESULT"
+  done
+
+  printf "%-8s %-6s %s\n" "$SIZE" "new" "$(summarize "$NEW_RESULT" "$SIZE")"
+  printf "%-8s %-6s %s\n" "$SIZE" "dup" "$(summarize "$DUP_RESULT" "$SIZE")"
+done
+
+echo ""
+echo "마지막 응답 (dup 재전송, saved == 0 이고 failed == 0 이어야 함):"
+jq '{received, saved, failed}' "$WORK_DIR/last_response.json" 2>/dev/null
+echo ""
+echo "해석:"
+echo "- logs/s 는 HTTP 왕복 포함 처리량입니다 (요청 생성 시간 제외)."
+echo "- 요청당 DB 왕복은 INSERT chunk 수(app.ailog.ingest.insert-chunk-size),"
+echo "  Elasticsearch 왕복은 _bulk chunk 수(app.elasticsearch.chat-log-bulk-size)로 고정됩니다."
+echo ""
+echo "=== AI 로그 Bulk 수신 처리량 테스트 완료 ==="
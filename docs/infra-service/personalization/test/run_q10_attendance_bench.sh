@@ -0,0 +1,91 @@
+#!/bin/bash
+
+# Q10(이번 달 근태) 조회 쿼리 벤치마크 스크립트
+#
+# 1년치 근태 데이터를 시드한 뒤 pgbench 로 두 가지 조회 방식을 비교합니다.
+#   - old: 년/월 함수 조건(YEAR/MONTH)으로 목록 1회 + 건수/합계 6회 = 7 round-trip
+#   - new: work_date 범위 조건으로 목록 1회 + FILTER 집계 1회 = 2 round-trip
+#          (AttendanceRepository.findByUserUuidAndPeriod / aggregateByUserUuidAndPeriod 와 동일한 SQL)
+#
+# 주의: infra.attendance 에 벤치마크용 데이터를 넣고 종료 시 삭제하므로 로컬/개발 환경에서만 실행합니다.
+#       (V26 트리거로 개인화 캐시 무효화 알림이 발생합니다)
+
+# 환경 변수 설정 (docker-compose postgres 기본값)
+export PGHOST="${PGHOST:-localhost}"
+export PGPORT="${PGPORT:-5432}"
+export PGUSER="${PGUSER:-postgres}"
+export PGPASSWORD="${PGPASSWORD:-postgres}"
+export PGDATABASE="${PGDATABASE:-db}"
+
+# 벤치마크 사용자 수 (사용자별 365일 근태), pgbench 클라이언트 수 / 실행 시간(초)
+USERS="${USERS:-500}"
+CLIENTS="${CLIENTS:-8}"
+DURATION="${DURATION:-20}"
+
+WORK_DIR=$(mktemp -d)
+cleanup() {
+  echo ""
+  echo "벤치마크 데이터 삭제..."
+  psql -q -c "DELETE FROM infra.attendance WHERE note = 'q10-bench';"
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+echo "=== Q10 근태 조회 벤치마크 시작 ==="
+echo "DB: $PGUSER@$PGHOST:$PGPORT/$PGDATABASE"
+echo "Users: $USERS x 365일, clients=$CLIENTS, duration=${DURATION}s"
+echo ""
+
+echo "1) 근태 데이터 시드..."
+psql -q -v ON_ERROR_STOP=1 <<SQL || exit 1
+INSERT INTO infra.attendance (id, user_uuid, work_date, check_in, check_out, work_hours,
+                              status, work_type, overtime_hours, note, created_at, updated_at)
+SELECT gen_random_uuid(), u.user_uuid, d::date,
+       TIME '09:00' + (random() * INTERVAL '40 minutes'),
+       TIME '18:00' + (random() * INTERVAL '2 hours'),
+       8 + round((random() * 2)::numeric, 2),
+       (ARRAY['NORMAL','NORMAL','NORMAL','NORMAL','LATE','EARLY_LEAVE','ABSENT'])[1 + floor(random() * 7)::int],
+       (ARRAY['OFFICE','OFFICE','REMOTE','HALF_DAY'])[1 + floor(random() * 4)::int],
+       round((random() * 3)::numeric, 2),
+       'q10-bench', now(), now()
+FROM (SELECT gen_random_uuid() AS user_uuid FROM generate_series(1, $USERS)) u
+CROSS JOIN generate_series(CURRENT_DATE - 364, CURRENT_DATE, INTERVAL '1 day') d
+WHERE EXTRACT(ISODOW FROM d) < 6;
+ANALYZE infra.attendance;
+SQL
+
+psql -At -c "SELECT user_uuid FROM infra.attendance WHERE note = 'q10-bench' GROUP BY user_uuid" > "$WORK_DIR/users.txt"
+echo "   시드 완료: $(wc -l < "$WORK_DIR/users.txt") users, $(psql -At -c "SELECT COUNT(*) FROM infra.attendance WHERE note = 'q10-bench'") rows"
+
+# pgbench 는 uuid 난수를 만들 수 없으므로 사용자 목록 테이블에서 순번으로 선택 (old/new 동일하게 적용)
+psql -q -c "DROP TABLE IF EXISTS q10_bench_user; CREATE UNLOGGED TABLE q10_bench_user AS
+            SELECT row_number() OVER () AS n, user_uuid FROM (SELECT DISTINCT user_uuid FROM infra.attendance WHERE note = 'q10-bench') t;"
+trap 'psql -q -c "DROP TABLE IF EXISTS q10_bench_user;"; cleanup' EXIT
+
+cat > "$WORK_DIR/old.sql" <<SQL
+\set n random(1, $USERS)
+SELECT * FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND EXTRACT(YEAR FROM work_date) = EXTRACT(YEAR FROM CURRENT_DATE) AND EXTRACT(MONTH FROM work_date) = EXTRACT(MONTH FROM CURRENT_DATE) ORDER BY work_date DESC;
+SELECT COUNT(*) FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND EXTRACT(YEAR FROM work_date) = EXTRACT(YEAR FROM CURRENT_DATE) AND EXTRACT(MONTH FROM work_date) = EXTRACT(MONTH FROM CURRENT_DATE) AND status = 'LATE';
+SELECT COUNT(*) FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND EXTRACT(YEAR FROM work_date) = EXTRACT(YEAR FROM CURRENT_DATE) AND EXTRACT(MONTH FROM work_date) = EXTRACT(MONTH FROM CURRENT_DATE) AND status = 'EARLY_LEAVE';
+SELECT COUNT(*) FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND EXTRACT(YEAR FROM work_date) = EXTRACT(YEAR FROM CURRENT_DATE) AND EXTRACT(MONTH FROM work_date) = EXTRACT(MONTH FROM CURRENT_DATE) AND status = 'ABSENT';
+SELECT COUNT(*) FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND EXTRACT(YEAR FROM work_date) = EXTRACT(YEAR FROM CURRENT_DATE) AND EXTRACT(MONTH FROM work_date) = EXTRACT(MONTH FROM CURRENT_DATE) AND work_type = 'REMOTE';
+SELECT COUNT(*) FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND EXTRACT(YEAR FROM work_date) = EXTRACT(YEAR FROM CURRENT_DATE) AND EXTRACT(MONTH FROM work_date) = EXTRACT(MONTH FROM CURRENT_DATE) AND status <> 'ABSENT';
+SELECT COALESCE(SUM(overtime_hours), 0) FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND EXTRACT(YEAR FROM work_date) = EXTRACT(YEAR FROM CURRENT_DATE) AND EXTRACT(MONTH FROM work_date) = EXTRACT(MONTH FROM CURRENT_DATE);
+SQL
+
+cat > "$WORK_DIR/new.sql" <<SQL
+\set n random(1, $USERS)
+SELECT * FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND work_date BETWEEN date_trunc('month', CURRENT_DATE)::date AND (date_trunc('month', CURRENT_DATE) + INTERVAL '1 month - 1 day')::date ORDER BY work_date DESC;
+SELECT COUNT(*) FILTER (WHERE status = 'LATE'), COUNT(*) FILTER (WHERE status = 'EARLY_LEAVE'), COUNT(*) FILTER (WHERE status = 'ABSENT'), COUNT(*) FILTER (WHERE work_type = 'REMOTE'), COUNT(*) FILTER (WHERE status <> 'ABSENT'), COALESCE(SUM(overtime_hours), 0) FROM infra.attendance WHERE user_uuid = (SELECT user_uuid FROM q10_bench_user WHERE n = :n) AND work_date >= date_trunc('month', CURRENT_DATE)::date AND work_date < (date_trunc('month', CURRENT_DATE) + INTERVAL '1 month')::date;
+SQL
+
+for variant in old new; do
+  echo ""
+  echo "2) [$variant] pgbench (Q10 1회 = 스크립트 1 transaction)"
+  pgbench -n -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -f "$WORK_DIR/$variant.sql" 2>&1 \
+    | grep -E "latency average|tps ="
+done
+
+echo ""
+echo "=== 완료 ==="
+echo "tps: 초당 Q10 조회 수, latency average: Q10 1회 DB 시간 (애플리케이션 round-trip 은 old 7회 / new 2회)"
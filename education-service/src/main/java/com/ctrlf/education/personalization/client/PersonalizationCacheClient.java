@@ -0,0 +1,176 @@
+package com.ctrlf.education.personalization.client;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * infra-service 개인화 캐시 무효화 클라이언트 (RestClient 방식).
+ *
+ * <p>영상 진행률 저장/퀴즈 제출이 커밋되면 해당 사용자를 infra-service 에 알려
+ * 개인화 응답 캐시(Q1~Q9, Q18~Q20)를 제거하게 합니다.</p>
+ *
+ * <ul>
+ *   <li>트랜잭션 커밋 후에만 전송 (롤백된 변경은 알리지 않음)</li>
+ *   <li>진행률 저장은 재생 중 수 초마다 호출되므로, 사용자 ID 를 이벤트별로 모아 flush-interval-ms 마다 한 번에 전송</li>
+ *   <li>best-effort: 전송 실패는 경고 로그만 남김 (캐시 TTL 이 지나면 반영됨)</li>
+ * </ul>
+ *
+ * <p>엔드포인트: POST /internal/personalization/cache/invalidate
+ * (infra-service InternalTokenFilter 가 X-Internal-Token 을 {@code app.internal.token} 과 비교)</p>
+ */
+@Slf4j
+@Component
+public class PersonalizationCacheClient {
+
+    /** 변경 이벤트 */
+    public enum Event { PROGRESS, QUIZ_SUBMIT }
+
+    private final RestClient restClient;
+
+    /** 캐시 무효화 호출 사용 여부 */
+    @Value("${app.personalization.cache-invalidation.enabled:true}")
+    private boolean enabled;
+
+    /** 모은 사용자 ID 전송 주기 */
+    @Value("${app.personalization.cache-invalidation.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    /** 이벤트별 전송 대기 사용자 ID (this 동기화) */
+    private final Map<Event, Set<String>> pending = Map.of(
+        Event.PROGRESS, new LinkedHashSet<>(),
+        Event.QUIZ_SUBMIT, new LinkedHashSet<>()
+    );
+
+    private ScheduledExecutorService flushExecutor;
+
+    /**
+     * RestClient를 구성하여 초기화합니다.
+     *
+     * @param baseUrl infra-service 베이스 URL
+     * @param internalToken 내부 인증 토큰 (환경변수 AI_INTERNAL_TOKEN 또는 app.ai.token 설정값에서 읽음)
+     */
+    public PersonalizationCacheClient(
+        @Value("${ctrlf.infra.base-url:http://localhost:9003}") String baseUrl,
+        @Value("${AI_INTERNAL_TOKEN:${app.ai.token:}}") String internalToken
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(2000);
+        requestFactory.setReadTimeout(3000);
+
+        RestClient.Builder builder = RestClient.builder()
+            .baseUrl(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl)
+            .requestFactory(requestFactory);
+        if (internalToken != null && !internalToken.isBlank()) {
+            builder.defaultHeader("X-Internal-Token", internalToken);
+        } else {
+            log.warn("PersonalizationCacheClient: X-Internal-Token이 설정되지 않았습니다. infra-service 에서 401 이 발생할 수 있습니다. 환경변수 AI_INTERNAL_TOKEN 또는 app.ai.token 설정을 확인하세요.");
+        }
+        this.restClient = builder.build();
+    }
+
+    @PostConstruct
+    void start() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "personalization-cache-invalidation");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = Math.max(50L, flushIntervalMs);
+        flushExecutor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        flushExecutor.shutdownNow();
+        flush();
+    }
+
+    /**
+     * 사용자 데이터 변경을 알립니다. 트랜잭션 안이면 커밋 후, 아니면 즉시 전송 대기열에 넣습니다.
+     *
+     * @param event 변경 이벤트
+     * @param userUuid 변경된 사용자
+     */
+    public void notifyChanged(Event event, UUID userUuid) {
+        if (!enabled || userUuid == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event, userUuid);
+                }
+            });
+        } else {
+            enqueue(event, userUuid);
+        }
+    }
+
+    private synchronized void enqueue(Event event, UUID userUuid) {
+        pending.get(event).add(userUuid.toString());
+    }
+
+    /**
+     * 대기 중인 사용자 ID 를 이벤트별로 한 번에 전송합니다.
+     */
+    void flush() {
+        for (Event event : Event.values()) {
+            List<String> userIds;
+            synchronized (this) {
+                Set<String> ids = pending.get(event);
+                if (ids.isEmpty()) {
+                    continue;
+                }
+                userIds = new ArrayList<>(ids);
+                ids.clear();
+            }
+            try {
+                restClient.post()
+                    .uri("/internal/personalization/cache/invalidate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new InvalidateRequest(userIds, event.name()))
+                    .retrieve()
+                    .toBodilessEntity();
+                log.debug("개인화 캐시 무효화 전송: event={}, users={}", event, userIds.size());
+            } catch (RestClientException e) {
+                log.warn("개인화 캐시 무효화 실패 (TTL 만료 후 반영): event={}, users={}, error={}",
+                    event, userIds.size(), e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("개인화 캐시 무효화 중 오류: event={}, error={}", event, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 캐시 무효화 요청 DTO.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InvalidateRequest {
+        private List<String> user_ids;
+        private String event;
+    }
+}
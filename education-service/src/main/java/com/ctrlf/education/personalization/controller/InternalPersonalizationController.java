@@ -0,0 +1,85 @@
+package com.ctrlf.education.personalization.controller;
+
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.SnapshotResponse;
+import com.ctrlf.education.personalization.service.PersonalizationSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 개인화 스냅샷 내부 API 컨트롤러 (infra-service ↔ education-service).
+ *
+ * <p>개인화 인텐트 하나가 여러 내부 API(응시 내역, 부서 통계, 토픽별 진행률/점수 등)를 호출하던 것을
+ * 한 번의 호출로 묶습니다. 요청한 facet 만 {@link PersonalizationSnapshotService} 가 병렬로 계산하며,
+ * 각 facet 은 기존 단건 내부 API 와 같은 서비스/응답 형식을 사용합니다.
+ * facet 하나가 실패하거나 deadline 을 넘겨도 나머지는 반환하고, 해당 facet 은 failedFacets 에 담습니다.</p>
+ */
+@Tag(name = "Internal - Personalization", description = "개인화 스냅샷 내부 API (Personalization용)")
+@RestController
+@RequestMapping("/internal/personalization")
+@SecurityRequirement(name = "internal-token")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalPersonalizationController {
+
+    private final PersonalizationSnapshotService personalizationSnapshotService;
+
+    /**
+     * 사용자의 개인화 facet 을 한 번에 조회합니다.
+     *
+     * @param userId 사용자 UUID (X-User-Id 헤더)
+     * @param facets 조회할 facet 목록 (쉼표 구분)
+     * @param topic 교육 토픽 (*_by_topic facet 에서 사용)
+     * @return 요청한 facet 만 채운 스냅샷
+     */
+    @Operation(summary = "개인화 스냅샷 조회",
+        description = "요청한 facet(my_attempts, department_stats, last_video_progress, progress_by_topic, "
+            + "deadline_by_topic, score_by_topic, incomplete_mandatory, deadlines_this_month, todos_this_week)을 "
+            + "한 번에 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공 (실패한 facet 은 failedFacets)",
+            content = @Content(schema = @Schema(implementation = SnapshotResponse.class))),
+        @ApiResponse(responseCode = "400", description = "알 수 없는 facet"),
+        @ApiResponse(responseCode = "401", description = "내부 토큰 오류")
+    })
+    @GetMapping("/snapshot")
+    public ResponseEntity<SnapshotResponse> getSnapshot(
+        @Parameter(description = "사용자 UUID", required = true)
+        @RequestHeader("X-User-Id") String userId,
+        @Parameter(description = "조회할 facet 목록 (쉼표 구분)", required = true)
+        @RequestParam("facets") String facets,
+        @Parameter(description = "교육 토픽 (*_by_topic facet 에서 사용)")
+        @RequestParam(value = "topic", required = false) String topic
+    ) {
+        UUID userUuid = UUID.fromString(userId);
+        Set<String> requested = new LinkedHashSet<>();
+        Arrays.stream(facets.split(","))
+            .map(f -> f.trim().toLowerCase(Locale.ROOT))
+            .filter(f -> !f.isEmpty())
+            .forEach(requested::add);
+        if (requested.isEmpty() || !PersonalizationSnapshotService.FACETS.containsAll(requested)) {
+            log.warn("Invalid snapshot facets: {}", facets);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(personalizationSnapshotService.getSnapshot(userUuid, requested, topic));
+    }
+}
@@ -0,0 +1,164 @@
+package com.ctrlf.education.personalization.dto;
+
+import com.ctrlf.education.quiz.dto.QuizResponse.DepartmentStatsItem;
+import com.ctrlf.education.quiz.dto.QuizResponse.MyAttemptItem;
+import com.ctrlf.education.video.dto.VideoDtos.LastVideoProgressResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 개인화 내부 API 응답 DTO 묶음 (infra-service 개인화 인텐트용).
+ */
+public final class PersonalizationResponses {
+    private PersonalizationResponses() {}
+
+    // ---------- Q2, Q8, Q19: 토픽별 진행률 / 마감일 ----------
+
+    @Getter
+    @Builder
+    public static class TopicProgressResponse {
+        private String topic;
+        private String topicLabel;
+        private int educationCount;
+        private int completedCount;
+        private boolean isCompleted;
+        private List<TopicEducationItem> items;
+    }
+
+    @Getter
+    @Builder
+    public static class TopicEducationItem {
+        private String educationId;
+        private String title;
+        private boolean isCompleted;
+        private String completedAt;
+        private Integer progressPercent;
+        private String deadline;
+    }
+
+    @Getter
+    @Builder
+    public static class TopicDeadlineResponse {
+        private String topic;
+        private String topicLabel;
+        private boolean hasDeadline;
+        private String nearestDeadline;
+        private List<TopicDeadlineItem> items;
+    }
+
+    @Getter
+    @Builder
+    public static class TopicDeadlineItem {
+        private String educationId;
+        private String title;
+        private String deadline;
+        private Boolean isCompleted;
+    }
+
+    // ---------- Q1: 미이수 필수 교육 ----------
+
+    @Getter
+    @Builder
+    public static class IncompleteMandatoryResponse {
+        private int totalRequired;
+        private int completed;
+        private int remaining;
+        private List<IncompleteMandatoryItem> items;
+    }
+
+    @Getter
+    @Builder
+    public static class IncompleteMandatoryItem {
+        private String educationId;
+        private String title;
+        private String deadline;
+        private String status;
+    }
+
+    // ---------- Q3: 이번 달 마감 필수 교육 ----------
+
+    @Getter
+    @Builder
+    public static class DeadlinesThisMonthResponse {
+        private int deadlineCount;
+        private List<DeadlineEducationItem> items;
+    }
+
+    @Getter
+    @Builder
+    public static class DeadlineEducationItem {
+        private String educationId;
+        private String title;
+        private String deadline;
+        private int daysLeft;
+    }
+
+    // ---------- Q9: 이번 주 할 일 ----------
+
+    @Getter
+    @Builder
+    public static class TodosThisWeekResponse {
+        private int todoCount;
+        private List<TodoItem> items;
+    }
+
+    @Getter
+    @Builder
+    public static class TodoItem {
+        private String type;  // "education" | "quiz"
+        private String title;
+        private String deadline;
+    }
+
+    // ---------- Q7, Q18: 토픽별 퀴즈 점수 ----------
+
+    @Getter
+    @Builder
+    public static class TopicScoreResponse {
+        private String topic;
+        private String topicLabel;
+        private int educationCount;
+        private int attemptedCount;
+        private int passedCount;
+        private boolean hasAttempt;
+        private Double averageScore;
+        private List<TopicScoreItem> items;
+    }
+
+    @Getter
+    @Builder
+    public static class TopicScoreItem {
+        private String educationId;
+        private String title;
+        private boolean hasAttempt;
+        private Integer bestScore;
+        private Boolean passed;
+        private Integer attemptCount;
+        private Integer passScore;
+        private String lastAttemptAt;
+    }
+
+    // ---------- 스냅샷 (요청한 facet 만 채워짐) ----------
+
+    @Getter
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SnapshotResponse {
+        private List<MyAttemptItem> myAttempts;
+        private List<DepartmentStatsItem> departmentStats;
+        private LastVideoProgressResponse lastVideoProgress;
+        private TopicProgressResponse progressByTopic;
+        private TopicDeadlineResponse deadlineByTopic;
+        private TopicScoreResponse scoreByTopic;
+        private IncompleteMandatoryResponse incompleteMandatory;
+        private DeadlinesThisMonthResponse deadlinesThisMonth;
+        private TodosThisWeekResponse todosThisWeek;
+        /** 조회에 실패했거나 deadline 을 넘긴 facet (요청했지만 값이 없는 facet 과 구분) */
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        private List<String> failedFacets = new ArrayList<>();
+    }
+}
@@ -0,0 +1,501 @@
+package com.ctrlf.education.personalization.service;
+
+import com.ctrlf.education.entity.Education;
+import com.ctrlf.education.entity.EducationProgress;
+import com.ctrlf.education.entity.EducationTopic;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.DeadlineEducationItem;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.DeadlinesThisMonthResponse;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.IncompleteMandatoryItem;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.IncompleteMandatoryResponse;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TodoItem;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TodosThisWeekResponse;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TopicDeadlineItem;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TopicDeadlineResponse;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TopicEducationItem;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TopicProgressResponse;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TopicScoreItem;
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.TopicScoreResponse;
+import com.ctrlf.education.quiz.entity.QuizAttempt;
+import com.ctrlf.education.quiz.repository.QuizAttemptRepository;
+import com.ctrlf.education.repository.EducationProgressRepository;
+import com.ctrlf.education.repository.EducationRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 개인화 조회 서비스 (infra-service 개인화 인텐트용 교육/퀴즈 집계).
+ *
+ * <p>토픽별 진행률/마감일/퀴즈 점수, 미이수 필수 교육, 이번 달 마감, 이번 주 할 일을 계산합니다.
+ * 단건 내부 API(InternalEducationController, InternalQuizController)와 스냅샷 API 가 함께 사용합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PersonalizationQueryService {
+
+    private final EducationRepository educationRepository;
+    private final EducationProgressRepository educationProgressRepository;
+    private final QuizAttemptRepository quizAttemptRepository;
+
+    /**
+     * 사용자의 특정 토픽 교육 이수 현황 (Q2, Q8, Q18)
+     *
+     * @throws IllegalArgumentException 알 수 없는 토픽
+     */
+    public TopicProgressResponse getProgressByTopic(UUID userUuid, String topic) {
+        EducationTopic educationTopic = parseTopic(topic);
+
+        log.info("getProgressByTopic: userUuid={}, topic={}", userUuid, educationTopic);
+
+        // 해당 토픽의 교육 목록 조회
+        List<Education> topicEducations = educationRepository.findAll().stream()
+            .filter(e -> e.getDeletedAt() == null)
+            .filter(e -> e.getCategory() == educationTopic)
+            .collect(Collectors.toList());
+
+        if (topicEducations.isEmpty()) {
+            return TopicProgressResponse.builder()
+                .topic(topic)
+                .educationCount(0)
+                .completedCount(0)
+                .isCompleted(false)
+                .build();
+        }
+
+        // 사용자의 완료된 교육 조회
+        List<EducationProgress> completedProgresses = educationProgressRepository
+            .findByUserUuidAndIsCompletedTrue(userUuid);
+
+        List<UUID> completedEducationIds = completedProgresses.stream()
+            .map(EducationProgress::getEducationId)
+            .collect(Collectors.toList());
+
+        // 해당 토픽에서 완료한 교육 수
+        long completedCount = topicEducations.stream()
+            .filter(e -> completedEducationIds.contains(e.getId()))
+            .count();
+
+        // 교육별 상세 정보
+        List<TopicEducationItem> items = topicEducations.stream()
+            .map(edu -> {
+                Optional<EducationProgress> progress = educationProgressRepository
+                    .findByUserUuidAndEducationId(userUuid, edu.getId());
+
+                boolean completed = progress.map(p -> Boolean.TRUE.equals(p.getIsCompleted())).orElse(false);
+                Instant completedAt = progress.map(EducationProgress::getCompletedAt).orElse(null);
+                Integer progressPercent = progress.map(EducationProgress::getProgress).orElse(0);
+
+                return TopicEducationItem.builder()
+                    .educationId(edu.getId().toString())
+                    .title(edu.getTitle())
+                    .isCompleted(completed)
+                    .completedAt(completedAt != null ? completedAt.toString() : null)
+                    .progressPercent(progressPercent)
+                    .deadline(edu.getEndAt() != null ? edu.getEndAt().toString() : null)
+                    .build();
+            })
+            .collect(Collectors.toList());
+
+        return TopicProgressResponse.builder()
+            .topic(topic)
+            .topicLabel(getTopicLabel(educationTopic))
+            .educationCount(topicEducations.size())
+            .completedCount((int) completedCount)
+            .isCompleted(completedCount == topicEducations.size() && !topicEducations.isEmpty())
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 사용자의 특정 토픽 교육 마감일 (Q19)
+     *
+     * @throws IllegalArgumentException 알 수 없는 토픽
+     */
+    public TopicDeadlineResponse getDeadlineByTopic(UUID userUuid, String topic) {
+        EducationTopic educationTopic = parseTopic(topic);
+
+        log.info("getDeadlineByTopic: userUuid={}, topic={}", userUuid, educationTopic);
+
+        // 해당 토픽의 교육 목록 조회 (마감일이 있는 것만)
+        List<Education> topicEducations = educationRepository.findAll().stream()
+            .filter(e -> e.getDeletedAt() == null)
+            .filter(e -> e.getCategory() == educationTopic)
+            .filter(e -> e.getEndAt() != null)
+            .collect(Collectors.toList());
+
+        if (topicEducations.isEmpty()) {
+            return TopicDeadlineResponse.builder()
+                .topic(topic)
+                .topicLabel(getTopicLabel(educationTopic))
+                .hasDeadline(false)
+                .build();
+        }
+
+        // 사용자의 완료된 교육 조회
+        List<EducationProgress> completedProgresses = educationProgressRepository
+            .findByUserUuidAndIsCompletedTrue(userUuid);
+        List<UUID> completedEducationIds = completedProgresses.stream()
+            .map(EducationProgress::getEducationId)
+            .collect(Collectors.toList());
+
+        // 미완료 교육 중 가장 가까운 마감일 찾기
+        List<TopicDeadlineItem> items = topicEducations.stream()
+            .map(edu -> {
+                boolean completed = completedEducationIds.contains(edu.getId());
+                return TopicDeadlineItem.builder()
+                    .educationId(edu.getId().toString())
+                    .title(edu.getTitle())
+                    .deadline(edu.getEndAt().toString())
+                    .isCompleted(completed)
+                    .build();
+            })
+            .sorted((a, b) -> a.getDeadline().compareTo(b.getDeadline()))
+            .collect(Collectors.toList());
+
+        // 미완료 중 가장 가까운 마감일
+        String nearestDeadline = items.stream()
+            .filter(item -> !item.getIsCompleted())
+            .map(TopicDeadlineItem::getDeadline)
+            .findFirst()
+            .orElse(null);
+
+        return TopicDeadlineResponse.builder()
+            .topic(topic)
+            .topicLabel(getTopicLabel(educationTopic))
+            .hasDeadline(true)
+            .nearestDeadline(nearestDeadline)
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 사용자의 특정 토픽 퀴즈 점수, 교육별 최고 점수 기준 (Q7, Q18)
+     *
+     * @throws IllegalArgumentException 알 수 없는 토픽
+     */
+    public TopicScoreResponse getScoreByTopic(UUID userUuid, String topic) {
+        EducationTopic educationTopic = parseTopic(topic);
+
+        log.info("getScoreByTopic: userUuid={}, topic={}", userUuid, educationTopic);
+
+        // 해당 토픽의 교육 목록 조회
+        List<Education> topicEducations = educationRepository.findAll().stream()
+            .filter(e -> e.getDeletedAt() == null)
+            .filter(e -> e.getCategory() == educationTopic)
+            .collect(Collectors.toList());
+
+        if (topicEducations.isEmpty()) {
+            return TopicScoreResponse.builder()
+                .topic(topic)
+                .topicLabel(getTopicLabel(educationTopic))
+                .educationCount(0)
+                .attemptedCount(0)
+                .hasAttempt(false)
+                .build();
+        }
+
+        List<UUID> topicEducationIds = topicEducations.stream()
+            .map(Education::getId)
+            .collect(Collectors.toList());
+
+        // 사용자의 퀴즈 응시 내역 조회
+        List<QuizAttempt> allAttempts = quizAttemptRepository
+            .findByUserUuidAndSubmittedAtIsNotNullOrderByCreatedAtDesc(userUuid);
+
+        // 해당 토픽 교육의 퀴즈만 필터링
+        List<QuizAttempt> topicAttempts = allAttempts.stream()
+            .filter(a -> topicEducationIds.contains(a.getEducationId()))
+            .collect(Collectors.toList());
+
+        if (topicAttempts.isEmpty()) {
+            return TopicScoreResponse.builder()
+                .topic(topic)
+                .topicLabel(getTopicLabel(educationTopic))
+                .educationCount(topicEducations.size())
+                .attemptedCount(0)
+                .hasAttempt(false)
+                .build();
+        }
+
+        // 교육별로 그룹화하여 최고 점수 추출
+        Map<UUID, List<QuizAttempt>> attemptsByEducation = topicAttempts.stream()
+            .collect(Collectors.groupingBy(QuizAttempt::getEducationId));
+
+        List<TopicScoreItem> items = topicEducations.stream()
+            .map(edu -> {
+                List<QuizAttempt> eduAttempts = attemptsByEducation.get(edu.getId());
+
+                if (eduAttempts == null || eduAttempts.isEmpty()) {
+                    return TopicScoreItem.builder()
+                        .educationId(edu.getId().toString())
+                        .title(edu.getTitle())
+                        .hasAttempt(false)
+                        .passScore(edu.getPassScore())
+                        .build();
+                }
+
+                // 최고 점수 찾기
+                QuizAttempt bestAttempt = eduAttempts.stream()
+                    .filter(a -> a.getScore() != null)
+                    .max(Comparator.comparingInt(QuizAttempt::getScore))
+                    .orElse(null);
+
+                if (bestAttempt == null) {
+                    return TopicScoreItem.builder()
+                        .educationId(edu.getId().toString())
+                        .title(edu.getTitle())
+                        .hasAttempt(true)
+                        .attemptCount(eduAttempts.size())
+                        .passScore(edu.getPassScore())
+                        .build();
+                }
+
+                boolean passed = edu.getPassScore() != null && bestAttempt.getScore() >= edu.getPassScore();
+
+                return TopicScoreItem.builder()
+                    .educationId(edu.getId().toString())
+                    .title(edu.getTitle())
+                    .hasAttempt(true)
+                    .bestScore(bestAttempt.getScore())
+                    .passed(passed)
+                    .attemptCount(eduAttempts.size())
+                    .passScore(edu.getPassScore())
+                    .lastAttemptAt(bestAttempt.getSubmittedAt() != null ? bestAttempt.getSubmittedAt().toString() : null)
+                    .build();
+            })
+            .collect(Collectors.toList());
+
+        // 통계 계산
+        int attemptedCount = (int) items.stream().filter(TopicScoreItem::isHasAttempt).count();
+        int passedCount = (int) items.stream().filter(i -> Boolean.TRUE.equals(i.getPassed())).count();
+
+        // 평균 점수 계산 (응시한 교육만)
+        double averageScore = items.stream()
+            .filter(i -> i.getBestScore() != null)
+            .mapToInt(TopicScoreItem::getBestScore)
+            .average()
+            .orElse(0.0);
+
+        return TopicScoreResponse.builder()
+            .topic(topic)
+            .topicLabel(getTopicLabel(educationTopic))
+            .educationCount(topicEducations.size())
+            .attemptedCount(attemptedCount)
+            .passedCount(passedCount)
+            .hasAttempt(attemptedCount > 0)
+            .averageScore(Math.round(averageScore * 10) / 10.0)
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 사용자의 미이수 필수 교육 (Q1)
+     */
+    public IncompleteMandatoryResponse getIncompleteMandatory(UUID userUuid) {
+        log.info("getIncompleteMandatory: userUuid={}", userUuid);
+
+        Instant now = Instant.now();
+
+        // 필수 교육 목록 조회 (삭제되지 않고, 현재 활성 상태인 것)
+        List<Education> mandatoryEducations = educationRepository.findAll().stream()
+            .filter(e -> e.getDeletedAt() == null)
+            .filter(e -> Boolean.TRUE.equals(e.getRequire()))
+            .filter(e -> e.getStartAt() == null || !e.getStartAt().isAfter(now))
+            .collect(Collectors.toList());
+
+        if (mandatoryEducations.isEmpty()) {
+            return IncompleteMandatoryResponse.builder()
+                .totalRequired(0)
+                .completed(0)
+                .remaining(0)
+                .items(List.of())
+                .build();
+        }
+
+        // 사용자의 완료된 교육 조회
+        List<EducationProgress> completedProgresses = educationProgressRepository
+            .findByUserUuidAndIsCompletedTrue(userUuid);
+        List<UUID> completedEducationIds = completedProgresses.stream()
+            .map(EducationProgress::getEducationId)
+            .collect(Collectors.toList());
+
+        // 미이수 필수 교육 필터링
+        List<IncompleteMandatoryItem> items = mandatoryEducations.stream()
+            .filter(e -> !completedEducationIds.contains(e.getId()))
+            .map(edu -> IncompleteMandatoryItem.builder()
+                .educationId(edu.getId().toString())
+                .title(edu.getTitle())
+                .deadline(edu.getEndAt() != null ? edu.getEndAt().toString().substring(0, 10) : null)
+                .status("미이수")
+                .build())
+            .collect(Collectors.toList());
+
+        int totalRequired = mandatoryEducations.size();
+        int completed = totalRequired - items.size();
+
+        return IncompleteMandatoryResponse.builder()
+            .totalRequired(totalRequired)
+            .completed(completed)
+            .remaining(items.size())
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 이번 달 마감인 미이수 필수 교육 (Q3)
+     */
+    public DeadlinesThisMonthResponse getDeadlinesThisMonth(UUID userUuid) {
+        log.info("getDeadlinesThisMonth: userUuid={}", userUuid);
+
+        LocalDate today = LocalDate.now();
+        LocalDate firstDayOfMonth = today.withDayOfMonth(1);
+        LocalDate lastDayOfMonth = today.with(TemporalAdjusters.lastDayOfMonth());
+
+        Instant monthStart = firstDayOfMonth.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Instant monthEnd = lastDayOfMonth.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        // 이번 달 마감인 필수 교육 목록 조회
+        List<Education> deadlineEducations = educationRepository.findAll().stream()
+            .filter(e -> e.getDeletedAt() == null)
+            .filter(e -> Boolean.TRUE.equals(e.getRequire()))
+            .filter(e -> e.getEndAt() != null)
+            .filter(e -> !e.getEndAt().isBefore(monthStart) && e.getEndAt().isBefore(monthEnd))
+            .collect(Collectors.toList());
+
+        if (deadlineEducations.isEmpty()) {
+            return DeadlinesThisMonthResponse.builder()
+                .deadlineCount(0)
+                .items(List.of())
+                .build();
+        }
+
+        // 사용자의 완료된 교육 조회
+        List<EducationProgress> completedProgresses = educationProgressRepository
+            .findByUserUuidAndIsCompletedTrue(userUuid);
+        List<UUID> completedEducationIds = completedProgresses.stream()
+            .map(EducationProgress::getEducationId)
+            .collect(Collectors.toList());
+
+        // 미완료 교육만 필터링하고 마감일 기준 정렬
+        List<DeadlineEducationItem> items = deadlineEducations.stream()
+            .filter(e -> !completedEducationIds.contains(e.getId()))
+            .map(edu -> {
+                long daysLeft = java.time.Duration.between(Instant.now(), edu.getEndAt()).toDays();
+                return DeadlineEducationItem.builder()
+                    .educationId(edu.getId().toString())
+                    .title(edu.getTitle())
+                    .deadline(edu.getEndAt().toString().substring(0, 10))
+                    .daysLeft((int) Math.max(0, daysLeft))
+                    .build();
+            })
+            .sorted((a, b) -> Integer.compare(a.getDaysLeft(), b.getDaysLeft()))
+            .collect(Collectors.toList());
+
+        return DeadlinesThisMonthResponse.builder()
+            .deadlineCount(items.size())
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 이번 주 할 일 (교육/퀴즈, Q9)
+     */
+    public TodosThisWeekResponse getTodosThisWeek(UUID userUuid) {
+        log.info("getTodosThisWeek: userUuid={}", userUuid);
+
+        LocalDate today = LocalDate.now();
+        // 이번 주 일요일까지 (또는 다음 7일)
+        LocalDate weekEnd = today.plusDays(7);
+
+        Instant now = Instant.now();
+        Instant weekEndInstant = weekEnd.atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        // 이번 주 마감인 교육 목록 조회
+        List<Education> weekEducations = educationRepository.findAll().stream()
+            .filter(e -> e.getDeletedAt() == null)
+            .filter(e -> e.getEndAt() != null)
+            .filter(e -> !e.getEndAt().isBefore(now) && e.getEndAt().isBefore(weekEndInstant))
+            .collect(Collectors.toList());
+
+        // 사용자의 완료된 교육 조회
+        List<EducationProgress> completedProgresses = educationProgressRepository
+            .findByUserUuidAndIsCompletedTrue(userUuid);
+        List<UUID> completedEducationIds = completedProgresses.stream()
+            .map(EducationProgress::getEducationId)
+            .collect(Collectors.toList());
+
+        // 미완료 교육만 필터링
+        List<TodoItem> items = new ArrayList<>();
+
+        for (Education edu : weekEducations) {
+            if (!completedEducationIds.contains(edu.getId())) {
+                // 교육 시청 할 일
+                items.add(TodoItem.builder()
+                    .type("education")
+                    .title(edu.getTitle())
+                    .deadline(edu.getEndAt().toString().substring(0, 10))
+                    .build());
+
+                // 퀴즈 할 일 (퀴즈가 있는 교육인 경우 - passScore가 설정된 경우)
+                if (edu.getPassScore() != null && edu.getPassScore() > 0) {
+                    items.add(TodoItem.builder()
+                        .type("quiz")
+                        .title(edu.getTitle() + " 퀴즈")
+                        .deadline(edu.getEndAt().toString().substring(0, 10))
+                        .build());
+                }
+            }
+        }
+
+        // 마감일 기준 정렬
+        items.sort((a, b) -> a.getDeadline().compareTo(b.getDeadline()));
+
+        return TodosThisWeekResponse.builder()
+            .todoCount(items.size())
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 토픽 파라미터 → EducationTopic
+     *
+     * @throws IllegalArgumentException 알 수 없는 토픽
+     */
+    private static EducationTopic parseTopic(String topic) {
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("topic 이 필요합니다.");
+        }
+        try {
+            return EducationTopic.valueOf(topic.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 토픽입니다: " + topic, e);
+        }
+    }
+
+    /**
+     * 토픽에 대한 한글 라벨 반환.
+     */
+    private static String getTopicLabel(EducationTopic topic) {
+        return switch (topic) {
+            case WORKPLACE_BULLYING -> "직장 내 괴롭힘 예방";
+            case SEXUAL_HARASSMENT_PREVENTION -> "성희롱 예방";
+            case PERSONAL_INFO_PROTECTION -> "개인정보 보호";
+            case DISABILITY_AWARENESS -> "장애인 인식 개선";
+            case JOB_DUTY -> "직무 교육";
+        };
+    }
+}
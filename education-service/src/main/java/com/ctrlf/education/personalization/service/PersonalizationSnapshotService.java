@@ -0,0 +1,203 @@
+package com.ctrlf.education.personalization.service;
+
+import com.ctrlf.education.personalization.dto.PersonalizationResponses.SnapshotResponse;
+import com.ctrlf.education.quiz.service.QuizService;
+import com.ctrlf.education.video.service.VideoService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 개인화 스냅샷 조회 (facet 병렬 계산, 요청 단위 deadline)
+ *
+ * <p>요청한 facet 을 bounded 스레드 풀에서 동시에 계산하고, 요청 시점 기준 deadline 까지만 기다립니다.
+ * deadline 을 넘기거나 실패/거부된 facet 은 {@code failedFacets} 에 담고 나머지만 반환합니다.
+ * deadline 은 infra-service 의 요청 단위 deadline 보다 짧게 두어, 느린 facet 하나 때문에 스냅샷 전체가 빠지지 않게 합니다.</p>
+ *
+ * <p>deadline 을 넘긴 facet 은 {@link Future#cancel(boolean)} 로 취소합니다. 큐에서 대기 중이면 실행되지 않고,
+ * 실행 중이면 작업 스레드를 interrupt 합니다 (JDBC 조회는 interrupt 에 반응하지 않으므로 끝날 때까지 스레드를 점유).
+ * 각 facet 은 자체 읽기 전용 트랜잭션에서 실행되며, 결과는 요청 스레드에서만 응답에 채웁니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PersonalizationSnapshotService {
+
+    /** 지원 facet (쉼표 구분 facets 파라미터 값) */
+    public static final Set<String> FACETS = Set.of(
+        "my_attempts", "department_stats", "last_video_progress",
+        "progress_by_topic", "deadline_by_topic", "score_by_topic",
+        "incomplete_mandatory", "deadlines_this_month", "todos_this_week"
+    );
+
+    private final PersonalizationQueryService personalizationQueryService;
+    private final QuizService quizService;
+    private final VideoService videoService;
+
+    /** 요청 단위 deadline (모든 facet 이 이 시간 안에 끝나야 응답에 포함) */
+    @Value("${app.personalization.snapshot.deadline-ms:1500}")
+    private long deadlineMs;
+
+    /** facet 병렬 계산 스레드 수 */
+    @Value("${app.personalization.snapshot.pool-size:16}")
+    private int poolSize;
+
+    /** 대기 큐 크기 (가득 차면 해당 facet 은 실패로 처리) */
+    @Value("${app.personalization.snapshot.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            r -> {
+                Thread t = new Thread(r, "personalization-snapshot-" + threadNumber.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 요청한 facet 만 채운 스냅샷을 계산합니다.
+     *
+     * @param userUuid 사용자 UUID
+     * @param facets 조회할 facet ({@link #FACETS} 의 부분집합, 순서 유지)
+     * @param topic 교육 토픽 (*_by_topic facet 에서 사용, 없거나 잘못되면 해당 facet 실패)
+     */
+    public SnapshotResponse getSnapshot(UUID userUuid, Set<String> facets, String topic) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        boolean inline = facets.size() == 1;
+        List<PendingFacet<?>> pending = new ArrayList<>(facets.size());
+        for (String facet : facets) {
+            switch (facet) {
+                case "my_attempts" -> pending.add(start(facet, inline,
+                    () -> quizService.getMyAttempts(userUuid), SnapshotResponse::setMyAttempts));
+                case "department_stats" -> pending.add(start(facet, inline,
+                    () -> quizService.getDepartmentStats(null), SnapshotResponse::setDepartmentStats));
+                case "last_video_progress" -> pending.add(start(facet, inline,
+                    () -> videoService.getLastVideoProgress(userUuid), SnapshotResponse::setLastVideoProgress));
+                case "progress_by_topic" -> pending.add(start(facet, inline,
+                    () -> personalizationQueryService.getProgressByTopic(userUuid, topic),
+                    SnapshotResponse::setProgressByTopic));
+                case "deadline_by_topic" -> pending.add(start(facet, inline,
+                    () -> personalizationQueryService.getDeadlineByTopic(userUuid, topic),
+                    SnapshotResponse::setDeadlineByTopic));
+                case "score_by_topic" -> pending.add(start(facet, inline,
+                    () -> personalizationQueryService.getScoreByTopic(userUuid, topic),
+                    SnapshotResponse::setScoreByTopic));
+                case "incomplete_mandatory" -> pending.add(start(facet, inline,
+                    () -> personalizationQueryService.getIncompleteMandatory(userUuid),
+                    SnapshotResponse::setIncompleteMandatory));
+                case "deadlines_this_month" -> pending.add(start(facet, inline,
+                    () -> personalizationQueryService.getDeadlinesThisMonth(userUuid),
+                    SnapshotResponse::setDeadlinesThisMonth));
+                case "todos_this_week" -> pending.add(start(facet, inline,
+                    () -> personalizationQueryService.getTodosThisWeek(userUuid),
+                    SnapshotResponse::setTodosThisWeek));
+                default -> throw new IllegalArgumentException("알 수 없는 facet: " + facet);
+            }
+        }
+
+        SnapshotResponse snapshot = new SnapshotResponse();
+        for (PendingFacet<?> facet : pending) {
+            facet.joinInto(snapshot, deadlineNanos);
+        }
+        return snapshot;
+    }
+
+    private <T> PendingFacet<T> start(
+        String facet, boolean inline, Callable<T> loader, BiConsumer<SnapshotResponse, T> setter
+    ) {
+        return new PendingFacet<>(facet, inline ? runInline(loader) : submit(loader), setter);
+    }
+
+    private <T> Future<T> submit(Callable<T> loader) {
+        try {
+            // CompletableFuture.cancel(true) 는 실행 중인 스레드를 interrupt 하지 않으므로 FutureTask 사용
+            return executor.submit(loader);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /** facet 하나만 요청하면 스레드 전환 없이 요청 스레드에서 계산 */
+    private static <T> Future<T> runInline(Callable<T> loader) {
+        try {
+            return CompletableFuture.completedFuture(loader.call());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 계산 중인 facet 하나 (결과는 요청 스레드에서만 응답에 채움)
+     */
+    private final class PendingFacet<T> {
+
+        private final String facet;
+        private final Future<T> future;
+        private final BiConsumer<SnapshotResponse, T> setter;
+
+        private PendingFacet(String facet, Future<T> future, BiConsumer<SnapshotResponse, T> setter) {
+            this.facet = facet;
+            this.future = future;
+            this.setter = setter;
+        }
+
+        /**
+         * deadline 까지 결과를 기다려 응답에 채웁니다.
+         * 실패/deadline 초과, 또는 값이 없으면 (토픽 facet 인데 토픽이 없음, 단건 API 는 400) failedFacets 에 담습니다.
+         */
+        private void joinInto(SnapshotResponse snapshot, long deadlineNanos) {
+            T value = null;
+            long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            try {
+                value = future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Snapshot facet timed out: facet={}, deadlineMs={}", facet, deadlineMs);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Snapshot facet failed: facet={}, error={}", facet, cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+            }
+            if (value == null) {
+                snapshot.getFailedFacets().add(facet);
+            } else {
+                setter.accept(snapshot, value);
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.ctrlf.education.quiz.entity.QuizLeaveTracking;
 import com.ctrlf.education.quiz.entity.QuizQuestion;
 import com.ctrlf.education.quiz.client.QuizAiClient;
 import com.ctrlf.education.quiz.client.QuizAiDtos;
+import com.ctrlf.education.personalization.client.PersonalizationCacheClient;
 import com.ctrlf.education.quiz.repository.QuizAttemptRepository;
 import com.ctrlf.education.quiz.repository.QuizLeaveTrackingRepository;
 import com.ctrlf.education.quiz.repository.QuizQuestionRepository;
@@ -67,6 +68,7 @@ public class QuizService {
     private final SourceSetRepository sourceSetRepository;
     private final ObjectMapper objectMapper;
     private final QuizAiClient quizAiClient;
+    private final PersonalizationCacheClient personalizationCacheClient;
 
     /**
      * 퀴즈 시작
@@ -449,6 +451,9 @@ public class QuizService {
 
         // 7. 최종 퀴즈 시도 저장
         attemptRepository.save(attempt);
+
+        // 8. 커밋 후 infra-service 개인화 캐시(점수/부서 통계) 무효화
+        personalizationCacheClient.notifyChanged(PersonalizationCacheClient.Event.QUIZ_SUBMIT, userUuid);
         return new SubmitResponse(score, passed, correct, wrong, total, attempt.getSubmittedAt());
     }
 
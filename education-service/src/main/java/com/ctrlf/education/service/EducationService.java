@@ -22,6 +22,7 @@ import com.ctrlf.education.video.repository.SourceSetRepository;
 import com.ctrlf.education.video.repository.SourceSetDocumentRepository;
 import com.ctrlf.education.video.entity.SourceSetDocument;
 import com.ctrlf.education.script.client.InfraRagClient;
+import com.ctrlf.education.personalization.client.PersonalizationCacheClient;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
@@ -69,6 +70,7 @@ public class EducationService {
     private final InfraRagClient infraRagClient;
     private final SourceSetRepository sourceSetRepository;
     private final SourceSetDocumentRepository sourceSetDocumentRepository;
+    private final PersonalizationCacheClient personalizationCacheClient;
 
     @Value("${ctrlf.infra.base-url:http://localhost:9003}")
     private String infraBaseUrl;
@@ -682,6 +684,9 @@ public class EducationService {
                 educationProgressRepository.save(eduProgress);
             }
         }
+
+        // 커밋 후 infra-service 개인화 캐시(진행률/미이수 교육) 무효화
+        personalizationCacheClient.notifyChanged(PersonalizationCacheClient.Event.PROGRESS, userUuid);
         
         // 응답 DTO 구성
         return VideoProgressResponse.builder()
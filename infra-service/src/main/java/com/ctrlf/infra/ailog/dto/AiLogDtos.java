@@ -67,6 +67,8 @@ public final class AiLogDtos {
         private Integer received;
         private Integer saved;
         private Integer failed;
+        /** PostgreSQL 에는 저장됐지만 Elasticsearch 색인에 실패한 개수 (errors 에 ES_INDEX_ERROR 로 포함) */
+        private Integer esFailed;
         private List<ErrorItem> errors;
     }
 
@@ -114,6 +116,8 @@ public final class AiLogDtos {
         private Integer totalPages;
         private Integer page;
         private Integer size;
+        /** 다음 페이지 cursor (cursor 조회에서만 제공, 마지막 페이지면 null) */
+        private String nextCursor;
     }
 }
 
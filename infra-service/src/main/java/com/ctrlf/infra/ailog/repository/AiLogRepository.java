@@ -1,6 +1,7 @@
 package com.ctrlf.infra.ailog.repository;
 
 import com.ctrlf.infra.ailog.entity.AiLog;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * AI 로그 Repository
@@ -39,5 +41,51 @@ public interface AiLogRepository extends JpaRepository<AiLog, UUID>, JpaSpecific
         @Param("turnId") Integer turnId
     );
 
+    /**
+     * AI 로그 일괄 저장 (multi-row INSERT ... ON CONFLICT DO NOTHING)
+     *
+     * <p>logs는 [{id, createdAt(ISO-8601), userId, userRole, department, domain, route, modelName,
+     * hasPiiInput, hasPiiOutput, ragUsed, ragSourceCount, latencyMsTotal, errorCode,
+     * traceId, conversationId, turnId}, ...] 형태의 JSON 배열입니다.
+     * 한 번의 왕복으로 저장하며, traceId + conversationId + turnId 가 이미 존재하는 로그는
+     * 유니크 인덱스(uk_ai_log_trace_conversation_turn)에 의해 건너뜁니다.</p>
+     *
+     * @return 실제로 저장된 로그의 id 목록
+     */
+    @Transactional
+    @Query(value = """
+        INSERT INTO infra.ai_log (
+            id, created_at, user_id, user_role, department, domain, route, model_name,
+            has_pii_input, has_pii_output, rag_used, rag_source_count, latency_ms_total,
+            error_code, trace_id, conversation_id, turn_id, received_at
+        )
+        SELECT
+            (l->>'id')::uuid,
+            (l->>'createdAt')::timestamptz,
+            l->>'userId',
+            l->>'userRole',
+            l->>'department',
+            l->>'domain',
+            l->>'route',
+            l->>'modelName',
+            (l->>'hasPiiInput')::boolean,
+            (l->>'hasPiiOutput')::boolean,
+            (l->>'ragUsed')::boolean,
+            (l->>'ragSourceCount')::int,
+            (l->>'latencyMsTotal')::bigint,
+            l->>'errorCode',
+            l->>'traceId',
+            l->>'conversationId',
+            (l->>'turnId')::int,
+            :receivedAt
+        FROM jsonb_array_elements(CAST(:logs AS jsonb)) AS l
+        ON CONFLICT (trace_id, conversation_id, turn_id) DO NOTHING
+        RETURNING id
+        """,
+        nativeQuery = true)
+    List<UUID> insertAllIgnoringDuplicates(
+        @Param("receivedAt") Instant receivedAt,
+        @Param("logs") String logs
+    );
 }
 
@@ -3,14 +3,22 @@ package com.ctrlf.infra.ailog.service;
 import com.ctrlf.infra.ailog.dto.AiLogDtos;
 import com.ctrlf.infra.ailog.entity.AiLog;
 import com.ctrlf.infra.ailog.repository.AiLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.criteria.Predicate;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,8 +26,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -33,6 +43,12 @@ public class AiLogService {
 
     private final AiLogRepository aiLogRepository;
     private final com.ctrlf.infra.elasticsearch.service.ChatLogElasticsearchService chatLogElasticsearchService;
+    private final ObjectMapper objectMapper;
+
+    /** Bulk 저장 시 INSERT 1회당 최대 로그 수 */
+    @Value("${app.ailog.ingest.insert-chunk-size:1000}")
+    private int insertChunkSize;
+
     private static final DateTimeFormatter DATE_TIME_FORMATTER = 
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
@@ -40,9 +56,15 @@ public class AiLogService {
      * AI 로그 Bulk 저장
      * 
      * <p>AI 서버의 LogSyncService에서 주기적으로 전송하는 로그를 저장합니다.</p>
-     * <p>중복 방지: traceId + conversationId + turnId 조합으로 중복 체크</p>
-     * <p>성능 최적화: Bulk insert 사용</p>
+     * <p>중복 방지: traceId + conversationId + turnId 조합으로 중복 체크
+     * (요청 내 중복은 메모리에서, DB 중복은 유니크 인덱스 + ON CONFLICT DO NOTHING 으로 제외)</p>
+     * <p>성능 최적화: {@code app.ailog.ingest.insert-chunk-size} 건씩 multi-row INSERT 1회로 저장하고,
+     * Elasticsearch에는 _bulk 요청으로 저장합니다. chunk 마다 별도 트랜잭션으로 커밋되므로
+     * 한 chunk의 실패가 다른 chunk에 영향을 주지 않으며, 실패한 chunk는 로그 단위로 다시 저장해
+     * 실제로 실패한 로그만 PROCESSING_ERROR 로 반환합니다.</p>
+     * <p>Elasticsearch 항목별 실패는 PostgreSQL 저장 결과와 별도로 esFailed / ES_INDEX_ERROR 로 반환합니다.</p>
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AiLogDtos.BulkResponse saveBulkLogs(AiLogDtos.BulkRequest request) {
         int received = request.getLogs() != null ? request.getLogs().size() : 0;
         int saved = 0;
@@ -52,208 +74,171 @@ public class AiLogService {
 
         if (request.getLogs() == null || request.getLogs().isEmpty()) {
             log.warn("[AI 로그 Bulk 저장] 빈 요청 수신: logs가 null이거나 비어있음");
-            return new AiLogDtos.BulkResponse(0, 0, 0, errors);
+            return new AiLogDtos.BulkResponse(0, 0, 0, 0, errors);
         }
 
         log.info("[AI 로그 Bulk 저장] 시작: received={}", received);
 
-        // 중복 체크를 위한 Set (traceId + conversationId + turnId 조합)
-        java.util.Set<String> duplicateKeys = new java.util.HashSet<>();
-        List<AiLog> logsToSave = new ArrayList<>();
-        // Elasticsearch 저장을 위한 원본 LogItem 매핑 (traceId+conversationId+turnId -> LogItem)
-        java.util.Map<String, AiLogDtos.LogItem> logItemMap = new java.util.HashMap<>();
-        Instant receivedAt = Instant.now();
+        // 요청 내 중복 체크를 위한 Set (traceId + conversationId + turnId 조합)
+        Set<String> duplicateKeys = new HashSet<>();
+        List<PendingLog> pending = new ArrayList<>(received);
 
         for (int i = 0; i < request.getLogs().size(); i++) {
             AiLogDtos.LogItem logItem = request.getLogs().get(i);
-            try {
-                // 로그 항목 상세 정보 로깅 (첫 번째 항목만)
-                if (i == 0) {
-                    log.debug("[AI 로그 Bulk 저장] 첫 번째 로그 항목: createdAt={}, userId={}, domain={}, route={}, traceId={}, conversationId={}, turnId={}",
-                        logItem.getCreatedAt(), logItem.getUserId(), logItem.getDomain(), 
-                        logItem.getRoute(), logItem.getTraceId(), logItem.getConversationId(), logItem.getTurnId());
-                }
 
-                // 필수 필드 검증
-                if (logItem.getCreatedAt() == null || logItem.getUserId() == null) {
-                    failed++;
-                    errors.add(new AiLogDtos.ErrorItem(
-                        i,
-                        "VALIDATION_ERROR",
-                        "createdAt 또는 userId가 null입니다."
-                    ));
-                    log.warn("[AI 로그 Bulk 저장] 필수 필드 누락: index={}, createdAt={}, userId={}", 
-                        i, logItem.getCreatedAt(), logItem.getUserId());
-                    continue;
-                }
-
-                // 중복 체크: traceId, conversationId, turnId 조합
-                String duplicateKey = buildDuplicateKey(
-                    logItem.getTraceId(), 
-                    logItem.getConversationId(), 
-                    logItem.getTurnId()
-                );
-                
-                if (duplicateKey != null) {
-                    if (duplicateKeys.contains(duplicateKey)) {
-                        // 같은 요청 내에서 중복
-                        skipped++;
-                        log.debug("[AI 로그 Bulk 저장] 요청 내 중복 건너뜀: index={}, key={}", i, duplicateKey);
-                        continue;
-                    }
-                    
-                    // DB에서 중복 체크
-                    Optional<AiLog> existing = aiLogRepository.findByTraceIdAndConversationIdAndTurnId(
-                        logItem.getTraceId(),
-                        logItem.getConversationId(),
-                        logItem.getTurnId()
-                    );
-                    
-                    if (existing.isPresent()) {
-                        skipped++;
-                        duplicateKeys.add(duplicateKey);
-                        log.debug("[AI 로그 Bulk 저장] DB 중복 건너뜀: index={}, key={}, existingId={}", 
-                            i, duplicateKey, existing.get().getId());
-                        continue;
-                    }
-                    
-                    duplicateKeys.add(duplicateKey);
-                }
-
-                // AiLog 엔티티 생성
-                AiLog aiLog = new AiLog();
-                aiLog.setCreatedAt(logItem.getCreatedAt());
-                aiLog.setUserId(logItem.getUserId());
-                aiLog.setUserRole(logItem.getUserRole());
-                aiLog.setDepartment(logItem.getDepartment());
-                aiLog.setDomain(logItem.getDomain());
-                aiLog.setRoute(logItem.getRoute());
-                aiLog.setModelName(logItem.getModelName());
-                aiLog.setHasPiiInput(logItem.getHasPiiInput());
-                aiLog.setHasPiiOutput(logItem.getHasPiiOutput());
-                aiLog.setRagUsed(logItem.getRagUsed());
-                aiLog.setRagSourceCount(logItem.getRagSourceCount());
-                aiLog.setLatencyMsTotal(logItem.getLatencyMsTotal());
-                aiLog.setErrorCode(logItem.getErrorCode());
-                aiLog.setTraceId(logItem.getTraceId());
-                aiLog.setConversationId(logItem.getConversationId());
-                aiLog.setTurnId(logItem.getTurnId());
-                aiLog.setReceivedAt(receivedAt);
-
-                logsToSave.add(aiLog);
-                
-                // Elasticsearch 저장을 위한 원본 LogItem 매핑 (traceId+conversationId+turnId -> LogItem)
-                String mapKey = buildDuplicateKey(
-                    logItem.getTraceId(),
-                    logItem.getConversationId(),
-                    logItem.getTurnId()
-                );
-                if (mapKey == null) {
-                    // 키를 생성할 수 없으면 임시로 UUID 사용 (실제로는 거의 발생하지 않음)
-                    mapKey = UUID.randomUUID().toString();
-                }
-                logItemMap.put(mapKey, logItem);
-
-            } catch (Exception e) {
+            // 필수 필드 검증
+            if (logItem == null || logItem.getCreatedAt() == null || logItem.getUserId() == null) {
                 failed++;
                 errors.add(new AiLogDtos.ErrorItem(
                     i,
-                    "PROCESSING_ERROR",
-                    e.getMessage()
+                    "VALIDATION_ERROR",
+                    "createdAt 또는 userId가 null입니다."
                 ));
-                log.error("[AI 로그 Bulk 저장] 처리 실패: index={}, createdAt={}, userId={}, domain={}, route={}, traceId={}, error={}",
-                    i, logItem.getCreatedAt(), logItem.getUserId(), logItem.getDomain(), 
-                    logItem.getRoute(), logItem.getTraceId(), e.getMessage(), e);
+                log.warn("[AI 로그 Bulk 저장] 필수 필드 누락: index={}", i);
+                continue;
+            }
+
+            // 같은 요청 내에서 중복
+            String duplicateKey = buildDuplicateKey(
+                logItem.getTraceId(),
+                logItem.getConversationId(),
+                logItem.getTurnId()
+            );
+            if (duplicateKey != null && !duplicateKeys.add(duplicateKey)) {
+                skipped++;
+                log.debug("[AI 로그 Bulk 저장] 요청 내 중복 건너뜀: index={}, key={}", i, duplicateKey);
+                continue;
             }
+
+            // id를 미리 발급해 INSERT 결과(RETURNING id)와 Elasticsearch 문서 ID를 맞춤
+            pending.add(new PendingLog(i, UUID.randomUUID(), logItem));
         }
 
-        // Bulk insert (성능 최적화)
-        if (!logsToSave.isEmpty()) {
+        // chunk 단위 일괄 저장 (DB에 이미 있는 로그는 건너뜀)
+        Instant receivedAt = Instant.now();
+        Map<String, AiLogDtos.LogItem> esDocuments = new LinkedHashMap<>();
+        Map<String, Integer> requestIndexById = new HashMap<>();
+        int chunkSize = Math.max(1, insertChunkSize);
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<PendingLog> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            List<PendingLog> inserted = new ArrayList<>(chunk.size());
+            int chunkFailed = 0;
             try {
-                aiLogRepository.saveAll(logsToSave);
-                saved = logsToSave.size();
-                log.info("[AI 로그 Bulk 저장] PostgreSQL Bulk insert 완료: saved={}", saved);
-                
-                // Elasticsearch에도 저장 (실패해도 PostgreSQL 저장은 성공으로 처리)
-                int esSaved = 0;
-                for (AiLog aiLog : logsToSave) {
-                    try {
-                        // 원본 LogItem 찾기 (traceId+conversationId+turnId로 매칭)
-                        String mapKey = buildDuplicateKey(
-                            aiLog.getTraceId(),
-                            aiLog.getConversationId(),
-                            aiLog.getTurnId()
-                        );
-                        
-                        if (mapKey != null && logItemMap.containsKey(mapKey)) {
-                            AiLogDtos.LogItem logItem = logItemMap.get(mapKey);
-                            chatLogElasticsearchService.saveChatLog(
-                                logItem,
-                                aiLog.getId().toString()
-                            );
-                            esSaved++;
-                        } else {
-                            log.warn("[AI 로그 Bulk 저장] Elasticsearch 저장: 원본 LogItem을 찾을 수 없음: id={}, traceId={}, conversationId={}, turnId={}",
-                                aiLog.getId(), aiLog.getTraceId(), aiLog.getConversationId(), aiLog.getTurnId());
-                        }
-                    } catch (Exception e) {
-                        // Elasticsearch 저장 실패는 로그만 남기고 계속 진행
-                        log.warn("[AI 로그 Bulk 저장] Elasticsearch 저장 실패: id={}, traceId={}, error={}",
-                            aiLog.getId(), aiLog.getTraceId(), e.getMessage());
-                    }
-                }
-                log.info("[AI 로그 Bulk 저장] Elasticsearch 저장 완료: esSaved={}, total={}", esSaved, saved);
+                inserted.addAll(insertChunk(receivedAt, chunk));
             } catch (Exception e) {
-                log.error("[AI 로그 Bulk 저장] Bulk insert 실패: count={}, error={}", 
-                    logsToSave.size(), e.getMessage(), e);
-                // 개별 저장 시도
-                for (AiLog aiLogItem : logsToSave) {
+                log.warn("[AI 로그 Bulk 저장] chunk 저장 실패, 로그 단위로 재시도: indexRange={}~{}, count={}, error={}",
+                    chunk.get(0).index(), chunk.get(chunk.size() - 1).index(), chunk.size(), e.getMessage());
+                for (PendingLog item : chunk) {
                     try {
-                        aiLogRepository.save(aiLogItem);
-                        saved++;
-                        
-                        // Elasticsearch에도 저장 시도
-                        try {
-                            String mapKey = buildDuplicateKey(
-                                aiLogItem.getTraceId(),
-                                aiLogItem.getConversationId(),
-                                aiLogItem.getTurnId()
-                            );
-                            
-                            if (mapKey != null && logItemMap.containsKey(mapKey)) {
-                                AiLogDtos.LogItem logItem = logItemMap.get(mapKey);
-                                chatLogElasticsearchService.saveChatLog(
-                                    logItem,
-                                    aiLogItem.getId().toString()
-                                );
-                            }
-                        } catch (Exception ex) {
-                            log.warn("[AI 로그 Bulk 저장] Elasticsearch 저장 실패: id={}, error={}",
-                                aiLogItem.getId(), ex.getMessage());
-                        }
-                    } catch (Exception ex) {
-                        failed++;
-                        log.error("[AI 로그 Bulk 저장] 개별 저장 실패: traceId={}, error={}", 
-                            aiLogItem.getTraceId(), ex.getMessage());
+                        inserted.addAll(insertChunk(receivedAt, List.of(item)));
+                    } catch (Exception rowError) {
+                        chunkFailed++;
+                        errors.add(new AiLogDtos.ErrorItem(item.index(), "PROCESSING_ERROR", rowError.getMessage()));
+                        log.error("[AI 로그 Bulk 저장] PostgreSQL 저장 실패: index={}, error={}",
+                            item.index(), rowError.getMessage());
                     }
                 }
             }
+            saved += inserted.size();
+            failed += chunkFailed;
+            skipped += chunk.size() - inserted.size() - chunkFailed;
+            for (PendingLog item : inserted) {
+                esDocuments.put(item.id().toString(), item.logItem());
+                requestIndexById.put(item.id().toString(), item.index());
+            }
+        }
+        log.info("[AI 로그 Bulk 저장] PostgreSQL Bulk insert 완료: saved={}", saved);
+
+        // Elasticsearch에도 저장 (실패해도 PostgreSQL 저장은 성공으로 처리, 항목별 실패는 응답에 포함)
+        int esFailed = 0;
+        if (!esDocuments.isEmpty()) {
+            Map<String, String> esFailures = chatLogElasticsearchService.saveChatLogs(esDocuments);
+            esFailed = esFailures.size();
+            for (Map.Entry<String, String> failure : esFailures.entrySet()) {
+                errors.add(new AiLogDtos.ErrorItem(
+                    requestIndexById.get(failure.getKey()), "ES_INDEX_ERROR", failure.getValue()));
+                log.debug("[AI 로그 Bulk 저장] Elasticsearch 저장 실패: index={}, id={}, reason={}",
+                    requestIndexById.get(failure.getKey()), failure.getKey(), failure.getValue());
+            }
+            if (!esFailures.isEmpty()) {
+                log.warn("[AI 로그 Bulk 저장] Elasticsearch 일부 실패: esFailed={}, total={}, firstReason={}",
+                    esFailures.size(), esDocuments.size(), esFailures.values().iterator().next());
+            }
+            log.info("[AI 로그 Bulk 저장] Elasticsearch 저장 완료: esSaved={}, total={}",
+                esDocuments.size() - esFailures.size(), esDocuments.size());
         }
 
         log.info("[AI 로그 Bulk 저장] 완료: received={}, saved={}, skipped={}, failed={}", 
             received, saved, skipped, failed);
 
         if (failed > 0) {
-            log.warn("[AI 로그 Bulk 저장] 일부 실패: errors={}", errors);
+            log.warn("[AI 로그 Bulk 저장] 일부 실패: errors={}", errors.size());
         }
         
         if (skipped > 0) {
             log.info("[AI 로그 Bulk 저장] 중복 건너뜀: skipped={}", skipped);
         }
 
-        return new AiLogDtos.BulkResponse(received, saved, failed, errors);
+        return new AiLogDtos.BulkResponse(received, saved, failed, esFailed, errors);
+    }
+
+    /**
+     * 로그 묶음 저장 (repository 트랜잭션 1회)
+     *
+     * @return 새로 저장된 로그 (DB에 이미 있는 로그 제외)
+     */
+    private List<PendingLog> insertChunk(Instant receivedAt, List<PendingLog> chunk) {
+        Set<UUID> inserted = new HashSet<>(
+            aiLogRepository.insertAllIgnoringDuplicates(receivedAt, toInsertJson(chunk))
+        );
+        List<PendingLog> saved = new ArrayList<>(inserted.size());
+        for (PendingLog item : chunk) {
+            if (inserted.contains(item.id())) {
+                saved.add(item);
+            }
+        }
+        return saved;
     }
 
+    /**
+     * INSERT 대상 로그 JSON 배열 생성 (insertAllIgnoringDuplicates 입력)
+     */
+    private String toInsertJson(List<PendingLog> logs) {
+        List<Map<String, Object>> rows = new ArrayList<>(logs.size());
+        for (PendingLog pendingLog : logs) {
+            AiLogDtos.LogItem item = pendingLog.logItem();
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", pendingLog.id().toString());
+            row.put("createdAt", item.getCreatedAt().toString());
+            row.put("userId", item.getUserId());
+            row.put("userRole", item.getUserRole());
+            row.put("department", item.getDepartment());
+            row.put("domain", item.getDomain());
+            row.put("route", item.getRoute());
+            row.put("modelName", item.getModelName());
+            row.put("hasPiiInput", item.getHasPiiInput());
+            row.put("hasPiiOutput", item.getHasPiiOutput());
+            row.put("ragUsed", item.getRagUsed());
+            row.put("ragSourceCount", item.getRagSourceCount());
+            row.put("latencyMsTotal", item.getLatencyMsTotal());
+            row.put("errorCode", item.getErrorCode());
+            row.put("traceId", item.getTraceId());
+            row.put("conversationId", item.getConversationId());
+            row.put("turnId", item.getTurnId());
+            rows.add(row);
+        }
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 로그 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 저장 대기 로그 (요청 내 index, 미리 발급한 id)
+     */
+    private record PendingLog(int index, UUID id, AiLogDtos.LogItem logItem) {}
+
     /**
      * 중복 체크를 위한 키 생성
      * 
@@ -289,10 +274,11 @@ public class AiLogService {
         Boolean hasPiiOnly,
         Integer page,
         Integer size,
-        String sort
+        String sort,
+        String cursor
     ) {
-        log.info("[AI 로그 조회] Elasticsearch에서 조회: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}",
-            period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort);
+        log.info("[AI 로그 조회] Elasticsearch에서 조회: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}, cursor={}",
+            period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort, cursor != null);
 
         // Elasticsearch에서 조회 (실시간 채팅 로그)
         return chatLogElasticsearchService.getLogs(
@@ -307,7 +293,45 @@ public class AiLogService {
             hasPiiOnly,
             page,
             size,
-            sort
+            sort,
+            cursor
+        );
+    }
+
+    /**
+     * 관리자 대시보드 로그 내보내기 (NDJSON / CSV 스트리밍)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportLogs(
+        String period,
+        String startDateStr,
+        String endDateStr,
+        String department,
+        String domain,
+        String route,
+        String model,
+        Boolean onlyError,
+        Boolean hasPiiOnly,
+        String sort,
+        String format,
+        OutputStream out
+    ) throws IOException {
+        log.info("[AI 로그 내보내기] Elasticsearch에서 조회: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, sort={}, format={}",
+            period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, sort, format);
+
+        chatLogElasticsearchService.exportLogs(
+            period,
+            startDateStr,
+            endDateStr,
+            department,
+            domain,
+            route,
+            model,
+            onlyError,
+            hasPiiOnly,
+            sort,
+            format,
+            out
         );
     }
 
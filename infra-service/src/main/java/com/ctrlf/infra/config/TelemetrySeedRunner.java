@@ -2,9 +2,12 @@ package com.ctrlf.infra.config;
 
 import com.ctrlf.infra.telemetry.entity.TelemetryEvent;
 import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import com.ctrlf.infra.telemetry.service.TelemetryRollupService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -26,13 +29,16 @@ public class TelemetrySeedRunner implements CommandLineRunner {
     private static final Logger log = LoggerFactory.getLogger(TelemetrySeedRunner.class);
 
     private final TelemetryEventRepository telemetryEventRepository;
+    private final TelemetryRollupService telemetryRollupService;
     private final ObjectMapper objectMapper;
 
     public TelemetrySeedRunner(
         TelemetryEventRepository telemetryEventRepository,
+        TelemetryRollupService telemetryRollupService,
         ObjectMapper objectMapper
     ) {
         this.telemetryEventRepository = telemetryEventRepository;
+        this.telemetryRollupService = telemetryRollupService;
         this.objectMapper = objectMapper;
     }
 
@@ -101,6 +107,7 @@ public class TelemetrySeedRunner implements CommandLineRunner {
     ) {
         Instant baseTime = Instant.now().minusSeconds(86400); // 1일 전부터 시작
         String conversationId = UUID.randomUUID().toString();
+        List<TelemetryEvent> saved = new ArrayList<>();
 
         for (int i = 0; i < count; i++) {
             TelemetryEvent event = new TelemetryEvent();
@@ -115,6 +122,7 @@ public class TelemetrySeedRunner implements CommandLineRunner {
             event.setDeptId("총무팀");
             event.setOccurredAt(baseTime.plusSeconds(i * 3600));
             event.setReceivedAt(Instant.now().minusSeconds(count - i));
+            event.setRepeat(false); // payload에 intentMain 없음
 
             // Payload 생성
             Map<String, Object> payloadMap = new HashMap<>();
@@ -140,8 +148,9 @@ public class TelemetrySeedRunner implements CommandLineRunner {
                 event.setPayload(payloadMap);
             }
 
-            telemetryEventRepository.save(event);
+            saved.add(telemetryEventRepository.save(event));
         }
+        telemetryRollupService.accumulate(saved);
 
         log.info(
             "Seed created: {} telemetry events | domain={}, intent={}, question='{}'",
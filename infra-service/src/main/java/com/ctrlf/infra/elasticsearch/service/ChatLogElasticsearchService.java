@@ -6,22 +6,39 @@ import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.json.JsonData;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.ctrlf.infra.ailog.dto.AiLogDtos;
+import com.ctrlf.common.elasticsearch.ChatLogIndexManager;
+import com.ctrlf.common.elasticsearch.LogSearchCursor;
+import com.ctrlf.common.elasticsearch.PointInTimeIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Elasticsearch 채팅 로그 저장 및 조회 서비스
@@ -34,9 +51,20 @@ import org.springframework.stereotype.Service;
 public class ChatLogElasticsearchService {
 
     private final ElasticsearchClient elasticsearchClient;
+    private final ObjectMapper objectMapper;
+    private final ChatLogIndexManager chatLogIndexManager;
 
-    @Value("${app.elasticsearch.chat-log-index:chat_log}")
-    private String chatLogIndex;
+    /** cursor 조회/내보내기 point-in-time 유지 시간 (요청 간 최대 간격) */
+    @Value("${app.elasticsearch.log-search.pit-keep-alive:2m}")
+    private String pitKeepAlive;
+
+    /** 내보내기 시 search_after 1회당 조회 건수 */
+    @Value("${app.elasticsearch.log-search.export-batch-size:1000}")
+    private int exportBatchSize;
+
+    /** _bulk 요청 1회당 최대 문서 수 */
+    @Value("${app.elasticsearch.chat-log-bulk-size:1000}")
+    private int chatLogBulkSize;
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
@@ -51,47 +79,11 @@ public class ChatLogElasticsearchService {
      */
     public void saveChatLog(AiLogDtos.LogItem logItem, String id) {
         try {
-            Map<String, Object> logData = new HashMap<>();
-            
-            // 기본 필드
-            logData.put("id", id);
-            logData.put("createdAt", logItem.getCreatedAt().toString());
-            logData.put("userId", logItem.getUserId());
-            logData.put("userRole", logItem.getUserRole());
-            logData.put("domain", logItem.getDomain() != null ? logItem.getDomain() : "ETC");
-            logData.put("department", logItem.getDepartment());
-            logData.put("route", logItem.getRoute());
-            logData.put("modelName", logItem.getModelName());
-            
-            // 질문/답변 필드 (AI 서버에서 전송하는 경우)
-            // AI 서버가 보내는 로그에 question, answer가 포함되어 있으면 사용
-            // 없으면 null로 저장 (chat-service에서 저장한 로그와 병합 가능)
-            logData.put("question", null);  // AI 서버 로그에는 질문/답변 원문이 없을 수 있음
-            logData.put("answer", null);
-            logData.put("role", "assistant");  // AI 서버 로그는 주로 assistant 응답
-            
-            // PII 필드
-            logData.put("hasPiiInput", logItem.getHasPiiInput() != null ? logItem.getHasPiiInput() : false);
-            logData.put("hasPiiOutput", logItem.getHasPiiOutput() != null ? logItem.getHasPiiOutput() : false);
-            
-            // RAG 필드
-            logData.put("ragUsed", logItem.getRagUsed() != null ? logItem.getRagUsed() : false);
-            logData.put("ragSourceCount", logItem.getRagSourceCount());
-            
-            // 성능/에러 필드
-            logData.put("latencyMsTotal", logItem.getLatencyMsTotal());
-            logData.put("errorCode", logItem.getErrorCode());
-            
-            // 추적 필드
-            logData.put("traceId", logItem.getTraceId());
-            logData.put("conversationId", logItem.getConversationId());
-            logData.put("turnId", logItem.getTurnId());
-            
             // Elasticsearch에 저장
             IndexRequest<Map<String, Object>> request = IndexRequest.of(i -> i
-                .index(chatLogIndex)
+                .index(chatLogIndexManager.writeIndex())
                 .id(id)
-                .document(logData)
+                .document(toDocument(logItem, id))
             );
             
             elasticsearchClient.index(request);
@@ -106,10 +98,109 @@ public class ChatLogElasticsearchService {
         }
     }
 
+    /**
+     * AI 로그 일괄 저장 (_bulk)
+     *
+     * <p>{@code app.elasticsearch.chat-log-bulk-size} 건씩 나누어 _bulk 요청으로 저장하고,
+     * 응답의 항목별 결과를 문서 ID 기준으로 돌려줍니다.</p>
+     * <p>{@link #saveChatLog}와 마찬가지로 예외를 던지지 않습니다. 요청 자체가 실패하면
+     * 해당 chunk의 모든 문서를 실패로 반환합니다.</p>
+     *
+     * @param logItemsById 문서 ID(UUID 문자열) → AI 로그 항목
+     * @return 실패한 문서 ID → 실패 사유 (모두 성공하면 빈 Map)
+     */
+    public Map<String, String> saveChatLogs(Map<String, AiLogDtos.LogItem> logItemsById) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        if (logItemsById == null || logItemsById.isEmpty()) {
+            return failures;
+        }
+
+        List<Map.Entry<String, AiLogDtos.LogItem>> entries = new ArrayList<>(logItemsById.entrySet());
+        String writeIndex = chatLogIndexManager.writeIndex();
+        int chunkSize = Math.max(1, chatLogBulkSize);
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            List<Map.Entry<String, AiLogDtos.LogItem>> chunk =
+                entries.subList(from, Math.min(from + chunkSize, entries.size()));
+
+            List<BulkOperation> operations = new ArrayList<>(chunk.size());
+            for (Map.Entry<String, AiLogDtos.LogItem> entry : chunk) {
+                Map<String, Object> document = toDocument(entry.getValue(), entry.getKey());
+                operations.add(BulkOperation.of(b -> b
+                    .index(i -> i.index(writeIndex).id(entry.getKey()).document(document))
+                ));
+            }
+
+            try {
+                BulkResponse response = elasticsearchClient.bulk(BulkRequest.of(b -> b.operations(operations)));
+                if (response.errors()) {
+                    for (BulkResponseItem item : response.items()) {
+                        if (item.error() != null) {
+                            failures.put(item.id(), item.error().type() + ": " + item.error().reason());
+                        }
+                    }
+                }
+                log.debug("[Elasticsearch AI 로그 Bulk 저장] chunk 완료: size={}, took={}ms, errors={}",
+                    chunk.size(), response.took(), response.errors());
+            } catch (Exception e) {
+                log.error("[Elasticsearch AI 로그 Bulk 저장] 요청 실패: size={}, error={}",
+                    chunk.size(), e.getMessage(), e);
+                for (Map.Entry<String, AiLogDtos.LogItem> entry : chunk) {
+                    failures.put(entry.getKey(), "BULK_REQUEST_FAILED: " + e.getMessage());
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * AI 로그 항목 → chat_log 문서
+     */
+    private Map<String, Object> toDocument(AiLogDtos.LogItem logItem, String id) {
+        Map<String, Object> logData = new HashMap<>();
+        
+        // 기본 필드
+        logData.put("id", id);
+        logData.put("createdAt", logItem.getCreatedAt().toString());
+        logData.put("userId", logItem.getUserId());
+        logData.put("userRole", logItem.getUserRole());
+        logData.put("domain", logItem.getDomain() != null ? logItem.getDomain() : "ETC");
+        logData.put("department", logItem.getDepartment());
+        logData.put("route", logItem.getRoute());
+        logData.put("modelName", logItem.getModelName());
+        
+        // 질문/답변 필드 (AI 서버에서 전송하는 경우)
+        // AI 서버가 보내는 로그에 question, answer가 포함되어 있으면 사용
+        // 없으면 null로 저장 (chat-service에서 저장한 로그와 병합 가능)
+        logData.put("question", null);  // AI 서버 로그에는 질문/답변 원문이 없을 수 있음
+        logData.put("answer", null);
+        logData.put("role", "assistant");  // AI 서버 로그는 주로 assistant 응답
+        
+        // PII 필드
+        logData.put("hasPiiInput", logItem.getHasPiiInput() != null ? logItem.getHasPiiInput() : false);
+        logData.put("hasPiiOutput", logItem.getHasPiiOutput() != null ? logItem.getHasPiiOutput() : false);
+        
+        // RAG 필드
+        logData.put("ragUsed", logItem.getRagUsed() != null ? logItem.getRagUsed() : false);
+        logData.put("ragSourceCount", logItem.getRagSourceCount());
+        
+        // 성능/에러 필드
+        logData.put("latencyMsTotal", logItem.getLatencyMsTotal());
+        logData.put("errorCode", logItem.getErrorCode());
+        
+        // 추적 필드
+        logData.put("traceId", logItem.getTraceId());
+        logData.put("conversationId", logItem.getConversationId());
+        logData.put("turnId", logItem.getTurnId());
+        return logData;
+    }
+
     /**
      * 관리자 대시보드 로그 목록 조회
      *
      * <p>Elasticsearch chat_log 인덱스에서 채팅 로그를 조회합니다.</p>
+     * <p>cursor 가 없으면 page/size(from) 방식으로 조회합니다 (얕은 페이지용, from + size 는
+     * index.max_result_window(기본 10,000) 이내). cursor 가 있으면 point-in-time + search_after 로 조회하며,
+     * 빈 값이면 새 PIT 를 열어 첫 페이지를 반환합니다.</p>
      *
      * @param period 기간 (7 | 30 | 90)
      * @param startDateStr 시작 날짜 (ISO 8601)
@@ -123,6 +214,7 @@ public class ChatLogElasticsearchService {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param sort 정렬 (예: createdAt,desc)
+     * @param cursor 이전 응답의 nextCursor (null 이면 page 방식)
      * @return AI 로그 페이지 응답
      */
     public AiLogDtos.PageResponse<AiLogDtos.LogListItem> getLogs(
@@ -137,117 +229,51 @@ public class ChatLogElasticsearchService {
         Boolean hasPiiOnly,
         Integer page,
         Integer size,
-        String sort
+        String sort,
+        String cursor
     ) {
+        String filterHash = LogSearchCursor.filterHash(period, startDateStr, endDateStr,
+            department, domain, route, model, onlyError, hasPiiOnly, sort);
+        LogSearchCursor searchCursor;
+        try {
+            searchCursor = cursor != null ? LogSearchCursor.decode(cursor, filterHash) : null;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        String chatLogIndex = chatLogIndexManager.searchIndex();
         try {
-            log.info("[Elasticsearch 로그 조회] 요청: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}",
-                period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort);
+            log.info("[Elasticsearch 로그 조회] 요청: period={}, startDate={}, endDate={}, department={}, domain={}, route={}, model={}, onlyError={}, hasPiiOnly={}, page={}, size={}, sort={}, cursor={}",
+                period, startDateStr, endDateStr, department, domain, route, model, onlyError, hasPiiOnly, page, size, sort, searchCursor != null);
 
             // 기간 계산
             Instant[] periodRange = calculatePeriodRange(period, startDateStr, endDateStr);
-            Instant startDate = periodRange[0];
-            Instant endDate = periodRange[1];
 
             // 페이징 설정
             int pageNumber = (page != null && page >= 0) ? page : 0;
             int pageSize = (size != null && size > 0) ? Math.min(size, 100) : 20;
             int from = pageNumber * pageSize;
 
-            // 정렬 설정 (final 변수로 선언)
-            final String finalSortField;
-            final String finalSortOrder;
-            if (sort != null && !sort.isBlank()) {
-                String[] sortParts = sort.split(",");
-                if (sortParts.length > 0) {
-                    finalSortField = sortParts[0].trim();
-                } else {
-                    finalSortField = "createdAt";
-                }
-                if (sortParts.length > 1) {
-                    finalSortOrder = sortParts[1].trim();
-                } else {
-                    finalSortOrder = "desc";
-                }
-            } else {
-                finalSortField = "createdAt";
-                finalSortOrder = "desc";
-            }
+            // 정렬 설정
+            String[] sortSpec = parseSort(sort);
+            String sortField = sortSpec[0];
+            SortOrder sortOrder = "desc".equalsIgnoreCase(sortSpec[1]) ? SortOrder.Desc : SortOrder.Asc;
 
-            // 쿼리 빌더 생성
-            BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+            Query query = buildLogQuery(periodRange[0], periodRange[1],
+                department, domain, route, model, onlyError, hasPiiOnly);
 
-            // 날짜 범위 필터 (ISO 8601 형식 문자열)
-            String startDateIso = startDate.toString();
-            String endDateIso = endDate.toString();
-            boolQueryBuilder.must(Query.of(q -> q
-                .range(r -> r
-                    .field("createdAt")
-                    .gte(JsonData.of(startDateIso))
-                    .lte(JsonData.of(endDateIso))
-                )
-            ));
-
-            // 부서 필터
-            if (department != null && !department.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("department").value(department))
-                ));
+            if (searchCursor != null) {
+                return searchWithCursor(query, sortField, sortOrder, searchCursor, pageSize);
             }
 
-            // 도메인 필터
-            if (domain != null && !domain.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("domain").value(domain))
-                ));
-            }
-
-            // 라우트 필터
-            if (route != null && !route.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("route").value(route))
-                ));
-            }
-
-            // 모델 필터 (modelName 필드 사용)
-            if (model != null && !model.isBlank()) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .term(t -> t.field("modelName").value(model))
-                ));
-            }
-
-            // 에러만 보기 필터
-            if (onlyError != null && onlyError) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .exists(e -> e.field("errorCode"))
-                ));
-            }
-
-            // PII 포함만 보기 필터
-            if (hasPiiOnly != null && hasPiiOnly) {
-                boolQueryBuilder.must(Query.of(q -> q
-                    .bool(b -> b
-                        .should(s -> s.term(t -> t.field("hasPiiInput").value(true)))
-                        .should(s -> s.term(t -> t.field("hasPiiOutput").value(true)))
-                    )
-                ));
-            }
-
-            BoolQuery boolQuery = boolQueryBuilder.build();
-
             // 검색 요청 생성
             SearchRequest searchRequest = SearchRequest.of(s -> s
                 .index(chatLogIndex)
-                .query(Query.of(q -> q.bool(boolQuery)))
+                .preFilterShardSize(ChatLogIndexManager.PRE_FILTER_SHARD_SIZE)
+                .query(query)
                 .from(from)
                 .size(pageSize)
-                .sort(so -> so
-                    .field(f -> f
-                        .field(finalSortField)
-                        .order("desc".equalsIgnoreCase(finalSortOrder)
-                            ? SortOrder.Desc
-                            : SortOrder.Asc)
-                    )
-                )
+                .sort(so -> so.field(f -> f.field(sortField).order(sortOrder)))
             );
 
             log.info("[Elasticsearch 로그 조회] 검색 시작: index={}, from={}, size={}", chatLogIndex, from, pageSize);
@@ -283,34 +309,7 @@ public class ChatLogElasticsearchService {
             }
 
             // 결과 변환
-            List<AiLogDtos.LogListItem> items = new ArrayList<>();
-            int conversionSuccess = 0;
-            int conversionFailed = 0;
-            for (Hit<Map> hit : response.hits().hits()) {
-                try {
-                    Map<String, Object> source = hit.source();
-                    if (source == null) {
-                        conversionFailed++;
-                        log.warn("[Elasticsearch 로그 조회] source가 null: id={}", hit.id());
-                        continue;
-                    }
-
-                    AiLogDtos.LogListItem item = convertToLogListItem(hit.id(), source);
-                    if (item != null) {
-                        items.add(item);
-                        conversionSuccess++;
-                    } else {
-                        conversionFailed++;
-                        log.warn("[Elasticsearch 로그 조회] 변환 결과가 null: id={}", hit.id());
-                    }
-                } catch (Exception e) {
-                    conversionFailed++;
-                    log.warn("[Elasticsearch 로그 조회] 항목 변환 실패: id={}, error={}", hit.id(), e.getMessage(), e);
-                }
-            }
-            
-            log.info("[Elasticsearch 로그 조회] 변환 완료: totalHits={}, items={}, conversionSuccess={}, conversionFailed={}", 
-                totalHits, items.size(), conversionSuccess, conversionFailed);
+            List<AiLogDtos.LogListItem> items = convertHits(response.hits().hits());
 
             // 총 개수 및 페이지 수 계산
             int totalPages = (int) Math.ceil((double) totalHits / pageSize);
@@ -322,7 +321,8 @@ public class ChatLogElasticsearchService {
                 totalHits,
                 totalPages,
                 pageNumber,
-                pageSize
+                pageSize,
+                null
             );
 
         } catch (ElasticsearchException e) {
@@ -334,13 +334,16 @@ public class ChatLogElasticsearchService {
                     0L,
                     0,
                     0,
-                    20
+                    20,
+                    null
                 );
             } else {
                 log.error("[Elasticsearch 로그 조회] Elasticsearch 오류 발생: index={}, error={}",
                     chatLogIndex, e.getMessage(), e);
                 throw new RuntimeException("로그 조회 실패: " + e.getMessage(), e);
             }
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[Elasticsearch 로그 조회] 오류 발생: index={}, error={}",
                 chatLogIndex, e.getMessage(), e);
@@ -348,6 +351,310 @@ public class ChatLogElasticsearchService {
         }
     }
 
+    /**
+     * point-in-time + search_after 페이지 조회
+     *
+     * <p>PIT 는 첫 페이지에서 열고 마지막 페이지에서 닫습니다. 중간에 조회를 멈추면 keep-alive 후 자동 만료됩니다.
+     * 전체 건수는 첫 페이지에서만 계산하고 이후에는 cursor 에 담긴 값을 사용합니다.</p>
+     */
+    private AiLogDtos.PageResponse<AiLogDtos.LogListItem> searchWithCursor(
+        Query query,
+        String sortField,
+        SortOrder sortOrder,
+        LogSearchCursor cursor,
+        int pageSize
+    ) throws IOException {
+        String pitId = cursor.isFirstPage() ? openPointInTime() : cursor.pitId();
+
+        SearchResponse<Map> response;
+        try {
+            response = elasticsearchClient.search(s -> {
+                s.pit(p -> p.id(pitId).keepAlive(k -> k.time(pitKeepAlive)))
+                    .preFilterShardSize(ChatLogIndexManager.PRE_FILTER_SHARD_SIZE)
+                    .query(query)
+                    .size(pageSize)
+                    .sort(so -> so.field(f -> f.field(sortField).order(sortOrder)))
+                    .trackTotalHits(t -> t.enabled(cursor.isFirstPage()));
+                if (!cursor.isFirstPage()) {
+                    s.searchAfter(cursor.searchAfterValues());
+                }
+                return s;
+            }, Map.class);
+        } catch (ElasticsearchException e) {
+            if (e.status() == 404 && !cursor.isFirstPage()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor가 만료되었습니다. 처음부터 다시 조회하세요.");
+            }
+            throw e;
+        }
+
+        List<Hit<Map>> hits = response.hits().hits();
+        List<AiLogDtos.LogListItem> items = convertHits(hits);
+        long totalHits = cursor.isFirstPage()
+            ? (response.hits().total() != null ? response.hits().total().value() : 0)
+            : cursor.total();
+        int totalPages = (int) Math.ceil((double) totalHits / pageSize);
+
+        // 마지막 페이지면 PIT 닫기
+        String nextCursor = null;
+        String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+        if (hits.size() < pageSize) {
+            closePointInTime(nextPitId);
+        } else {
+            nextCursor = LogSearchCursor.next(
+                nextPitId, hits.get(hits.size() - 1).sort(), totalHits, cursor.page() + 1, cursor.filterHash()
+            ).encode();
+        }
+
+        log.info("[Elasticsearch 로그 조회] cursor 조회 완료: page={}, items={}, totalHits={}, hasNext={}",
+            cursor.page(), items.size(), totalHits, nextCursor != null);
+
+        return new AiLogDtos.PageResponse<>(
+            items,
+            totalHits,
+            totalPages,
+            cursor.page(),
+            pageSize,
+            nextCursor
+        );
+    }
+
+    /**
+     * 로그 내보내기 (NDJSON / CSV 스트리밍)
+     *
+     * <p>point-in-time + search_after 로 전체 결과를 {@code app.elasticsearch.log-search.export-batch-size} 건씩
+     * 순회하며 바로 출력 스트림에 씁니다. 결과 크기와 무관하게 한 배치만 메모리에 유지합니다.</p>
+     *
+     * @param format ndjson | csv
+     * @param out 응답 출력 스트림
+     */
+    public void exportLogs(
+        String period,
+        String startDateStr,
+        String endDateStr,
+        String department,
+        String domain,
+        String route,
+        String model,
+        Boolean onlyError,
+        Boolean hasPiiOnly,
+        String sort,
+        String format,
+        OutputStream out
+    ) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        Instant[] periodRange = calculatePeriodRange(period, startDateStr, endDateStr);
+        String[] sortSpec = parseSort(sort);
+        String sortField = sortSpec[0];
+        SortOrder sortOrder = "desc".equalsIgnoreCase(sortSpec[1]) ? SortOrder.Desc : SortOrder.Asc;
+        Query query = buildLogQuery(periodRange[0], periodRange[1],
+            department, domain, route, model, onlyError, hasPiiOnly);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write('\uFEFF');  // Excel 한글 인식용 BOM
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+
+        long exported = 0;
+        try (PointInTimeIterator<Map> batches = PointInTimeIterator.open(elasticsearchClient,
+                chatLogIndexManager.searchIndex(), pitKeepAlive, query, sortField, sortOrder, exportBatchSize, Map.class)) {
+            for (List<Hit<Map>> hits = batches.nextBatch(); !hits.isEmpty(); hits = batches.nextBatch()) {
+                for (AiLogDtos.LogListItem item : convertHits(hits)) {
+                    if (csv) {
+                        writeCsvRow(writer, item);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(item));
+                        writer.write('\n');
+                    }
+                }
+                exported += hits.size();
+                writer.flush();
+            }
+        } finally {
+            writer.flush();
+        }
+
+        log.info("[Elasticsearch 로그 내보내기] 완료: format={}, exported={}", csv ? "csv" : "ndjson", exported);
+    }
+
+    private static final List<String> CSV_COLUMNS = List.of(
+        "id", "createdAt", "userId", "userRole", "department", "domain", "route", "modelName",
+        "hasPiiInput", "hasPiiOutput", "ragUsed", "ragSourceCount", "latencyMsTotal", "errorCode"
+    );
+
+    private void writeCsvRow(Writer writer, AiLogDtos.LogListItem item) throws IOException {
+        Object[] values = {
+            item.getId(), item.getCreatedAt(), item.getUserId(), item.getUserRole(), item.getDepartment(),
+            item.getDomain(), item.getRoute(), item.getModelName(), item.getHasPiiInput(), item.getHasPiiOutput(),
+            item.getRagUsed(), item.getRagSourceCount(), item.getLatencyMsTotal(), item.getErrorCode()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private String openPointInTime() throws IOException {
+        return elasticsearchClient.openPointInTime(o -> o
+            .index(chatLogIndexManager.searchIndex())
+            .keepAlive(k -> k.time(pitKeepAlive))
+        ).id();
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchClient.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            // keep-alive 경과 후 자동 만료되므로 경고만 남김
+            log.warn("[Elasticsearch 로그 조회] PIT 닫기 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정렬 파라미터 파싱 (기본값: createdAt,desc)
+     *
+     * @return [field, order]
+     */
+    private String[] parseSort(String sort) {
+        String sortField = "createdAt";
+        String sortOrder = "desc";
+        if (sort != null && !sort.isBlank()) {
+            String[] sortParts = sort.split(",");
+            if (sortParts.length > 0 && !sortParts[0].isBlank()) {
+                sortField = sortParts[0].trim();
+            }
+            if (sortParts.length > 1) {
+                sortOrder = sortParts[1].trim();
+            }
+        }
+        return new String[]{sortField, sortOrder};
+    }
+
+    /**
+     * 검색 조건 → bool 쿼리
+     */
+    private Query buildLogQuery(
+        Instant startDate,
+        Instant endDate,
+        String department,
+        String domain,
+        String route,
+        String model,
+        Boolean onlyError,
+        Boolean hasPiiOnly
+    ) {
+        // 쿼리 빌더 생성
+        BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+
+        // 날짜 범위 필터 (ISO 8601 형식 문자열)
+        String startDateIso = startDate.toString();
+        String endDateIso = endDate.toString();
+        boolQueryBuilder.must(Query.of(q -> q
+            .range(r -> r
+                .field("createdAt")
+                .gte(JsonData.of(startDateIso))
+                .lte(JsonData.of(endDateIso))
+            )
+        ));
+
+        // 부서 필터
+        if (department != null && !department.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("department").value(department))
+            ));
+        }
+
+        // 도메인 필터
+        if (domain != null && !domain.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("domain").value(domain))
+            ));
+        }
+
+        // 라우트 필터
+        if (route != null && !route.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("route").value(route))
+            ));
+        }
+
+        // 모델 필터 (modelName 필드 사용)
+        if (model != null && !model.isBlank()) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .term(t -> t.field("modelName").value(model))
+            ));
+        }
+
+        // 에러만 보기 필터
+        if (onlyError != null && onlyError) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .exists(e -> e.field("errorCode"))
+            ));
+        }
+
+        // PII 포함만 보기 필터
+        if (hasPiiOnly != null && hasPiiOnly) {
+            boolQueryBuilder.must(Query.of(q -> q
+                .bool(b -> b
+                    .should(s -> s.term(t -> t.field("hasPiiInput").value(true)))
+                    .should(s -> s.term(t -> t.field("hasPiiOutput").value(true)))
+                )
+            ));
+        }
+
+        BoolQuery boolQuery = boolQueryBuilder.build();
+        return Query.of(q -> q.bool(boolQuery));
+    }
+
+    /**
+     * 검색 결과 → LogListItem 목록 (변환 실패 항목은 건너뜀)
+     */
+    @SuppressWarnings("unchecked")
+    private List<AiLogDtos.LogListItem> convertHits(List<Hit<Map>> hits) {
+        List<AiLogDtos.LogListItem> items = new ArrayList<>(hits.size());
+        int conversionFailed = 0;
+        for (Hit<Map> hit : hits) {
+            try {
+                Map<String, Object> source = hit.source();
+                if (source == null) {
+                    conversionFailed++;
+                    log.warn("[Elasticsearch 로그 조회] source가 null: id={}", hit.id());
+                    continue;
+                }
+
+                AiLogDtos.LogListItem item = convertToLogListItem(hit.id(), source);
+                if (item != null) {
+                    items.add(item);
+                } else {
+                    conversionFailed++;
+                    log.warn("[Elasticsearch 로그 조회] 변환 결과가 null: id={}", hit.id());
+                }
+            } catch (Exception e) {
+                conversionFailed++;
+                log.warn("[Elasticsearch 로그 조회] 항목 변환 실패: id={}, error={}", hit.id(), e.getMessage(), e);
+            }
+        }
+        if (conversionFailed > 0) {
+            log.info("[Elasticsearch 로그 조회] 변환 실패 항목: conversionFailed={}, total={}", conversionFailed, hits.size());
+        }
+        return items;
+    }
+
     /**
      * 기간 계산 헬퍼 메서드
      */
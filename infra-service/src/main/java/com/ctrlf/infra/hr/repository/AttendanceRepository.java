@@ -1,7 +1,6 @@
 package com.ctrlf.infra.hr.repository;
 
 import com.ctrlf.infra.hr.entity.Attendance;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -26,72 +25,32 @@ public interface AttendanceRepository extends JpaRepository<Attendance, UUID> {
         @Param("endDate") LocalDate endDate
     );
 
-    /** 특정 사용자의 특정 년월 근태 기록 조회 */
-    @Query("SELECT a FROM Attendance a WHERE a.userUuid = :userUuid " +
-           "AND YEAR(a.workDate) = :year AND MONTH(a.workDate) = :month " +
-           "ORDER BY a.workDate DESC")
-    List<Attendance> findByUserUuidAndYearMonth(
-        @Param("userUuid") UUID userUuid,
-        @Param("year") int year,
-        @Param("month") int month
-    );
-
-    /** 지각 횟수 조회 */
-    @Query("SELECT COUNT(a) FROM Attendance a WHERE a.userUuid = :userUuid " +
-           "AND YEAR(a.workDate) = :year AND MONTH(a.workDate) = :month " +
-           "AND a.status = 'LATE'")
-    Long countLateByUserUuidAndYearMonth(
-        @Param("userUuid") UUID userUuid,
-        @Param("year") int year,
-        @Param("month") int month
-    );
-
-    /** 조퇴 횟수 조회 */
-    @Query("SELECT COUNT(a) FROM Attendance a WHERE a.userUuid = :userUuid " +
-           "AND YEAR(a.workDate) = :year AND MONTH(a.workDate) = :month " +
-           "AND a.status = 'EARLY_LEAVE'")
-    Long countEarlyLeaveByUserUuidAndYearMonth(
-        @Param("userUuid") UUID userUuid,
-        @Param("year") int year,
-        @Param("month") int month
-    );
-
-    /** 결근 횟수 조회 */
-    @Query("SELECT COUNT(a) FROM Attendance a WHERE a.userUuid = :userUuid " +
-           "AND YEAR(a.workDate) = :year AND MONTH(a.workDate) = :month " +
-           "AND a.status = 'ABSENT'")
-    Long countAbsentByUserUuidAndYearMonth(
+    /**
+     * 특정 사용자의 기간 근태 집계 (Q10, 1회 조회)
+     *
+     * <p>work_date 범위 조건이라 idx_attendance_user_date 범위 스캔으로 처리됩니다.</p>
+     *
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (미포함)
+     * @return [late_count, early_leave_count, absent_count, remote_days, actual_work_days, overtime_hours] 1행
+     */
+    @Query(value = """
+        SELECT
+            COUNT(*) FILTER (WHERE a.status = 'LATE'),
+            COUNT(*) FILTER (WHERE a.status = 'EARLY_LEAVE'),
+            COUNT(*) FILTER (WHERE a.status = 'ABSENT'),
+            COUNT(*) FILTER (WHERE a.work_type = 'REMOTE'),
+            COUNT(*) FILTER (WHERE a.status <> 'ABSENT'),
+            COALESCE(SUM(a.overtime_hours), 0)
+        FROM infra.attendance a
+        WHERE a.user_uuid = :userUuid
+          AND a.work_date >= :startDate
+          AND a.work_date < :endDate
+        """,
+        nativeQuery = true)
+    List<Object[]> aggregateByUserUuidAndPeriod(
         @Param("userUuid") UUID userUuid,
-        @Param("year") int year,
-        @Param("month") int month
-    );
-
-    /** 재택근무 일수 조회 */
-    @Query("SELECT COUNT(a) FROM Attendance a WHERE a.userUuid = :userUuid " +
-           "AND YEAR(a.workDate) = :year AND MONTH(a.workDate) = :month " +
-           "AND a.workType = 'REMOTE'")
-    Long countRemoteByUserUuidAndYearMonth(
-        @Param("userUuid") UUID userUuid,
-        @Param("year") int year,
-        @Param("month") int month
-    );
-
-    /** 초과근무 시간 합계 조회 */
-    @Query("SELECT COALESCE(SUM(a.overtimeHours), 0) FROM Attendance a WHERE a.userUuid = :userUuid " +
-           "AND YEAR(a.workDate) = :year AND MONTH(a.workDate) = :month")
-    BigDecimal sumOvertimeByUserUuidAndYearMonth(
-        @Param("userUuid") UUID userUuid,
-        @Param("year") int year,
-        @Param("month") int month
-    );
-
-    /** 실제 출근 일수 조회 */
-    @Query("SELECT COUNT(a) FROM Attendance a WHERE a.userUuid = :userUuid " +
-           "AND YEAR(a.workDate) = :year AND MONTH(a.workDate) = :month " +
-           "AND a.status != 'ABSENT'")
-    Long countActualWorkDaysByUserUuidAndYearMonth(
-        @Param("userUuid") UUID userUuid,
-        @Param("year") int year,
-        @Param("month") int month
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
     );
 }
@@ -0,0 +1,205 @@
+package com.ctrlf.infra.keycloak;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Keycloak 서비스 계정(client_credentials) 토큰 보관
+ *
+ * <p>토큰을 expires_in 까지 재사용하고, 만료 token-refresh-skew-seconds 전에 백그라운드에서 미리 갱신합니다.
+ * 토큰 발급은 한 번에 하나만 실행되며(single-flight), 동시에 토큰이 없는 호출자는 진행 중인 발급 결과를 함께 사용합니다.
+ * 백그라운드 갱신이 실패하면 기존 토큰이 유효한 동안 계속 사용하고 짧은 간격으로 재시도합니다.</p>
+ *
+ * <p>메트릭: keycloak.admin.token.fetch(outcome=success|failure) 발급 횟수/지연,
+ * keycloak.admin.token.requests(result=cached|fetched) 토큰 조회 결과</p>
+ */
+class KeycloakAccessTokenHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(KeycloakAccessTokenHolder.class);
+
+    /** 백그라운드 갱신 실패 시 재시도 간격 */
+    private static final long RETRY_DELAY_MS = 5_000L;
+
+    /**
+     * 만료 직전 토큰은 요청 도중 만료될 수 있으므로 이 시간 전부터 무효로 취급.
+     * 수명이 짧은 토큰은 margin 을 수명의 1/4 로 줄여, 발급 직후부터 무효가 되지 않게 함
+     */
+    private static final long EXPIRY_MARGIN_MS = 5_000L;
+    private static final long EXPIRY_MARGIN_DIVISOR = 4L;
+
+    private final KeycloakAdminProperties props;
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter cachedCounter;
+    private final Counter fetchedCounter;
+
+    /** 토큰 발급 single-flight 잠금 */
+    private final ReentrantLock fetchLock = new ReentrantLock();
+    private final ScheduledExecutorService refreshExecutor;
+
+    private volatile CachedToken current;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    KeycloakAccessTokenHolder(KeycloakAdminProperties props, RestTemplate restTemplate, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.cachedCounter = Counter.builder("keycloak.admin.token.requests").tag("result", "cached").register(meterRegistry);
+        this.fetchedCounter = Counter.builder("keycloak.admin.token.requests").tag("result", "fetched").register(meterRegistry);
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "keycloak-token-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        meterRegistry.gauge("keycloak.admin.token.ttl.seconds", List.of(), this, KeycloakAccessTokenHolder::remainingSeconds);
+    }
+
+    /**
+     * 유효한 액세스 토큰을 반환합니다. 없거나 만료됐으면 발급합니다.
+     */
+    String getToken() {
+        CachedToken token = current;
+        if (token != null && token.isValid(System.currentTimeMillis())) {
+            cachedCounter.increment();
+            return token.value();
+        }
+        fetchLock.lock();
+        try {
+            // 잠금 대기 중 다른 호출자가 발급했으면 그 토큰 사용
+            token = current;
+            if (token != null && token.isValid(System.currentTimeMillis())) {
+                cachedCounter.increment();
+                return token.value();
+            }
+            fetchedCounter.increment();
+            return fetchAndSchedule().value();
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    /**
+     * 토큰이 거부된 경우(401) 다음 호출에서 새로 발급하도록 버립니다.
+     *
+     * @param rejectedToken 거부된 토큰 (그 사이 갱신된 토큰은 유지)
+     */
+    void invalidate(String rejectedToken) {
+        CachedToken token = current;
+        if (token != null && token.value().equals(rejectedToken)) {
+            current = null;
+            log.info("Keycloak 서비스 계정 토큰이 거부되어 폐기합니다.");
+        }
+    }
+
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshInBackground() {
+        if (!fetchLock.tryLock()) {
+            // 호출자가 이미 발급 중
+            return;
+        }
+        try {
+            fetchAndSchedule();
+        } catch (RuntimeException e) {
+            CachedToken token = current;
+            long delay = RETRY_DELAY_MS;
+            if (token != null) {
+                delay = Math.min(delay, Math.max(0L, token.validUntilMs() - System.currentTimeMillis()));
+            }
+            log.warn("Keycloak 서비스 계정 토큰 갱신 실패, {}ms 후 재시도: error={}", delay, e.getMessage());
+            schedule(delay);
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    /** fetchLock 을 잡은 상태에서 호출 */
+    private CachedToken fetchAndSchedule() {
+        CachedToken token = fetch();
+        current = token;
+        schedule(Math.max(0L, token.refreshAtMs() - System.currentTimeMillis()));
+        return token;
+    }
+
+    private synchronized void schedule(long delayMs) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        if (!refreshExecutor.isShutdown()) {
+            scheduledRefresh = refreshExecutor.schedule(this::refreshInBackground, delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private CachedToken fetch() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", "client_credentials");
+        form.add("client_id", props.getClientId());
+        form.add("client_secret", props.getClientSecret());
+        // 역할이 토큰에 포함되도록 scope 명시적 요청
+        form.add("scope", "openid email profile");
+        HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(form, headers);
+
+        String tokenEndpoint = props.getBaseUrl() + "/realms/" + props.getRealm() + "/protocol/openid-connect/token";
+        long startNanos = System.nanoTime();
+        String outcome = "failure";
+        try {
+            long issuedAtMs = System.currentTimeMillis();
+            Map<?, ?> resp = restTemplate.postForObject(tokenEndpoint, entity, Map.class);
+            if (resp == null || !resp.containsKey("access_token")) {
+                throw new IllegalStateException("Failed to obtain Keycloak access token");
+            }
+            long expiresInSec = resp.get("expires_in") instanceof Number n ? Math.max(1L, n.longValue()) : 60L;
+            long lifetimeMs = expiresInSec * 1000L;
+            long marginMs = Math.min(EXPIRY_MARGIN_MS, lifetimeMs / EXPIRY_MARGIN_DIVISOR);
+            // 수명이 짧은 토큰은 절반 시점에 갱신
+            long refreshInMs = Math.max(lifetimeMs / 2, lifetimeMs - props.getTokenRefreshSkewSeconds() * 1000L);
+            outcome = "success";
+            return new CachedToken(
+                String.valueOf(resp.get("access_token")),
+                issuedAtMs + lifetimeMs,
+                issuedAtMs + lifetimeMs - marginMs,
+                issuedAtMs + refreshInMs
+            );
+        } finally {
+            Timer.builder("keycloak.admin.token.fetch")
+                .description("Keycloak 서비스 계정 토큰 발급 횟수/지연")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private double remainingSeconds() {
+        CachedToken token = current;
+        return token == null ? 0.0 : Math.max(0L, token.expiresAtMs() - System.currentTimeMillis()) / 1000.0;
+    }
+
+    /**
+     * @param validUntilMs 이 시각부터 무효로 취급 (만료 시각 - margin)
+     */
+    private record CachedToken(String value, long expiresAtMs, long validUntilMs, long refreshAtMs) {
+        boolean isValid(long nowMs) {
+            return nowMs < validUntilMs;
+        }
+    }
+}
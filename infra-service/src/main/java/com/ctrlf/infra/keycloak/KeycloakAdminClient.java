@@ -2,8 +2,22 @@ package com.ctrlf.infra.keycloak;
 
 import com.ctrlf.common.dto.PageResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -15,40 +29,70 @@ import java.util.List;
 import java.util.Map;
 import java.net.URI;
 
+/**
+ * Keycloak Admin REST API 클라이언트
+ *
+ * <p>서비스 계정 토큰은 {@link KeycloakAccessTokenHolder} 가 만료 전까지 재사용/미리 갱신하고,
+ * HTTP 호출은 keep-alive 커넥션 풀(Apache HttpClient 5)을 사용합니다.
+ * Admin API 가 401 을 반환하면 보관 중인 토큰을 폐기해 다음 호출에서 새로 발급합니다.</p>
+ */
 @Component
 public class KeycloakAdminClient {
 
     private final KeycloakAdminProperties props;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final KeycloakAccessTokenHolder tokenHolder;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public KeycloakAdminClient(KeycloakAdminProperties props) {
+    public KeycloakAdminClient(KeycloakAdminProperties props, MeterRegistry meterRegistry) {
         this.props = props;
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(props.getMaxConnections())
+            .setMaxConnPerRoute(props.getMaxConnections())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(props.getConnectTimeoutMs()))
+                .setSocketTimeout(Timeout.ofMilliseconds(props.getReadTimeoutMs()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "keycloak-admin").bindTo(meterRegistry);
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(props.getConnectionRequestTimeoutMs()))
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .build();
+
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        this.tokenHolder = new KeycloakAccessTokenHolder(props, restTemplate, meterRegistry);
+        this.restTemplate.getInterceptors().add((request, body, execution) -> {
+            ClientHttpResponse response = execution.execute(request, body);
+            String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (response.getStatusCode().value() == 401 && authorization != null && authorization.startsWith("Bearer ")) {
+                tokenHolder.invalidate(authorization.substring("Bearer ".length()));
+            }
+            return response;
+        });
     }
 
-    private String tokenEndpoint() {
-        return props.getBaseUrl() + "/realms/" + props.getRealm() + "/protocol/openid-connect/token";
+    @PreDestroy
+    void close() {
+        tokenHolder.shutdown();
+        httpClient.close(CloseMode.GRACEFUL);
     }
 
     private String adminApi(String path) {
         return props.getBaseUrl() + "/admin/realms/" + props.getRealm() + path;
     }
 
+    /**
+     * 서비스 계정 액세스 토큰 (캐시된 토큰, 없거나 만료됐으면 발급)
+     */
     public String getAccessToken() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
-        form.add("grant_type", "client_credentials");
-        form.add("client_id", props.getClientId());
-        form.add("client_secret", props.getClientSecret());
-        // 역할이 토큰에 포함되도록 scope 명시적 요청
-        form.add("scope", "openid email profile");
-        HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(form, headers);
-        Map<?, ?> resp = restTemplate.postForObject(tokenEndpoint(), entity, Map.class);
-        if (resp == null || !resp.containsKey("access_token")) {
-            throw new IllegalStateException("Failed to obtain Keycloak access token");
-        }
-        return String.valueOf(resp.get("access_token"));
+        return tokenHolder.getToken();
     }
 
     /**
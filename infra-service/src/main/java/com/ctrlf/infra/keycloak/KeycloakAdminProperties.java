@@ -8,6 +8,14 @@ public class KeycloakAdminProperties {
     private String realm;
     private String clientId;
     private String clientSecret;
+    /** 서비스 계정 토큰 만료 몇 초 전에 백그라운드 갱신할지 */
+    private long tokenRefreshSkewSeconds = 30;
+    /** Admin API 커넥션 풀 최대 크기 */
+    private int maxConnections = 20;
+    private long connectTimeoutMs = 3000;
+    private long readTimeoutMs = 10000;
+    /** 풀에서 커넥션을 빌릴 때 최대 대기 시간 (풀이 가득 차면 이 시간 후 실패) */
+    private long connectionRequestTimeoutMs = 3000;
 
     public String getBaseUrl() {
         return baseUrl;
@@ -33,6 +41,34 @@ public class KeycloakAdminProperties {
     public void setClientSecret(String clientSecret) {
         this.clientSecret = clientSecret;
     }
+    public long getTokenRefreshSkewSeconds() {
+        return tokenRefreshSkewSeconds;
+    }
+    public void setTokenRefreshSkewSeconds(long tokenRefreshSkewSeconds) {
+        this.tokenRefreshSkewSeconds = tokenRefreshSkewSeconds;
+    }
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+    public long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+    public void setConnectTimeoutMs(long connectTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+    public long getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+    public void setReadTimeoutMs(long readTimeoutMs) {
+        this.readTimeoutMs = readTimeoutMs;
+    }
+    public long getConnectionRequestTimeoutMs() {
+        return connectionRequestTimeoutMs;
+    }
+    public void setConnectionRequestTimeoutMs(long connectionRequestTimeoutMs) {
+        this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+    }
 }
-
-
@@ -0,0 +1,164 @@
+package com.ctrlf.infra.personalization.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데이터 변경 알림 수신 → 개인화 캐시 무효화 (모든 인스턴스)
+ *
+ * <p>전용 커넥션 하나로 두 채널을 LISTEN 하고, 변경된 사용자의 관련 인텐트만 {@link PersonalizationCache} 에서 제거합니다.</p>
+ * <ul>
+ *   <li>{@code personalization_hr_change}: V26 트리거가 HR 테이블 변경 시 보냄 (payload: {@code {table}:{user_uuid}})</li>
+ *   <li>{@code personalization_education_change}: education-service 의 무효화 요청을 받은 인스턴스가
+ *       {@link #publishEducationChange} 로 보냄 (payload: {@code {event}:{user_id}})</li>
+ * </ul>
+ *
+ * <p>캐시는 인스턴스마다 있으므로, 무효화 요청을 받은 인스턴스만 지우지 않고 NOTIFY 로 모든 인스턴스에 전달합니다.
+ * 커넥션이 끊긴 동안의 알림은 유실되므로 (재)연결할 때마다 캐시를 전체 무효화합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheChangeNotificationListener {
+
+    private static final String HR_CHANNEL = "personalization_hr_change";
+    private static final String EDUCATION_CHANNEL = "personalization_education_change";
+
+    private static final String PUBLISH_SQL =
+        "SELECT count(pg_notify('" + EDUCATION_CHANNEL + "', ? || ':' || u)) FROM unnest(?) AS u";
+
+    private final DataSource dataSource;
+    private final PersonalizationCache personalizationCache;
+
+    /** 알림 수신/발행 사용 여부 (false 면 무효화 요청을 받은 인스턴스에서만 제거) */
+    @Value("${app.personalization.cache.change-notify.enabled:true}")
+    private boolean enabled;
+
+    /** 알림 대기 시간 (이 간격으로 종료 여부 확인) */
+    @Value("${app.personalization.cache.change-notify.poll-timeout-ms:5000}")
+    private int pollTimeoutMs;
+
+    /** 연결 실패 시 재연결 간격 */
+    @Value("${app.personalization.cache.change-notify.reconnect-interval-ms:10000}")
+    private long reconnectIntervalMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "personalization-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * education-service 변경을 모든 인스턴스에 알립니다 (이 인스턴스도 알림으로 제거).
+     *
+     * @param event 변경 이벤트 (PROGRESS, QUIZ_SUBMIT)
+     * @param userIds 변경된 사용자 ID
+     * @return 발행 여부 (알림 수신을 끈 경우나 발행 실패 시 false: 호출자가 이 인스턴스에서 직접 제거)
+     */
+    public boolean publishEducationChange(String event, List<String> userIds) {
+        if (!enabled) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PUBLISH_SQL)) {
+            Array ids = connection.createArrayOf("text", userIds.toArray());
+            statement.setString(1, event);
+            statement.setArray(2, ids);
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                // 알림은 커밋 시점에 전달됨
+                connection.commit();
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("[PersonalizationCache] education 변경 알림 발행 실패, 이 인스턴스에서만 무효화합니다: event={}, users={}, error={}",
+                event, userIds.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + HR_CHANNEL);
+                    statement.execute("LISTEN " + EDUCATION_CHANNEL);
+                }
+                if (!connection.getAutoCommit()) {
+                    // 알림은 트랜잭션 밖에서만 전달됨
+                    connection.commit();
+                }
+                int removed = personalizationCache.invalidateAll();
+                log.info("[PersonalizationCache] 변경 알림 수신 시작: channels={},{}, invalidated={}",
+                    HR_CHANNEL, EDUCATION_CHANNEL, removed);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getName(), notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[PersonalizationCache] 변경 알림 연결 실패, {}ms 후 재연결: error={}",
+                    reconnectIntervalMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handle(String channel, String payload) {
+        if (payload == null) {
+            return;
+        }
+        int sep = payload.indexOf(':');
+        String source = sep >= 0 ? payload.substring(0, sep) : payload;
+        String userId = sep >= 0 && sep + 1 < payload.length() ? payload.substring(sep + 1) : null;
+        int removed = EDUCATION_CHANNEL.equals(channel)
+            ? personalizationCache.invalidateEducationChange(source, userId)
+            : personalizationCache.invalidateHrChange(source, userId);
+        log.debug("[PersonalizationCache] 변경 알림: channel={}, source={}, userId={}, removed={}",
+            channel, source, userId, removed);
+    }
+}
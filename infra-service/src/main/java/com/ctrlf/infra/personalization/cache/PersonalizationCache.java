@@ -0,0 +1,349 @@
+package com.ctrlf.infra.personalization.cache;
+
+import static com.ctrlf.infra.personalization.dto.PersonalizationDtos.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 개인화 facts 응답 캐시 (PersonalizationService.resolve 앞단)
+ *
+ * <p>AI Gateway 가 개인화 대화 턴마다 같은 질문을 다시 조회하므로, (userId, subIntentId, topic, period,
+ * targetDeptId) 단위로 응답을 재사용합니다.</p>
+ *
+ * <ul>
+ *   <li>인텐트별 TTL (intent-ttl-seconds, 없으면 default-ttl-seconds) + 최대 크기 초과 시 LRU 제거</li>
+ *   <li>education-service 진행률/퀴즈 제출 이벤트, HR 테이블 변경 시 해당 사용자의 관련 인텐트 무효화
+ *       (둘 다 NOTIFY 로 모든 인스턴스에 전달, {@link CacheChangeNotificationListener})</li>
+ *   <li>에러 응답, deadline 초과로 일부 섹션이 빠진 응답(meta.partial)은 저장하지 않음</li>
+ *   <li>조회 중 같은 키가 무효화되면 그 조회 결과는 저장하지 않음 (무효화 이전 데이터가 다시 캐시되는 것 방지).
+ *       다른 사용자/인텐트의 무효화는 진행 중인 조회에 영향을 주지 않음</li>
+ * </ul>
+ *
+ * <p>메트릭: personalization.cache.requests(result=hit|miss|bypass), personalization.cache.hit.ratio,
+ * personalization.cache.latency.saved, personalization.cache.evictions(reason), personalization.cache.size</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersonalizationCache {
+
+    private static final String REQUESTS_METRIC = "personalization.cache.requests";
+
+    /** education-service 데이터를 쓰는 인텐트 */
+    public static final Set<String> EDUCATION_INTENTS = Set.of(
+        "Q1", "Q2", "Q3", "Q4", "Q5", "Q6", "Q7", "Q8", "Q9", "Q18", "Q19", "Q20"
+    );
+
+    /** 부서별 퀴즈 통계를 쓰는 인텐트 (누군가 퀴즈를 제출하면 모든 사용자에서 무효화) */
+    public static final Set<String> DEPARTMENT_QUIZ_INTENTS = Set.of("Q5");
+
+    /** 팀원 목록을 쓰는 인텐트 (employee 변경 시 모든 사용자에서 무효화) */
+    private static final Set<String> TEAM_INTENTS = Set.of("Q17");
+
+    /**
+     * HR 테이블 → 영향받는 인텐트 (null: 해당 사용자의 전체 인텐트)
+     *
+     * <p>employee 는 모든 응답의 employee_name 에 쓰이므로 사용자 전체를 무효화하고, 팀원 목록(Q17)은
+     * 모든 사용자에서 무효화합니다. department 는 여러 사용자에게 영향을 주므로 전체 무효화합니다.</p>
+     */
+    private static final Map<String, Set<String>> HR_TABLE_INTENTS = Map.of(
+        "attendance", Set.of("Q10"),
+        "salary", Set.of("Q13"),
+        "leave_history", Set.of("Q11", "Q12", "Q20"),
+        "welfare_point", Set.of("Q14", "Q15", "Q20"),
+        "welfare_point_usage", Set.of("Q15")
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    /** 개인화 캐시 사용 여부 */
+    @Value("${app.personalization.cache.enabled:true}")
+    private boolean enabled;
+
+    /** 기본 항목 유효 시간 */
+    @Value("${app.personalization.cache.default-ttl-seconds:300}")
+    private long defaultTtlSeconds;
+
+    /** 인텐트별 유효 시간 (예: Q4=60,Q13=3600, 0 이면 캐시하지 않음) */
+    @Value("${app.personalization.cache.intent-ttl-seconds:}")
+    private String intentTtlValue;
+
+    /** 최대 항목 수 (초과 시 가장 오래 사용되지 않은 항목 제거) */
+    @Value("${app.personalization.cache.max-size:20000}")
+    private int maxSize;
+
+    private Map<String, Long> intentTtlSeconds;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter bypassCounter;
+    private Counter latencySavedCounter;
+
+    /** access-order LinkedHashMap 기반 LRU (모든 접근은 this 동기화) */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+
+    /** 진행 중인 miss 조회 (무효화 조건에 맞으면 stale 로 표시해 저장하지 않음, this 동기화) */
+    private final Set<PendingLoad> pendingLoads = new HashSet<>();
+
+    @PostConstruct
+    void init() {
+        intentTtlSeconds = parseTtls(intentTtlValue);
+        hitCounter = Counter.builder(REQUESTS_METRIC).tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder(REQUESTS_METRIC).tag("result", "miss").register(meterRegistry);
+        bypassCounter = Counter.builder(REQUESTS_METRIC).tag("result", "bypass").register(meterRegistry);
+        latencySavedCounter = Counter.builder("personalization.cache.latency.saved")
+            .baseUnit("milliseconds")
+            .description("캐시 적중으로 생략된 resolve 시간 합계 (원본 조회 시간 기준)")
+            .register(meterRegistry);
+        meterRegistry.gauge("personalization.cache.size", List.of(), this, PersonalizationCache::size);
+        meterRegistry.gauge("personalization.cache.hit.ratio", List.of(), this, PersonalizationCache::hitRatio);
+        log.info("[PersonalizationCache] enabled={}, defaultTtlSeconds={}, intentTtlSeconds={}, maxSize={}",
+            enabled, defaultTtlSeconds, intentTtlSeconds, maxSize);
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 로 계산해 저장합니다.
+     *
+     * @param key 캐시 키 ({@link #key})
+     * @param loader resolve 계산 (miss 시에만 호출)
+     * @return 캐시된 응답 또는 새로 계산한 응답
+     */
+    public ResolveResponse getOrLoad(Key key, Supplier<ResolveResponse> loader) {
+        long ttlSeconds = key != null ? ttlSeconds(key.subIntentId()) : 0L;
+        if (!enabled || ttlSeconds <= 0) {
+            bypassCounter.increment();
+            return loader.get();
+        }
+        Entry cached = get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            latencySavedCounter.increment(cached.loadMs());
+            return cached.response();
+        }
+        missCounter.increment();
+
+        PendingLoad pending = new PendingLoad(key);
+        synchronized (this) {
+            pendingLoads.add(pending);
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            ResolveResponse response = loader.get();
+            if (isCacheable(response)) {
+                put(pending, response, System.currentTimeMillis() - startTime, ttlSeconds);
+            }
+            return response;
+        } finally {
+            synchronized (this) {
+                pendingLoads.remove(pending);
+            }
+        }
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @return subIntentId 가 없으면 null (캐시 미사용)
+     */
+    public static Key key(String userId, ResolveRequest request) {
+        if (userId == null || request == null || request.getSub_intent_id() == null) {
+            return null;
+        }
+        return new Key(
+            userId,
+            request.getSub_intent_id().trim().toUpperCase(Locale.ROOT),
+            blankToNull(request.getTopic()),
+            blankToNull(request.getPeriod()),
+            blankToNull(request.getTarget_dept_id())
+        );
+    }
+
+    /**
+     * 사용자 항목 무효화
+     *
+     * @param userId 사용자 ID (Keycloak sub UUID 문자열)
+     * @param intents 무효화할 인텐트 (null 이면 사용자 전체)
+     * @return 제거된 항목 수
+     */
+    public int invalidateUser(String userId, Set<String> intents) {
+        return invalidate("user", k -> k.userId().equals(userId)
+            && (intents == null || intents.contains(k.subIntentId())));
+    }
+
+    /**
+     * 모든 사용자의 인텐트 무효화 (부서/전사 평균 등 여러 사용자 데이터에 의존하는 인텐트)
+     */
+    public int invalidateIntents(Set<String> intents) {
+        return invalidate("intent", k -> intents.contains(k.subIntentId()));
+    }
+
+    /**
+     * 전체 무효화 (변경 이벤트 유실 가능성이 있을 때)
+     */
+    public int invalidateAll() {
+        return invalidate("all", k -> true);
+    }
+
+    /**
+     * education-service 변경 반영 (진행률 저장, 퀴즈 제출)
+     *
+     * @param event 변경 이벤트 (QUIZ_SUBMIT 이면 부서별 퀴즈 통계 인텐트를 모든 사용자에서 제거)
+     * @param userId 변경된 사용자 (없으면 null)
+     * @return 제거된 항목 수
+     */
+    public int invalidateEducationChange(String event, String userId) {
+        int removed = userId != null ? invalidateUser(userId, EDUCATION_INTENTS) : 0;
+        if ("QUIZ_SUBMIT".equalsIgnoreCase(event)) {
+            removed += invalidateIntents(DEPARTMENT_QUIZ_INTENTS);
+        }
+        return removed;
+    }
+
+    /**
+     * HR 테이블 행 변경 반영
+     *
+     * @param table 변경된 테이블 (infra 스키마)
+     * @param userUuid 변경된 행의 user_uuid (없으면 null)
+     * @return 제거된 항목 수
+     */
+    public int invalidateHrChange(String table, String userUuid) {
+        if (userUuid == null || "department".equals(table)) {
+            return invalidateAll();
+        }
+        int removed = invalidateUser(userUuid, HR_TABLE_INTENTS.get(table));
+        if ("employee".equals(table)) {
+            removed += invalidateIntents(TEAM_INTENTS);
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private int invalidate(String scope, Predicate<Key> filter) {
+        int removed;
+        synchronized (this) {
+            for (PendingLoad pending : pendingLoads) {
+                if (filter.test(pending.key)) {
+                    pending.stale = true;
+                }
+            }
+            int before = entries.size();
+            entries.keySet().removeIf(filter);
+            removed = before - entries.size();
+        }
+        if (removed > 0) {
+            meterRegistry.counter("personalization.cache.evictions", "reason", "invalidated").increment(removed);
+        }
+        log.debug("[PersonalizationCache] invalidated: scope={}, removed={}", scope, removed);
+        return removed;
+    }
+
+    private synchronized Entry get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMs() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            meterRegistry.counter("personalization.cache.evictions", "reason", "expired").increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private void put(PendingLoad pending, ResolveResponse response, long loadMs, long ttlSeconds) {
+        int evicted = 0;
+        synchronized (this) {
+            if (pending.stale) {
+                // 조회 도중 이 키가 무효화됨: 무효화 이전 데이터일 수 있으므로 저장하지 않음
+                return;
+            }
+            entries.put(pending.key, new Entry(response, loadMs, System.currentTimeMillis() + ttlSeconds * 1000L));
+            Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+            while (entries.size() > maxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            meterRegistry.counter("personalization.cache.evictions", "reason", "size").increment(evicted);
+        }
+    }
+
+    private long ttlSeconds(String subIntentId) {
+        return intentTtlSeconds.getOrDefault(subIntentId, defaultTtlSeconds);
+    }
+
+    /**
+     * 저장 가능 여부: 에러가 없고 일부 섹션이 빠지지 않은 응답
+     *
+     * <p>병렬 조회 deadline 초과와 facet 조회 실패(빈 값으로 대체)는 모두 meta.partial=true 로 표시됩니다.</p>
+     */
+    private static boolean isCacheable(ResolveResponse response) {
+        if (response == null || response.getError() != null) {
+            return false;
+        }
+        Map<String, Object> meta = response.getMeta();
+        return meta == null || !Boolean.TRUE.equals(meta.get("partial"));
+    }
+
+    private static String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim();
+    }
+
+    private static Map<String, Long> parseTtls(String value) {
+        Map<String, Long> ttls = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return ttls;
+        }
+        Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(s -> s.contains("="))
+            .forEach(s -> {
+                String[] parts = s.split("=", 2);
+                ttls.put(parts[0].trim().toUpperCase(Locale.ROOT), Long.parseLong(parts[1].trim()));
+            });
+        return ttls;
+    }
+
+    public record Key(String userId, String subIntentId, String topic, String period, String targetDeptId) {}
+
+    private record Entry(ResolveResponse response, long loadMs, long expiresAtMs) {}
+
+    /** 진행 중인 조회 하나 (동일 키 조회가 겹쳐도 각각 추적하도록 identity 비교) */
+    private static final class PendingLoad {
+        private final Key key;
+        /** this 동기화 */
+        private boolean stale;
+
+        private PendingLoad(Key key) {
+            this.key = key;
+        }
+    }
+}
@@ -1,14 +1,30 @@
 package com.ctrlf.infra.personalization.client;
 
-import java.time.Duration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -17,33 +33,96 @@ import org.springframework.web.client.RestClientException;
  * Education Service 내부 API 호출 클라이언트.
  *
  * 퀴즈 응시 내역, 교육 진행 현황 등 개인화 데이터를 조회합니다.
+ * 인텐트 하나에 필요한 데이터(facet)를 스냅샷 API 한 번으로 조회하며,
+ * 커넥션은 keep-alive 풀(Apache HttpClient 5)로 재사용합니다.
  *
  * 엔드포인트:
- * - GET /internal/quiz/my-attempts (사용자 퀴즈 응시 내역)
- * - GET /internal/quiz/department-stats (부서별 통계)
+ * - GET /internal/personalization/snapshot?facets=...&topic=... (요청한 facet 일괄 조회)
+ *
+ * 메트릭:
+ * - httpcomponents.httpclient.pool.* (client=education-service): 풀 크기, 사용 중/유휴/대기 커넥션
+ * - personalization.education.client.requests / connections.created: 요청 수 / 새로 연결한 커넥션 수
+ * - personalization.education.client.connection.reuse.ratio: 1 - (새 커넥션 / 요청)
  */
 @Component
 @Slf4j
 public class EducationServiceClient {
 
+    private static final String SNAPSHOT_PATH = "/internal/personalization/snapshot";
+
+    /** 스냅샷 facet (education-service PersonalizationSnapshotService.FACETS 와 일치) */
+    public enum Facet {
+        MY_ATTEMPTS, DEPARTMENT_STATS, LAST_VIDEO_PROGRESS,
+        PROGRESS_BY_TOPIC, DEADLINE_BY_TOPIC, SCORE_BY_TOPIC,
+        INCOMPLETE_MANDATORY, DEADLINES_THIS_MONTH, TODOS_THIS_WEEK;
+
+        public String paramValue() {
+            return name().toLowerCase();
+        }
+    }
+
     private final RestClient restClient;
     private final String baseUrl;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final Counter requestCounter;
+    private final Counter connectionsCreatedCounter;
 
     public EducationServiceClient(
         @Value("${app.education-service.base-url:http://localhost:9002}") String baseUrl,
-        @Value("${app.education-service.timeout-seconds:10}") long timeoutSeconds
+        @Value("${app.education-service.timeout-seconds:10}") long timeoutSeconds,
+        @Value("${app.education-service.pool.max-total:50}") int maxTotal,
+        @Value("${app.education-service.pool.max-per-route:50}") int maxPerRoute,
+        @Value("${app.education-service.pool.idle-evict-seconds:30}") long idleEvictSeconds,
+        @Value("${app.education-service.pool.time-to-live-seconds:300}") long timeToLiveSeconds,
+        MeterRegistry meterRegistry
     ) {
         this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
 
-        Duration timeout = Duration.ofSeconds(timeoutSeconds);
-        org.springframework.http.client.SimpleClientHttpRequestFactory requestFactory =
-            new org.springframework.http.client.SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(timeout);
-        requestFactory.setReadTimeout(timeout);
+        this.requestCounter = Counter.builder("personalization.education.client.requests")
+            .description("education-service 호출 수")
+            .register(meterRegistry);
+        this.connectionsCreatedCounter = Counter.builder("personalization.education.client.connections.created")
+            .description("education-service 로 새로 연결한 커넥션 수 (나머지 요청은 keep-alive 커넥션 재사용)")
+            .register(meterRegistry);
+        meterRegistry.gauge("personalization.education.client.connection.reuse.ratio", List.of(), this,
+            EducationServiceClient::connectionReuseRatio);
+
+        Timeout timeout = Timeout.ofSeconds(timeoutSeconds);
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(timeout)
+                .setSocketTimeout(timeout)
+                .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .setConnectionFactory(socket -> {
+                connectionsCreatedCounter.increment();
+                return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+            })
+            .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "education-service")
+            .bindTo(meterRegistry);
+
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                // 풀이 가득 찼을 때 커넥션 대기 시간
+                .setConnectionRequestTimeout(timeout)
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+            .evictExpiredConnections()
+            .build();
 
         this.restClient = RestClient.builder()
             .baseUrl(this.baseUrl)
-            .requestFactory(requestFactory)
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+            .requestInterceptor((request, body, execution) -> {
+                requestCounter.increment();
+                return execution.execute(request, body);
+            })
             .defaultRequest(request -> {
                 request.headers(headers -> {
                     headers.setContentType(MediaType.APPLICATION_JSON);
@@ -52,63 +131,94 @@ public class EducationServiceClient {
             .build();
     }
 
+    @PreDestroy
+    void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    private double connectionReuseRatio() {
+        double requests = requestCounter.count();
+        return requests == 0 ? 0.0 : Math.max(0.0, 1.0 - connectionsCreatedCounter.count() / requests);
+    }
+
     /**
-     * 사용자의 모든 퀴즈 응시 내역을 조회합니다.
+     * 요청한 facet 을 한 번의 호출로 조회합니다.
      *
      * @param userUuid 사용자 UUID
-     * @return 퀴즈 응시 내역 목록
+     * @param topic 교육 토픽 (*_BY_TOPIC facet 에서 사용, 없으면 null)
+     * @param facets 조회할 facet
+     * @return 스냅샷 (호출 실패 시 null, facet 단위 실패는 {@link Snapshot#getFailedFacets()})
      */
-    public List<MyAttemptItem> getMyAttempts(UUID userUuid) {
+    public Snapshot getSnapshot(UUID userUuid, String topic, Facet... facets) {
+        String facetParam = Arrays.stream(facets).map(Facet::paramValue).collect(Collectors.joining(","));
         try {
             return restClient.get()
-                .uri("/internal/quiz/my-attempts")
+                .uri(uriBuilder -> {
+                    uriBuilder.path(SNAPSHOT_PATH).queryParam("facets", facetParam);
+                    if (topic != null) {
+                        uriBuilder.queryParam("topic", topic);
+                    }
+                    return uriBuilder.build();
+                })
                 .header("X-User-Id", userUuid.toString())
                 .retrieve()
-                .body(new ParameterizedTypeReference<List<MyAttemptItem>>() {});
+                .body(Snapshot.class);
         } catch (RestClientException e) {
-            log.warn("Failed to get my-attempts: userUuid={}, error={}", userUuid, e.getMessage());
-            return List.of();
+            log.warn("Failed to get personalization snapshot: userUuid={}, facets={}, topic={}, error={}",
+                userUuid, facetParam, topic, e.getMessage());
+            return null;
         }
     }
 
     /**
-     * 부서별 퀴즈 통계를 조회합니다.
+     * 스냅샷 호출 또는 facet 조회가 실패했는지 여부
      *
-     * @param educationId 교육 ID (null이면 전체)
-     * @return 부서별 통계 목록
+     * <p>실패한 facet 은 빈 값과 구분되지 않으므로, 빈 목록을 "데이터 없음"으로 쓰기 전에 확인합니다.</p>
      */
-    public List<DepartmentStatsItem> getDepartmentStats(UUID educationId) {
-        try {
-            String uri = educationId != null
-                ? "/internal/quiz/department-stats?educationId=" + educationId
-                : "/internal/quiz/department-stats";
-            return restClient.get()
-                .uri(uri)
-                .retrieve()
-                .body(new ParameterizedTypeReference<List<DepartmentStatsItem>>() {});
-        } catch (RestClientException e) {
-            log.warn("Failed to get department-stats: error={}", e.getMessage());
-            return List.of();
+    public static boolean isFailed(Snapshot snapshot, Facet facet) {
+        return snapshot == null
+            || (snapshot.getFailedFacets() != null && snapshot.getFailedFacets().contains(facet.paramValue()));
+    }
+
+    /**
+     * 사용자의 모든 퀴즈 응시 내역을 조회합니다.
+     *
+     * @param userUuid 사용자 UUID
+     * @return 퀴즈 응시 내역 목록 (조회 실패 시 null)
+     */
+    public List<MyAttemptItem> getMyAttempts(UUID userUuid) {
+        Snapshot snapshot = getSnapshot(userUuid, null, Facet.MY_ATTEMPTS);
+        if (isFailed(snapshot, Facet.MY_ATTEMPTS)) {
+            return null;
         }
+        return snapshot.getMyAttempts() != null ? snapshot.getMyAttempts() : List.of();
+    }
+
+    /**
+     * 부서별 퀴즈 통계를 조회합니다 (전체 교육 대상).
+     *
+     * @param userUuid 요청 사용자 UUID
+     * @return 부서별 통계 목록 (조회 실패 시 null)
+     */
+    public List<DepartmentStatsItem> getDepartmentStats(UUID userUuid) {
+        Snapshot snapshot = getSnapshot(userUuid, null, Facet.DEPARTMENT_STATS);
+        if (isFailed(snapshot, Facet.DEPARTMENT_STATS)) {
+            return null;
+        }
+        return snapshot.getDepartmentStats() != null ? snapshot.getDepartmentStats() : List.of();
     }
 
     /**
      * 사용자의 마지막 시청 영상 정보를 조회합니다 (Q4 이어보기용).
      *
+     * <p>시청 기록이 없을 때와 조회 실패를 구분해야 하면 {@link #getSnapshot} 과 {@link #isFailed} 를 사용합니다.</p>
+     *
      * @param userUuid 사용자 UUID
-     * @return 마지막 시청 영상 정보 (없으면 null)
+     * @return 마지막 시청 영상 정보 (없거나 조회 실패 시 null)
      */
     public LastVideoProgressItem getLastVideoProgress(UUID userUuid) {
-        try {
-            return restClient.get()
-                .uri("/internal/video/last-progress")
-                .header("X-User-Id", userUuid.toString())
-                .retrieve()
-                .body(LastVideoProgressItem.class);
-        } catch (RestClientException e) {
-            log.warn("Failed to get last-video-progress: userUuid={}, error={}", userUuid, e.getMessage());
-            return null;
-        }
+        Snapshot snapshot = getSnapshot(userUuid, null, Facet.LAST_VIDEO_PROGRESS);
+        return snapshot != null ? snapshot.getLastVideoProgress() : null;
     }
 
     // ---------- Response DTOs (education-service 응답과 일치) ----------
@@ -157,16 +267,8 @@ public class EducationServiceClient {
      * @return 토픽별 교육 이수 현황
      */
     public TopicProgressResponse getProgressByTopic(UUID userUuid, String topic) {
-        try {
-            return restClient.get()
-                .uri("/internal/education/progress-by-topic?topic=" + topic)
-                .header("X-User-Id", userUuid.toString())
-                .retrieve()
-                .body(TopicProgressResponse.class);
-        } catch (RestClientException e) {
-            log.warn("Failed to get progress-by-topic: userUuid={}, topic={}, error={}", userUuid, topic, e.getMessage());
-            return null;
-        }
+        Snapshot snapshot = getSnapshot(userUuid, topic, Facet.PROGRESS_BY_TOPIC);
+        return snapshot != null ? snapshot.getProgressByTopic() : null;
     }
 
     @Getter
@@ -201,16 +303,8 @@ public class EducationServiceClient {
      * @return 토픽별 마감일 정보
      */
     public TopicDeadlineResponse getDeadlineByTopic(UUID userUuid, String topic) {
-        try {
-            return restClient.get()
-                .uri("/internal/education/deadline-by-topic?topic=" + topic)
-                .header("X-User-Id", userUuid.toString())
-                .retrieve()
-                .body(TopicDeadlineResponse.class);
-        } catch (RestClientException e) {
-            log.warn("Failed to get deadline-by-topic: userUuid={}, topic={}, error={}", userUuid, topic, e.getMessage());
-            return null;
-        }
+        Snapshot snapshot = getSnapshot(userUuid, topic, Facet.DEADLINE_BY_TOPIC);
+        return snapshot != null ? snapshot.getDeadlineByTopic() : null;
     }
 
     @Getter
@@ -242,16 +336,8 @@ public class EducationServiceClient {
      * @return 토픽별 퀴즈 점수 정보
      */
     public TopicScoreResponse getScoreByTopic(UUID userUuid, String topic) {
-        try {
-            return restClient.get()
-                .uri("/internal/quiz/score-by-topic?topic=" + topic)
-                .header("X-User-Id", userUuid.toString())
-                .retrieve()
-                .body(TopicScoreResponse.class);
-        } catch (RestClientException e) {
-            log.warn("Failed to get score-by-topic: userUuid={}, topic={}, error={}", userUuid, topic, e.getMessage());
-            return null;
-        }
+        Snapshot snapshot = getSnapshot(userUuid, topic, Facet.SCORE_BY_TOPIC);
+        return snapshot != null ? snapshot.getScoreByTopic() : null;
     }
 
     @Getter
@@ -289,16 +375,8 @@ public class EducationServiceClient {
      * @return 미이수 필수 교육 목록
      */
     public IncompleteMandatoryResponse getIncompleteMandatory(UUID userUuid) {
-        try {
-            return restClient.get()
-                .uri("/internal/education/incomplete-mandatory")
-                .header("X-User-Id", userUuid.toString())
-                .retrieve()
-                .body(IncompleteMandatoryResponse.class);
-        } catch (RestClientException e) {
-            log.warn("Failed to get incomplete-mandatory: userUuid={}, error={}", userUuid, e.getMessage());
-            return null;
-        }
+        Snapshot snapshot = getSnapshot(userUuid, null, Facet.INCOMPLETE_MANDATORY);
+        return snapshot != null ? snapshot.getIncompleteMandatory() : null;
     }
 
     @Getter
@@ -328,16 +406,8 @@ public class EducationServiceClient {
      * @return 이번 달 마감 필수 교육 목록
      */
     public DeadlinesThisMonthResponse getDeadlinesThisMonth(UUID userUuid) {
-        try {
-            return restClient.get()
-                .uri("/internal/education/deadlines-this-month")
-                .header("X-User-Id", userUuid.toString())
-                .retrieve()
-                .body(DeadlinesThisMonthResponse.class);
-        } catch (RestClientException e) {
-            log.warn("Failed to get deadlines-this-month: userUuid={}, error={}", userUuid, e.getMessage());
-            return null;
-        }
+        Snapshot snapshot = getSnapshot(userUuid, null, Facet.DEADLINES_THIS_MONTH);
+        return snapshot != null ? snapshot.getDeadlinesThisMonth() : null;
     }
 
     @Getter
@@ -365,16 +435,8 @@ public class EducationServiceClient {
      * @return 이번 주 할 일 목록
      */
     public TodosThisWeekResponse getTodosThisWeek(UUID userUuid) {
-        try {
-            return restClient.get()
-                .uri("/internal/education/todos-this-week")
-                .header("X-User-Id", userUuid.toString())
-                .retrieve()
-                .body(TodosThisWeekResponse.class);
-        } catch (RestClientException e) {
-            log.warn("Failed to get todos-this-week: userUuid={}, error={}", userUuid, e.getMessage());
-            return null;
-        }
+        Snapshot snapshot = getSnapshot(userUuid, null, Facet.TODOS_THIS_WEEK);
+        return snapshot != null ? snapshot.getTodosThisWeek() : null;
     }
 
     @Getter
@@ -391,4 +453,21 @@ public class EducationServiceClient {
         private String title;
         private String deadline;
     }
+
+    // ---------- 스냅샷 (요청한 facet 만 채워짐) ----------
+
+    @Getter
+    @NoArgsConstructor
+    public static class Snapshot {
+        private List<MyAttemptItem> myAttempts;
+        private List<DepartmentStatsItem> departmentStats;
+        private LastVideoProgressItem lastVideoProgress;
+        private TopicProgressResponse progressByTopic;
+        private TopicDeadlineResponse deadlineByTopic;
+        private TopicScoreResponse scoreByTopic;
+        private IncompleteMandatoryResponse incompleteMandatory;
+        private DeadlinesThisMonthResponse deadlinesThisMonth;
+        private TodosThisWeekResponse todosThisWeek;
+        private List<String> failedFacets = new ArrayList<>();
+    }
 }
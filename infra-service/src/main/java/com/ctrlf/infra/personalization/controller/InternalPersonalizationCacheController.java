@@ -0,0 +1,65 @@
+package com.ctrlf.infra.personalization.controller;
+
+import static com.ctrlf.infra.personalization.dto.PersonalizationDtos.*;
+
+import com.ctrlf.infra.personalization.cache.CacheChangeNotificationListener;
+import com.ctrlf.infra.personalization.cache.PersonalizationCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 개인화 캐시 내부 API 컨트롤러.
+ * education-service 가 진행률/퀴즈 제출 커밋 후 변경된 사용자를 알려줍니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/personalization/cache")
+@RequiredArgsConstructor
+@Tag(name = "Internal Personalization - Cache", description = "개인화 캐시 내부 API (education-service → Backend)")
+public class InternalPersonalizationCacheController {
+
+    private final PersonalizationCache personalizationCache;
+    private final CacheChangeNotificationListener cacheChangeNotificationListener;
+
+    @PostMapping("/invalidate")
+    @Operation(
+        summary = "개인화 캐시 무효화 (내부 API)",
+        description = "변경된 사용자의 교육 관련 인텐트(Q1~Q9, Q18~Q20) 캐시를 제거합니다. "
+            + "QUIZ_SUBMIT 이면 부서별 퀴즈 통계(Q5)를 모든 사용자에서 제거합니다. "
+            + "요청을 받은 인스턴스가 NOTIFY 로 모든 infra-service 인스턴스에 전달합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "무효화 성공",
+            content = @Content(schema = @Schema(implementation = CacheInvalidateResponse.class)))
+    })
+    public ResponseEntity<CacheInvalidateResponse> invalidate(@RequestBody CacheInvalidateRequest req) {
+        List<String> userIds = req.getUser_ids() != null ? req.getUser_ids() : List.of();
+        String event = req.getEvent() != null ? req.getEvent() : "PROGRESS";
+        if (userIds.isEmpty()) {
+            return ResponseEntity.ok(new CacheInvalidateResponse(0, false));
+        }
+        boolean broadcast = cacheChangeNotificationListener.publishEducationChange(event, userIds);
+        int removed = 0;
+        if (!broadcast) {
+            // 알림을 보내지 못하면 이 인스턴스에서만 제거 (다른 인스턴스는 TTL 만료 후 반영)
+            for (String userId : userIds) {
+                removed += personalizationCache.invalidateEducationChange(event, userId);
+            }
+        }
+        log.debug("Personalization cache invalidation: event={}, users={}, broadcast={}, removed={}",
+            event, userIds.size(), broadcast, removed);
+        return ResponseEntity.ok(new CacheInvalidateResponse(removed, broadcast));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ctrlf.infra.personalization.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import java.util.List;
@@ -55,6 +56,14 @@ public final class PersonalizationDtos {
         private List<Object> items;
         private Map<String, Object> extra;
         private ErrorInfo error;
+        /** 병렬 조회 meta (deadline, 의존성별 소요 시간/결과, partial 여부). 병렬 조회를 하지 않은 인텐트는 생략 */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Map<String, Object> meta;
+
+        public ResolveResponse(String sub_intent_id, String period_start, String period_end, String updated_at,
+            Map<String, Object> metrics, List<Object> items, Map<String, Object> extra, ErrorInfo error) {
+            this(sub_intent_id, period_start, period_end, updated_at, metrics, items, extra, error, null);
+        }
     }
 
     /**
@@ -343,5 +352,29 @@ public final class PersonalizationDtos {
         private int contract;              // 계약직 (임시)
         private String parent_department;  // 상위 부서명
     }
-}
 
+    // ---------- Cache Invalidation (내부 API) ----------
+    /**
+     * 개인화 캐시 무효화 요청 (education-service → infra).
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheInvalidateRequest {
+        @Schema(description = "변경된 사용자 ID 목록 (Keycloak sub UUID)")
+        private List<String> user_ids;
+
+        @Schema(example = "PROGRESS", description = "변경 이벤트 (PROGRESS: 영상 진행률, QUIZ_SUBMIT: 퀴즈 제출)")
+        private String event;
+    }
+
+    /**
+     * 개인화 캐시 무효화 응답.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CacheInvalidateResponse {
+        private int removed;        // 이 인스턴스에서 바로 제거된 캐시 항목 수 (broadcast 이면 0)
+        private boolean broadcast;  // 모든 인스턴스에 NOTIFY 로 전달했는지 여부 (각 인스턴스가 알림을 받아 제거)
+    }
+}
@@ -0,0 +1,261 @@
+package com.ctrlf.infra.personalization.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 개인화 복합 인텐트의 의존성 병렬 조회 (요청 단위 deadline)
+ *
+ * <p>Q18, Q20 처럼 서로 독립적인 조회(education-service, HR 테이블 등)를 여러 번 하는 핸들러가
+ * {@link #open(String)} 으로 scope 를 열고 각 조회를 {@link Scope#submit}으로 제출합니다.
+ * 조회는 bounded 스레드 풀에서 동시에 실행되고, 결과는 scope 생성 시점 기준 deadline 까지만 기다립니다.
+ * deadline 을 넘기거나 실패한 조회는 null 로 돌려주므로 핸들러는 해당 섹션을 빼고 부분 응답을 만듭니다.</p>
+ *
+ * <p>deadline 을 넘긴 조회는 {@link Future#cancel(boolean)} 로 취소합니다. 큐에서 대기 중이면 실행되지 않고,
+ * 실행 중이면 작업 스레드를 interrupt 합니다. interrupt 에 반응하지 않는 블로킹 I/O(JDBC, HTTP 소켓 읽기)는
+ * 각 클라이언트의 타임아웃까지 스레드를 점유하므로, 제출하는 조회의 타임아웃은 deadline 과 비슷하게 짧게 둡니다.</p>
+ *
+ * <p>조회별 소요 시간/결과는 {@link Scope#meta()} 로 응답 meta 에 담고, 메트릭으로도 기록합니다.</p>
+ * <ul>
+ *   <li>{@code personalization.dependency.latency} (sub_intent, dependency, outcome=ok|error): 조회 소요 시간</li>
+ *   <li>{@code personalization.dependency.degraded} (sub_intent, dependency, reason=timeout|error|rejected): 응답에서 빠진 섹션 수</li>
+ * </ul>
+ *
+ * <p>주의: 작업 스레드의 repository 호출은 호출자(resolve)의 읽기 전용 트랜잭션에 참여하지 않고
+ * 호출마다 커넥션을 사용합니다. 지연 로딩 연관관계를 쓰지 않는 단순 조회만 제출해야 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersonalizationFanOut {
+
+    private final MeterRegistry meterRegistry;
+
+    /** 요청 단위 deadline (모든 병렬 조회가 이 시간 안에 끝나야 응답에 포함) */
+    @Value("${app.personalization.fan-out.deadline-ms:2000}")
+    private long deadlineMs;
+
+    /** 병렬 조회 스레드 수 */
+    @Value("${app.personalization.fan-out.pool-size:16}")
+    private int poolSize;
+
+    /** 대기 큐 크기 (가득 차면 해당 섹션은 rejected 로 빠짐) */
+    @Value("${app.personalization.fan-out.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            r -> {
+                Thread t = new Thread(r, "personalization-fanout-" + threadNumber.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 요청 하나의 병렬 조회 scope 를 엽니다. deadline 은 지금부터 계산합니다.
+     *
+     * @param subIntentId 인텐트 ID (메트릭 태그)
+     */
+    public Scope open(String subIntentId) {
+        return new Scope(subIntentId, System.nanoTime(), deadlineMs);
+    }
+
+    /**
+     * 요청 단위 병렬 조회 scope
+     */
+    public final class Scope {
+
+        private final String subIntentId;
+        private final long startNanos;
+        private final long deadlineNanos;
+        private final long deadlineMillis;
+        /** 섹션 이름 → {status, elapsed_ms} (제출 순서 유지) */
+        private final Map<String, Map<String, Object>> dependencies = new LinkedHashMap<>();
+        private final List<String> degraded = new ArrayList<>();
+
+        private Scope(String subIntentId, long startNanos, long deadlineMillis) {
+            this.subIntentId = subIntentId;
+            this.startNanos = startNanos;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        }
+
+        /**
+         * 조회를 제출합니다.
+         *
+         * @param dependency 섹션 이름 (meta / 메트릭 태그)
+         * @param supplier 조회 (예외는 섹션 실패로 처리)
+         */
+        public <T> Section<T> submit(String dependency, Supplier<T> supplier) {
+            long submittedAt = System.nanoTime();
+            AtomicLong finishedAt = new AtomicLong();
+            Future<T> future;
+            try {
+                // CompletableFuture.cancel(true) 는 실행 중인 스레드를 interrupt 하지 않으므로 FutureTask 사용
+                future = executor.submit(() -> {
+                    String outcome = "ok";
+                    try {
+                        return supplier.get();
+                    } catch (RuntimeException e) {
+                        outcome = "error";
+                        throw e;
+                    } finally {
+                        finishedAt.set(System.nanoTime());
+                        Timer.builder("personalization.dependency.latency")
+                            .description("개인화 의존성 조회 소요 시간 (대기 포함)")
+                            .tags("sub_intent", subIntentId, "dependency", dependency, "outcome", outcome)
+                            .register(meterRegistry)
+                            .record(finishedAt.get() - submittedAt, TimeUnit.NANOSECONDS);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            return new Section<>(dependency, submittedAt, finishedAt, future);
+        }
+
+        /**
+         * 응답 meta (deadline, 전체 소요 시간, 섹션별 결과)
+         */
+        public Map<String, Object> meta() {
+            Map<String, Object> meta = new LinkedHashMap<>();
+            meta.put("deadline_ms", deadlineMillis);
+            meta.put("elapsed_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            meta.put("partial", !degraded.isEmpty());
+            if (!degraded.isEmpty()) {
+                meta.put("degraded", List.copyOf(degraded));
+            }
+            meta.put("dependencies", dependencies);
+            return meta;
+        }
+
+        /**
+         * deadline 초과/실패로 빠진 섹션이 있는지 여부
+         */
+        public boolean isPartial() {
+            return !degraded.isEmpty();
+        }
+
+        /**
+         * 섹션이 deadline 안에 정상 완료되었는지 여부 (join 이후 호출)
+         */
+        public boolean isOk(String dependency) {
+            Map<String, Object> result = dependencies.get(dependency);
+            return result != null && "ok".equals(result.get("status"));
+        }
+
+        /**
+         * 섹션은 완료됐지만 결과 일부가 빠진 경우 기록합니다 (예: 스냅샷의 facet 실패).
+         *
+         * @param dependency 섹션 이름 (meta / 메트릭 태그)
+         * @param reason 사유 (degraded 메트릭 reason 태그)
+         */
+        public void markDegraded(String dependency, String reason) {
+            long now = System.nanoTime();
+            record(dependency, reason, now, now);
+        }
+
+        private void record(String dependency, String status, long submittedAt, long finishedAt) {
+            long endNanos = finishedAt != 0L ? finishedAt : System.nanoTime();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("status", status);
+            result.put("elapsed_ms", TimeUnit.NANOSECONDS.toMillis(endNanos - submittedAt));
+            dependencies.put(dependency, result);
+            if (!"ok".equals(status)) {
+                degraded.add(dependency);
+                meterRegistry.counter("personalization.dependency.degraded",
+                    "sub_intent", subIntentId, "dependency", dependency, "reason", status).increment();
+            }
+        }
+
+        /**
+         * 제출된 조회 하나
+         */
+        public final class Section<T> {
+
+            private final String dependency;
+            private final long submittedAt;
+            /** 조회 종료 시각 (nanoTime, 아직 끝나지 않았으면 0) */
+            private final AtomicLong finishedAt;
+            private final Future<T> future;
+            private boolean joined;
+            private T value;
+
+            private Section(String dependency, long submittedAt, AtomicLong finishedAt, Future<T> future) {
+                this.dependency = dependency;
+                this.submittedAt = submittedAt;
+                this.finishedAt = finishedAt;
+                this.future = future;
+            }
+
+            /**
+             * deadline 까지 결과를 기다립니다.
+             *
+             * @return 조회 결과 (deadline 초과, 실패, 거부 시 null)
+             */
+            public T join() {
+                if (joined) {
+                    return value;
+                }
+                joined = true;
+                long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+                try {
+                    value = future.get(remaining, TimeUnit.NANOSECONDS);
+                    record(dependency, "ok", submittedAt, finishedAt.get());
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    log.warn("Personalization dependency timed out: subIntentId={}, dependency={}, deadlineMs={}",
+                        subIntentId, dependency, deadlineMillis);
+                    record(dependency, "timeout", submittedAt, 0L);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    String status = cause instanceof RejectedExecutionException ? "rejected" : "error";
+                    log.warn("Personalization dependency failed: subIntentId={}, dependency={}, status={}, error={}",
+                        subIntentId, dependency, status, cause.getMessage());
+                    record(dependency, status, submittedAt, finishedAt.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(true);
+                    record(dependency, "timeout", submittedAt, 0L);
+                }
+                return value;
+            }
+        }
+    }
+}
@@ -17,8 +17,11 @@ import com.ctrlf.infra.hr.repository.SalaryRepository;
 import com.ctrlf.infra.hr.repository.WelfarePointRepository;
 import com.ctrlf.infra.hr.repository.WelfarePointUsageRepository;
 import com.ctrlf.infra.keycloak.service.KeycloakAdminService;
+import com.ctrlf.infra.personalization.cache.PersonalizationCache;
 import com.ctrlf.infra.personalization.client.EducationServiceClient;
 import com.ctrlf.infra.personalization.client.EducationServiceClient.DepartmentStatsItem;
+import com.ctrlf.infra.personalization.client.EducationServiceClient.Facet;
+import com.ctrlf.infra.personalization.client.EducationServiceClient.Snapshot;
 import com.ctrlf.infra.personalization.client.EducationServiceClient.LastVideoProgressItem;
 import com.ctrlf.infra.personalization.client.EducationServiceClient.MyAttemptItem;
 import com.ctrlf.infra.personalization.client.EducationServiceClient.TopicProgressResponse;
@@ -35,12 +38,14 @@ import com.ctrlf.infra.personalization.client.EducationServiceClient.TodosThisWe
 import com.ctrlf.infra.personalization.client.EducationServiceClient.TodoItemResponse;
 import com.ctrlf.infra.personalization.dto.PersonalizationDtos;
 import com.ctrlf.infra.personalization.util.PeriodCalculator;
+import jakarta.annotation.PostConstruct;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -48,7 +53,8 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Personalization 비즈니스 로직 서비스.
@@ -73,16 +79,35 @@ public class PersonalizationService {
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final KeycloakAdminService keycloakAdminService;
+    private final PersonalizationFanOut personalizationFanOut;
+    private final PersonalizationCache personalizationCache;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 캐시 miss 시 조회용 읽기 전용 트랜잭션 (캐시 적중 시에는 커넥션을 잡지 않음) */
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 개인화 facts를 조회합니다.
+     * (userId, sub_intent_id, topic, period, target_dept_id) 단위로 {@link PersonalizationCache} 에 캐시합니다.
      * 
      * @param userId 사용자 ID (X-User-Id 헤더에서 추출)
      * @param request 요청 DTO
      * @return 개인화 facts 응답
      */
-    @Transactional(readOnly = true)
     public ResolveResponse resolve(String userId, ResolveRequest request) {
+        return personalizationCache.getOrLoad(
+            PersonalizationCache.key(userId, request),
+            () -> readOnlyTransaction.execute(status -> resolveUncached(userId, request))
+        );
+    }
+
+    private ResolveResponse resolveUncached(String userId, ResolveRequest request) {
         String subIntentId = request.getSub_intent_id();
         String period = request.getPeriod();
         String targetDeptId = request.getTarget_dept_id();
@@ -327,8 +352,13 @@ public class PersonalizationService {
         try {
             UUID userUuid = UUID.fromString(userId);
 
-            // education-service에서 마지막 시청 영상 조회
-            LastVideoProgressItem lastProgress = educationServiceClient.getLastVideoProgress(userUuid);
+            // education-service에서 마지막 시청 영상 조회 (조회 실패와 시청 기록 없음을 구분)
+            Snapshot snapshot = educationServiceClient.getSnapshot(userUuid, null, Facet.LAST_VIDEO_PROGRESS);
+            if (EducationServiceClient.isFailed(snapshot, Facet.LAST_VIDEO_PROGRESS)) {
+                return createErrorResponse("Q4", periodStart, periodEnd, updatedAt,
+                    "SERVICE_ERROR", "교육 정보를 조회할 수 없어요.");
+            }
+            LastVideoProgressItem lastProgress = snapshot.getLastVideoProgress();
 
             if (lastProgress == null) {
                 // 시청 기록 없음
@@ -390,8 +420,11 @@ public class PersonalizationService {
         try {
             UUID userUuid = UUID.fromString(userId);
 
-            // 1. 사용자의 퀴즈 응시 내역 조회
-            List<MyAttemptItem> myAttempts = educationServiceClient.getMyAttempts(userUuid);
+            // 1. 사용자의 퀴즈 응시 내역 + 부서별 통계 조회 (스냅샷 1회 호출)
+            Snapshot snapshot = educationServiceClient.getSnapshot(userUuid, null,
+                Facet.MY_ATTEMPTS, Facet.DEPARTMENT_STATS);
+            List<MyAttemptItem> myAttempts = snapshot != null && snapshot.getMyAttempts() != null
+                ? snapshot.getMyAttempts() : List.of();
 
             // 2. 내 평균 점수 계산 (best attempt 기준)
             double myAverage = myAttempts.stream()
@@ -400,8 +433,9 @@ public class PersonalizationService {
                 .average()
                 .orElse(0.0);
 
-            // 3. 부서별 통계 조회
-            List<DepartmentStatsItem> deptStats = educationServiceClient.getDepartmentStats(null);
+            // 3. 부서별 통계
+            List<DepartmentStatsItem> deptStats = snapshot != null && snapshot.getDepartmentStats() != null
+                ? snapshot.getDepartmentStats() : List.of();
 
             // 4. 부서/전사 평균 계산
             double deptAverage = 0.0;
@@ -448,7 +482,8 @@ public class PersonalizationService {
                 ),
                 List.of(),
                 extra,
-                null
+                null,
+                degradedFacetMeta(snapshot, Facet.MY_ATTEMPTS, Facet.DEPARTMENT_STATS)
             );
         } catch (IllegalArgumentException e) {
             log.warn("Invalid userId format: {}", userId);
@@ -468,8 +503,11 @@ public class PersonalizationService {
         try {
             UUID userUuid = UUID.fromString(userId);
 
-            // 1. 사용자의 퀴즈 응시 내역 조회
-            List<MyAttemptItem> myAttempts = educationServiceClient.getMyAttempts(userUuid);
+            // 1. 사용자의 퀴즈 응시 내역 + 부서별 통계 조회 (스냅샷 1회 호출)
+            Snapshot snapshot = educationServiceClient.getSnapshot(userUuid, null,
+                Facet.MY_ATTEMPTS, Facet.DEPARTMENT_STATS);
+            List<MyAttemptItem> myAttempts = snapshot != null && snapshot.getMyAttempts() != null
+                ? snapshot.getMyAttempts() : List.of();
 
             // 2. 교육별 최저 점수 계산 (best attempt 기준, 점수가 낮을수록 오답률 높음)
             Map<UUID, MyAttemptItem> lowestByEducation = new HashMap<>();
@@ -508,7 +546,8 @@ public class PersonalizationService {
                 Map.of("topic_count", items.size()),
                 items,
                 extra,
-                null
+                null,
+                degradedFacetMeta(snapshot, Facet.MY_ATTEMPTS)
             );
         } catch (IllegalArgumentException e) {
             log.warn("Invalid userId format: {}", userId);
@@ -726,28 +765,25 @@ public class PersonalizationService {
             int currentYear = java.time.Year.now().getValue();
             int currentMonth = java.time.LocalDate.now().getMonthValue();
 
-            // DB에서 근태 기록 조회
-            List<Attendance> attendanceList = attendanceRepository.findByUserUuidAndYearMonth(
-                userUuid, currentYear, currentMonth);
-
-            // 통계 조회
-            Long lateCount = attendanceRepository.countLateByUserUuidAndYearMonth(userUuid, currentYear, currentMonth);
-            Long earlyLeaveCount = attendanceRepository.countEarlyLeaveByUserUuidAndYearMonth(userUuid, currentYear, currentMonth);
-            Long absentCount = attendanceRepository.countAbsentByUserUuidAndYearMonth(userUuid, currentYear, currentMonth);
-            Long remoteCount = attendanceRepository.countRemoteByUserUuidAndYearMonth(userUuid, currentYear, currentMonth);
-            Long actualWorkDays = attendanceRepository.countActualWorkDaysByUserUuidAndYearMonth(userUuid, currentYear, currentMonth);
-            java.math.BigDecimal overtimeSum = attendanceRepository.sumOvertimeByUserUuidAndYearMonth(userUuid, currentYear, currentMonth);
-
-            // 이번 달 근무일수 계산 (주말 제외)
+            // DB에서 이번 달 근태 기록 조회 (work_date 범위 → 인덱스 범위 스캔)
             java.time.LocalDate firstDay = java.time.LocalDate.of(currentYear, currentMonth, 1);
-            java.time.LocalDate today = java.time.LocalDate.now();
-            int workDays = 0;
-            for (java.time.LocalDate date = firstDay; !date.isAfter(today); date = date.plusDays(1)) {
-                java.time.DayOfWeek dow = date.getDayOfWeek();
-                if (dow != java.time.DayOfWeek.SATURDAY && dow != java.time.DayOfWeek.SUNDAY) {
-                    workDays++;
-                }
-            }
+            java.time.LocalDate nextMonthFirstDay = firstDay.plusMonths(1);
+            List<Attendance> attendanceList = attendanceRepository.findByUserUuidAndPeriod(
+                userUuid, firstDay, nextMonthFirstDay.minusDays(1));
+
+            // 통계 조회 (FILTER 집계 1회)
+            List<Object[]> aggregateRows = attendanceRepository.aggregateByUserUuidAndPeriod(
+                userUuid, firstDay, nextMonthFirstDay);
+            Object[] aggregate = aggregateRows.isEmpty() ? new Object[6] : aggregateRows.get(0);
+            int lateCount = toInt(aggregate[0]);
+            int earlyLeaveCount = toInt(aggregate[1]);
+            int absentCount = toInt(aggregate[2]);
+            int remoteCount = toInt(aggregate[3]);
+            int actualWorkDays = toInt(aggregate[4]);
+            double overtimeSum = aggregate[5] != null ? ((Number) aggregate[5]).doubleValue() : 0.0;
+
+            // 이번 달 근무일수 계산 (주말 제외, 오늘까지)
+            int workDays = countWeekdays(firstDay, java.time.LocalDate.now());
 
             // items 생성
             List<Object> items = new ArrayList<>();
@@ -777,12 +813,12 @@ public class PersonalizationService {
                 "Q10", periodStart, periodEnd, updatedAt,
                 Map.of(
                     "work_days", workDays,
-                    "actual_work_days", actualWorkDays != null ? actualWorkDays.intValue() : 0,
-                    "late_count", lateCount != null ? lateCount.intValue() : 0,
-                    "early_leave_count", earlyLeaveCount != null ? earlyLeaveCount.intValue() : 0,
-                    "absent_count", absentCount != null ? absentCount.intValue() : 0,
-                    "remote_days", remoteCount != null ? remoteCount.intValue() : 0,
-                    "overtime_hours", overtimeSum != null ? overtimeSum.doubleValue() : 0.0
+                    "actual_work_days", actualWorkDays,
+                    "late_count", lateCount,
+                    "early_leave_count", earlyLeaveCount,
+                    "absent_count", absentCount,
+                    "remote_days", remoteCount,
+                    "overtime_hours", overtimeSum
                 ),
                 items,
                 extra,
@@ -799,6 +835,29 @@ public class PersonalizationService {
         }
     }
 
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * from ~ to(포함) 사이의 평일(월~금) 수 (from 이 to 이후면 0)
+     */
+    private static int countWeekdays(java.time.LocalDate from, java.time.LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        long days = java.time.temporal.ChronoUnit.DAYS.between(from, to) + 1;
+        long weekdays = (days / 7) * 5;
+        int startDow = from.getDayOfWeek().getValue(); // 1=월 ... 7=일
+        for (int i = 0; i < days % 7; i++) {
+            int dow = (startDow - 1 + i) % 7 + 1;
+            if (dow <= 5) {
+                weekdays++;
+            }
+        }
+        return (int) weekdays;
+    }
+
     // ---------- Q11: 남은 연차 일수 ----------
     private ResolveResponse handleQ11(String userId, String periodStart, String periodEnd, String updatedAt) {
         log.info("Q11 handler: userId={}", userId);
@@ -1445,14 +1504,22 @@ public class PersonalizationService {
         try {
             UUID userUuid = UUID.fromString(userId);
 
-            // 교육 이수 현황 조회
-            TopicProgressResponse progress = educationServiceClient.getProgressByTopic(userUuid, effectiveTopic);
-            // 퀴즈 점수 조회
-            TopicScoreResponse score = educationServiceClient.getScoreByTopic(userUuid, effectiveTopic);
+            // 교육 이수 현황 / 퀴즈 점수 / 사용자 이름 병렬 조회 (요청 단위 deadline)
+            PersonalizationFanOut.Scope fanOut = personalizationFanOut.open("Q18");
+            var educationSection = fanOut.submit("education.snapshot",
+                () -> educationServiceClient.getSnapshot(userUuid, effectiveTopic,
+                    Facet.PROGRESS_BY_TOPIC, Facet.SCORE_BY_TOPIC));
+            var nameSection = fanOut.submit("employee.name", () -> getEmployeeName(userUuid, userId));
+
+            Snapshot snapshot = joinSnapshot(fanOut, educationSection);
+            TopicProgressResponse progress = snapshot != null ? snapshot.getProgressByTopic() : null;
+            TopicScoreResponse score = snapshot != null ? snapshot.getScoreByTopic() : null;
+            String employeeName = nameSection.join();
 
             if (progress == null) {
-                return createErrorResponse("Q18", periodStart, periodEnd, updatedAt,
-                    "SERVICE_ERROR", "교육 정보를 조회할 수 없어요.");
+                return new ResolveResponse("Q18", periodStart, periodEnd, updatedAt,
+                    Map.of(), List.of(), Map.of(),
+                    new ErrorInfo("SERVICE_ERROR", "교육 정보를 조회할 수 없어요."), fanOut.meta());
             }
 
             // Q18은 교육 시청 + 퀴즈 통과 여부를 종합
@@ -1486,26 +1553,28 @@ public class PersonalizationService {
                 }
             }
 
-            // 사용자 이름 조회 (DB 먼저, 없으면 Keycloak)
+            // 사용자 이름 (DB 먼저, 없으면 Keycloak)
             Map<String, Object> extra = new HashMap<>();
-            String employeeName = getEmployeeName(userUuid, userId);
             if (employeeName != null) {
                 extra.put("employee_name", employeeName);
             }
 
+            Map<String, Object> metrics = new HashMap<>();
+            metrics.put("topic", effectiveTopic);
+            metrics.put("topic_label", progress.getTopicLabel() != null ? progress.getTopicLabel() : effectiveTopic);
+            metrics.put("education_count", progress.getEducationCount());
+            metrics.put("video_completed_count", progress.getCompletedCount());
+            // 퀴즈 점수 조회가 deadline 을 넘기면 키는 유지하고 값은 null / false (meta.degraded 로 구분)
+            metrics.put("quiz_passed_count", score != null ? score.getPassedCount() : null);
+            metrics.put("is_fully_completed", isFullyCompleted);
+
             return new ResolveResponse(
                 "Q18", periodStart, periodEnd, updatedAt,
-                Map.of(
-                    "topic", effectiveTopic,
-                    "topic_label", progress.getTopicLabel() != null ? progress.getTopicLabel() : effectiveTopic,
-                    "education_count", progress.getEducationCount(),
-                    "video_completed_count", progress.getCompletedCount(),
-                    "quiz_passed_count", score != null ? score.getPassedCount() : 0,
-                    "is_fully_completed", isFullyCompleted
-                ),
+                metrics,
                 items,
                 extra,
-                null
+                null,
+                fanOut.meta()
             );
         } catch (IllegalArgumentException e) {
             log.warn("Invalid userId format: {}", userId);
@@ -1599,11 +1668,24 @@ public class PersonalizationService {
 
         try {
             UUID userUuid = UUID.fromString(userId);
+            int currentYear = java.time.Year.now().getValue();
+
+            // 독립적인 조회를 병렬 실행 (요청 단위 deadline, 넘긴 섹션은 빼고 부분 응답)
+            PersonalizationFanOut.Scope fanOut = personalizationFanOut.open("Q20");
+            var educationSection = fanOut.submit("education.snapshot",
+                () -> educationServiceClient.getSnapshot(userUuid, null,
+                    Facet.INCOMPLETE_MANDATORY, Facet.TODOS_THIS_WEEK));
+            var leaveSection = fanOut.submit("hr.leave_used_days",
+                () -> leaveHistoryRepository.sumDaysByUserUuidAndYear(userUuid, currentYear));
+            var welfareSection = fanOut.submit("hr.welfare_point",
+                () -> welfarePointRepository.findByUserUuidAndYear(userUuid, currentYear));
+            var nameSection = fanOut.submit("employee.name", () -> getEmployeeName(userUuid, userId));
 
             List<Object> items = new ArrayList<>();
 
             // 1. 미이수 필수 교육 조회
-            IncompleteMandatoryResponse eduResponse = educationServiceClient.getIncompleteMandatory(userUuid);
+            Snapshot snapshot = joinSnapshot(fanOut, educationSection);
+            IncompleteMandatoryResponse eduResponse = snapshot != null ? snapshot.getIncompleteMandatory() : null;
             if (eduResponse != null && eduResponse.getRemaining() > 0) {
                 String eduTitle = eduResponse.getRemaining() == 1
                     ? "필수 교육 1건"
@@ -1612,17 +1694,18 @@ public class PersonalizationService {
             }
 
             // 2. 연차 관련 할 일 (사용 권장 알림 - 연차 10일 이상 남은 경우)
-            int currentYear = java.time.Year.now().getValue();
-            Double usedDays = leaveHistoryRepository.sumDaysByUserUuidAndYear(userUuid, currentYear);
+            Double usedDays = leaveSection.join();
             if (usedDays == null) usedDays = 0.0;
             int totalDays = 15;  // 기본 연차
             double remainingLeave = totalDays - usedDays;
-            if (remainingLeave >= 10) {
+            // 조회 실패/지연 시에는 사용 일수를 알 수 없으므로 권장 항목을 만들지 않음
+            if (fanOut.isOk("hr.leave_used_days") && remainingLeave >= 10) {
                 items.add(new Q20TodoItem("leave", "연차 사용 권장 (" + (int)remainingLeave + "일 남음)", null, null));
             }
 
             // 3. 복지 포인트 관련 할 일 (미사용 잔액이 50% 이상인 경우)
-            WelfarePoint welfarePoint = welfarePointRepository.findByUserUuidAndYear(userUuid, currentYear).orElse(null);
+            java.util.Optional<WelfarePoint> welfareResult = welfareSection.join();
+            WelfarePoint welfarePoint = welfareResult != null ? welfareResult.orElse(null) : null;
             if (welfarePoint != null && welfarePoint.getTotalGranted() > 0) {
                 double usageRate = (double) welfarePoint.getTotalUsed() / welfarePoint.getTotalGranted();
                 if (usageRate < 0.5) {
@@ -1632,14 +1715,14 @@ public class PersonalizationService {
             }
 
             // 4. 이번 주 마감 교육/퀴즈 (Q9 데이터 활용)
-            TodosThisWeekResponse todoResponse = educationServiceClient.getTodosThisWeek(userUuid);
+            TodosThisWeekResponse todoResponse = snapshot != null ? snapshot.getTodosThisWeek() : null;
             if (todoResponse != null && todoResponse.getTodoCount() > 0) {
                 items.add(new Q20TodoItem("deadline", "이번 주 마감 교육/퀴즈 " + todoResponse.getTodoCount() + "건", null, null));
             }
 
-            // 사용자 이름 조회 (DB 먼저, 없으면 Keycloak)
+            // 사용자 이름 (DB 먼저, 없으면 Keycloak)
             Map<String, Object> extra = new HashMap<>();
-            String employeeName = getEmployeeName(userUuid, userId);
+            String employeeName = nameSection.join();
             if (employeeName != null) {
                 extra.put("employee_name", employeeName);
             }
@@ -1649,7 +1732,8 @@ public class PersonalizationService {
                 Map.of("todo_count", items.size()),
                 items,
                 extra,
-                null
+                null,
+                fanOut.meta()
             );
         } catch (IllegalArgumentException e) {
             log.warn("Invalid userId format: {}", userId);
@@ -1934,6 +2018,25 @@ public class PersonalizationService {
      * @param userId Keycloak 사용자 ID
      * @return 사용자 이름, 없으면 null
      */
+    /**
+     * 교육 스냅샷 섹션 결과를 기다리고, 호출 실패 / facet 실패를 부분 응답으로 기록합니다.
+     */
+    private Snapshot joinSnapshot(PersonalizationFanOut.Scope fanOut,
+                                  PersonalizationFanOut.Scope.Section<Snapshot> section) {
+        Snapshot snapshot = section.join();
+        if (snapshot == null) {
+            if (fanOut.isOk("education.snapshot")) {
+                // 클라이언트가 호출 실패를 null 로 돌려준 경우
+                fanOut.markDegraded("education.snapshot", "error");
+            }
+            return null;
+        }
+        for (String facet : snapshot.getFailedFacets()) {
+            fanOut.markDegraded("education." + facet, "error");
+        }
+        return snapshot;
+    }
+
     private String getEmployeeName(UUID userUuid, String userId) {
         // DB에서 먼저 조회
         Employee employee = employeeRepository.findByUserUuid(userUuid).orElse(null);
@@ -1954,6 +2057,27 @@ public class PersonalizationService {
     }
 
     // ---------- 에러 응답 생성 ----------
+    /**
+     * 조회에 실패해 빈 값으로 대체한 facet 이 있으면 부분 응답 meta (partial=true, degraded), 없으면 null
+     *
+     * <p>빈 목록으로 계산한 평균/목록이 정상 응답처럼 캐시되지 않도록 {@link PersonalizationCache} 가 partial 을 확인합니다.</p>
+     */
+    private static Map<String, Object> degradedFacetMeta(Snapshot snapshot, Facet... facets) {
+        List<String> degraded = new ArrayList<>();
+        for (Facet facet : facets) {
+            if (EducationServiceClient.isFailed(snapshot, facet)) {
+                degraded.add("education." + facet.paramValue());
+            }
+        }
+        if (degraded.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("partial", true);
+        meta.put("degraded", degraded);
+        return meta;
+    }
+
     private ResolveResponse createErrorResponse(String subIntentId, String periodStart, String periodEnd, 
         String updatedAt, String errorType, String errorMessage) {
         return new ResolveResponse(
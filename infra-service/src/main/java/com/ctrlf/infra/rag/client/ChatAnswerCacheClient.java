@@ -0,0 +1,109 @@
+package com.ctrlf.infra.rag.client;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * chat-service 답변 캐시 무효화 클라이언트.
+ *
+ * RAG 문서가 변경(수정/삭제/상태 변경/인덱싱 완료)되면 해당 도메인의 캐시된 챗봇 답변을 제거합니다.
+ * 요청은 chat-service 인스턴스 하나가 받고, 그 인스턴스가 PostgreSQL NOTIFY 로 모든 인스턴스에 전파합니다.
+ * 실패해도 문서 처리에는 영향을 주지 않으며, 캐시 TTL이 지나면 자연히 갱신됩니다.
+ *
+ * 트랜잭션 안에서 호출되면 커밋 후에 전송합니다. (커밋 전 데이터로 캐시가 다시 채워지는 것 방지)
+ * 전송은 별도 스레드에서 수행하여 chat-service 지연이 요청 스레드와 DB 커넥션을 붙잡지 않게 합니다.
+ *
+ * 엔드포인트
+ * - POST {baseUrl}/internal/chat/answer-cache/invalidate?domain=
+ */
+@Component
+public class ChatAnswerCacheClient {
+    private static final Logger log = LoggerFactory.getLogger(ChatAnswerCacheClient.class);
+
+    private final RestClient restClient;
+
+    private final ExecutorService sendExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "chat-answer-cache-invalidation");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ChatAnswerCacheClient(
+        @Value("${app.chat-service.base-url:http://localhost:9005}") String baseUrl,
+        @Value("${app.chat-service.timeout-seconds:2}") long timeoutSeconds
+    ) {
+        String normalizedBaseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+
+        Duration timeout = Duration.ofSeconds(timeoutSeconds);
+        org.springframework.http.client.SimpleClientHttpRequestFactory requestFactory =
+            new org.springframework.http.client.SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+
+        this.restClient = RestClient.builder()
+            .baseUrl(normalizedBaseUrl)
+            .requestFactory(requestFactory)
+            .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 도메인의 캐시된 답변을 무효화합니다. (베스트에포트)
+     *
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 전송 대기열에 넣습니다. 롤백된 변경은 알리지 않습니다.
+     *
+     * @param domain 변경된 문서의 도메인 (null이면 전체 무효화)
+     */
+    public void invalidate(String domain) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(domain);
+                }
+            });
+        } else {
+            submit(domain);
+        }
+    }
+
+    private void submit(String domain) {
+        try {
+            sendExecutor.execute(() -> send(domain));
+        } catch (RejectedExecutionException e) {
+            log.warn("Chat answer cache invalidation rejected (shutting down): domain={}", domain);
+        }
+    }
+
+    private void send(String domain) {
+        try {
+            restClient.post()
+                .uri(uriBuilder -> {
+                    uriBuilder.path("/internal/chat/answer-cache/invalidate");
+                    if (domain != null && !domain.isBlank()) {
+                        uriBuilder.queryParam("domain", domain);
+                    }
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .toBodilessEntity();
+        } catch (RestClientException e) {
+            log.warn("Failed to invalidate chat answer cache: domain={}, error={}", domain, e.getMessage());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.ctrlf.infra.rag.entity.RagDocument;
 import com.ctrlf.infra.rag.entity.RagDocumentChunk;
 import com.ctrlf.infra.rag.entity.RagDocumentStatus;
 import com.ctrlf.infra.rag.entity.RagFailChunk;
+import com.ctrlf.infra.rag.client.ChatAnswerCacheClient;
 import com.ctrlf.infra.rag.client.RagAiClient;
 import com.ctrlf.infra.rag.repository.RagDocumentChunkRepository;
 import com.ctrlf.infra.rag.repository.RagFailChunkRepository;
@@ -54,6 +55,7 @@ public class RagDocumentService {
     private final RagDocumentHistoryRepository historyRepository;
     private final RagAiClient ragAiClient;
     private final S3Service s3Service;
+    private final ChatAnswerCacheClient chatAnswerCacheClient;
 
     /**
      * 문서 업로드 메타를 저장하고 초기 상태를 반환합니다.
@@ -85,6 +87,7 @@ public class RagDocumentService {
         RagDocument d = documentRepository.findById(id)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "document not found"));
         boolean changed = false;
+        String previousDomain = d.getDomain();
         if (req.getTitle() != null && !req.getTitle().isBlank()) {
             d.setTitle(req.getTitle());
             changed = true;
@@ -101,6 +104,10 @@ public class RagDocumentService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "no fields to update");
         }
         documentRepository.save(d);
+        chatAnswerCacheClient.invalidate(previousDomain);
+        if (d.getDomain() != null && !d.getDomain().equals(previousDomain)) {
+            chatAnswerCacheClient.invalidate(d.getDomain());
+        }
         String now = Instant.now().toString();
 
         log.info("[DEBUG] @@@@ sourceUrl={} ", d.getSourceUrl());
@@ -138,6 +145,7 @@ public class RagDocumentService {
         chunkRepository.deleteByDocumentId(id);
         failChunkRepository.deleteByDocumentId(id);
         documentRepository.delete(d);
+        chatAnswerCacheClient.invalidate(d.getDomain());
         return new DeleteResponse(id.toString(), "DELETED", Instant.now().toString());
     }
 
@@ -1024,6 +1032,7 @@ public class RagDocumentService {
         }
         
         doc = documentRepository.save(doc);
+        chatAnswerCacheClient.invalidate(doc.getDomain());
         
         // 히스토리 기록
         String action = "STATUS_CHANGED";
@@ -1073,6 +1082,7 @@ public class RagDocumentService {
         doc.setRejectedAt(null);
         
         doc = documentRepository.save(doc);
+        chatAnswerCacheClient.invalidate(doc.getDomain());
         
         // 히스토리 기록
         String action = "REVIEW_APPROVED";
@@ -1286,6 +1296,11 @@ public class RagDocumentService {
 
         doc = documentRepository.save(doc);
 
+        // 인덱싱 완료 시 해당 도메인의 캐시된 챗봇 답변 무효화
+        if (newStatus == RagDocumentStatus.COMPLETED) {
+            chatAnswerCacheClient.invalidate(doc.getDomain());
+        }
+
         // 저장 후 상태 로깅
         log.info("After save - Document state: id={}, documentId={}, version={}, status={}, preprocessStatus={}, processedAt={}, failReason={}", 
             doc.getId(), doc.getDocumentId(), doc.getVersion(), 
@@ -36,12 +36,12 @@ public class TelemetryController {
      * 텔레메트리 이벤트 수집
      * 
      * <p>AI가 생성한 구조화 이벤트를 배치로 수집합니다.</p>
-     * <p>Idempotent: 중복 eventId는 무시됩니다.</p>
+     * <p>Idempotent: 중복 eventId는 occurredAt이 달라도 무시됩니다 (보존 기간 내).</p>
      */
     @PostMapping("/events")
     @Operation(
         summary = "텔레메트리 이벤트 수집",
-        description = "AI에서 생성한 구조화 이벤트를 배치로 수집합니다. 중복 eventId는 자동으로 무시됩니다."
+        description = "AI에서 생성한 구조화 이벤트를 배치로 수집합니다. 중복 eventId는 occurredAt이 달라도 자동으로 무시됩니다."
     )
     @ApiResponses({
         @ApiResponse(
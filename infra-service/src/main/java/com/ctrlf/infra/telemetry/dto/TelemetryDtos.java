@@ -1,10 +1,12 @@
 package com.ctrlf.infra.telemetry.dto;
 
+import com.ctrlf.infra.telemetry.entity.TelemetryEvent;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,7 @@ public final class TelemetryDtos {
     @AllArgsConstructor
     public static class TelemetryEventRequest {
         @NotBlank
+        @Size(max = TelemetryEvent.SOURCE_MAX_LENGTH)
         private String source;
 
         @NotNull
@@ -128,6 +131,14 @@ public final class TelemetryDtos {
         private Integer oosCount;
         private List<LatencyHistogramItem> latencyHistogram;
         private List<ModelLatencyItem> modelLatency;
+        /** 전체 응답 지연(latencyMsTotal) 분위수 */
+        private LatencyPercentileItem latencyPercentiles;
+        /** 모델별 LLM 지연(latencyMsLlm) 분위수 */
+        private List<LatencyPercentileItem> modelLatencyPercentiles;
+        /** route별 응답 지연(latencyMsTotal) 분위수 */
+        private List<LatencyPercentileItem> routeLatencyPercentiles;
+        /** 부서별 응답 지연(latencyMsTotal) 분위수 */
+        private List<LatencyPercentileItem> deptLatencyPercentiles;
     }
 
     /**
@@ -150,6 +161,22 @@ public final class TelemetryDtos {
         private Double avgLatencyMs;
     }
 
+    /**
+     * 지연시간 분위수 항목 (병합 스케치 기반, 상대 오차 2% 이내)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LatencyPercentileItem {
+        /** 차원 값 (model / route / dept_id, 전체는 "all") */
+        private String key;
+        private Long count;
+        private Double p50Ms;
+        private Double p90Ms;
+        private Double p95Ms;
+        private Double p99Ms;
+        private Long maxMs;
+    }
+
     /**
      * AI 로그 조회 응답
      */
@@ -24,13 +24,21 @@ import org.hibernate.type.SqlTypes;
 @NoArgsConstructor
 public class TelemetryEvent {
 
+    /** 컬럼 길이 (V22 telemetry_event DDL 과 동일, 수집 검증에서도 사용) */
+    public static final int SOURCE_MAX_LENGTH = 50;
+    public static final int EVENT_TYPE_MAX_LENGTH = 30;
+    public static final int TRACE_ID_MAX_LENGTH = 200;
+    public static final int CONVERSATION_ID_MAX_LENGTH = 100;
+    public static final int USER_ID_MAX_LENGTH = 64;
+    public static final int DEPT_ID_MAX_LENGTH = 64;
+
     /** Idempotency key (AI eventId) */
     @Id
     @Column(name = "event_id", columnDefinition = "uuid")
     private UUID eventId;
 
     /** ai-gateway 등 */
-    @Column(name = "source", length = 50, nullable = false)
+    @Column(name = "source", length = SOURCE_MAX_LENGTH, nullable = false)
     private String source;
 
     /** AI가 전송한 시각 */
@@ -38,15 +46,15 @@ public class TelemetryEvent {
     private Instant sentAt;
 
     /** CHAT_TURN | FEEDBACK | SECURITY */
-    @Column(name = "event_type", length = 30, nullable = false)
+    @Column(name = "event_type", length = EVENT_TYPE_MAX_LENGTH, nullable = false)
     private String eventType;
 
     /** X-Trace-Id (UUID 또는 문자열) */
-    @Column(name = "trace_id", length = 200, nullable = false)
+    @Column(name = "trace_id", length = TRACE_ID_MAX_LENGTH, nullable = false)
     private String traceId;
 
     /** X-Conversation-Id */
-    @Column(name = "conversation_id", length = 100)
+    @Column(name = "conversation_id", length = CONVERSATION_ID_MAX_LENGTH)
     private String conversationId;
 
     /** X-Turn-Id */
@@ -54,11 +62,11 @@ public class TelemetryEvent {
     private Integer turnId;
 
     /** X-User-Id (또는 user_uuid) */
-    @Column(name = "user_id", length = 64, nullable = false)
+    @Column(name = "user_id", length = USER_ID_MAX_LENGTH, nullable = false)
     private String userId;
 
     /** X-Dept-Id */
-    @Column(name = "dept_id", length = 64, nullable = false)
+    @Column(name = "dept_id", length = DEPT_ID_MAX_LENGTH, nullable = false)
     private String deptId;
 
     /** occurredAt */
@@ -73,5 +81,9 @@ public class TelemetryEvent {
     /** 백엔드 수신 시각 */
     @Column(name = "received_at", nullable = false)
     private Instant receivedAt;
+
+    /** 재질문 여부 (CHAT_TURN만, 수집 시 계산: 동일 conversation 최근 3턴 내 같은 intentMain) */
+    @Column(name = "is_repeat")
+    private Boolean repeat;
 }
 
@@ -2,13 +2,16 @@ package com.ctrlf.infra.telemetry.repository;
 
 import com.ctrlf.infra.telemetry.entity.TelemetryEvent;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 텔레메트리 이벤트 Repository
@@ -17,7 +20,9 @@ import org.springframework.stereotype.Repository;
 public interface TelemetryEventRepository extends JpaRepository<TelemetryEvent, UUID> {
 
     /**
-     * eventId로 조회 (Idempotency 체크용)
+     * eventId로 조회
+     *
+     * <p>occurred_at 조건이 없어 모든 월 파티션을 조회합니다. 범위 조회에는 사용하지 않습니다.</p>
      */
     Optional<TelemetryEvent> findByEventId(UUID eventId);
 
@@ -53,5 +58,525 @@ public interface TelemetryEventRepository extends JpaRepository<TelemetryEvent,
     List<TelemetryEvent> findChatTurnEventsOrderByOccurredAtDesc(
         org.springframework.data.domain.Pageable pageable
     );
-}
 
+    // ========================
+    // 대시보드 지표 집계 (집계 결과 행만 반환, V21/V22 부분/표현식 인덱스 사용)
+    //
+    // 부서 조건을 (:deptId = 'all' OR e.dept_id = :deptId) 로 두면 플래너가 dept_id 선행 인덱스를
+    // 쓰지 못하므로, 쿼리를 전체(*AllDepts) / 부서(*ByDept) 두 가지로 나누고
+    // default 메서드에서 deptId 로 선택합니다. 본문은 아래 상수로 공유합니다.
+    // ========================
+
+    String SECURITY_BLOCKS_QUERY = """
+        SELECT
+            COUNT(*) FILTER (WHERE e.payload->>'blockType' = 'PII_BLOCK'),
+            COUNT(*) FILTER (WHERE e.payload->>'blockType' = 'EXTERNAL_DOMAIN_BLOCK')
+        FROM telemetry.telemetry_event e
+        WHERE e.event_type = 'SECURITY'
+          AND (e.payload->'blocked') = 'true'::jsonb
+          AND e.occurred_at >= :startDate
+          AND e.occurred_at < :endDate
+        """;
+
+    String WEEKLY_PII_QUERY = """
+        SELECT
+            TO_CHAR(DATE_TRUNC('week', e.occurred_at AT TIME ZONE :zone), 'YYYY-MM-DD') AS week_start,
+            COUNT(*) FILTER (WHERE (e.payload->'piiDetectedInput') = 'true'::jsonb),
+            COUNT(*) FILTER (WHERE jsonb_typeof(e.payload->'piiDetectedInput') = 'boolean'),
+            COUNT(*) FILTER (WHERE (e.payload->'piiDetectedOutput') = 'true'::jsonb),
+            COUNT(*) FILTER (WHERE jsonb_typeof(e.payload->'piiDetectedOutput') = 'boolean')
+        FROM telemetry.telemetry_event e
+        WHERE e.event_type = 'CHAT_TURN'
+          AND e.occurred_at >= :startDate
+          AND e.occurred_at < :endDate
+        """;
+
+    String WEEKLY_PII_GROUP_BY = """
+        GROUP BY 1
+        HAVING COUNT(*) FILTER (WHERE jsonb_typeof(e.payload->'piiDetectedInput') = 'boolean') > 0
+        ORDER BY week_start ASC
+        """;
+
+    String FEEDBACK_QUERY = """
+        SELECT
+            COUNT(*) FILTER (WHERE e.payload->>'feedback' = 'like'),
+            COUNT(*) FILTER (WHERE e.payload->>'feedback' = 'dislike')
+        FROM telemetry.telemetry_event e
+        WHERE e.event_type = 'FEEDBACK'
+          AND e.occurred_at >= :startDate
+          AND e.occurred_at < :endDate
+        """;
+
+    String LATENCY_HISTOGRAM_QUERY = """
+        SELECT
+            COUNT(*) FILTER (WHERE (e.payload->'oos') = 'true'::jsonb),
+            COUNT(*) FILTER (WHERE l.latency < 500),
+            COUNT(*) FILTER (WHERE l.latency >= 500 AND l.latency < 1000),
+            COUNT(*) FILTER (WHERE l.latency >= 1000 AND l.latency < 2000),
+            COUNT(*) FILTER (WHERE l.latency >= 2000)
+        FROM telemetry.telemetry_event e
+        CROSS JOIN LATERAL (
+            SELECT CASE WHEN jsonb_typeof(e.payload->'latencyMsTotal') = 'number'
+                        THEN trunc((e.payload->>'latencyMsTotal')::numeric) END AS latency
+        ) l
+        WHERE e.event_type = 'CHAT_TURN'
+          AND e.occurred_at >= :startDate
+          AND e.occurred_at < :endDate
+        """;
+
+    String MODEL_LATENCY_QUERY = """
+        SELECT
+            e.payload->>'model' AS model,
+            AVG(trunc((e.payload->>'latencyMsLlm')::numeric))
+        FROM telemetry.telemetry_event e
+        WHERE e.event_type = 'CHAT_TURN'
+          AND e.occurred_at >= :startDate
+          AND e.occurred_at < :endDate
+          AND jsonb_typeof(e.payload->'model') = 'string'
+          AND jsonb_typeof(e.payload->'latencyMsLlm') = 'number'
+        """;
+
+    String MODEL_LATENCY_GROUP_BY = """
+        GROUP BY e.payload->>'model'
+        """;
+
+    String REPEATED_INTENTS_QUERY = """
+        SELECT
+            COUNT(*) FILTER (WHERE e.is_repeat),
+            COUNT(*)
+        FROM telemetry.telemetry_event e
+        WHERE e.event_type = 'CHAT_TURN'
+          AND e.occurred_at >= :startDate
+          AND e.occurred_at < :endDate
+        """;
+
+    String DEPT_CONDITION = """
+          AND e.dept_id = :deptId
+        """;
+
+    /**
+     * 보안 차단 건수 (SECURITY, blocked = true)
+     *
+     * @param deptId 부서 ID ('all' 이면 전체)
+     * @return [pii_block_count, external_domain_block_count] 1행
+     */
+    default List<Object[]> countSecurityBlocks(Instant startDate, Instant endDate, String deptId) {
+        return "all".equals(deptId)
+            ? countSecurityBlocksAllDepts(startDate, endDate)
+            : countSecurityBlocksByDept(startDate, endDate, deptId);
+    }
+
+    @Query(value = SECURITY_BLOCKS_QUERY, nativeQuery = true)
+    List<Object[]> countSecurityBlocksAllDepts(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate
+    );
+
+    @Query(value = SECURITY_BLOCKS_QUERY + DEPT_CONDITION, nativeQuery = true)
+    List<Object[]> countSecurityBlocksByDept(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 주간 PII 감지율 (CHAT_TURN, 값이 boolean인 이벤트 기준)
+     *
+     * @param zone 주 경계 기준 시간대 (주는 월요일 시작)
+     * @param deptId 부서 ID ('all' 이면 전체)
+     * @return [week_start(YYYY-MM-DD), input_true, input_total, output_true, output_total]
+     */
+    default List<Object[]> getWeeklyPiiDetection(String zone, Instant startDate, Instant endDate, String deptId) {
+        return "all".equals(deptId)
+            ? getWeeklyPiiDetectionAllDepts(zone, startDate, endDate)
+            : getWeeklyPiiDetectionByDept(zone, startDate, endDate, deptId);
+    }
+
+    @Query(value = WEEKLY_PII_QUERY + WEEKLY_PII_GROUP_BY, nativeQuery = true)
+    List<Object[]> getWeeklyPiiDetectionAllDepts(
+        @Param("zone") String zone,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate
+    );
+
+    @Query(value = WEEKLY_PII_QUERY + DEPT_CONDITION + WEEKLY_PII_GROUP_BY, nativeQuery = true)
+    List<Object[]> getWeeklyPiiDetectionByDept(
+        @Param("zone") String zone,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 피드백 건수 (FEEDBACK)
+     *
+     * @param deptId 부서 ID ('all' 이면 전체)
+     * @return [like_count, dislike_count] 1행
+     */
+    default List<Object[]> countFeedback(Instant startDate, Instant endDate, String deptId) {
+        return "all".equals(deptId)
+            ? countFeedbackAllDepts(startDate, endDate)
+            : countFeedbackByDept(startDate, endDate, deptId);
+    }
+
+    @Query(value = FEEDBACK_QUERY, nativeQuery = true)
+    List<Object[]> countFeedbackAllDepts(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate
+    );
+
+    @Query(value = FEEDBACK_QUERY + DEPT_CONDITION, nativeQuery = true)
+    List<Object[]> countFeedbackByDept(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * CHAT_TURN OOS 건수 및 latencyMsTotal 히스토그램
+     *
+     * @param deptId 부서 ID ('all' 이면 전체)
+     * @return [oos_count, 0-500ms, 0.5-1s, 1-2s, 2s+] 1행
+     */
+    default List<Object[]> getChatTurnLatencyHistogram(Instant startDate, Instant endDate, String deptId) {
+        return "all".equals(deptId)
+            ? getChatTurnLatencyHistogramAllDepts(startDate, endDate)
+            : getChatTurnLatencyHistogramByDept(startDate, endDate, deptId);
+    }
+
+    @Query(value = LATENCY_HISTOGRAM_QUERY, nativeQuery = true)
+    List<Object[]> getChatTurnLatencyHistogramAllDepts(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate
+    );
+
+    @Query(value = LATENCY_HISTOGRAM_QUERY + DEPT_CONDITION, nativeQuery = true)
+    List<Object[]> getChatTurnLatencyHistogramByDept(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 모델별 평균 latencyMsLlm (CHAT_TURN)
+     *
+     * @param deptId 부서 ID ('all' 이면 전체)
+     * @return [model, avg_latency_ms]
+     */
+    default List<Object[]> getAverageLlmLatencyByModel(Instant startDate, Instant endDate, String deptId) {
+        return "all".equals(deptId)
+            ? getAverageLlmLatencyByModelAllDepts(startDate, endDate)
+            : getAverageLlmLatencyByModelByDept(startDate, endDate, deptId);
+    }
+
+    @Query(value = MODEL_LATENCY_QUERY + MODEL_LATENCY_GROUP_BY, nativeQuery = true)
+    List<Object[]> getAverageLlmLatencyByModelAllDepts(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate
+    );
+
+    @Query(value = MODEL_LATENCY_QUERY + DEPT_CONDITION + MODEL_LATENCY_GROUP_BY, nativeQuery = true)
+    List<Object[]> getAverageLlmLatencyByModelByDept(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 재질문 건수 (수집 시 계산된 is_repeat 기준)
+     *
+     * @param deptId 부서 ID ('all' 이면 전체)
+     * @return [repeat_count, total_turns] 1행
+     */
+    default List<Object[]> countRepeatedIntents(Instant startDate, Instant endDate, String deptId) {
+        return "all".equals(deptId)
+            ? countRepeatedIntentsAllDepts(startDate, endDate)
+            : countRepeatedIntentsByDept(startDate, endDate, deptId);
+    }
+
+    @Query(value = REPEATED_INTENTS_QUERY, nativeQuery = true)
+    List<Object[]> countRepeatedIntentsAllDepts(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate
+    );
+
+    @Query(value = REPEATED_INTENTS_QUERY + DEPT_CONDITION, nativeQuery = true)
+    List<Object[]> countRepeatedIntentsByDept(
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 대화별 최근 3개 CHAT_TURN intentMain 조회 (재질문 판정 링 버퍼 초기화용)
+     *
+     * @param since 조회 하한 (파티션 범위 제한)
+     * @return [conversation_id, intent_main] (대화별 오래된 턴부터)
+     */
+    @Query(value = """
+        SELECT t.conversation_id, t.intent
+        FROM (
+            SELECT
+                e.conversation_id,
+                e.payload->>'intentMain' AS intent,
+                ROW_NUMBER() OVER (
+                    PARTITION BY e.conversation_id
+                    ORDER BY e.turn_id DESC NULLS LAST, e.occurred_at DESC
+                ) AS rn
+            FROM telemetry.telemetry_event e
+            WHERE e.event_type = 'CHAT_TURN'
+              AND e.conversation_id IN (:conversationIds)
+              AND e.occurred_at >= :since
+        ) t
+        WHERE t.rn <= 3
+        ORDER BY t.conversation_id, t.rn DESC
+        """,
+        nativeQuery = true)
+    List<Object[]> findRecentIntentsByConversation(
+        @Param("conversationIds") Collection<String> conversationIds,
+        @Param("since") Instant since
+    );
+
+    /**
+     * 기간 내 지연시간 스케치 병합 (차원별)
+     *
+     * <p>시간 단위 스케치의 bins를 bin별로 합산해 반환하므로 원본 이벤트를 읽지 않습니다.</p>
+     *
+     * @param metric total | llm
+     * @param dimension model | route | dept | all (전체)
+     * @return [group_key, bin, count, group_max_ms]
+     */
+    @Query(value = """
+        SELECT
+            g.group_key,
+            CAST(kv.key AS int) AS bin,
+            SUM(CAST(kv.value AS bigint)) AS cnt,
+            MAX(MAX(s.max_ms)) OVER (PARTITION BY g.group_key) AS group_max_ms
+        FROM telemetry.chat_latency_sketch_hourly s
+        CROSS JOIN LATERAL (
+            SELECT CASE :dimension
+                       WHEN 'model' THEN s.model
+                       WHEN 'route' THEN s.route
+                       WHEN 'dept' THEN s.dept_id
+                       ELSE 'all'
+                   END AS group_key
+        ) g
+        CROSS JOIN LATERAL jsonb_each_text(s.bins) kv
+        WHERE s.metric = :metric
+          AND s.bucket_hour >= :startDate
+          AND s.bucket_hour < :endDate
+          AND (:deptId = 'all' OR s.dept_id = :deptId)
+        GROUP BY g.group_key, kv.key
+        """,
+        nativeQuery = true)
+    List<Object[]> mergeLatencySketches(
+        @Param("metric") String metric,
+        @Param("dimension") String dimension,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        @Param("deptId") String deptId
+    );
+
+    /**
+     * 이벤트 일괄 저장 (eventId 키 등록 후 새 키만 multi-row INSERT)
+     *
+     * <p>events는 [{eventId, eventType, traceId, conversationId, turnId, userId, deptId,
+     * occurredAt(ISO-8601), payload, repeat}, ...] 형태의 JSON 배열입니다.
+     * 한 번의 왕복으로 저장하며, 이미 존재하는 eventId는 occurredAt이 달라도 건너뜁니다.
+     * 월 파티션 테이블의 PK (event_id, occurred_at) 만으로는 occurredAt이 다른 재전송을 막지 못하므로,
+     * 파티션되지 않은 telemetry_event_key 에 eventId 를 먼저 등록(ON CONFLICT (event_id) DO NOTHING)하고
+     * 새로 등록된 eventId 만 저장합니다. 배치 안에서 eventId 가 겹치면 앞선 이벤트만 저장합니다.</p>
+     *
+     * @return 실제로 새로 저장된 eventId 목록
+     */
+    @Transactional
+    @Query(value = """
+        WITH src AS (
+            SELECT DISTINCT ON ((x.e->>'eventId')::uuid) x.e
+            FROM jsonb_array_elements(CAST(:events AS jsonb)) WITH ORDINALITY AS x(e, ord)
+            ORDER BY (x.e->>'eventId')::uuid, x.ord
+        ),
+        claimed AS (
+            INSERT INTO telemetry.telemetry_event_key (event_id, occurred_at)
+            SELECT (e->>'eventId')::uuid, (e->>'occurredAt')::timestamptz
+            FROM src
+            ON CONFLICT (event_id) DO NOTHING
+            RETURNING event_id
+        )
+        INSERT INTO telemetry.telemetry_event (
+            event_id, source, sent_at, event_type, trace_id, conversation_id, turn_id,
+            user_id, dept_id, occurred_at, payload, received_at, is_repeat
+        )
+        SELECT
+            c.event_id,
+            :source,
+            :sentAt,
+            e->>'eventType',
+            e->>'traceId',
+            e->>'conversationId',
+            (e->>'turnId')::int,
+            e->>'userId',
+            e->>'deptId',
+            (e->>'occurredAt')::timestamptz,
+            e->'payload',
+            :receivedAt,
+            (e->>'repeat')::boolean
+        FROM src
+        JOIN claimed c ON c.event_id = (src.e->>'eventId')::uuid
+        ON CONFLICT (event_id, occurred_at) DO NOTHING
+        RETURNING event_id
+        """,
+        nativeQuery = true)
+    List<UUID> insertAllIgnoringDuplicates(
+        @Param("source") String source,
+        @Param("sentAt") Instant sentAt,
+        @Param("receivedAt") Instant receivedAt,
+        @Param("events") String events
+    );
+
+    /**
+     * 챗봇 대시보드 시간 단위 롤업 증분 반영 (없으면 생성, 있으면 카운터 합산)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO telemetry.chat_turn_rollup_hourly (" +
+           "bucket_hour, dept_id, model, domain, turn_count, latency_sum_ms, latency_count, " +
+           "pii_count, error_count, rag_used_count, like_count, dislike_count) " +
+           "VALUES (:bucketHour, :deptId, :model, :domain, :turnCount, :latencySumMs, :latencyCount, " +
+           ":piiCount, :errorCount, :ragUsedCount, :likeCount, :dislikeCount) " +
+           "ON CONFLICT (bucket_hour, dept_id, model, domain) DO UPDATE SET " +
+           "turn_count = chat_turn_rollup_hourly.turn_count + EXCLUDED.turn_count, " +
+           "latency_sum_ms = chat_turn_rollup_hourly.latency_sum_ms + EXCLUDED.latency_sum_ms, " +
+           "latency_count = chat_turn_rollup_hourly.latency_count + EXCLUDED.latency_count, " +
+           "pii_count = chat_turn_rollup_hourly.pii_count + EXCLUDED.pii_count, " +
+           "error_count = chat_turn_rollup_hourly.error_count + EXCLUDED.error_count, " +
+           "rag_used_count = chat_turn_rollup_hourly.rag_used_count + EXCLUDED.rag_used_count, " +
+           "like_count = chat_turn_rollup_hourly.like_count + EXCLUDED.like_count, " +
+           "dislike_count = chat_turn_rollup_hourly.dislike_count + EXCLUDED.dislike_count",
+           nativeQuery = true)
+    int upsertChatTurnRollup(
+        @Param("bucketHour") Instant bucketHour,
+        @Param("deptId") String deptId,
+        @Param("model") String model,
+        @Param("domain") String domain,
+        @Param("turnCount") long turnCount,
+        @Param("latencySumMs") long latencySumMs,
+        @Param("latencyCount") long latencyCount,
+        @Param("piiCount") long piiCount,
+        @Param("errorCount") long errorCount,
+        @Param("ragUsedCount") long ragUsedCount,
+        @Param("likeCount") long likeCount,
+        @Param("dislikeCount") long dislikeCount
+    );
+
+    /**
+     * 지연시간 스케치 증분 병합 (카운터 합산, bins는 bin별 카운트 합산)
+     *
+     * @param bins {"bin": count} JSON
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO telemetry.chat_latency_sketch_hourly AS s (
+            bucket_hour, dept_id, model, route, metric, sample_count, sum_ms, max_ms, bins
+        )
+        VALUES (
+            :bucketHour, :deptId, :model, :route, :metric, :sampleCount, :sumMs, :maxMs,
+            CAST(:bins AS jsonb)
+        )
+        ON CONFLICT (bucket_hour, dept_id, model, route, metric) DO UPDATE SET
+            sample_count = s.sample_count + EXCLUDED.sample_count,
+            sum_ms = s.sum_ms + EXCLUDED.sum_ms,
+            max_ms = GREATEST(s.max_ms, EXCLUDED.max_ms),
+            bins = (
+                SELECT jsonb_object_agg(m.bin, m.cnt)
+                FROM (
+                    SELECT b.key AS bin, SUM(b.value::bigint) AS cnt
+                    FROM (
+                        SELECT * FROM jsonb_each_text(s.bins)
+                        UNION ALL
+                        SELECT * FROM jsonb_each_text(EXCLUDED.bins)
+                    ) b
+                    GROUP BY b.key
+                ) m
+            )
+        """,
+        nativeQuery = true)
+    int upsertLatencySketch(
+        @Param("bucketHour") Instant bucketHour,
+        @Param("deptId") String deptId,
+        @Param("model") String model,
+        @Param("route") String route,
+        @Param("metric") String metric,
+        @Param("sampleCount") long sampleCount,
+        @Param("sumMs") long sumMs,
+        @Param("maxMs") long maxMs,
+        @Param("bins") String bins
+    );
+
+    /**
+     * 활성 사용자 일 단위 목록 반영 (중복 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO telemetry.chat_active_user_daily (bucket_day, dept_id, user_id) " +
+           "VALUES (:bucketDay, :deptId, :userId) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertActiveUserDaily(
+        @Param("bucketDay") Instant bucketDay,
+        @Param("deptId") String deptId,
+        @Param("userId") String userId
+    );
+
+    /**
+     * 보존 기간이 지난 활성 사용자 목록 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM telemetry.chat_active_user_daily WHERE bucket_day < :cutoff",
+           nativeQuery = true)
+    int deleteActiveUsersBefore(@Param("cutoff") Instant cutoff);
+
+    // ========================
+    // 월 파티션 관리 (V22 함수 호출)
+    // ========================
+
+    /**
+     * monthOf 가 속한 월(UTC) 파티션 1개 생성
+     *
+     * <p>기본 파티션에 해당 월 이벤트가 있으면 새 파티션으로 옮긴 뒤 연결합니다.</p>
+     *
+     * @return 새로 생성된 파티션 이름 (이미 있으면 null)
+     */
+    @Transactional
+    @Query(value = "SELECT telemetry.ensure_telemetry_event_partition(:monthOf)", nativeQuery = true)
+    String ensureMonthlyPartition(@Param("monthOf") Instant monthOf);
+
+    /**
+     * 상한이 cutoff 월초 이하인 파티션 분리 또는 삭제
+     *
+     * @return 분리/삭제된 파티션 이름 목록
+     */
+    @Transactional
+    @Query(value = "SELECT telemetry.retire_telemetry_event_partitions(:cutoff, :dropPartitions)",
+           nativeQuery = true)
+    List<String> retireMonthlyPartitions(
+        @Param("cutoff") Instant cutoff,
+        @Param("dropPartitions") boolean dropPartitions
+    );
+
+    /**
+     * 보존 기간 경과 eventId 키 삭제 (원본 파티션 분리/삭제와 같은 cutoff)
+     *
+     * @return 삭제된 키 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM telemetry.telemetry_event_key WHERE occurred_at < :cutoff", nativeQuery = true)
+    int deleteEventKeysBefore(@Param("cutoff") Instant cutoff);
+
+    /**
+     * 기본 파티션(월 파티션 범위 밖) 이벤트 수
+     */
+    @Query(value = "SELECT COUNT(*) FROM telemetry.telemetry_event_default", nativeQuery = true)
+    long countDefaultPartitionEvents();
+}
@@ -0,0 +1,117 @@
+package com.ctrlf.infra.telemetry.service;
+
+import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * telemetry_event 월 파티션 관리
+ *
+ * <p>기동 시와 매일(cron) 다음을 수행합니다.</p>
+ * <ul>
+ *   <li>현재 월부터 months-ahead 개월 파티션 미리 생성 (수집이 기본 파티션으로 떨어지지 않도록).
+ *       월마다 별도 트랜잭션으로 만들며, 기본 파티션에 해당 월 이벤트가 있으면 새 파티션으로 옮깁니다.</li>
+ *   <li>retention-months 보다 오래된 파티션 분리(detach) 또는 삭제(drop), eventId 중복 방지 키(telemetry_event_key) 삭제</li>
+ *   <li>기본 파티션에 이벤트가 있으면 경고 (월 파티션 범위 밖 occurredAt)</li>
+ * </ul>
+ *
+ * <p>대시보드 롤업(chat_turn_rollup_hourly)은 원본 파티션과 별개로 유지되므로
+ * 보존 기간이 지나도 챗봇 대시보드 집계는 남습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TelemetryPartitionMaintenanceService {
+
+    private final TelemetryEventRepository telemetryEventRepository;
+
+    /** 파티션 관리 사용 여부 */
+    @Value("${app.telemetry.partition.enabled:true}")
+    private boolean enabled;
+
+    /** 미리 만들어 둘 파티션 개월 수 (현재 월 포함) */
+    @Value("${app.telemetry.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    /** 원본 이벤트 보존 개월 수 (0 이하면 보존 기간 제한 없음) */
+    @Value("${app.telemetry.partition.retention-months:13}")
+    private int retentionMonths;
+
+    /** 보존 기간 경과 파티션 처리 방식 (true: 삭제, false: 분리 후 일반 테이블로 보관) */
+    @Value("${app.telemetry.partition.drop-expired:false}")
+    private boolean dropExpired;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * 파티션 생성 / 보존 기간 처리 (기본: 매일 03:10)
+     */
+    @Scheduled(cron = "${app.telemetry.partition.maintenance-cron:0 10 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+
+        ZonedDateTime currentMonth = ZonedDateTime.ofInstant(now, ZoneOffset.UTC)
+            .withDayOfMonth(1)
+            .truncatedTo(ChronoUnit.DAYS);
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, monthsAhead); i++) {
+            Instant month = currentMonth.plusMonths(i).toInstant();
+            try {
+                String partition = telemetryEventRepository.ensureMonthlyPartition(month);
+                if (partition != null) {
+                    created.add(partition);
+                }
+            } catch (Exception e) {
+                log.error("[텔레메트리 파티션] 생성 실패: month={}, error={}", month, e.getMessage(), e);
+            }
+        }
+        if (!created.isEmpty()) {
+            log.info("[텔레메트리 파티션] 생성: {}", created);
+        }
+
+        if (retentionMonths > 0) {
+            Instant cutoff = ZonedDateTime.ofInstant(now, ZoneOffset.UTC)
+                .minusMonths(retentionMonths)
+                .toInstant();
+            try {
+                List<String> retired = telemetryEventRepository.retireMonthlyPartitions(cutoff, dropExpired);
+                if (!retired.isEmpty()) {
+                    log.info("[텔레메트리 파티션] 보존 기간 경과 {}: {}", dropExpired ? "삭제" : "분리", retired);
+                }
+                int expiredKeys = telemetryEventRepository.deleteEventKeysBefore(cutoff);
+                if (expiredKeys > 0) {
+                    log.info("[텔레메트리 파티션] 보존 기간 경과 eventId 키 삭제: {}건", expiredKeys);
+                }
+            } catch (Exception e) {
+                log.error("[텔레메트리 파티션] 보존 기간 처리 실패: error={}", e.getMessage(), e);
+            }
+        }
+
+        try {
+            long outOfRange = telemetryEventRepository.countDefaultPartitionEvents();
+            if (outOfRange > 0) {
+                log.warn("[텔레메트리 파티션] 기본 파티션에 월 파티션 범위 밖 이벤트 {}건이 있습니다 "
+                    + "(months-ahead 범위 밖 월은 ensure_telemetry_event_partition 으로 수동 이동 필요)", outOfRange);
+            }
+        } catch (Exception e) {
+            log.warn("[텔레메트리 파티션] 기본 파티션 확인 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.ctrlf.infra.telemetry.service;
+
+import com.ctrlf.infra.telemetry.entity.TelemetryEvent;
+import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import com.ctrlf.infra.telemetry.util.LatencySketch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 챗봇 대시보드 롤업 서비스
+ *
+ * <p>수집된 CHAT_TURN/FEEDBACK 이벤트를 (hour, dept, model, domain) 단위 카운터로 누적합니다.
+ * 대시보드(chat-service)는 원본 이벤트 대신 이 롤업 행만 읽습니다.</p>
+ *
+ * <p>CHAT_TURN 지연시간(latencyMsTotal, latencyMsLlm)은 (hour, dept, model, route) 단위
+ * {@link LatencySketch}로 병합해 분위수 조회에 사용합니다.</p>
+ *
+ * <p>활성 사용자 수는 (day, dept, user) 목록으로 계산합니다. 일 경계는 대시보드와 같은 JVM 기본 시간대이며,
+ * active-user-retention-days 가 지난 행은 매일 삭제합니다.</p>
+ *
+ * <p>집계 기준은 V20/V23 마이그레이션의 백필 쿼리와 동일합니다. payload가 Map이 아닌 이벤트는
+ * 질문 수에만 반영됩니다 (기존 대시보드 동작과 동일).</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TelemetryRollupService {
+
+    private static final int MODEL_MAX_LENGTH = 100;
+    private static final int DOMAIN_MAX_LENGTH = 50;
+    private static final int ROUTE_MAX_LENGTH = 50;
+
+    /** 스케치 metric: payload 필드 */
+    private static final Map<String, String> SKETCH_METRICS = Map.of(
+        "total", "latencyMsTotal",
+        "llm", "latencyMsLlm"
+    );
+
+    private final TelemetryEventRepository telemetryEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 활성 사용자 일 단위 목록 보존 일수 (대시보드 최대 조회 기간 90일 + 여유) */
+    @Value("${app.telemetry.rollup.active-user-retention-days:120}")
+    private int activeUserRetentionDays;
+
+    /**
+     * 새로 저장된 이벤트를 롤업에 반영합니다.
+     *
+     * <p>이미 저장되어 있던(중복) 이벤트는 호출자가 제외해야 합니다.
+     * 키 순서대로 upsert 하여 동시 수집 간 행 잠금 순서를 맞춥니다.</p>
+     *
+     * @param events 새로 저장된 이벤트 목록
+     */
+    public void accumulate(List<TelemetryEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        Map<RollupKey, Counters> rollups = new TreeMap<>(RollupKey.ORDER);
+        TreeSet<ActiveUserKey> activeUsers = new TreeSet<>(ActiveUserKey.ORDER);
+        Map<SketchKey, SketchDelta> sketches = new TreeMap<>(SketchKey.ORDER);
+
+        for (TelemetryEvent event : events) {
+            boolean chatTurn = "CHAT_TURN".equals(event.getEventType());
+            if (!chatTurn && !"FEEDBACK".equals(event.getEventType())) {
+                continue;
+            }
+            Instant bucketHour = event.getOccurredAt().truncatedTo(ChronoUnit.HOURS);
+            Map<String, Object> payload = asMap(event.getPayload());
+
+            RollupKey key = new RollupKey(
+                bucketHour,
+                event.getDeptId(),
+                truncate(stringValue(payload.get("model")), MODEL_MAX_LENGTH),
+                truncate(normalizeKey(stringValue(payload.get("domain"))), DOMAIN_MAX_LENGTH)
+            );
+            Counters counters = rollups.computeIfAbsent(key, k -> new Counters());
+
+            if (chatTurn) {
+                counters.turnCount++;
+                Object latency = payload.get("latencyMsTotal");
+                if (latency instanceof Number) {
+                    counters.latencySumMs += Math.round(((Number) latency).doubleValue());
+                    counters.latencyCount++;
+                }
+                if (Boolean.TRUE.equals(payload.get("piiDetectedInput"))
+                    || Boolean.TRUE.equals(payload.get("piiDetectedOutput"))) {
+                    counters.piiCount++;
+                }
+                if (payload.get("errorCode") != null) {
+                    counters.errorCount++;
+                }
+                if (Boolean.TRUE.equals(payload.get("ragUsed"))) {
+                    counters.ragUsedCount++;
+                }
+                Instant bucketDay = event.getOccurredAt().atZone(ZoneId.systemDefault())
+                    .truncatedTo(ChronoUnit.DAYS).toInstant();
+                activeUsers.add(new ActiveUserKey(bucketDay, event.getDeptId(), event.getUserId()));
+
+                String route = truncate(normalizeKey(stringValue(payload.get("route"))), ROUTE_MAX_LENGTH);
+                for (Map.Entry<String, String> metric : SKETCH_METRICS.entrySet()) {
+                    Object value = payload.get(metric.getValue());
+                    if (value instanceof Number) {
+                        SketchKey sketchKey = new SketchKey(bucketHour, event.getDeptId(), key.model(), route, metric.getKey());
+                        sketches.computeIfAbsent(sketchKey, k -> new SketchDelta())
+                            .add(((Number) value).longValue());
+                    }
+                }
+            } else {
+                Object feedback = payload.get("feedback");
+                if ("like".equals(feedback)) {
+                    counters.likeCount++;
+                } else if ("dislike".equals(feedback)) {
+                    counters.dislikeCount++;
+                }
+            }
+        }
+
+        for (Map.Entry<RollupKey, Counters> entry : rollups.entrySet()) {
+            RollupKey key = entry.getKey();
+            Counters c = entry.getValue();
+            telemetryEventRepository.upsertChatTurnRollup(
+                key.bucketHour(), key.deptId(), key.model(), key.domain(),
+                c.turnCount, c.latencySumMs, c.latencyCount, c.piiCount, c.errorCount,
+                c.ragUsedCount, c.likeCount, c.dislikeCount
+            );
+        }
+        for (ActiveUserKey user : activeUsers) {
+            telemetryEventRepository.insertActiveUserDaily(user.bucketDay(), user.deptId(), user.userId());
+        }
+        for (Map.Entry<SketchKey, SketchDelta> entry : sketches.entrySet()) {
+            SketchKey key = entry.getKey();
+            SketchDelta delta = entry.getValue();
+            telemetryEventRepository.upsertLatencySketch(
+                key.bucketHour(), key.deptId(), key.model(), key.route(), key.metric(),
+                delta.sketch.getCount(), delta.sumMs, delta.sketch.getMaxMs(), toBinsJson(delta.sketch)
+            );
+        }
+
+        log.debug("[텔레메트리 롤업] events={}, rollupRows={}, activeUserRows={}, sketchRows={}",
+            events.size(), rollups.size(), activeUsers.size(), sketches.size());
+    }
+
+    /**
+     * 보존 기간이 지난 활성 사용자 목록 삭제 (기본: 매일 03:20)
+     */
+    @Scheduled(cron = "${app.telemetry.rollup.retention-cron:0 20 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeExpiredActiveUsers() {
+        if (activeUserRetentionDays <= 0) {
+            return;
+        }
+        Instant cutoff = Instant.now().atZone(ZoneId.systemDefault())
+            .truncatedTo(ChronoUnit.DAYS)
+            .minusDays(activeUserRetentionDays)
+            .toInstant();
+        try {
+            int deleted = telemetryEventRepository.deleteActiveUsersBefore(cutoff);
+            if (deleted > 0) {
+                log.info("[텔레메트리 롤업] 보존 기간 경과 활성 사용자 행 삭제: cutoff={}, deleted={}", cutoff, deleted);
+            }
+        } catch (Exception e) {
+            log.error("[텔레메트리 롤업] 활성 사용자 보존 기간 처리 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    private String toBinsJson(LatencySketch sketch) {
+        try {
+            return objectMapper.writeValueAsString(sketch.getBins());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("지연시간 스케치 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object payload) {
+        return payload instanceof Map ? (Map<String, Object>) payload : Map.of();
+    }
+
+    private static String stringValue(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static String normalizeKey(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private record RollupKey(Instant bucketHour, String deptId, String model, String domain) {
+        static final Comparator<RollupKey> ORDER = Comparator
+            .comparing(RollupKey::bucketHour)
+            .thenComparing(RollupKey::deptId)
+            .thenComparing(RollupKey::model)
+            .thenComparing(RollupKey::domain);
+    }
+
+    private record ActiveUserKey(Instant bucketDay, String deptId, String userId) {
+        static final Comparator<ActiveUserKey> ORDER = Comparator
+            .comparing(ActiveUserKey::bucketDay)
+            .thenComparing(ActiveUserKey::deptId)
+            .thenComparing(ActiveUserKey::userId);
+    }
+
+    private record SketchKey(Instant bucketHour, String deptId, String model, String route, String metric) {
+        static final Comparator<SketchKey> ORDER = Comparator
+            .comparing(SketchKey::bucketHour)
+            .thenComparing(SketchKey::deptId)
+            .thenComparing(SketchKey::model)
+            .thenComparing(SketchKey::route)
+            .thenComparing(SketchKey::metric);
+    }
+
+    private static class SketchDelta {
+        final LatencySketch sketch = new LatencySketch();
+        long sumMs;
+
+        void add(long latencyMs) {
+            sketch.add(latencyMs);
+            sumMs += Math.max(0L, latencyMs);
+        }
+    }
+
+    private static class Counters {
+        long turnCount;
+        long latencySumMs;
+        long latencyCount;
+        long piiCount;
+        long errorCount;
+        long ragUsedCount;
+        long likeCount;
+        long dislikeCount;
+    }
+}
@@ -3,19 +3,30 @@ package com.ctrlf.infra.telemetry.service;
 import com.ctrlf.infra.telemetry.dto.TelemetryDtos;
 import com.ctrlf.infra.telemetry.entity.TelemetryEvent;
 import com.ctrlf.infra.telemetry.repository.TelemetryEventRepository;
+import com.ctrlf.infra.telemetry.util.IntentRingBuffer;
+import com.ctrlf.infra.telemetry.util.LatencySketch;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -28,61 +39,278 @@ import org.springframework.transaction.annotation.Transactional;
 public class TelemetryService {
 
     private final TelemetryEventRepository telemetryEventRepository;
+    private final TelemetryRollupService telemetryRollupService;
     private final ObjectMapper objectMapper;
 
+    /** 일괄 INSERT 1회당 최대 이벤트 수 (SQL 파라미터 크기 제한용) */
+    @Value("${app.telemetry.ingest.insert-chunk-size:500}")
+    private int insertChunkSize;
+
+    /** 재질문 판정 시 이전 턴을 조회할 기간 (배치 내 가장 이른 occurredAt 기준) */
+    @Value("${app.telemetry.ingest.repeat-lookback-hours:24}")
+    private long repeatLookbackHours;
+
+    /** 허용하는 occurredAt 미래 오차 (수신 시각 기준, 시간) */
+    @Value("${app.telemetry.ingest.max-future-skew-hours:24}")
+    private long maxFutureSkewHours;
+
+    /** 허용하는 occurredAt 과거 범위 (수신 시각 기준, 일) */
+    @Value("${app.telemetry.ingest.max-past-days:30}")
+    private long maxPastDays;
+
     /**
      * 텔레메트리 이벤트 수집 (배치 처리, Idempotent)
+     *
+     * <p>이벤트별 검증 후 유효한 이벤트를 chunk 단위 multi-row INSERT ... ON CONFLICT DO NOTHING
+     * 한 번으로 저장합니다 (이벤트당 조회/저장 왕복 없음). 이미 존재하는 eventId는 accepted로 집계합니다.</p>
+     * <p>chunk 마다 별도 트랜잭션으로 커밋하며, chunk 저장이 실패하면 해당 chunk 만 이벤트 단위로
+     * 다시 저장해 실패한 이벤트만 STORAGE_ERROR 로 거부합니다.</p>
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TelemetryDtos.TelemetryEventResponse collectEvents(
         TelemetryDtos.TelemetryEventRequest request
     ) {
         int received = request.getEvents().size();
-        int accepted = 0;
-        int rejected = 0;
         List<TelemetryDtos.ErrorItem> errors = new ArrayList<>();
+        Instant receivedAt = Instant.now();
 
+        // 이벤트별 검증 (거부 사유는 이벤트 단위로 응답)
+        Map<UUID, TelemetryEvent> candidates = new LinkedHashMap<>();
         for (TelemetryDtos.EventItem eventItem : request.getEvents()) {
-            try {
-                // Idempotency 체크
-                if (telemetryEventRepository.findByEventId(eventItem.getEventId()).isPresent()) {
-                    // 이미 존재하는 이벤트는 무시 (Idempotent)
-                    accepted++;
-                    continue;
-                }
-
-                // 이벤트 저장
-                TelemetryEvent event = new TelemetryEvent();
-                event.setEventId(eventItem.getEventId());
-                event.setSource(request.getSource());
-                event.setSentAt(request.getSentAt());
-                event.setEventType(eventItem.getEventType());
-                event.setTraceId(eventItem.getTraceId());
-                event.setConversationId(eventItem.getConversationId());
-                event.setTurnId(eventItem.getTurnId());
-                event.setUserId(eventItem.getUserId());
-                event.setDeptId(eventItem.getDeptId());
-                event.setOccurredAt(eventItem.getOccurredAt());
-                event.setPayload(eventItem.getPayload());
-                event.setReceivedAt(Instant.now());
-
-                telemetryEventRepository.save(event);
-                accepted++;
-
-            } catch (Exception e) {
-                rejected++;
+            String violation = validateEvent(eventItem, receivedAt);
+            if (violation != null) {
                 errors.add(new TelemetryDtos.ErrorItem(
                     eventItem.getEventId(),
-                    "PROCESSING_ERROR",
-                    e.getMessage()
+                    "VALIDATION_ERROR",
+                    violation
                 ));
-                log.warn("텔레메트리 이벤트 저장 실패: eventId={}, error={}", 
-                    eventItem.getEventId(), e.getMessage());
+                log.warn("텔레메트리 이벤트 거부: eventId={}, reason={}", 
+                    eventItem.getEventId(), violation);
+                continue;
+            }
+            // 같은 배치 내 중복 eventId는 첫 번째만 저장
+            candidates.putIfAbsent(eventItem.getEventId(), toEntity(request, eventItem, receivedAt));
+        }
+
+        // 재질문 여부 계산 (저장 전, 대화별 링 버퍼)
+        List<TelemetryEvent> pending = new ArrayList<>(candidates.values());
+        markRepeatedTurns(pending);
+
+        // chunk 단위 일괄 저장 (새로 저장된 eventId만 반환)
+        List<TelemetryEvent> saved = new ArrayList<>();
+        int chunkSize = Math.max(1, insertChunkSize);
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<TelemetryEvent> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            try {
+                saved.addAll(insertChunk(request, receivedAt, chunk));
+            } catch (Exception e) {
+                log.warn("텔레메트리 chunk 저장 실패, 이벤트 단위로 재시도: count={}, error={}",
+                    chunk.size(), e.getMessage());
+                for (TelemetryEvent event : chunk) {
+                    try {
+                        saved.addAll(insertChunk(request, receivedAt, List.of(event)));
+                    } catch (Exception rowError) {
+                        errors.add(new TelemetryDtos.ErrorItem(
+                            event.getEventId(),
+                            "STORAGE_ERROR",
+                            rowError.getMessage()
+                        ));
+                        log.error("텔레메트리 이벤트 저장 실패: eventId={}, error={}",
+                            event.getEventId(), rowError.getMessage());
+                    }
+                }
             }
         }
 
+        int rejected = errors.size();
+        int accepted = received - rejected;
+        log.debug("텔레메트리 이벤트 수집: received={}, inserted={}, duplicated={}, rejected={}",
+            received, saved.size(), accepted - saved.size(), rejected);
+
+        // 대시보드 롤업 증분 반영 (새로 저장된 이벤트만, 실패해도 저장된 이벤트는 accepted 유지)
+        try {
+            telemetryRollupService.accumulate(saved);
+        } catch (Exception e) {
+            log.error("텔레메트리 롤업 반영 실패: events={}, error={}", saved.size(), e.getMessage(), e);
+        }
+
         return new TelemetryDtos.TelemetryEventResponse(received, accepted, rejected, errors);
     }
 
+    /**
+     * 이벤트 묶음 저장 (repository 트랜잭션 1회)
+     *
+     * @return 새로 저장된 이벤트 (이미 존재하거나 배치 안에서 겹치는 eventId 제외)
+     */
+    private List<TelemetryEvent> insertChunk(
+        TelemetryDtos.TelemetryEventRequest request,
+        Instant receivedAt,
+        List<TelemetryEvent> chunk
+    ) {
+        Set<UUID> inserted = new HashSet<>(telemetryEventRepository.insertAllIgnoringDuplicates(
+            request.getSource(),
+            request.getSentAt(),
+            receivedAt,
+            toInsertJson(chunk)
+        ));
+        List<TelemetryEvent> saved = new ArrayList<>(inserted.size());
+        for (TelemetryEvent event : chunk) {
+            // 배치 안에서 eventId 가 겹치면 앞선 이벤트만 저장됨 (롤업 중복 반영 방지)
+            if (inserted.remove(event.getEventId())) {
+                saved.add(event);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * CHAT_TURN 재질문 여부 계산 (MVP: 동일 conversation, 최근 3턴 내, 같은 intentMain 반복)
+     *
+     * <p>배치에 포함된 대화의 직전 3턴을 한 번의 쿼리로 읽어 대화별 {@link IntentRingBuffer}를 만들고,
+     * 배치 내 턴을 turnId 순으로 흘려 보내며 판정합니다. 결과는 is_repeat 컬럼에 저장되어
+     * 재질문률이 단순 카운트가 됩니다. 턴이 turnId 역순으로 늦게 도착하면 도착 시점 기준으로 판정합니다.</p>
+     */
+    private void markRepeatedTurns(List<TelemetryEvent> events) {
+        Map<String, List<TelemetryEvent>> byConversation = new LinkedHashMap<>();
+        Instant earliest = null;
+        for (TelemetryEvent event : events) {
+            if (!"CHAT_TURN".equals(event.getEventType())) {
+                continue;
+            }
+            if (event.getConversationId() == null) {
+                event.setRepeat(false);
+                continue;
+            }
+            byConversation.computeIfAbsent(event.getConversationId(), k -> new ArrayList<>()).add(event);
+            if (earliest == null || event.getOccurredAt().isBefore(earliest)) {
+                earliest = event.getOccurredAt();
+            }
+        }
+        if (byConversation.isEmpty()) {
+            return;
+        }
+
+        // 직전 턴 이력으로 링 버퍼 초기화 (오래된 턴부터)
+        Map<String, IntentRingBuffer> buffers = new HashMap<>();
+        for (Object[] row : telemetryEventRepository.findRecentIntentsByConversation(
+                byConversation.keySet(), earliest.minus(repeatLookbackHours, ChronoUnit.HOURS))) {
+            buffers.computeIfAbsent((String) row[0], k -> new IntentRingBuffer()).push((String) row[1]);
+        }
+
+        for (Map.Entry<String, List<TelemetryEvent>> entry : byConversation.entrySet()) {
+            List<TelemetryEvent> turns = entry.getValue();
+            turns.sort(Comparator.comparing(TelemetryEvent::getTurnId,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+            IntentRingBuffer buffer = buffers.computeIfAbsent(entry.getKey(), k -> new IntentRingBuffer());
+            for (TelemetryEvent turn : turns) {
+                Object intent = asMap(turn.getPayload()).get("intentMain");
+                turn.setRepeat(buffer.checkAndPush(intent instanceof String ? (String) intent : null));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object payload) {
+        return payload instanceof Map ? (Map<String, Object>) payload : Map.of();
+    }
+
+    /**
+     * 이벤트 검증 (telemetry_event 컬럼 제약 기준, 길이는 {@link TelemetryEvent} 컬럼 정의 사용)
+     *
+     * <p>occurredAt 은 파티션 키이므로 수신 시각 기준 [-max-past-days, +max-future-skew-hours] 범위만 허용합니다.
+     * 범위 밖 이벤트는 미리 만든 월 파티션이 아닌 기본 파티션으로 떨어지기 때문입니다.</p>
+     *
+     * @return 위반 사유 (유효하면 null)
+     */
+    private String validateEvent(TelemetryDtos.EventItem eventItem, Instant receivedAt) {
+        if (eventItem.getEventId() == null) {
+            return "eventId is required";
+        }
+        if (isBlank(eventItem.getEventType())
+                || eventItem.getEventType().length() > TelemetryEvent.EVENT_TYPE_MAX_LENGTH) {
+            return "eventType is required (max " + TelemetryEvent.EVENT_TYPE_MAX_LENGTH + ")";
+        }
+        if (isBlank(eventItem.getTraceId())
+                || eventItem.getTraceId().length() > TelemetryEvent.TRACE_ID_MAX_LENGTH) {
+            return "traceId is required (max " + TelemetryEvent.TRACE_ID_MAX_LENGTH + ")";
+        }
+        if (eventItem.getConversationId() != null
+                && eventItem.getConversationId().length() > TelemetryEvent.CONVERSATION_ID_MAX_LENGTH) {
+            return "conversationId max length is " + TelemetryEvent.CONVERSATION_ID_MAX_LENGTH;
+        }
+        if (isBlank(eventItem.getUserId())
+                || eventItem.getUserId().length() > TelemetryEvent.USER_ID_MAX_LENGTH) {
+            return "userId is required (max " + TelemetryEvent.USER_ID_MAX_LENGTH + ")";
+        }
+        if (isBlank(eventItem.getDeptId())
+                || eventItem.getDeptId().length() > TelemetryEvent.DEPT_ID_MAX_LENGTH) {
+            return "deptId is required (max " + TelemetryEvent.DEPT_ID_MAX_LENGTH + ")";
+        }
+        if (eventItem.getOccurredAt() == null) {
+            return "occurredAt is required";
+        }
+        if (eventItem.getOccurredAt().isAfter(receivedAt.plus(maxFutureSkewHours, ChronoUnit.HOURS))
+                || eventItem.getOccurredAt().isBefore(receivedAt.minus(maxPastDays, ChronoUnit.DAYS))) {
+            return "occurredAt must be within " + maxPastDays + " days before and "
+                + maxFutureSkewHours + " hours after the receive time";
+        }
+        if (eventItem.getPayload() == null) {
+            return "payload is required";
+        }
+        return null;
+    }
+
+    private TelemetryEvent toEntity(
+        TelemetryDtos.TelemetryEventRequest request,
+        TelemetryDtos.EventItem eventItem,
+        Instant receivedAt
+    ) {
+        TelemetryEvent event = new TelemetryEvent();
+        event.setEventId(eventItem.getEventId());
+        event.setSource(request.getSource());
+        event.setSentAt(request.getSentAt());
+        event.setEventType(eventItem.getEventType());
+        event.setTraceId(eventItem.getTraceId());
+        event.setConversationId(eventItem.getConversationId());
+        event.setTurnId(eventItem.getTurnId());
+        event.setUserId(eventItem.getUserId());
+        event.setDeptId(eventItem.getDeptId());
+        event.setOccurredAt(eventItem.getOccurredAt());
+        event.setPayload(eventItem.getPayload());
+        event.setReceivedAt(receivedAt);
+        return event;
+    }
+
+    /**
+     * 일괄 INSERT 파라미터 (JSON 배열) 생성
+     */
+    private String toInsertJson(List<TelemetryEvent> events) {
+        List<Map<String, Object>> rows = new ArrayList<>(events.size());
+        for (TelemetryEvent event : events) {
+            Map<String, Object> row = new java.util.HashMap<>();
+            row.put("eventId", event.getEventId().toString());
+            row.put("eventType", event.getEventType());
+            row.put("traceId", event.getTraceId());
+            row.put("conversationId", event.getConversationId());
+            row.put("turnId", event.getTurnId());
+            row.put("userId", event.getUserId());
+            row.put("deptId", event.getDeptId());
+            row.put("occurredAt", event.getOccurredAt().toString());
+            row.put("payload", event.getPayload());
+            row.put("repeat", event.getRepeat());
+            rows.add(row);
+        }
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("텔레메트리 이벤트 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     /**
      * 보안 지표 조회
      */
@@ -94,37 +322,17 @@ public class TelemetryService {
         Instant[] periodRange = calculatePeriodRange(period);
         Instant startDate = periodRange[0];
         Instant endDate = periodRange[1];
+        String deptId = normalizeDept(dept);
 
-        // SECURITY 이벤트 조회
-        List<TelemetryEvent> securityEvents = telemetryEventRepository
-            .findByEventTypeAndPeriodAndDept("SECURITY", startDate, endDate, dept);
-
-        // PII 차단 수집
-        int piiBlockCount = 0;
-        int externalDomainBlockCount = 0;
-
-        for (TelemetryEvent event : securityEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                Boolean blocked = (Boolean) payload.get("blocked");
-                String blockType = (String) payload.get("blockType");
-
-                if (Boolean.TRUE.equals(blocked)) {
-                    if ("PII_BLOCK".equals(blockType)) {
-                        piiBlockCount++;
-                    } else if ("EXTERNAL_DOMAIN_BLOCK".equals(blockType)) {
-                        externalDomainBlockCount++;
-                    }
-                }
-            } catch (Exception e) {
-                log.debug("[보안 지표] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
+        // PII / 외부 도메인 차단 수 (SECURITY 이벤트, DB 집계)
+        Object[] blocks = singleRow(telemetryEventRepository
+            .countSecurityBlocks(startDate, endDate, deptId), 2);
+        int piiBlockCount = (int) toLong(blocks[0]);
+        int externalDomainBlockCount = (int) toLong(blocks[1]);
 
         // PII 추이 계산 (주간별)
         List<TelemetryDtos.PiiTrendItem> piiTrend = calculatePiiTrend(
-            startDate, endDate, dept
+            startDate, endDate, deptId
         );
 
         return new TelemetryDtos.SecurityMetricsResponse(
@@ -145,61 +353,38 @@ public class TelemetryService {
         Instant[] periodRange = calculatePeriodRange(period);
         Instant startDate = periodRange[0];
         Instant endDate = periodRange[1];
+        String deptId = normalizeDept(dept);
 
-        // CHAT_TURN 이벤트 조회
-        List<TelemetryEvent> chatTurnEvents = telemetryEventRepository
-            .findByEventTypeAndPeriodAndDept("CHAT_TURN", startDate, endDate, dept);
-
-        // FEEDBACK 이벤트 조회
-        List<TelemetryEvent> feedbackEvents = telemetryEventRepository
-            .findByEventTypeAndPeriodAndDept("FEEDBACK", startDate, endDate, dept);
-
-        // 불만족도 계산
-        long dislikeCount = 0;
-        long likeCount = 0;
-        for (TelemetryEvent event : feedbackEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                String feedback = (String) payload.get("feedback");
-                if ("dislike".equals(feedback)) {
-                    dislikeCount++;
-                } else if ("like".equals(feedback)) {
-                    likeCount++;
-                }
-            } catch (Exception e) {
-                log.debug("[성능 지표] 피드백 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
+        // 불만족도 계산 (FEEDBACK 이벤트, DB 집계)
+        Object[] feedback = singleRow(telemetryEventRepository
+            .countFeedback(startDate, endDate, deptId), 2);
+        long likeCount = toLong(feedback[0]);
+        long dislikeCount = toLong(feedback[1]);
         double dislikeRate = (likeCount + dislikeCount > 0) 
             ? (double) dislikeCount / (likeCount + dislikeCount) 
             : 0.0;
 
-        // 재질문률 계산 (MVP: 동일 conversation, 최근 3턴 내, 같은 intentMain 반복)
-        double repeatRate = calculateRepeatRate(chatTurnEvents);
-
-        // OOS 카운트
-        int oosCount = 0;
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                Boolean oos = (Boolean) payload.get("oos");
-                if (Boolean.TRUE.equals(oos)) {
-                    oosCount++;
-                }
-            } catch (Exception e) {
-                log.debug("[성능 지표] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
-
-        // 지연시간 히스토그램
+        // 재질문률 계산 (MVP: 동일 conversation, 최근 3턴 내, 같은 intentMain 반복, 수집 시 판정)
+        Object[] repeats = singleRow(telemetryEventRepository
+            .countRepeatedIntents(startDate, endDate, deptId), 2);
+        long repeatCount = toLong(repeats[0]);
+        long totalTurns = toLong(repeats[1]);
+        double repeatRate = totalTurns > 0 ? (double) repeatCount / totalTurns : 0.0;
+
+        // OOS 카운트 + 지연시간 히스토그램 (한 번의 스캔)
+        Object[] latencyRow = singleRow(telemetryEventRepository
+            .getChatTurnLatencyHistogram(startDate, endDate, deptId), 5);
+        int oosCount = (int) toLong(latencyRow[0]);
         List<TelemetryDtos.LatencyHistogramItem> latencyHistogram = 
-            calculateLatencyHistogram(chatTurnEvents);
+            calculateLatencyHistogram(latencyRow);
 
         // 모델별 평균 지연시간
         List<TelemetryDtos.ModelLatencyItem> modelLatency = 
-            calculateModelLatency(chatTurnEvents);
+            calculateModelLatency(startDate, endDate, deptId);
+
+        // 지연시간 분위수 (시간 단위 스케치 병합)
+        List<TelemetryDtos.LatencyPercentileItem> overall =
+            calculateLatencyPercentiles("total", "all", startDate, endDate, deptId);
 
         return new TelemetryDtos.PerformanceMetricsResponse(
             dislikeRate,
@@ -207,7 +392,11 @@ public class TelemetryService {
             "MVP: same conversation, within last 3 turns, same intentMain repeated",
             oosCount,
             latencyHistogram,
-            modelLatency
+            modelLatency,
+            overall.isEmpty() ? null : overall.get(0),
+            calculateLatencyPercentiles("llm", "model", startDate, endDate, deptId),
+            calculateLatencyPercentiles("total", "route", startDate, endDate, deptId),
+            calculateLatencyPercentiles("total", "dept", startDate, endDate, deptId)
         );
     }
 
@@ -242,213 +431,112 @@ public class TelemetryService {
     }
 
     /**
-     * PII 추이 계산 (주간별)
+     * PII 추이 계산 (주간별, 주의 시작일 YYYY-MM-DD 기준)
      */
     private List<TelemetryDtos.PiiTrendItem> calculatePiiTrend(
-        Instant startDate, Instant endDate, String dept
+        Instant startDate, Instant endDate, String deptId
     ) {
-        // CHAT_TURN 이벤트에서 PII 감지 정보 추출
-        List<TelemetryEvent> chatTurnEvents = telemetryEventRepository
-            .findByEventTypeAndPeriodAndDept("CHAT_TURN", startDate, endDate, dept);
-
-        // 주간별 집계를 위한 맵
-        Map<String, List<Boolean>> weekInputPii = new java.util.HashMap<>();
-        Map<String, List<Boolean>> weekOutputPii = new java.util.HashMap<>();
+        List<Object[]> rows = telemetryEventRepository.getWeeklyPiiDetection(
+            ZoneId.systemDefault().getId(), startDate, endDate, deptId);
 
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                Boolean piiInput = (Boolean) payload.get("piiDetectedInput");
-                Boolean piiOutput = (Boolean) payload.get("piiDetectedOutput");
-
-                // 주간 버킷 계산 (ISO 주 기준)
-                String weekKey = getWeekKey(event.getOccurredAt());
-
-                if (piiInput != null) {
-                    weekInputPii.computeIfAbsent(weekKey, k -> new ArrayList<>()).add(piiInput);
-                }
-                if (piiOutput != null) {
-                    weekOutputPii.computeIfAbsent(weekKey, k -> new ArrayList<>()).add(piiOutput);
-                }
-            } catch (Exception e) {
-                log.debug("[PII 추이] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
-
-        // 주간별 비율 계산
         List<TelemetryDtos.PiiTrendItem> result = new ArrayList<>();
-        for (String weekKey : weekInputPii.keySet()) {
-            List<Boolean> inputList = weekInputPii.get(weekKey);
-            List<Boolean> outputList = weekOutputPii.getOrDefault(weekKey, new ArrayList<>());
-
-            double inputDetectRate = inputList.stream()
-                .mapToInt(b -> Boolean.TRUE.equals(b) ? 1 : 0)
-                .sum() / (double) inputList.size();
+        for (Object[] row : rows) {
+            long inputTrue = toLong(row[1]);
+            long inputTotal = toLong(row[2]);
+            long outputTrue = toLong(row[3]);
+            long outputTotal = toLong(row[4]);
 
-            double outputDetectRate = outputList.isEmpty() ? 0.0 :
-                outputList.stream()
-                    .mapToInt(b -> Boolean.TRUE.equals(b) ? 1 : 0)
-                    .sum() / (double) outputList.size();
+            double inputDetectRate = inputTotal > 0 ? inputTrue / (double) inputTotal : 0.0;
+            double outputDetectRate = outputTotal > 0 ? outputTrue / (double) outputTotal : 0.0;
 
-            result.add(new TelemetryDtos.PiiTrendItem(weekKey, inputDetectRate, outputDetectRate));
+            result.add(new TelemetryDtos.PiiTrendItem((String) row[0], inputDetectRate, outputDetectRate));
         }
 
-        // 주간 키로 정렬
-        result.sort((a, b) -> a.getBucketStart().compareTo(b.getBucketStart()));
-
         return result;
     }
 
     /**
-     * 주간 키 생성 (YYYY-MM-DD 형식, 주의 시작일)
+     * 지연시간 히스토그램 생성
+     *
+     * @param latencyRow [oos_count, 0-500ms, 0.5-1s, 1-2s, 2s+]
      */
-    private String getWeekKey(Instant instant) {
-        LocalDate date = instant.atZone(ZoneId.systemDefault()).toLocalDate();
-        LocalDate weekStart = date.minusDays(date.getDayOfWeek().getValue() - 1);
-        return weekStart.toString();
+    private List<TelemetryDtos.LatencyHistogramItem> calculateLatencyHistogram(Object[] latencyRow) {
+        List<TelemetryDtos.LatencyHistogramItem> histogram = new ArrayList<>();
+        histogram.add(new TelemetryDtos.LatencyHistogramItem("0-500ms", toLong(latencyRow[1])));
+        histogram.add(new TelemetryDtos.LatencyHistogramItem("0.5-1s", toLong(latencyRow[2])));
+        histogram.add(new TelemetryDtos.LatencyHistogramItem("1-2s", toLong(latencyRow[3])));
+        histogram.add(new TelemetryDtos.LatencyHistogramItem("2s+", toLong(latencyRow[4])));
+
+        return histogram;
     }
 
     /**
-     * 재질문률 계산 (MVP: 동일 conversation, 최근 3턴 내, 같은 intentMain 반복)
+     * 모델별 평균 지연시간 계산
      */
-    private double calculateRepeatRate(List<TelemetryEvent> chatTurnEvents) {
-        if (chatTurnEvents.isEmpty()) {
-            return 0.0;
-        }
-
-        // conversationId별로 그룹화
-        Map<String, List<TelemetryEvent>> byConversation = new java.util.HashMap<>();
-        for (TelemetryEvent event : chatTurnEvents) {
-            if (event.getConversationId() != null) {
-                byConversation.computeIfAbsent(event.getConversationId(), k -> new ArrayList<>())
-                    .add(event);
-            }
-        }
-
-        int repeatCount = 0;
-        int totalTurns = chatTurnEvents.size();
-
-        for (List<TelemetryEvent> turns : byConversation.values()) {
-            // turnId로 정렬
-            turns.sort((a, b) -> {
-                if (a.getTurnId() == null && b.getTurnId() == null) return 0;
-                if (a.getTurnId() == null) return -1;
-                if (b.getTurnId() == null) return 1;
-                return a.getTurnId().compareTo(b.getTurnId());
-            });
-
-            // 최근 3턴 내에서 같은 intentMain 반복 체크
-            for (int i = 0; i < turns.size(); i++) {
-                TelemetryEvent current = turns.get(i);
-                try {
-                    Map<String, Object> currentPayload = parsePayload(current.getPayload());
-                    String currentIntent = (String) currentPayload.get("intentMain");
-
-                    if (currentIntent == null) continue;
-
-                    // 최근 3턴 내 확인
-                    for (int j = Math.max(0, i - 3); j < i; j++) {
-                        TelemetryEvent prev = turns.get(j);
-                        try {
-                            Map<String, Object> prevPayload = parsePayload(prev.getPayload());
-                            String prevIntent = (String) prevPayload.get("intentMain");
-
-                            if (currentIntent.equals(prevIntent)) {
-                                repeatCount++;
-                                break; // 한 턴당 한 번만 카운트
-                            }
-                        } catch (Exception e) {
-                            log.debug("[재질문률] 이전 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                                prev.getEventId(), e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("[재질문률] 현재 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                        current.getEventId(), e.getMessage());
-                }
-            }
+    private List<TelemetryDtos.ModelLatencyItem> calculateModelLatency(
+        Instant startDate, Instant endDate, String deptId
+    ) {
+        List<TelemetryDtos.ModelLatencyItem> result = new ArrayList<>();
+        for (Object[] row : telemetryEventRepository.getAverageLlmLatencyByModel(startDate, endDate, deptId)) {
+            double avg = row[1] == null ? 0.0 : ((Number) row[1]).doubleValue();
+            result.add(new TelemetryDtos.ModelLatencyItem((String) row[0], avg));
         }
 
-        return totalTurns > 0 ? (double) repeatCount / totalTurns : 0.0;
+        return result;
     }
 
     /**
-     * 지연시간 히스토그램 계산
+     * 지연시간 분위수 계산 (chat_latency_sketch_hourly 스케치 병합)
+     *
+     * @param metric total | llm
+     * @param dimension model | route | dept | all
+     * @return 차원 값별 분위수 (표본 수 내림차순)
      */
-    private List<TelemetryDtos.LatencyHistogramItem> calculateLatencyHistogram(
-        List<TelemetryEvent> chatTurnEvents
+    private List<TelemetryDtos.LatencyPercentileItem> calculateLatencyPercentiles(
+        String metric, String dimension, Instant startDate, Instant endDate, String deptId
     ) {
-        long count0_500 = 0;
-        long count500_1000 = 0;
-        long count1000_2000 = 0;
-        long count2000Plus = 0;
-
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                Object latencyObj = payload.get("latencyMsTotal");
-                if (latencyObj instanceof Number) {
-                    long latency = ((Number) latencyObj).longValue();
-                    if (latency < 500) {
-                        count0_500++;
-                    } else if (latency < 1000) {
-                        count500_1000++;
-                    } else if (latency < 2000) {
-                        count1000_2000++;
-                    } else {
-                        count2000Plus++;
-                    }
-                }
-            } catch (Exception e) {
-                log.debug("[지연시간 히스토그램] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
+        Map<String, LatencySketch> sketches = new LinkedHashMap<>();
+        for (Object[] row : telemetryEventRepository.mergeLatencySketches(
+                metric, dimension, startDate, endDate, deptId)) {
+            LatencySketch sketch = sketches.computeIfAbsent((String) row[0], k -> new LatencySketch());
+            sketch.addBin(((Number) row[1]).intValue(), toLong(row[2]));
+            sketch.observeMax(toLong(row[3]));
         }
 
-        List<TelemetryDtos.LatencyHistogramItem> histogram = new ArrayList<>();
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("0-500ms", count0_500));
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("0.5-1s", count500_1000));
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("1-2s", count1000_2000));
-        histogram.add(new TelemetryDtos.LatencyHistogramItem("2s+", count2000Plus));
+        List<TelemetryDtos.LatencyPercentileItem> result = new ArrayList<>();
+        for (Map.Entry<String, LatencySketch> entry : sketches.entrySet()) {
+            LatencySketch sketch = entry.getValue();
+            result.add(new TelemetryDtos.LatencyPercentileItem(
+                entry.getKey(),
+                sketch.getCount(),
+                sketch.quantile(0.50),
+                sketch.quantile(0.90),
+                sketch.quantile(0.95),
+                sketch.quantile(0.99),
+                sketch.getMaxMs()
+            ));
+        }
+        result.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
 
-        return histogram;
+        return result;
     }
 
     /**
-     * 모델별 평균 지연시간 계산
+     * 부서 필터 정규화 (미지정 시 전체)
      */
-    private List<TelemetryDtos.ModelLatencyItem> calculateModelLatency(
-        List<TelemetryEvent> chatTurnEvents
-    ) {
-        Map<String, List<Long>> modelLatencies = new java.util.HashMap<>();
-
-        for (TelemetryEvent event : chatTurnEvents) {
-            try {
-                Map<String, Object> payload = parsePayload(event.getPayload());
-                String model = (String) payload.get("model");
-                Object latencyObj = payload.get("latencyMsLlm");
-                
-                if (model != null && latencyObj instanceof Number) {
-                    modelLatencies.computeIfAbsent(model, k -> new ArrayList<>())
-                        .add(((Number) latencyObj).longValue());
-                }
-            } catch (Exception e) {
-                log.debug("[모델별 지연시간] 이벤트 payload 파싱 실패: eventId={}, error={}", 
-                    event.getEventId(), e.getMessage());
-            }
-        }
+    private static String normalizeDept(String dept) {
+        return (dept == null || dept.isBlank()) ? "all" : dept;
+    }
 
-        List<TelemetryDtos.ModelLatencyItem> result = new ArrayList<>();
-        for (Map.Entry<String, List<Long>> entry : modelLatencies.entrySet()) {
-            double avg = entry.getValue().stream()
-                .mapToLong(Long::longValue)
-                .average()
-                .orElse(0.0);
-            result.add(new TelemetryDtos.ModelLatencyItem(entry.getKey(), avg));
-        }
+    /**
+     * 집계 쿼리 단일 행 추출 (행이 없으면 0으로 채운 행)
+     */
+    private static Object[] singleRow(List<Object[]> rows, int columns) {
+        return rows.isEmpty() ? new Object[columns] : rows.get(0);
+    }
 
-        return result;
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
     }
 
     /**
@@ -0,0 +1,50 @@
+package com.ctrlf.infra.telemetry.util;
+
+import java.util.Objects;
+
+/**
+ * 대화별 최근 intentMain 링 버퍼 (재질문 판정용)
+ *
+ * <p>최근 {@value #CAPACITY}턴의 intentMain만 보관하며, 새 턴의 intentMain이
+ * 그 안에 있으면 재질문으로 판정합니다 (MVP: 동일 conversation, 최근 3턴 내 같은 intentMain 반복).
+ * intentMain이 없는 턴도 한 칸을 차지합니다 (턴 순서 기준).</p>
+ */
+public final class IntentRingBuffer {
+
+    /** 비교 대상 직전 턴 수 */
+    public static final int CAPACITY = 3;
+
+    private final String[] intents = new String[CAPACITY];
+    private int size;
+    private int next;
+
+    /**
+     * 재질문 판정 후 버퍼에 추가
+     *
+     * @param intent 현재 턴의 intentMain (null 가능)
+     * @return intent가 있고 최근 3턴 내 같은 intent가 있으면 true
+     */
+    public boolean checkAndPush(String intent) {
+        boolean repeat = intent != null && contains(intent);
+        push(intent);
+        return repeat;
+    }
+
+    /**
+     * 이전 턴 추가 (판정 없이, DB에서 읽은 이력 적재용)
+     */
+    public void push(String intent) {
+        intents[next] = intent;
+        next = (next + 1) % CAPACITY;
+        size = Math.min(size + 1, CAPACITY);
+    }
+
+    private boolean contains(String intent) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(intents[i], intent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,156 @@
+package com.ctrlf.infra.telemetry.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 병합 가능한 지연시간 분위수 스케치 (DDSketch 방식 로그 버킷)
+ *
+ * <p>값 v(ms)를 γ^i ≥ v 인 최소 i (= ceil(log_γ(v))) bin 에 카운트합니다 (γ = (1 + α) / (1 - α), α = 2%).
+ * bin별 카운트를 더하기만 하면 병합되므로, 시간 버킷별 스케치를 합쳐 임의 기간의
+ * 분위수를 원본 이벤트 없이 계산할 수 있습니다. 분위수 상대 오차는 α 이내입니다.
+ * 1ms 미만 값은 bin -1 (값 0)로 집계합니다.</p>
+ *
+ * <p>DB(telemetry.chat_latency_sketch_hourly.bins)에는 {"bin": count} jsonb 로 저장됩니다.
+ * bin 계산은 {@link #binOf(long)} 한 곳에서만 하며, 값이 정수(ms)이므로 매번 로그를 계산하지 않고
+ * bin 별 정수 상한표로 찾습니다. (V23 백필은 같은 정의를 PostgreSQL ln 으로 한 번 계산했고,
+ * LatencySketchTest 에서 두 계산이 일치함을 확인합니다.)</p>
+ */
+public final class LatencySketch {
+
+    /** 상대 정확도 */
+    public static final double RELATIVE_ACCURACY = 0.02;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    /** 1ms 미만 값 bin */
+    private static final int ZERO_BIN = -1;
+
+    /** bin i 에 들어가는 최대값 floor(γ^i) (ms), 마지막 항목은 Long.MAX_VALUE */
+    private static final long[] UPPER_BOUNDS = upperBounds();
+
+    /** bin → count (bin 오름차순) */
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long count;
+    private long maxMs;
+
+    /**
+     * 값 추가
+     *
+     * @param latencyMs 지연시간 (ms, 음수는 0으로 처리)
+     */
+    public void add(long latencyMs) {
+        long value = Math.max(0L, latencyMs);
+        bins.merge(binOf(value), 1L, Long::sum);
+        count++;
+        maxMs = Math.max(maxMs, value);
+    }
+
+    /**
+     * 병합된 bin 카운트 추가 (DB 조회 결과 등)
+     */
+    public void addBin(int bin, long binCount) {
+        if (binCount <= 0) {
+            return;
+        }
+        bins.merge(bin, binCount, Long::sum);
+        count += binCount;
+    }
+
+    /**
+     * 관측 최대값 반영 (bin 대표값 대신 정확한 max 사용)
+     */
+    public void observeMax(long latencyMs) {
+        maxMs = Math.max(maxMs, latencyMs);
+    }
+
+    /**
+     * 다른 스케치 병합
+     */
+    public void merge(LatencySketch other) {
+        other.bins.forEach((bin, binCount) -> bins.merge(bin, binCount, Long::sum));
+        count += other.count;
+        maxMs = Math.max(maxMs, other.maxMs);
+    }
+
+    /**
+     * 분위수 추정값 (ms)
+     *
+     * @param quantile 0.0 ~ 1.0
+     * @return 추정값 (데이터가 없으면 null)
+     */
+    public Double quantile(double quantile) {
+        if (count == 0) {
+            return null;
+        }
+        double rank = Math.max(0.0, Math.min(1.0, quantile)) * (count - 1);
+        long cumulative = 0;
+        for (Map.Entry<Integer, Long> entry : bins.entrySet()) {
+            cumulative += entry.getValue();
+            if (cumulative > rank) {
+                return Math.min(valueOf(entry.getKey()), (double) maxMs);
+            }
+        }
+        return (double) maxMs;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxMs() {
+        return maxMs;
+    }
+
+    /**
+     * 저장용 bin 카운트 (bin 오름차순)
+     */
+    public Map<Integer, Long> getBins() {
+        return bins;
+    }
+
+    /**
+     * 값 → bin
+     */
+    public static int binOf(long latencyMs) {
+        if (latencyMs < 1) {
+            return ZERO_BIN;
+        }
+        // UPPER_BOUNDS[i] >= latencyMs 인 최소 i (UPPER_BOUNDS 는 비내림차순)
+        int low = 0;
+        int high = UPPER_BOUNDS.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (UPPER_BOUNDS[mid] >= latencyMs) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * bin 별 정수 상한표 (γ^i ≥ v ⇔ floor(γ^i) ≥ v, v 는 정수)
+     */
+    private static long[] upperBounds() {
+        int maxBin = (int) Math.ceil(Math.log(Long.MAX_VALUE) / LOG_GAMMA);
+        long[] bounds = new long[maxBin + 1];
+        for (int i = 0; i < maxBin; i++) {
+            bounds[i] = (long) Math.floor(Math.pow(GAMMA, i));
+        }
+        bounds[maxBin] = Long.MAX_VALUE;
+        return bounds;
+    }
+
+    /**
+     * bin → 대표값 (bin 구간 (γ^(i-1), γ^i] 의 상대 오차 최소 지점)
+     */
+    private static double valueOf(int bin) {
+        if (bin == ZERO_BIN) {
+            return 0.0;
+        }
+        return 2 * Math.pow(GAMMA, bin) / (GAMMA + 1);
+    }
+}
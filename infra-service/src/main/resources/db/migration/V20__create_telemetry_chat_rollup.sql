@@ -0,0 +1,66 @@
+SET search_path = telemetry;
+
+-- 챗봇 대시보드용 시간 단위 롤업 (수집 시 증분 갱신)
+-- 대시보드는 기간 길이와 무관하게 이 테이블의 집계 행만 읽습니다.
+CREATE TABLE IF NOT EXISTS "chat_turn_rollup_hourly" (
+  "bucket_hour" timestamptz NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "model" varchar(100) NOT NULL DEFAULT '',
+  "domain" varchar(50) NOT NULL DEFAULT '',
+  "turn_count" bigint NOT NULL DEFAULT 0,
+  "latency_sum_ms" bigint NOT NULL DEFAULT 0,
+  "latency_count" bigint NOT NULL DEFAULT 0,
+  "pii_count" bigint NOT NULL DEFAULT 0,
+  "error_count" bigint NOT NULL DEFAULT 0,
+  "rag_used_count" bigint NOT NULL DEFAULT 0,
+  "like_count" bigint NOT NULL DEFAULT 0,
+  "dislike_count" bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY ("bucket_hour", "dept_id", "model", "domain")
+);
+
+-- 활성 사용자 수(고유 userId) 계산용 시간 단위 사용자 목록
+CREATE TABLE IF NOT EXISTS "chat_active_user_hourly" (
+  "bucket_hour" timestamptz NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "user_id" varchar(64) NOT NULL,
+  PRIMARY KEY ("bucket_hour", "dept_id", "user_id")
+);
+
+COMMENT ON TABLE "chat_turn_rollup_hourly" IS 'CHAT_TURN/FEEDBACK 이벤트 시간 단위 롤업 (hour, dept, model, domain)';
+COMMENT ON COLUMN "chat_turn_rollup_hourly"."latency_sum_ms" IS 'payload.latencyMsTotal 합계 (숫자인 경우만)';
+COMMENT ON COLUMN "chat_turn_rollup_hourly"."latency_count" IS 'payload.latencyMsTotal 이 있는 CHAT_TURN 수';
+COMMENT ON COLUMN "chat_turn_rollup_hourly"."pii_count" IS 'piiDetectedInput 또는 piiDetectedOutput 이 true 인 CHAT_TURN 수';
+COMMENT ON COLUMN "chat_turn_rollup_hourly"."error_count" IS 'errorCode 가 있는 CHAT_TURN 수';
+COMMENT ON TABLE "chat_active_user_hourly" IS 'CHAT_TURN 발생 사용자 (hour, dept) 단위 목록';
+
+-- 기존 이벤트 백필
+INSERT INTO "chat_turn_rollup_hourly" (
+  "bucket_hour", "dept_id", "model", "domain",
+  "turn_count", "latency_sum_ms", "latency_count", "pii_count", "error_count", "rag_used_count",
+  "like_count", "dislike_count"
+)
+SELECT
+  date_trunc('hour', e.occurred_at),
+  e.dept_id,
+  COALESCE(left(e.payload->>'model', 100), ''),
+  COALESCE(left(upper(trim(e.payload->>'domain')), 50), ''),
+  COUNT(*) FILTER (WHERE e.event_type = 'CHAT_TURN'),
+  COALESCE(SUM((e.payload->>'latencyMsTotal')::numeric)
+    FILTER (WHERE e.event_type = 'CHAT_TURN' AND jsonb_typeof(e.payload->'latencyMsTotal') = 'number'), 0)::bigint,
+  COUNT(*) FILTER (WHERE e.event_type = 'CHAT_TURN' AND jsonb_typeof(e.payload->'latencyMsTotal') = 'number'),
+  COUNT(*) FILTER (WHERE e.event_type = 'CHAT_TURN'
+    AND (e.payload->'piiDetectedInput' = 'true'::jsonb OR e.payload->'piiDetectedOutput' = 'true'::jsonb)),
+  COUNT(*) FILTER (WHERE e.event_type = 'CHAT_TURN' AND jsonb_typeof(e.payload->'errorCode') <> 'null'),
+  COUNT(*) FILTER (WHERE e.event_type = 'CHAT_TURN' AND e.payload->'ragUsed' = 'true'::jsonb),
+  COUNT(*) FILTER (WHERE e.event_type = 'FEEDBACK' AND e.payload->>'feedback' = 'like'),
+  COUNT(*) FILTER (WHERE e.event_type = 'FEEDBACK' AND e.payload->>'feedback' = 'dislike')
+FROM "telemetry_event" e
+WHERE e.event_type IN ('CHAT_TURN', 'FEEDBACK')
+GROUP BY 1, 2, 3, 4
+ON CONFLICT DO NOTHING;
+
+INSERT INTO "chat_active_user_hourly" ("bucket_hour", "dept_id", "user_id")
+SELECT DISTINCT date_trunc('hour', e.occurred_at), e.dept_id, e.user_id
+FROM "telemetry_event" e
+WHERE e.event_type = 'CHAT_TURN'
+ON CONFLICT DO NOTHING;
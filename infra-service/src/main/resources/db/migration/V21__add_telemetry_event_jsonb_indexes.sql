@@ -0,0 +1,33 @@
+SET search_path = telemetry;
+
+-- 대시보드 지표(보안/성능) DB 집계용 부분/표현식 인덱스
+-- 각 인덱스의 WHERE 절은 TelemetryEventRepository 집계 쿼리의 조건과 동일해야 사용됩니다.
+
+-- 보안 차단 건수: SECURITY + blocked=true 행만 색인 (blockType별 FILTER 집계)
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_security_blocked"
+  ON "telemetry_event" ("occurred_at", ("payload"->>'blockType'))
+  WHERE "event_type" = 'SECURITY' AND ("payload"->'blocked') = 'true'::jsonb;
+
+-- 피드백 건수: FEEDBACK 행만 색인
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_feedback"
+  ON "telemetry_event" ("occurred_at", ("payload"->>'feedback'))
+  WHERE "event_type" = 'FEEDBACK';
+
+-- 모델별 평균 지연: CHAT_TURN 중 model/latencyMsLlm 이 있는 행만 색인
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_chat_turn_model"
+  ON "telemetry_event" (("payload"->>'model'), "occurred_at")
+  WHERE "event_type" = 'CHAT_TURN'
+    AND jsonb_typeof("payload"->'model') = 'string'
+    AND jsonb_typeof("payload"->'latencyMsLlm') = 'number';
+
+-- CHAT_TURN 기간/부서 집계 (히스토그램, OOS, PII 추이)
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_chat_turn_dept_occurred"
+  ON "telemetry_event" ("dept_id", "occurred_at")
+  WHERE "event_type" = 'CHAT_TURN';
+
+-- 재질문률: conversation 단위 turn 순서 윈도우
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_chat_turn_conversation"
+  ON "telemetry_event" ("conversation_id", "turn_id" NULLS FIRST)
+  WHERE "event_type" = 'CHAT_TURN';
+
+ANALYZE "telemetry_event";
@@ -0,0 +1,152 @@
+SET search_path = telemetry;
+
+-- telemetry_event 월 단위 RANGE 파티셔닝 (occurred_at 기준, 경계는 UTC 월초)
+-- 파티션 이름: telemetry_event_YYYYMM, 범위 밖 이벤트는 telemetry_event_default 로 저장
+-- 향후 파티션 생성 / 보존 기간 경과 파티션 분리·삭제는 infra-service
+-- TelemetryPartitionMaintenanceService 가 아래 함수를 주기적으로 호출해 수행합니다.
+-- 주의: 파티션 테이블의 PK/UNIQUE 는 파티션 키를 포함해야 하므로 PK 는 (event_id, occurred_at) 입니다.
+
+ALTER TABLE "telemetry_event" RENAME TO "telemetry_event_legacy";
+ALTER INDEX "telemetry_event_pkey" RENAME TO "telemetry_event_legacy_pkey";
+
+CREATE TABLE "telemetry_event" (
+  "event_id" uuid NOT NULL,
+  "source" varchar(50) NOT NULL,
+  "sent_at" timestamptz NOT NULL,
+  "event_type" varchar(30) NOT NULL,
+  "trace_id" varchar(200) NOT NULL,
+  "conversation_id" varchar(100),
+  "turn_id" int,
+  "user_id" varchar(64) NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "occurred_at" timestamptz NOT NULL,
+  "payload" jsonb NOT NULL,
+  "received_at" timestamptz NOT NULL DEFAULT now(),
+  PRIMARY KEY ("event_id", "occurred_at")
+) PARTITION BY RANGE ("occurred_at");
+
+CREATE TABLE "telemetry_event_default" PARTITION OF "telemetry_event" DEFAULT;
+
+-- [from_month, from_month + months) 구간의 월 파티션 생성, 생성된 파티션 이름 반환
+CREATE OR REPLACE FUNCTION telemetry.ensure_telemetry_event_partitions(
+  from_month timestamptz,
+  months int
+) RETURNS SETOF text
+LANGUAGE plpgsql AS $$
+DECLARE
+  month_start timestamp := date_trunc('month', from_month AT TIME ZONE 'UTC');
+  partition_name text;
+  i int;
+BEGIN
+  -- 여러 인스턴스가 동시에 실행해도 한 번만 생성되도록 직렬화
+  PERFORM pg_advisory_xact_lock(hashtext('telemetry.telemetry_event.partitions'));
+  FOR i IN 0 .. months - 1 LOOP
+    partition_name := 'telemetry_event_' || to_char(month_start + make_interval(months => i), 'YYYYMM');
+    IF to_regclass('telemetry.' || quote_ident(partition_name)) IS NULL THEN
+      EXECUTE format(
+        'CREATE TABLE telemetry.%I PARTITION OF telemetry.telemetry_event FOR VALUES FROM (%L) TO (%L)',
+        partition_name,
+        (month_start + make_interval(months => i)) AT TIME ZONE 'UTC',
+        (month_start + make_interval(months => i + 1)) AT TIME ZONE 'UTC'
+      );
+      RETURN NEXT partition_name;
+    END IF;
+  END LOOP;
+END;
+$$;
+
+-- 상한이 cutoff 월초(UTC) 이하인 월 파티션을 분리(drop_partitions=false) 또는 삭제, 처리된 파티션 이름 반환
+-- 분리된 파티션은 일반 테이블로 남으므로 아카이브 후 수동 삭제합니다.
+CREATE OR REPLACE FUNCTION telemetry.retire_telemetry_event_partitions(
+  cutoff timestamptz,
+  drop_partitions boolean
+) RETURNS SETOF text
+LANGUAGE plpgsql AS $$
+DECLARE
+  cutoff_month timestamp := date_trunc('month', cutoff AT TIME ZONE 'UTC');
+  partition_name text;
+BEGIN
+  PERFORM pg_advisory_xact_lock(hashtext('telemetry.telemetry_event.partitions'));
+  FOR partition_name IN
+    SELECT c.relname
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    JOIN pg_namespace n ON n.oid = c.relnamespace
+    WHERE i.inhparent = 'telemetry.telemetry_event'::regclass
+      AND n.nspname = 'telemetry'
+      AND c.relname ~ '^telemetry_event_[0-9]{6}$'
+    ORDER BY c.relname
+  LOOP
+    IF to_date(right(partition_name, 6), 'YYYYMM')::timestamp + interval '1 month' <= cutoff_month THEN
+      IF drop_partitions THEN
+        EXECUTE format('DROP TABLE telemetry.%I', partition_name);
+      ELSE
+        EXECUTE format('ALTER TABLE telemetry.telemetry_event DETACH PARTITION telemetry.%I', partition_name);
+      END IF;
+      RETURN NEXT partition_name;
+    END IF;
+  END LOOP;
+END;
+$$;
+
+-- 기존 데이터 범위 ~ 현재 월 + 3개월 파티션 생성
+SELECT telemetry.ensure_telemetry_event_partitions(
+  from_month,
+  ((extract(year FROM age(date_trunc('month', now() AT TIME ZONE 'UTC'),
+                          date_trunc('month', from_month AT TIME ZONE 'UTC'))) * 12
+    + extract(month FROM age(date_trunc('month', now() AT TIME ZONE 'UTC'),
+                             date_trunc('month', from_month AT TIME ZONE 'UTC'))))::int + 4)
+)
+FROM (
+  SELECT LEAST(COALESCE(MIN("occurred_at"), now()), now()) AS from_month
+  FROM "telemetry_event_legacy"
+) r;
+
+INSERT INTO "telemetry_event" SELECT * FROM "telemetry_event_legacy";
+
+DROP TABLE "telemetry_event_legacy";
+
+-- 인덱스 재생성 (V8, V21 과 동일, 파티션별 로컬 인덱스로 생성됨)
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_occurred_at" ON "telemetry_event" ("occurred_at");
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_dept_occurred" ON "telemetry_event" ("dept_id", "occurred_at");
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_type_occurred" ON "telemetry_event" ("event_type", "occurred_at");
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_conversation_turn" ON "telemetry_event" ("conversation_id", "turn_id");
+
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_security_blocked"
+  ON "telemetry_event" ("occurred_at", ("payload"->>'blockType'))
+  WHERE "event_type" = 'SECURITY' AND ("payload"->'blocked') = 'true'::jsonb;
+
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_feedback"
+  ON "telemetry_event" ("occurred_at", ("payload"->>'feedback'))
+  WHERE "event_type" = 'FEEDBACK';
+
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_chat_turn_model"
+  ON "telemetry_event" (("payload"->>'model'), "occurred_at")
+  WHERE "event_type" = 'CHAT_TURN'
+    AND jsonb_typeof("payload"->'model') = 'string'
+    AND jsonb_typeof("payload"->'latencyMsLlm') = 'number';
+
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_chat_turn_dept_occurred"
+  ON "telemetry_event" ("dept_id", "occurred_at")
+  WHERE "event_type" = 'CHAT_TURN';
+
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_chat_turn_conversation"
+  ON "telemetry_event" ("conversation_id", "turn_id" NULLS FIRST)
+  WHERE "event_type" = 'CHAT_TURN';
+
+-- 코멘트 (V8, V12 와 동일)
+COMMENT ON TABLE "telemetry_event" IS 'AI에서 수집한 텔레메트리 이벤트 (occurred_at 월 단위 RANGE 파티션)';
+COMMENT ON COLUMN "telemetry_event"."event_id" IS 'Idempotency key (AI eventId)';
+COMMENT ON COLUMN "telemetry_event"."source" IS 'ai-gateway 등';
+COMMENT ON COLUMN "telemetry_event"."sent_at" IS 'AI가 전송한 시각';
+COMMENT ON COLUMN "telemetry_event"."event_type" IS 'CHAT_TURN | FEEDBACK | SECURITY';
+COMMENT ON COLUMN "telemetry_event"."trace_id" IS 'X-Trace-Id (UUID 또는 문자열)';
+COMMENT ON COLUMN "telemetry_event"."conversation_id" IS 'X-Conversation-Id';
+COMMENT ON COLUMN "telemetry_event"."turn_id" IS 'X-Turn-Id';
+COMMENT ON COLUMN "telemetry_event"."user_id" IS 'X-User-Id (또는 user_uuid)';
+COMMENT ON COLUMN "telemetry_event"."dept_id" IS 'X-Dept-Id';
+COMMENT ON COLUMN "telemetry_event"."occurred_at" IS 'occurredAt (파티션 키)';
+COMMENT ON COLUMN "telemetry_event"."payload" IS 'eventType별 payload 원문';
+COMMENT ON COLUMN "telemetry_event"."received_at" IS '백엔드 수신 시각';
+
+ANALYZE "telemetry_event";
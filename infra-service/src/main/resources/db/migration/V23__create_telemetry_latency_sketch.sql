@@ -0,0 +1,61 @@
+SET search_path = telemetry;
+
+-- 지연시간 분위수용 시간 단위 스케치 (수집 시 증분 병합)
+-- bins: {"bin": count}, bin = ceil(ln(v) / ln(1.02 / 0.98)), 1ms 미만은 -1 (LatencySketch 와 동일)
+-- 임의 기간/차원의 분위수는 bins 를 bin 별로 합산(SUM)해 계산합니다.
+CREATE TABLE IF NOT EXISTS "chat_latency_sketch_hourly" (
+  "bucket_hour" timestamptz NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "model" varchar(100) NOT NULL DEFAULT '',
+  "route" varchar(50) NOT NULL DEFAULT '',
+  "metric" varchar(20) NOT NULL,
+  "sample_count" bigint NOT NULL DEFAULT 0,
+  "sum_ms" bigint NOT NULL DEFAULT 0,
+  "max_ms" bigint NOT NULL DEFAULT 0,
+  "bins" jsonb NOT NULL DEFAULT '{}'::jsonb,
+  PRIMARY KEY ("bucket_hour", "dept_id", "model", "route", "metric")
+);
+
+CREATE INDEX IF NOT EXISTS "idx_chat_latency_sketch_metric_hour"
+  ON "chat_latency_sketch_hourly" ("metric", "bucket_hour");
+
+COMMENT ON TABLE "chat_latency_sketch_hourly" IS 'CHAT_TURN 지연시간 병합 가능 스케치 (hour, dept, model, route, metric)';
+COMMENT ON COLUMN "chat_latency_sketch_hourly"."metric" IS 'total: payload.latencyMsTotal | llm: payload.latencyMsLlm';
+COMMENT ON COLUMN "chat_latency_sketch_hourly"."bins" IS '로그 버킷별 카운트 {"bin": count} (상대 오차 2%)';
+
+-- 기존 이벤트 백필
+INSERT INTO "chat_latency_sketch_hourly" (
+  "bucket_hour", "dept_id", "model", "route", "metric",
+  "sample_count", "sum_ms", "max_ms", "bins"
+)
+SELECT
+  b.bucket_hour, b.dept_id, b.model, b.route, b.metric,
+  SUM(b.cnt), SUM(b.sum_ms), MAX(b.max_ms),
+  jsonb_object_agg(b.bin::text, b.cnt)
+FROM (
+  SELECT
+    date_trunc('hour', e.occurred_at) AS bucket_hour,
+    e.dept_id,
+    COALESCE(left(e.payload->>'model', 100), '') AS model,
+    COALESCE(left(upper(trim(e.payload->>'route')), 50), '') AS route,
+    x.metric,
+    CASE WHEN v.ms < 1 THEN -1
+         ELSE ceil(ln(v.ms::float8) / ln(1.02::float8 / 0.98::float8))::int END AS bin,
+    COUNT(*) AS cnt,
+    SUM(v.ms) AS sum_ms,
+    MAX(v.ms) AS max_ms
+  FROM "telemetry_event" e
+  CROSS JOIN LATERAL (VALUES
+    ('total', e.payload->'latencyMsTotal'),
+    ('llm', e.payload->'latencyMsLlm')
+  ) AS x(metric, val)
+  CROSS JOIN LATERAL (
+    SELECT CASE WHEN jsonb_typeof(x.val) = 'number'
+                THEN GREATEST(trunc((x.val #>> '{}')::numeric), 0)::bigint END AS ms
+  ) v
+  WHERE e.event_type = 'CHAT_TURN'
+    AND jsonb_typeof(x.val) = 'number'
+  GROUP BY 1, 2, 3, 4, 5, 6
+) b
+GROUP BY b.bucket_hour, b.dept_id, b.model, b.route, b.metric
+ON CONFLICT DO NOTHING;
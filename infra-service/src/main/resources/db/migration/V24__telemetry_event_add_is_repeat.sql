@@ -0,0 +1,32 @@
+SET search_path = telemetry;
+
+-- CHAT_TURN 재질문 여부 (수집 시 계산, TelemetryService 링 버퍼)
+-- 재질문 기준 (MVP): 동일 conversation, 직전 3턴 내 같은 intentMain 반복
+ALTER TABLE "telemetry_event" ADD COLUMN IF NOT EXISTS "is_repeat" boolean;
+
+COMMENT ON COLUMN "telemetry_event"."is_repeat" IS 'CHAT_TURN 재질문 여부 (직전 3턴 내 같은 intentMain), 그 외 이벤트는 NULL';
+
+-- 기존 CHAT_TURN 백필 (기존 조회 시점 계산과 동일한 창 함수)
+UPDATE "telemetry_event" e
+SET "is_repeat" = (
+      t.conversation_id IS NOT NULL
+  AND t.intent IS NOT NULL
+  AND (t.intent = t.prev1 OR t.intent = t.prev2 OR t.intent = t.prev3)
+)
+FROM (
+  SELECT
+    x.event_id,
+    x.occurred_at,
+    x.conversation_id,
+    x.payload->>'intentMain' AS intent,
+    LAG(x.payload->>'intentMain', 1) OVER w AS prev1,
+    LAG(x.payload->>'intentMain', 2) OVER w AS prev2,
+    LAG(x.payload->>'intentMain', 3) OVER w AS prev3
+  FROM "telemetry_event" x
+  WHERE x.event_type = 'CHAT_TURN'
+  WINDOW w AS (PARTITION BY x.conversation_id ORDER BY x.turn_id NULLS FIRST)
+) t
+WHERE e.event_id = t.event_id
+  AND e.occurred_at = t.occurred_at;
+
+ANALYZE "telemetry_event";
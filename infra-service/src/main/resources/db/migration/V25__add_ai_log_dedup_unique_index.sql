@@ -0,0 +1,24 @@
+-- V25: AI 로그 중복 방지 유니크 인덱스 (traceId + conversationId + turnId)
+SET search_path = infra;
+
+-- 기존 중복 로그 정리 (먼저 수신된 행 유지)
+DELETE FROM "ai_log" a
+USING (
+  SELECT "id",
+         ROW_NUMBER() OVER (
+           PARTITION BY "trace_id", "conversation_id", "turn_id"
+           ORDER BY "received_at", "id"
+         ) AS rn
+  FROM "ai_log"
+  WHERE "trace_id" IS NOT NULL
+    AND "conversation_id" IS NOT NULL
+    AND "turn_id" IS NOT NULL
+) d
+WHERE a."id" = d."id"
+  AND d.rn > 1;
+
+-- 세 값 중 하나라도 NULL 이면 중복 체크 대상이 아님 (NULL 은 서로 다른 값으로 취급)
+CREATE UNIQUE INDEX IF NOT EXISTS "uk_ai_log_trace_conversation_turn"
+  ON "ai_log" ("trace_id", "conversation_id", "turn_id");
+
+COMMENT ON INDEX "uk_ai_log_trace_conversation_turn" IS 'AI 로그 Bulk 수신 중복 방지 (INSERT ... ON CONFLICT DO NOTHING)';
@@ -0,0 +1,42 @@
+-- V26: HR 테이블 변경 알림 (개인화 캐시 무효화용)
+-- HR 데이터는 애플리케이션 밖(시드/일괄 적재 SQL)에서 변경되므로 DB 트리거로 변경을 알립니다.
+-- 채널: personalization_hr_change, payload: '{table}:{user_uuid}' (department 는 '{table}:')
+-- 같은 트랜잭션 안에서 동일한 payload 는 PostgreSQL 이 한 번만 전달합니다.
+SET search_path = infra;
+
+CREATE OR REPLACE FUNCTION infra.notify_personalization_hr_change()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  IF TG_TABLE_NAME = 'department' THEN
+    PERFORM pg_notify('personalization_hr_change', TG_TABLE_NAME || ':');
+    RETURN NULL;
+  END IF;
+
+  IF TG_OP IN ('UPDATE', 'DELETE') THEN
+    PERFORM pg_notify('personalization_hr_change', TG_TABLE_NAME || ':' || OLD.user_uuid::text);
+  END IF;
+  IF TG_OP IN ('INSERT', 'UPDATE') THEN
+    PERFORM pg_notify('personalization_hr_change', TG_TABLE_NAME || ':' || NEW.user_uuid::text);
+  END IF;
+  RETURN NULL;
+END;
+$$;
+
+DO $$
+DECLARE
+  t TEXT;
+BEGIN
+  FOREACH t IN ARRAY ARRAY[
+    'department', 'employee', 'attendance', 'salary',
+    'leave_history', 'welfare_point', 'welfare_point_usage'
+  ]
+  LOOP
+    EXECUTE format('DROP TRIGGER IF EXISTS trg_%1$s_personalization_notify ON infra.%1$I', t);
+    EXECUTE format(
+      'CREATE TRIGGER trg_%1$s_personalization_notify
+         AFTER INSERT OR UPDATE OR DELETE ON infra.%1$I
+         FOR EACH ROW EXECUTE FUNCTION infra.notify_personalization_hr_change()', t);
+  END LOOP;
+END;
+$$;
@@ -0,0 +1,22 @@
+SET search_path = telemetry;
+
+-- 활성 사용자 목록을 시간 단위 → 일 단위로 변경
+-- 시간 단위 목록은 행 수가 (사용자 수 × 시간 수)로 늘어나므로,
+-- 대시보드 기간(일 경계)에 맞춘 일 단위 목록만 보관하고 보존 기간이 지난 행은 주기적으로 삭제합니다.
+CREATE TABLE IF NOT EXISTS "chat_active_user_daily" (
+  "bucket_day" timestamptz NOT NULL,
+  "dept_id" varchar(64) NOT NULL,
+  "user_id" varchar(64) NOT NULL,
+  PRIMARY KEY ("bucket_day", "dept_id", "user_id")
+);
+
+COMMENT ON TABLE "chat_active_user_daily" IS 'CHAT_TURN 발생 사용자 (day, dept) 단위 목록 (보존 기간 경과 행은 TelemetryRollupService 가 삭제)';
+COMMENT ON COLUMN "chat_active_user_daily"."bucket_day" IS '애플리케이션 시간대 기준 일 시작 시각';
+
+-- 기존 시간 단위 목록 이관 (일 경계는 DB 세션 시간대 기준)
+INSERT INTO "chat_active_user_daily" ("bucket_day", "dept_id", "user_id")
+SELECT DISTINCT date_trunc('day', h.bucket_hour), h.dept_id, h.user_id
+FROM "chat_active_user_hourly" h
+ON CONFLICT DO NOTHING;
+
+DROP TABLE IF EXISTS "chat_active_user_hourly";
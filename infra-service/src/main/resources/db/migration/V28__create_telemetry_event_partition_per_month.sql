@@ -0,0 +1,79 @@
+SET search_path = telemetry;
+
+-- 월 파티션 1개 생성 (V22 ensure_telemetry_event_partitions 보완)
+-- 기본 파티션에 해당 월 범위 이벤트가 있으면 CREATE TABLE ... PARTITION OF 가 실패하므로,
+-- 그 경우 일반 테이블로 만든 뒤 기본 파티션의 해당 월 행을 옮기고 ATTACH 합니다.
+-- TelemetryPartitionMaintenanceService 가 월마다 별도 트랜잭션으로 호출하므로 한 달의 실패가 다른 달에 영향을 주지 않습니다.
+-- 생성된 파티션 이름 반환 (이미 있으면 NULL)
+CREATE OR REPLACE FUNCTION telemetry.ensure_telemetry_event_partition(
+  month_of timestamptz
+) RETURNS text
+LANGUAGE plpgsql AS $$
+DECLARE
+  month_start timestamp := date_trunc('month', month_of AT TIME ZONE 'UTC');
+  range_from timestamptz := month_start AT TIME ZONE 'UTC';
+  range_to timestamptz := (month_start + interval '1 month') AT TIME ZONE 'UTC';
+  partition_name text := 'telemetry_event_' || to_char(month_start, 'YYYYMM');
+BEGIN
+  -- 여러 인스턴스가 동시에 실행해도 한 번만 생성되도록 직렬화
+  PERFORM pg_advisory_xact_lock(hashtext('telemetry.telemetry_event.partitions'));
+  IF to_regclass('telemetry.' || quote_ident(partition_name)) IS NOT NULL THEN
+    RETURN NULL;
+  END IF;
+
+  -- 확인 ~ 생성 사이에 기본 파티션으로 새 행이 들어오지 않도록 쓰기 차단 (조회는 허용)
+  LOCK TABLE telemetry.telemetry_event_default IN EXCLUSIVE MODE;
+
+  IF NOT EXISTS (
+    SELECT 1 FROM telemetry.telemetry_event_default
+    WHERE occurred_at >= range_from AND occurred_at < range_to
+  ) THEN
+    EXECUTE format(
+      'CREATE TABLE telemetry.%I PARTITION OF telemetry.telemetry_event FOR VALUES FROM (%L) TO (%L)',
+      partition_name, range_from, range_to
+    );
+    RETURN partition_name;
+  END IF;
+
+  EXECUTE format(
+    'CREATE TABLE telemetry.%I (LIKE telemetry.telemetry_event INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+    partition_name
+  );
+  EXECUTE format(
+    'WITH moved AS (
+       DELETE FROM telemetry.telemetry_event_default
+       WHERE occurred_at >= %L AND occurred_at < %L
+       RETURNING *
+     )
+     INSERT INTO telemetry.%I SELECT * FROM moved',
+    range_from, range_to, partition_name
+  );
+  EXECUTE format(
+    'ALTER TABLE telemetry.telemetry_event ATTACH PARTITION telemetry.%I FOR VALUES FROM (%L) TO (%L)',
+    partition_name, range_from, range_to
+  );
+  RETURN partition_name;
+END;
+$$;
+
+-- 기존 함수는 월별 함수를 호출하도록 변경 (수동 실행용으로 유지)
+CREATE OR REPLACE FUNCTION telemetry.ensure_telemetry_event_partitions(
+  from_month timestamptz,
+  months int
+) RETURNS SETOF text
+LANGUAGE plpgsql AS $$
+DECLARE
+  month_start timestamp := date_trunc('month', from_month AT TIME ZONE 'UTC');
+  partition_name text;
+  i int;
+BEGIN
+  FOR i IN 0 .. months - 1 LOOP
+    partition_name := telemetry.ensure_telemetry_event_partition(
+      (month_start + make_interval(months => i)) AT TIME ZONE 'UTC'
+    );
+    IF partition_name IS NOT NULL THEN
+      RETURN NEXT partition_name;
+    END IF;
+  END LOOP;
+END;
+$$;
@@ -0,0 +1,22 @@
+-- V29: telemetry eventId 전역 중복 방지 키
+SET search_path = telemetry;
+
+-- 월 파티션 테이블의 PK 는 (event_id, occurred_at) 이므로 같은 eventId 가 다른 occurredAt 으로 재전송되면
+-- 중복 저장됩니다. 파티션되지 않은 키 테이블에 eventId 를 먼저 등록하고, 새로 등록된 eventId 만 저장합니다.
+CREATE TABLE IF NOT EXISTS "telemetry_event_key" (
+  "event_id" uuid PRIMARY KEY,
+  "occurred_at" timestamptz NOT NULL
+);
+
+-- 보존 기간 경과 키 정리용
+CREATE INDEX IF NOT EXISTS "idx_telemetry_event_key_occurred_at" ON "telemetry_event_key" ("occurred_at");
+
+-- 기존 이벤트 키 등록 (가장 이른 occurredAt 기준)
+INSERT INTO "telemetry_event_key" ("event_id", "occurred_at")
+SELECT "event_id", MIN("occurred_at")
+FROM "telemetry_event"
+GROUP BY "event_id"
+ON CONFLICT ("event_id") DO NOTHING;
+
+COMMENT ON TABLE "telemetry_event_key" IS 'telemetry_event eventId 중복 방지 키 (파티션 PK 는 occurred_at 을 포함하므로 별도 유지)';
+COMMENT ON COLUMN "telemetry_event_key"."occurred_at" IS '처음 저장된 이벤트의 occurredAt (보존 기간 정리 기준)';
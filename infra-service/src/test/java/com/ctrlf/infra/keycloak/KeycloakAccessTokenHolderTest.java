@@ -0,0 +1,152 @@
+package com.ctrlf.infra.keycloak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class KeycloakAccessTokenHolderTest {
+
+    private KeycloakAccessTokenHolder holder;
+
+    @AfterEach
+    void tearDown() {
+        if (holder != null) {
+            holder.shutdown();
+        }
+    }
+
+    private static KeycloakAdminProperties props(long refreshSkewSeconds) {
+        KeycloakAdminProperties props = new KeycloakAdminProperties();
+        props.setBaseUrl("http://keycloak");
+        props.setRealm("ctrlf");
+        props.setClientId("infra-admin");
+        props.setClientSecret("secret");
+        props.setTokenRefreshSkewSeconds(refreshSkewSeconds);
+        return props;
+    }
+
+    @Test
+    void concurrentCallersShareSingleFetch() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        StubTokenEndpoint endpoint = new StubTokenEndpoint(300L, fetchStarted, releaseFetch);
+        holder = new KeycloakAccessTokenHolder(props(30), endpoint, new SimpleMeterRegistry());
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(holder::getToken));
+            }
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            // 나머지 호출자가 잠금에서 대기하도록 잠시 둔 뒤 발급 완료
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(endpoint.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshesInBackgroundBeforeExpiry() throws Exception {
+        // 수명 2초, skew 30초 → 절반(1초) 시점에 갱신
+        StubTokenEndpoint endpoint = new StubTokenEndpoint(2L, null, null);
+        holder = new KeycloakAccessTokenHolder(props(30), endpoint, new SimpleMeterRegistry());
+
+        assertThat(holder.getToken()).isEqualTo("token-1");
+
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (endpoint.calls.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(endpoint.calls.get()).isGreaterThanOrEqualTo(2);
+        assertThat(holder.getToken()).isNotEqualTo("token-1");
+    }
+
+    @Test
+    void shortLivedTokenIsReusedWithinItsLifetime() {
+        // 수명(1초)이 만료 margin(5초)보다 짧아도 발급 직후에는 유효
+        StubTokenEndpoint endpoint = new StubTokenEndpoint(1L, null, null);
+        holder = new KeycloakAccessTokenHolder(props(30), endpoint, new SimpleMeterRegistry());
+
+        assertThat(holder.getToken()).isEqualTo("token-1");
+        assertThat(holder.getToken()).isEqualTo("token-1");
+        assertThat(endpoint.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedTokenIsDiscardedAndRefetched() {
+        StubTokenEndpoint endpoint = new StubTokenEndpoint(300L, null, null);
+        holder = new KeycloakAccessTokenHolder(props(30), endpoint, new SimpleMeterRegistry());
+
+        String first = holder.getToken();
+        holder.invalidate(first);
+
+        assertThat(holder.getToken()).isEqualTo("token-2");
+        assertThat(endpoint.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void staleRejectionKeepsNewerToken() {
+        StubTokenEndpoint endpoint = new StubTokenEndpoint(300L, null, null);
+        holder = new KeycloakAccessTokenHolder(props(30), endpoint, new SimpleMeterRegistry());
+
+        String first = holder.getToken();
+        holder.invalidate(first);
+        String second = holder.getToken();
+        // 이전 토큰으로 보낸 요청의 401 이 늦게 도착
+        holder.invalidate(first);
+
+        assertThat(holder.getToken()).isEqualTo(second);
+        assertThat(endpoint.calls.get()).isEqualTo(2);
+    }
+
+    /**
+     * 토큰 엔드포인트 대신 호출 횟수만큼 token-N 을 발급
+     */
+    private static final class StubTokenEndpoint extends RestTemplate {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final long expiresInSec;
+        private final CountDownLatch fetchStarted;
+        private final CountDownLatch releaseFetch;
+
+        private StubTokenEndpoint(long expiresInSec, CountDownLatch fetchStarted, CountDownLatch releaseFetch) {
+            this.expiresInSec = expiresInSec;
+            this.fetchStarted = fetchStarted;
+            this.releaseFetch = releaseFetch;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T postForObject(String url, Object request, Class<T> responseType, Object... uriVariables) {
+            int n = calls.incrementAndGet();
+            if (fetchStarted != null) {
+                fetchStarted.countDown();
+                try {
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return (T) Map.of("access_token", "token-" + n, "expires_in", expiresInSec);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ctrlf.infra.telemetry.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LatencySketchTest {
+
+    private static final double[] QUANTILES = {0.0, 0.5, 0.9, 0.95, 0.99, 1.0};
+
+    private static long[] sampleLatencies(int n, long seed) {
+        Random random = new Random(seed);
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            // 1ms ~ 약 60s 로그 균등 분포
+            values[i] = (long) Math.exp(random.nextDouble() * Math.log(60_000)) + 1;
+        }
+        return values;
+    }
+
+    private static LatencySketch sketchOf(long[] values) {
+        LatencySketch sketch = new LatencySketch();
+        for (long value : values) {
+            sketch.add(value);
+        }
+        return sketch;
+    }
+
+    @Test
+    void emptySketchHasNoQuantile() {
+        LatencySketch sketch = new LatencySketch();
+
+        assertThat(sketch.getCount()).isZero();
+        assertThat(sketch.quantile(0.5)).isNull();
+        assertThat(sketch.getBins()).isEmpty();
+    }
+
+    @Test
+    void zeroAndNegativeValuesGoToZeroBin() {
+        LatencySketch sketch = new LatencySketch();
+        sketch.add(0);
+        sketch.add(-10);
+
+        assertThat(LatencySketch.binOf(0)).isEqualTo(-1);
+        assertThat(LatencySketch.binOf(-10)).isEqualTo(-1);
+        assertThat(sketch.getBins()).containsExactly(Map.entry(-1, 2L));
+        assertThat(sketch.quantile(0.99)).isEqualTo(0.0);
+        assertThat(sketch.getMaxMs()).isZero();
+    }
+
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        long[] values = sampleLatencies(50_000, 42L);
+        LatencySketch sketch = sketchOf(values);
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (double q : QUANTILES) {
+            long exact = sorted[(int) Math.floor(q * (sorted.length - 1))];
+            assertThat(sketch.quantile(q))
+                .as("q=%s", q)
+                .isBetween(exact * (1 - LatencySketch.RELATIVE_ACCURACY) - 1e-9,
+                    exact * (1 + LatencySketch.RELATIVE_ACCURACY) + 1e-9);
+        }
+    }
+
+    @Test
+    void mergedSketchEqualsSketchOfAllValues() {
+        long[] values = sampleLatencies(10_000, 7L);
+        LatencySketch left = sketchOf(Arrays.copyOfRange(values, 0, 3_000));
+        LatencySketch right = sketchOf(Arrays.copyOfRange(values, 3_000, values.length));
+        LatencySketch all = sketchOf(values);
+
+        left.merge(right);
+
+        assertThat(left.getCount()).isEqualTo(all.getCount());
+        assertThat(left.getMaxMs()).isEqualTo(all.getMaxMs());
+        assertThat(left.getBins()).isEqualTo(all.getBins());
+        for (double q : QUANTILES) {
+            assertThat(left.quantile(q)).isEqualTo(all.quantile(q));
+        }
+    }
+
+    @Test
+    void storedBinsRestoreTheSameSketch() {
+        LatencySketch original = sketchOf(sampleLatencies(5_000, 11L));
+        LatencySketch restored = new LatencySketch();
+
+        original.getBins().forEach(restored::addBin);
+        restored.observeMax(original.getMaxMs());
+        restored.addBin(123, 0);
+        restored.addBin(124, -3);
+
+        assertThat(restored.getBins()).isEqualTo(original.getBins());
+        assertThat(restored.getCount()).isEqualTo(original.getCount());
+        for (double q : QUANTILES) {
+            assertThat(restored.quantile(q)).isEqualTo(original.quantile(q));
+        }
+    }
+
+    @Test
+    void extremeValuesDoNotOverflow() {
+        LatencySketch sketch = new LatencySketch();
+        sketch.add(1);
+        sketch.add(Long.MAX_VALUE);
+
+        assertThat(LatencySketch.binOf(Long.MAX_VALUE)).isGreaterThan(LatencySketch.binOf(Long.MAX_VALUE / 2));
+        assertThat(sketch.quantile(0.0)).isBetween(1 - LatencySketch.RELATIVE_ACCURACY, 1.0);
+        assertThat(sketch.quantile(1.0))
+            .isBetween(Long.MAX_VALUE * (1 - LatencySketch.RELATIVE_ACCURACY), (double) Long.MAX_VALUE);
+        assertThat(sketch.getMaxMs()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void quantileNeverExceedsObservedMax() {
+        for (long v = 1; v <= 2_000; v++) {
+            LatencySketch sketch = new LatencySketch();
+            sketch.add(v);
+
+            assertThat(sketch.quantile(1.0)).as("v=%d", v).isLessThanOrEqualTo((double) v);
+        }
+    }
+
+    @Test
+    void binOfMatchesLogFormulaUsedByBackfill() {
+        // V23 백필: ceil(ln(v) / ln(1.02 / 0.98))
+        double logGamma = Math.log(1.02 / 0.98);
+        for (long v = 1; v <= 1_000_000; v++) {
+            int expected = (int) Math.ceil(Math.log(v) / logGamma);
+            assertThat(LatencySketch.binOf(v)).as("v=%d", v).isEqualTo(expected);
+        }
+    }
+}
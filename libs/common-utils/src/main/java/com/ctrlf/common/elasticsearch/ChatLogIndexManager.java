@@ -0,0 +1,270 @@
+package com.ctrlf.common.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.ilm.PutLifecycleRequest;
+import co.elastic.clients.elasticsearch.indices.PutIndexTemplateRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * chat_log 인덱스 템플릿 / rollover alias / ILM 관리
+ *
+ * <p>manage-lifecycle=true 인 서비스(chat-service)는 기동 시 다음을 설치합니다
+ * (이미 있으면 갱신, 여러 인스턴스가 동시에 실행해도 안전).</p>
+ * <ul>
+ *   <li>ILM 정책: hot 단계 rollover(max_primary_shard_size, max_age) → delete-after 를 설정한 경우에만 삭제</li>
+ *   <li>인덱스 템플릿: {@code {index-prefix}*} 인덱스에 명시적 매핑(keyword/text/date/boolean)과
+ *       content 분석기(nori), ILM 정책을 적용</li>
+ *   <li>쓰기 alias 가 없으면 첫 인덱스 {@code {index-prefix}yyyy.MM.dd-000001} 를 만들고 write index 로 지정</li>
+ * </ul>
+ * <p>그 외 서비스(infra-service)는 템플릿 / 정책을 건드리지 않고 쓰기 alias 가 생겼는지만 확인합니다.
+ * 설정이 서로 달라 기동 순서에 따라 정책이 덮어써지는 일을 막기 위함입니다.</p>
+ *
+ * <p>설치가 끝나기 전(ES 장애 등)에는 기존 단일 인덱스({@code app.elasticsearch.chat-log-index})에 저장하고,
+ * install-retry-interval-ms 간격으로 재시도합니다. 쓰기 alias 이름으로 일반 인덱스가 자동 생성되는 것을 막기 위함입니다.
+ * 조회는 search-pattern 으로 기존 인덱스와 rollover 인덱스를 함께 검색하며, 기간 조건이 있는 검색은
+ * {@link #PRE_FILTER_SHARD_SIZE} 로 createdAt 범위 밖 인덱스를 건너뜁니다.</p>
+ */
+@Slf4j
+public class ChatLogIndexManager implements AutoCloseable {
+
+    /**
+     * 기간 검색 시 pre_filter_shard_size
+     *
+     * <p>1 이면 항상 can_match 단계를 거쳐 createdAt 범위가 겹치지 않는 샤드(인덱스)를 검색에서 제외합니다.</p>
+     */
+    public static final long PRE_FILTER_SHARD_SIZE = 1L;
+
+    /** 템플릿 content/question/answer 분석기 이름 */
+    private static final String TEXT_ANALYZER = "chat_log_text";
+
+    private static final String MAPPINGS_RESOURCE = "elasticsearch/chat_log-mappings.json";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ChatLogIndexProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /** 쓰기 alias 준비 전 / lifecycle 비활성 시 사용하는 기존 단일 인덱스 */
+    private final String chatLogIndex;
+
+    /** 쓰기 alias 준비 완료 여부 */
+    private volatile boolean writeAliasReady = false;
+
+    private ScheduledExecutorService retryExecutor;
+
+    /**
+     * @param chatLogIndex 기존 단일 인덱스 ({@code app.elasticsearch.chat-log-index})
+     */
+    public ChatLogIndexManager(
+        ElasticsearchClient elasticsearchClient,
+        ChatLogIndexProperties properties,
+        ObjectMapper objectMapper,
+        String chatLogIndex
+    ) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.chatLogIndex = chatLogIndex;
+    }
+
+    /**
+     * 문서를 저장할 인덱스 (쓰기 alias 준비 전이면 기존 인덱스)
+     */
+    public String writeIndex() {
+        return properties.isEnabled() && writeAliasReady ? properties.getWriteAlias() : chatLogIndex;
+    }
+
+    /**
+     * 조회할 인덱스 (기존 인덱스 + rollover 인덱스)
+     */
+    public String searchIndex() {
+        return properties.isEnabled() ? properties.getSearchPattern() : chatLogIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (install()) {
+            return;
+        }
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "chat-log-index-installer");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = Math.max(1_000L, properties.getInstallRetryIntervalMs());
+        retryExecutor.scheduleWithFixedDelay(() -> {
+            if (install()) {
+                retryExecutor.shutdown();
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (retryExecutor != null) {
+            retryExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * ILM 정책 / 인덱스 템플릿 / 쓰기 alias 설치 (manage-lifecycle=false 면 쓰기 alias 존재 확인만)
+     *
+     * @return 쓰기 alias 사용 가능 여부
+     */
+    synchronized boolean install() {
+        if (writeAliasReady) {
+            return true;
+        }
+        try {
+            if (properties.isManageLifecycle()) {
+                putLifecyclePolicy();
+                putIndexTemplate();
+                writeAliasReady = bootstrapWriteAlias();
+            } else {
+                writeAliasReady = elasticsearchClient.indices()
+                    .existsAlias(a -> a.name(properties.getWriteAlias())).value();
+                if (!writeAliasReady) {
+                    log.info("[chat_log 인덱스] 쓰기 alias 가 아직 없습니다 (템플릿 설치 서비스 대기), 기존 인덱스에 저장합니다: writeAlias={}, index={}",
+                        properties.getWriteAlias(), chatLogIndex);
+                }
+            }
+            if (writeAliasReady) {
+                log.info("[chat_log 인덱스] 준비 완료: writeAlias={}, searchIndex={}, manageLifecycle={}, template={}, policy={}",
+                    properties.getWriteAlias(), searchIndex(), properties.isManageLifecycle(),
+                    properties.getTemplateName(), properties.getPolicyName());
+            }
+        } catch (Exception e) {
+            log.warn("[chat_log 인덱스] 템플릿/alias 설치 실패, 기존 인덱스에 저장합니다: index={}, error={}",
+                chatLogIndex, e.getMessage());
+        }
+        return writeAliasReady;
+    }
+
+    private void putLifecyclePolicy() throws IOException {
+        Map<String, Object> phases = new LinkedHashMap<>();
+        phases.put("hot", Map.of(
+            "min_age", "0ms",
+            "actions", Map.of("rollover", Map.of(
+                "max_primary_shard_size", properties.getRolloverMaxPrimaryShardSize(),
+                "max_age", properties.getRolloverMaxAge()
+            ))
+        ));
+        String deleteAfter = properties.getDeleteAfter();
+        if (deleteAfter != null && !deleteAfter.isBlank()) {
+            phases.put("delete", Map.of(
+                "min_age", deleteAfter,
+                "actions", Map.of("delete", Map.of())
+            ));
+        }
+        String body = objectMapper.writeValueAsString(Map.of("policy", Map.of("phases", phases)));
+        elasticsearchClient.ilm().putLifecycle(PutLifecycleRequest.of(b -> b
+            .withJson(new StringReader(body))
+            .name(properties.getPolicyName())
+        ));
+    }
+
+    private void putIndexTemplate() throws IOException {
+        String analyzer = properties.getContentAnalyzer();
+        try {
+            putIndexTemplate(analyzer);
+        } catch (ElasticsearchException e) {
+            if (!"nori".equalsIgnoreCase(analyzer)) {
+                throw e;
+            }
+            // analysis-nori 플러그인이 없는 클러스터: 플러그인 없이 쓸 수 있는 cjk(bigram) 분석기로 대체
+            log.warn("[chat_log 인덱스] nori 분석기 템플릿 설치 실패, cjk 분석기로 대체합니다: error={}", e.getMessage());
+            putIndexTemplate("cjk");
+        }
+    }
+
+    private void putIndexTemplate(String analyzer) throws IOException {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("number_of_shards", properties.getNumberOfShards());
+        settings.put("number_of_replicas", properties.getNumberOfReplicas());
+        settings.put("index.lifecycle.name", properties.getPolicyName());
+        settings.put("index.lifecycle.rollover_alias", properties.getWriteAlias());
+        settings.put("analysis", Map.of("analyzer", Map.of(TEXT_ANALYZER, analyzerDefinition(analyzer))));
+
+        Map<String, Object> template = new LinkedHashMap<>();
+        template.put("settings", settings);
+        template.put("mappings", loadMappings());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("index_patterns", List.of(properties.getIndexPrefix() + "*"));
+        body.put("priority", 200);
+        body.put("template", template);
+
+        String json = objectMapper.writeValueAsString(body);
+        elasticsearchClient.indices().putIndexTemplate(PutIndexTemplateRequest.of(b -> b
+            .withJson(new StringReader(json))
+            .name(properties.getTemplateName())
+        ));
+    }
+
+    private static Map<String, Object> analyzerDefinition(String analyzer) {
+        if ("nori".equalsIgnoreCase(analyzer)) {
+            return Map.of(
+                "type", "custom",
+                "tokenizer", "nori_tokenizer",
+                "filter", List.of("nori_readingform", "lowercase")
+            );
+        }
+        return Map.of("type", analyzer);
+    }
+
+    private Map<String, Object> loadMappings() throws IOException {
+        try (InputStream in = new ClassPathResource(MAPPINGS_RESOURCE).getInputStream()) {
+            return objectMapper.readValue(in, new TypeReference<Map<String, Object>>() {});
+        }
+    }
+
+    /**
+     * 쓰기 alias 가 없으면 첫 rollover 인덱스를 만들고 write index 로 지정
+     *
+     * @return 쓰기 alias 사용 가능 여부
+     */
+    private boolean bootstrapWriteAlias() throws IOException {
+        String writeAlias = properties.getWriteAlias();
+        if (elasticsearchClient.indices().existsAlias(a -> a.name(writeAlias)).value()) {
+            return true;
+        }
+        if (elasticsearchClient.indices().exists(e -> e.index(writeAlias)).value()) {
+            // alias 설치 전에 같은 이름으로 일반 인덱스가 자동 생성된 경우: 수동 정리 필요
+            log.error("[chat_log 인덱스] 쓰기 alias 이름으로 일반 인덱스가 존재합니다. 인덱스를 재색인/삭제한 뒤 재기동하세요: index={}",
+                writeAlias);
+            return false;
+        }
+
+        String firstIndex = "<" + properties.getIndexPrefix() + "{now/d}-000001>";
+        try {
+            elasticsearchClient.indices().create(c -> c
+                .index(firstIndex)
+                .aliases(writeAlias, a -> a.isWriteIndex(true))
+            );
+            log.info("[chat_log 인덱스] 첫 rollover 인덱스 생성: index={}, writeAlias={}", firstIndex, writeAlias);
+        } catch (ElasticsearchException e) {
+            // 다른 인스턴스가 먼저 생성한 경우
+            if (!"resource_already_exists_exception".equals(e.error().type())) {
+                throw e;
+            }
+        }
+        return elasticsearchClient.indices().existsAlias(a -> a.name(writeAlias)).value();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ctrlf.common.elasticsearch;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * chat_log 인덱스 템플릿 / rollover / ILM 설정
+ *
+ * <pre>
+ * app:
+ *   elasticsearch:
+ *     chat-log-lifecycle:
+ *       enabled: true
+ *       manage-lifecycle: true        # 템플릿 / ILM 정책을 설치하는 서비스 하나만 true
+ *       template-name: chat_log-template
+ *       policy-name: chat_log-policy
+ *       index-prefix: chat_log-
+ *       write-alias: chat_log-write
+ *       search-pattern: chat_log*
+ *       rollover-max-age: 30d
+ *       rollover-max-primary-shard-size: 50gb
+ *       delete-after:                 # 빈 값이면 삭제하지 않음 (예: 180d)
+ *       number-of-shards: 1
+ *       number-of-replicas: 1
+ *       content-analyzer: nori
+ *       install-retry-interval-ms: 60000
+ * </pre>
+ *
+ * <p>enabled=false 이면 기존처럼 {@code app.elasticsearch.chat-log-index} 단일 인덱스에 저장/조회합니다.
+ * 서비스마다 {@code @ConfigurationProperties(prefix = "app.elasticsearch.chat-log-lifecycle")} 빈으로 등록합니다.</p>
+ */
+@Getter
+@Setter
+public class ChatLogIndexProperties {
+
+    /** 템플릿 / rollover alias 사용 여부 */
+    private boolean enabled = true;
+
+    /**
+     * ILM 정책 / 인덱스 템플릿 / 첫 rollover 인덱스 설치 여부
+     *
+     * <p>한 서비스(chat-service)만 true 로 둡니다. false 인 서비스는 쓰기 alias 가 생길 때까지 기다렸다가 쓰기만 합니다.</p>
+     */
+    private boolean manageLifecycle = false;
+
+    /** 인덱스 템플릿 이름 */
+    private String templateName = "chat_log-template";
+
+    /** ILM 정책 이름 */
+    private String policyName = "chat_log-policy";
+
+    /** rollover 인덱스 접두사 (실제 인덱스: {prefix}yyyy.MM.dd-000001) */
+    private String indexPrefix = "chat_log-";
+
+    /** 쓰기 alias (현재 write index 를 가리킴) */
+    private String writeAlias = "chat_log-write";
+
+    /** 조회 대상 (기존 단일 인덱스 + rollover 인덱스) */
+    private String searchPattern = "chat_log*";
+
+    /**
+     * rollover 최대 기간 (크기 기준에 먼저 도달하지 않은 인덱스의 상한)
+     *
+     * <p>작은 샤드가 쌓이지 않도록 크기 기준으로 rollover 하고, 기간은 보존 기간 단위로 삭제할 수 있을 만큼만 둡니다.</p>
+     */
+    private String rolloverMaxAge = "30d";
+
+    /** rollover 기준 primary shard 크기 */
+    private String rolloverMaxPrimaryShardSize = "50gb";
+
+    /** rollover 후 삭제까지 기간 (빈 값이면 삭제하지 않음, 운영 보존 정책에 맞춰 명시적으로 설정) */
+    private String deleteAfter = "";
+
+    private int numberOfShards = 1;
+
+    private int numberOfReplicas = 1;
+
+    /** content/question/answer 분석기 (nori: analysis-nori 플러그인 필요, 설치 실패 시 cjk 로 대체) */
+    private String contentAnalyzer = "nori";
+
+    /** 템플릿 / alias 설치(또는 대기) 실패 시 재시도 간격 (준비 전까지는 기존 인덱스에 저장) */
+    private long installRetryIntervalMs = 60_000L;
+}
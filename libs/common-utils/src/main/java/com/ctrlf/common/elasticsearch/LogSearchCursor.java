@@ -0,0 +1,138 @@
+package com.ctrlf.common.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 로그 검색 cursor (point-in-time + search_after)
+ *
+ * <p>클라이언트에는 base64url 로 인코딩된 불투명 토큰으로 전달합니다.
+ * 토큰에는 PIT ID, 마지막 hit 의 sort 값, 첫 페이지에서 계산한 전체 건수, 페이지 번호와
+ * 필터/정렬 조건의 해시({@link #filterHash(Object...)})가 들어 있습니다.
+ * 다음 페이지 요청의 조건이 첫 요청과 다르면 {@link #decode(String, String)} 가 거부합니다.</p>
+ *
+ * @param pitId point-in-time ID (첫 요청이면 null)
+ * @param searchAfter 마지막 hit 의 sort 값 (첫 요청이면 빈 목록)
+ * @param total 전체 건수 (첫 요청이면 -1)
+ * @param page 다음에 조회할 페이지 번호 (0부터)
+ * @param filterHash 필터/정렬 조건 해시
+ */
+public record LogSearchCursor(String pitId, List<Object> searchAfter, long total, int page, String filterHash) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * 첫 페이지 cursor
+     */
+    public static LogSearchCursor start(String filterHash) {
+        return new LogSearchCursor(null, List.of(), -1L, 0, filterHash);
+    }
+
+    /**
+     * 다음 페이지 cursor
+     */
+    public static LogSearchCursor next(String pitId, List<FieldValue> sort, long total, int page, String filterHash) {
+        List<Object> values = new ArrayList<>(sort.size());
+        for (FieldValue value : sort) {
+            values.add(value.isNull() ? null : value._get());
+        }
+        return new LogSearchCursor(pitId, values, total, page, filterHash);
+    }
+
+    /**
+     * 토큰 → cursor (빈 값이면 첫 페이지)
+     *
+     * @param filterHash 이번 요청의 필터/정렬 조건 해시
+     * @throws IllegalArgumentException 잘못된 토큰이거나 조건이 토큰을 만든 요청과 다를 때
+     */
+    public static LogSearchCursor decode(String token, String filterHash) {
+        if (token == null || token.isBlank()) {
+            return start(filterHash);
+        }
+        LogSearchCursor cursor;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.trim());
+            cursor = MAPPER.readValue(json, LogSearchCursor.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.", e);
+        }
+        if (cursor.pitId() == null || cursor.searchAfter() == null) {
+            throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+        }
+        if (!Objects.equals(cursor.filterHash(), filterHash)) {
+            throw new IllegalArgumentException("cursor 의 조회 조건과 요청 조건이 다릅니다. 처음부터 다시 조회하세요.");
+        }
+        return cursor;
+    }
+
+    /**
+     * 필터/정렬 조건 해시 (SHA-256 앞 16바이트, hex)
+     *
+     * <p>조건 값을 순서대로 받으며 null 과 빈 문자열을 구분합니다.</p>
+     */
+    public static String filterHash(Object... parts) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object part : parts) {
+            // 길이 접두어로 구분자 충돌 방지, null 은 -1
+            String text = part == null ? null : part.toString();
+            canonical.append(text == null ? -1 : text.length()).append(':');
+            if (text != null) {
+                canonical.append(text);
+            }
+            canonical.append(';');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * cursor → 토큰
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("cursor 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * search_after 요청 값
+     */
+    public List<FieldValue> searchAfterValues() {
+        List<FieldValue> values = new ArrayList<>(searchAfter.size());
+        for (Object value : searchAfter) {
+            if (value == null) {
+                values.add(FieldValue.NULL);
+            } else if (value instanceof Double || value instanceof Float) {
+                values.add(FieldValue.of(((Number) value).doubleValue()));
+            } else if (value instanceof Number) {
+                values.add(FieldValue.of(((Number) value).longValue()));
+            } else if (value instanceof Boolean) {
+                values.add(FieldValue.of((Boolean) value));
+            } else {
+                values.add(FieldValue.of(value.toString()));
+            }
+        }
+        return values;
+    }
+
+    @JsonIgnore
+    public boolean isFirstPage() {
+        return pitId == null;
+    }
+}
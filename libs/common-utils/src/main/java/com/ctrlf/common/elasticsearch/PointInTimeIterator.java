@@ -0,0 +1,160 @@
+package com.ctrlf.common.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * point-in-time + search_after 전체 순회
+ *
+ * <p>내보내기/스트리밍처럼 조회 결과 전체를 배치 단위로 읽을 때 사용합니다. 한 배치만 메모리에 유지하며,
+ * {@link #close()} 에서 PIT 를 닫습니다 (닫기 실패는 keep-alive 후 자동 만료되므로 경고만 남김).</p>
+ *
+ * <pre>{@code
+ * try (PointInTimeIterator<Map> it = PointInTimeIterator.open(client, index, "2m", query,
+ *         "createdAt", SortOrder.Desc, 1000, Map.class)) {
+ *     for (List<Hit<Map>> hits = it.nextBatch(); !hits.isEmpty(); hits = it.nextBatch()) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> 문서 타입
+ */
+@Slf4j
+public final class PointInTimeIterator<T> implements AutoCloseable {
+
+    /** 샤드 사전 필터(can_match) 적용 기준 샤드 수 (롤오버 인덱스가 1개 이상이면 항상 적용) */
+    private static final long PRE_FILTER_SHARD_SIZE = 1L;
+
+    private final ElasticsearchClient client;
+    private final String keepAlive;
+    private final Query query;
+    private final String sortField;
+    private final SortOrder sortOrder;
+    private final int batchSize;
+    private final Class<T> documentClass;
+
+    /** _source 포함 필드 (null 이면 전체) */
+    private List<String> sourceIncludes;
+
+    private String pitId;
+    private List<FieldValue> searchAfter;
+    private boolean exhausted;
+
+    private PointInTimeIterator(
+        ElasticsearchClient client,
+        String pitId,
+        String keepAlive,
+        Query query,
+        String sortField,
+        SortOrder sortOrder,
+        int batchSize,
+        Class<T> documentClass
+    ) {
+        this.client = client;
+        this.pitId = pitId;
+        this.keepAlive = keepAlive;
+        this.query = query;
+        this.sortField = sortField;
+        this.sortOrder = sortOrder;
+        this.batchSize = Math.max(1, batchSize);
+        this.documentClass = documentClass;
+    }
+
+    /**
+     * PIT 를 열고 순회 시작
+     *
+     * @param index 검색 인덱스 (alias / 패턴)
+     * @param keepAlive 배치 간 최대 간격 (예: 2m)
+     * @param batchSize search_after 1회당 조회 건수
+     */
+    public static <T> PointInTimeIterator<T> open(
+        ElasticsearchClient client,
+        String index,
+        String keepAlive,
+        Query query,
+        String sortField,
+        SortOrder sortOrder,
+        int batchSize,
+        Class<T> documentClass
+    ) throws IOException {
+        String pitId = client.openPointInTime(o -> o
+            .index(index)
+            .keepAlive(k -> k.time(keepAlive))
+        ).id();
+        return new PointInTimeIterator<>(
+            client, pitId, keepAlive, query, sortField, sortOrder, batchSize, documentClass);
+    }
+
+    /**
+     * _source 를 지정한 필드로 제한 (첫 배치 조회 전에 설정)
+     */
+    public PointInTimeIterator<T> sourceIncludes(List<String> fields) {
+        this.sourceIncludes = fields;
+        return this;
+    }
+
+    /**
+     * 다음 배치 조회
+     *
+     * @return 다음 hit 목록 (더 없으면 빈 목록)
+     */
+    public List<Hit<T>> nextBatch() throws IOException {
+        if (exhausted) {
+            return List.of();
+        }
+        String currentPitId = pitId;
+        List<FieldValue> after = searchAfter;
+        List<String> includes = sourceIncludes;
+        SearchResponse<T> response = client.search(s -> {
+            s.pit(p -> p.id(currentPitId).keepAlive(k -> k.time(keepAlive)))
+                .preFilterShardSize(PRE_FILTER_SHARD_SIZE)
+                .query(query)
+                .size(batchSize)
+                .sort(so -> so.field(f -> f.field(sortField).order(sortOrder)))
+                .trackTotalHits(t -> t.enabled(false));
+            if (includes != null) {
+                s.source(src -> src.filter(fl -> fl.includes(includes)));
+            }
+            if (after != null) {
+                s.searchAfter(after);
+            }
+            return s;
+        }, documentClass);
+
+        if (response.pitId() != null) {
+            pitId = response.pitId();
+        }
+        List<Hit<T>> hits = response.hits().hits();
+        if (hits.size() < batchSize) {
+            exhausted = true;
+        } else {
+            searchAfter = hits.get(hits.size() - 1).sort();
+        }
+        return hits;
+    }
+
+    /**
+     * 현재 PIT ID (배치 응답마다 갱신될 수 있음)
+     */
+    public String pitId() {
+        return pitId;
+    }
+
+    @Override
+    public void close() {
+        try {
+            client.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            // keep-alive 경과 후 자동 만료되므로 경고만 남김
+            log.warn("[Elasticsearch PIT 순회] PIT 닫기 실패: error={}", e.getMessage());
+        }
+    }
+}
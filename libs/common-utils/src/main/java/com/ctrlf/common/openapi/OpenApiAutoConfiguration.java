@@ -8,6 +8,7 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 
 @AutoConfiguration
@@ -17,6 +18,7 @@ public class OpenApiAutoConfiguration {
     private static final String BEARER_KEY = "bearer-jwt";
 
     @Bean
+    @ConditionalOnMissingBean(OpenAPI.class)
     public OpenAPI commonOpenAPI(
         @Value("${app.api.title:API}") String title,
         @Value("${app.api.description:}") String description,
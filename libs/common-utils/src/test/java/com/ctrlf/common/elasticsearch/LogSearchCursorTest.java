@@ -0,0 +1,61 @@
+package com.ctrlf.common.elasticsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LogSearchCursorTest {
+
+    private static final String HASH = LogSearchCursor.filterHash("30", null, null, "인사팀", null, null, null,
+        false, false, "createdAt,desc");
+
+    @Test
+    void roundTripsThroughToken() {
+        LogSearchCursor cursor = LogSearchCursor.next("pit-1",
+            List.of(FieldValue.of(1_700_000_000_000L), FieldValue.of("abc"), FieldValue.NULL), 42L, 3, HASH);
+
+        LogSearchCursor decoded = LogSearchCursor.decode(cursor.encode(), HASH);
+
+        assertEquals("pit-1", decoded.pitId());
+        assertEquals(42L, decoded.total());
+        assertEquals(3, decoded.page());
+        List<FieldValue> values = decoded.searchAfterValues();
+        assertEquals(1_700_000_000_000L, values.get(0).longValue());
+        assertEquals("abc", values.get(1).stringValue());
+        assertTrue(values.get(2).isNull());
+    }
+
+    @Test
+    void blankTokenStartsFirstPage() {
+        LogSearchCursor cursor = LogSearchCursor.decode(" ", HASH);
+
+        assertTrue(cursor.isFirstPage());
+        assertEquals(HASH, cursor.filterHash());
+    }
+
+    @Test
+    void rejectsTokenIssuedForDifferentFilters() {
+        String token = LogSearchCursor.next("pit-1", List.of(FieldValue.of(1L)), 10L, 1, HASH).encode();
+        String otherHash = LogSearchCursor.filterHash("30", null, null, "영업팀", null, null, null,
+            false, false, "createdAt,desc");
+
+        assertThrows(IllegalArgumentException.class, () -> LogSearchCursor.decode(token, otherHash));
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> LogSearchCursor.decode("not-a-cursor", HASH));
+    }
+
+    @Test
+    void filterHashDistinguishesNullEmptyAndBoundaries() {
+        assertNotEquals(LogSearchCursor.filterHash((Object) null), LogSearchCursor.filterHash(""));
+        assertNotEquals(LogSearchCursor.filterHash("a,b", "c"), LogSearchCursor.filterHash("a", "b,c"));
+        assertEquals(LogSearchCursor.filterHash("a", 1, true), LogSearchCursor.filterHash("a", 1, true));
+    }
+}